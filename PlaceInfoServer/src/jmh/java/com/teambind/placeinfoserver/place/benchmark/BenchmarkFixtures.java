@@ -0,0 +1,115 @@
+package com.teambind.placeinfoserver.place.benchmark;
+
+import com.teambind.placeinfoserver.place.domain.entity.Keyword;
+import com.teambind.placeinfoserver.place.domain.entity.PlaceContact;
+import com.teambind.placeinfoserver.place.domain.entity.PlaceImage;
+import com.teambind.placeinfoserver.place.domain.entity.PlaceInfo;
+import com.teambind.placeinfoserver.place.domain.entity.PlaceLocation;
+import com.teambind.placeinfoserver.place.domain.entity.PlaceParking;
+import com.teambind.placeinfoserver.place.domain.enums.ApprovalStatus;
+import com.teambind.placeinfoserver.place.domain.enums.KeywordType;
+import com.teambind.placeinfoserver.place.domain.enums.ParkingType;
+import com.teambind.placeinfoserver.place.domain.enums.RegistrationStatus;
+import com.teambind.placeinfoserver.place.domain.vo.Address;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * 벤치마크용 인메모리 엔티티 생성
+ * 실제 검색 응답과 비슷한 크기(이미지 3장, 키워드 5개)로 구성
+ */
+public final class BenchmarkFixtures {
+	
+	private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory();
+	
+	private BenchmarkFixtures() {
+	}
+	
+	public static List<PlaceInfo> places(int count) {
+		List<Keyword> keywords = keywords(5);
+		List<PlaceInfo> places = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			places.add(place(1_000_000L + i, keywords));
+		}
+		return places;
+	}
+	
+	public static PlaceInfo place(long id, List<Keyword> keywords) {
+		PlaceInfo placeInfo = PlaceInfo.builder()
+				.id(id)
+				.userId("user_" + id)
+				.placeName("벤치마크 합주실 " + id)
+				.description("드럼, 앰프, 보컬 마이크를 갖춘 합주실입니다.")
+				.category("합주실")
+				.placeType("음악")
+				.ratingAverage(4.5)
+				.reviewCount(120)
+				.isActive(true)
+				.approvalStatus(ApprovalStatus.APPROVED)
+				.registrationStatus(RegistrationStatus.REGISTERED)
+				.images(new ArrayList<>())
+				.keywords(new HashSet<>(keywords))
+				.build();
+		
+		double latitude = 37.4979 + (id % 100) * 0.0005;
+		double longitude = 127.0276 + (id % 100) * 0.0005;
+		Point point = GEOMETRY_FACTORY.createPoint(new Coordinate(longitude, latitude));
+		point.setSRID(4326);
+		
+		placeInfo.setLocation(PlaceLocation.builder()
+				.placeInfo(placeInfo)
+				.address(Address.builder()
+						.province("서울특별시")
+						.city("강남구")
+						.district("역삼동")
+						.fullAddress("서울특별시 강남구 테헤란로 " + id)
+						.addressDetail("지하 1층")
+						.postalCode("06234")
+						.build())
+				.coordinates(point)
+				.latitude(latitude)
+				.longitude(longitude)
+				.locationGuide("역삼역 3번 출구 도보 5분")
+				.build());
+		placeInfo.setContact(PlaceContact.builder()
+				.placeInfo(placeInfo)
+				.contact("02-1234-5678")
+				.build());
+		placeInfo.setParking(PlaceParking.builder()
+				.placeInfo(placeInfo)
+				.available(true)
+				.parkingType(ParkingType.FREE)
+				.description("건물 내 무료 주차 (2시간)")
+				.build());
+		
+		List<PlaceImage> images = new ArrayList<>();
+		for (long sequence = 1; sequence <= 3; sequence++) {
+			images.add(PlaceImage.builder()
+					.id("img_" + id + "_" + sequence)
+					.placeInfo(placeInfo)
+					.imageUrl("https://cdn.example.com/places/" + id + "/" + sequence + ".jpg")
+					.sequence(sequence)
+					.build());
+		}
+		placeInfo.setImages(images);
+		return placeInfo;
+	}
+	
+	public static List<Keyword> keywords(int count) {
+		List<Keyword> keywords = new ArrayList<>(count);
+		for (int i = 1; i <= count; i++) {
+			keywords.add(Keyword.builder()
+					.id((long) i)
+					.name("키워드" + i)
+					.type(KeywordType.INSTRUMENT_EQUIPMENT)
+					.displayOrder(i)
+					.build());
+		}
+		return keywords;
+	}
+}
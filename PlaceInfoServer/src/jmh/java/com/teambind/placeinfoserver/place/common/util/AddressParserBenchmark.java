@@ -0,0 +1,118 @@
+package com.teambind.placeinfoserver.place.common.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.placeinfoserver.place.common.util.address.strategy.KakaoAddressParsingStrategy;
+import com.teambind.placeinfoserver.place.common.util.address.strategy.KakaoLocalAddressParsingStrategy;
+import com.teambind.placeinfoserver.place.common.util.address.strategy.ManualAddressParsingStrategy;
+import com.teambind.placeinfoserver.place.common.util.address.strategy.NaverAddressParsingStrategy;
+import com.teambind.placeinfoserver.place.domain.enums.AddressSource;
+import com.teambind.placeinfoserver.place.dto.request.AddressRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주소 파싱 전략별 벤치마크
+ * 업체 등록/수정 시 외부 API 주소 응답(Map)을 AddressRequest로 변환하는 경로
+ */
+@State(Scope.Benchmark)
+public class AddressParserBenchmark {
+	
+	@Param({"KAKAO", "KAKAO_LOCAL", "NAVER", "MANUAL"})
+	private AddressSource source;
+	
+	private AddressParser addressParser;
+	private Map<String, Object> addressData;
+	
+	@Setup
+	public void setUp() {
+		ObjectMapper objectMapper = new ObjectMapper();
+		addressParser = new AddressParser(List.of(
+				new KakaoAddressParsingStrategy(objectMapper),
+				new KakaoLocalAddressParsingStrategy(objectMapper),
+				new NaverAddressParsingStrategy(objectMapper),
+				new ManualAddressParsingStrategy(objectMapper)
+		));
+		addressData = switch (source) {
+			case KAKAO -> kakaoData();
+			case KAKAO_LOCAL -> kakaoLocalData();
+			case NAVER -> naverData();
+			case MANUAL -> manualData();
+		};
+	}
+	
+	@Benchmark
+	public AddressRequest parse() {
+		return addressParser.parse(source, addressData);
+	}
+	
+	private static Map<String, Object> kakaoData() {
+		Map<String, Object> data = new HashMap<>();
+		data.put("zonecode", "22006");
+		data.put("address", "인천 연수구 아트센터대로168번길 100");
+		data.put("addressType", "R");
+		data.put("bcode", "2818510600");
+		data.put("bname", "송도동");
+		data.put("bname2", "송도동");
+		data.put("sido", "인천");
+		data.put("sigungu", "연수구");
+		data.put("buildingName", "한라 웨스턴파크 송도");
+		data.put("jibunAddress", "인천 연수구 송도동 29-1");
+		data.put("roadAddress", "인천 연수구 아트센터대로168번길 100");
+		return data;
+	}
+	
+	private static Map<String, Object> kakaoLocalData() {
+		Map<String, Object> roadAddress = new HashMap<>();
+		roadAddress.put("address_name", "서울 강남구 테헤란로 152");
+		roadAddress.put("region_1depth_name", "서울");
+		roadAddress.put("region_2depth_name", "강남구");
+		roadAddress.put("region_3depth_name", "역삼동");
+		roadAddress.put("road_name", "테헤란로");
+		roadAddress.put("main_building_no", "152");
+		roadAddress.put("building_name", "강남파이낸스센터");
+		roadAddress.put("zone_no", "06236");
+		
+		Map<String, Object> address = new HashMap<>();
+		address.put("address_name", "서울 강남구 역삼동 737");
+		address.put("region_1depth_name", "서울");
+		address.put("region_2depth_name", "강남구");
+		address.put("region_3depth_name", "역삼동");
+		
+		Map<String, Object> data = new HashMap<>();
+		data.put("address_name", "서울 강남구 역삼동 737");
+		data.put("address_type", "REGION_ADDR");
+		data.put("x", "127.0365645");
+		data.put("y", "37.5000354");
+		data.put("road_address", roadAddress);
+		data.put("address", address);
+		return data;
+	}
+	
+	private static Map<String, Object> naverData() {
+		Map<String, Object> data = new HashMap<>();
+		data.put("zipCode", "22006");
+		data.put("sido", "인천");
+		data.put("sigungu", "연수구");
+		data.put("dong", "송도동");
+		data.put("roadAddress", "인천 연수구 아트센터대로168번길 100");
+		return data;
+	}
+	
+	private static Map<String, Object> manualData() {
+		Map<String, Object> data = new HashMap<>();
+		data.put("province", "서울");
+		data.put("city", "강남구");
+		data.put("district", "역삼동");
+		data.put("fullAddress", "서울 강남구 테헤란로 123");
+		data.put("addressDetail", "스타빌딩 5층");
+		data.put("postalCode", "06234");
+		return data;
+	}
+}
@@ -0,0 +1,35 @@
+package com.teambind.placeinfoserver.place.common.util.generator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Snowflake ID 생성 벤치마크
+ * nextId()는 synchronized이므로 단일 스레드와 경합(4, 8 스레드) 상황을 비교
+ * 밀리초당 4096개를 넘으면 다음 밀리초까지 대기하므로 처리량 상한이 존재
+ */
+@State(Scope.Benchmark)
+public class SnowflakeBenchmark {
+	
+	private final Snowflake snowflake = new Snowflake();
+	
+	@Benchmark
+	@Threads(1)
+	public long nextIdSingleThread() {
+		return snowflake.nextId();
+	}
+	
+	@Benchmark
+	@Threads(4)
+	public long nextIdContended4() {
+		return snowflake.nextId();
+	}
+	
+	@Benchmark
+	@Threads(8)
+	public long nextIdContended8() {
+		return snowflake.nextId();
+	}
+}
@@ -0,0 +1,48 @@
+package com.teambind.placeinfoserver.place.dto.cursor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 커서 인코딩/디코딩 벤치마크
+ * 다음 페이지가 있는 모든 검색 응답에서 encode, 커서 요청마다 decode 수행
+ */
+@State(Scope.Benchmark)
+public class PlaceSearchCursorBenchmark {
+	
+	private PlaceSearchCursor distanceCursor;
+	private PlaceSearchCursor ratingCursor;
+	private String encodedDistanceCursor;
+	private String encodedRatingCursor;
+	
+	@Setup
+	public void setUp() {
+		distanceCursor = PlaceSearchCursor.forDistance("1234567890123456789", 1523.4821,
+				PlaceSearchCursor.DistanceMetric.HAVERSINE, 40, true);
+		ratingCursor = PlaceSearchCursor.forRating("1234567890123456789", 4.5, "벤치마크 합주실", 40, true);
+		encodedDistanceCursor = distanceCursor.encode();
+		encodedRatingCursor = ratingCursor.encode();
+	}
+	
+	@Benchmark
+	public String encodeDistance() {
+		return distanceCursor.encode();
+	}
+	
+	@Benchmark
+	public String encodeRating() {
+		return ratingCursor.encode();
+	}
+	
+	@Benchmark
+	public PlaceSearchCursor decodeDistance() {
+		return PlaceSearchCursor.decode(encodedDistanceCursor);
+	}
+	
+	@Benchmark
+	public PlaceSearchCursor decodeRating() {
+		return PlaceSearchCursor.decode(encodedRatingCursor);
+	}
+}
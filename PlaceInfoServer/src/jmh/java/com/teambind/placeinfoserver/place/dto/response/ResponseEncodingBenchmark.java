@@ -0,0 +1,140 @@
+package com.teambind.placeinfoserver.place.dto.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.placeinfoserver.place.benchmark.BenchmarkFixtures;
+import com.teambind.placeinfoserver.place.common.config.BinaryFormatConfig;
+import com.teambind.placeinfoserver.place.common.util.AddressParser;
+import com.teambind.placeinfoserver.place.common.util.address.strategy.KakaoAddressParsingStrategy;
+import com.teambind.placeinfoserver.place.common.util.address.strategy.ManualAddressParsingStrategy;
+import com.teambind.placeinfoserver.place.common.util.address.strategy.NaverAddressParsingStrategy;
+import com.teambind.placeinfoserver.place.domain.entity.PlaceInfo;
+import com.teambind.placeinfoserver.place.domain.factory.PlaceContactFactory;
+import com.teambind.placeinfoserver.place.domain.factory.PlaceLocationFactory;
+import com.teambind.placeinfoserver.place.domain.factory.PlaceParkingFactory;
+import com.teambind.placeinfoserver.place.service.mapper.PlaceMapper;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 응답 인코딩 벤치마크 (JSON vs CBOR vs Smile)
+ * 검색 응답(PlaceSearchResponse)과 배치 상세 응답(PlaceBatchDetailResponse)의 직렬화/역직렬화 시간
+ * 형식별 페이로드 크기는 보조 카운터(payloadBytes)로 결과에 함께 기록
+ */
+@State(Scope.Benchmark)
+public class ResponseEncodingBenchmark {
+	
+	@Param({"JSON", "CBOR", "SMILE"})
+	private String format;
+	
+	@Param({"20", "50"})
+	private int size;
+	
+	private ObjectMapper objectMapper;
+	private PlaceSearchResponse searchResponse;
+	private PlaceBatchDetailResponse batchResponse;
+	private byte[] batchPayload;
+	
+	@Setup
+	public void setUp() throws IOException {
+		// 애플리케이션과 같이 JSON 빌더(JavaTimeModule, 날짜 ISO 문자열)에 형식별 팩토리를 지정하는 BinaryFormatConfig로 생성
+		BinaryFormatConfig binaryFormatConfig = new BinaryFormatConfig();
+		objectMapper = switch (format) {
+			case "CBOR" -> binaryFormatConfig.cborHttpMessageConverter(Jackson2ObjectMapperBuilder.json()).getObjectMapper();
+			case "SMILE" -> binaryFormatConfig.smileHttpMessageConverter(Jackson2ObjectMapperBuilder.json()).getObjectMapper();
+			default -> Jackson2ObjectMapperBuilder.json().build();
+		};
+		
+		ObjectMapper jsonMapper = new ObjectMapper();
+		AddressParser addressParser = new AddressParser(List.of(
+				new KakaoAddressParsingStrategy(jsonMapper),
+				new NaverAddressParsingStrategy(jsonMapper),
+				new ManualAddressParsingStrategy(jsonMapper)
+		));
+		PlaceMapper mapper = new PlaceMapper(addressParser, new PlaceContactFactory(), new PlaceLocationFactory(), new PlaceParkingFactory());
+		List<PlaceInfo> places = BenchmarkFixtures.places(size);
+		
+		List<PlaceInfoResponse> results = mapper.toResponseList(places);
+		for (PlaceInfoResponse result : results) {
+			result.setRoomCount(3);
+			result.setRoomIds(List.of(101L, 102L, 103L));
+		}
+		batchResponse = PlaceBatchDetailResponse.builder()
+				.results(results)
+				.failed(List.of())
+				.build();
+		
+		List<PlaceSearchResponse.PlaceSearchItem> items = new ArrayList<>(size);
+		for (PlaceInfo place : places) {
+			items.add(PlaceSearchResponse.PlaceSearchItem.builder()
+					.id(String.valueOf(place.getId()))
+					.placeName(place.getPlaceName())
+					.description(place.getDescription())
+					.category(place.getCategory())
+					.placeType(place.getPlaceType())
+					.fullAddress(place.getLocation().getAddress().getFullAddress())
+					.latitude(place.getLocation().getLatitude())
+					.longitude(place.getLocation().getLongitude())
+					.distance(1234.5)
+					.ratingAverage(place.getRatingAverage())
+					.reviewCount(place.getReviewCount())
+					.parkingAvailable(true)
+					.parkingType("FREE")
+					.thumbnailUrl(place.getImages().get(0).getImageUrl())
+					.keywords(List.of("키워드1", "키워드2", "키워드3", "키워드4", "키워드5"))
+					.contact("02-1234-5678")
+					.isActive(true)
+					.approvalStatus("APPROVED")
+					.registrationStatus("REGISTERED")
+					.roomCount(3)
+					.roomIds(List.of(101L, 102L, 103L))
+					.build());
+		}
+		searchResponse = PlaceSearchResponse.builder()
+				.items(items)
+				.nextCursor("eyJsYXN0SWQiOiIxMDAwMDE5IiwiaGFzTmV4dCI6dHJ1ZX0")
+				.hasNext(true)
+				.count(items.size())
+				.build();
+		
+		batchPayload = objectMapper.writeValueAsBytes(batchResponse);
+	}
+	
+	@Benchmark
+	public byte[] serializeSearch(Payload payload) throws IOException {
+		byte[] bytes = objectMapper.writeValueAsBytes(searchResponse);
+		payload.payloadBytes = bytes.length;
+		return bytes;
+	}
+	
+	@Benchmark
+	public byte[] serializeBatch(Payload payload) throws IOException {
+		byte[] bytes = objectMapper.writeValueAsBytes(batchResponse);
+		payload.payloadBytes = bytes.length;
+		return bytes;
+	}
+	
+	@Benchmark
+	public PlaceBatchDetailResponse deserializeBatch(Payload payload) throws IOException {
+		payload.payloadBytes = batchPayload.length;
+		return objectMapper.readValue(batchPayload, PlaceBatchDetailResponse.class);
+	}
+	
+	/**
+	 * 벤치마크별 페이로드 크기 (바이트, 누적하지 않고 마지막 크기를 기록)
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Payload {
+		
+		public long payloadBytes;
+	}
+}
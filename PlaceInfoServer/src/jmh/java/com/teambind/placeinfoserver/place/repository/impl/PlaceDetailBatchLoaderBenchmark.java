@@ -0,0 +1,165 @@
+package com.teambind.placeinfoserver.place.repository.impl;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.teambind.placeinfoserver.place.benchmark.BenchmarkFixtures;
+import com.teambind.placeinfoserver.place.common.config.JpaAuditingConfig;
+import com.teambind.placeinfoserver.place.domain.entity.Keyword;
+import com.teambind.placeinfoserver.place.domain.entity.PlaceInfo;
+import com.teambind.placeinfoserver.place.domain.enums.KeywordType;
+import com.teambind.placeinfoserver.place.repository.impl.PlaceDetailBatchLoader.PlaceDetails;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 업체 상세 일괄 조회 벤치마크 (images/keywords 동시 fetch join vs PlaceDetailBatchLoader)
+ * 통합 테스트와 같은 PostGIS 컨테이너에 엔티티 스키마를 만들고 JPA만 올린 컨텍스트에서
+ * 업체(이미지 3장, 키워드 5개)를 저장한 뒤 트랜잭션(영속성 컨텍스트) 하나당 조회 한 번의 시간을 비교
+ * <p>
+ * - fetchJoin: PlaceInfoRepository.findAllByIdWithDetails와 같은 JPQL (업체당 이미지 수 × 키워드 수 행 전송)
+ * - batchLoader: PlaceDetailBatchLoader.load (청크당 쿼리 5회, 컬렉션 크기의 합만큼 전송)
+ * 두 경로 모두 연락처 웹사이트까지 접근하여 응답 변환 시점의 지연 로딩을 포함
+ * <p>
+ * Docker가 필요하므로 실행: ./gradlew jmh -PjmhIncludes=PlaceDetailBatchLoader
+ */
+@State(Scope.Benchmark)
+public class PlaceDetailBatchLoaderBenchmark {
+	
+	private static final String FETCH_JOIN_JPQL = "SELECT DISTINCT p FROM PlaceInfo p "
+			+ "LEFT JOIN FETCH p.contact "
+			+ "LEFT JOIN FETCH p.location "
+			+ "LEFT JOIN FETCH p.parking "
+			+ "LEFT JOIN FETCH p.images "
+			+ "LEFT JOIN FETCH p.keywords "
+			+ "WHERE p.id IN :ids "
+			+ "AND p.isActive = true";
+	
+	@Param({"30", "200"})
+	private int places;
+	
+	private PostgreSQLContainer<?> postgres;
+	private ConfigurableApplicationContext context;
+	private TransactionTemplate transactionTemplate;
+	private EntityManager entityManager;
+	private PlaceDetailBatchLoader loader;
+	private List<Long> ids;
+	private Set<Long> idSet;
+	
+	@Setup(Level.Trial)
+	public void setUp() {
+		postgres = new PostgreSQLContainer<>(
+				DockerImageName.parse("postgis/postgis:15-3.3").asCompatibleSubstituteFor("postgres"));
+		postgres.start();
+		
+		context = new SpringApplicationBuilder(JpaBenchmarkConfig.class)
+				.web(WebApplicationType.NONE)
+				.properties(
+						// application.yaml(prod 프로필)을 읽지 않도록 없는 설정 이름 사용
+						"spring.config.name=place-detail-batch-loader-benchmark",
+						"spring.main.banner-mode=off",
+						"logging.level.root=WARN",
+						"spring.datasource.url=" + postgres.getJdbcUrl(),
+						"spring.datasource.username=" + postgres.getUsername(),
+						"spring.datasource.password=" + postgres.getPassword(),
+						"spring.jpa.hibernate.ddl-auto=create")
+				.run();
+		transactionTemplate = context.getBean(TransactionTemplate.class);
+		entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+		loader = context.getBean(PlaceDetailBatchLoader.class);
+		
+		ids = transactionTemplate.execute(status -> seed(places));
+		idSet = new HashSet<>(ids);
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+		postgres.stop();
+	}
+	
+	@Benchmark
+	public List<PlaceInfo> fetchJoin() {
+		return transactionTemplate.execute(status -> {
+			List<PlaceInfo> result = entityManager.createQuery(FETCH_JOIN_JPQL, PlaceInfo.class)
+					.setParameter("ids", idSet)
+					.getResultList();
+			result.forEach(place -> place.getContact().getWebsites().size());
+			return result;
+		});
+	}
+	
+	@Benchmark
+	public List<PlaceDetails> batchLoader() {
+		return transactionTemplate.execute(status -> {
+			List<PlaceDetails> result = loader.load(ids);
+			result.forEach(details -> details.place().getContact().getWebsites().size());
+			return result;
+		});
+	}
+	
+	private List<Long> seed(int count) {
+		List<Keyword> keywords = new ArrayList<>();
+		for (int i = 1; i <= 5; i++) {
+			Keyword keyword = Keyword.builder()
+					.name("키워드" + i)
+					.type(KeywordType.INSTRUMENT_EQUIPMENT)
+					.displayOrder(i)
+					.build();
+			entityManager.persist(keyword);
+			keywords.add(keyword);
+		}
+		
+		List<Long> placeIds = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			PlaceInfo place = BenchmarkFixtures.place(1_000_000L + i, keywords);
+			place.getContact().addWebsite("https://example.com/" + i);
+			entityManager.persist(place);
+			placeIds.add(place.getId());
+		}
+		return placeIds;
+	}
+	
+	/**
+	 * DataSource/JPA/트랜잭션만 올리는 벤치마크 컨텍스트 (Kafka/Redis/웹 제외)
+	 */
+	@Configuration
+	@EntityScan(basePackageClasses = PlaceInfo.class)
+	@ImportAutoConfiguration({
+			DataSourceAutoConfiguration.class,
+			HibernateJpaAutoConfiguration.class,
+			TransactionAutoConfiguration.class})
+	@Import({JpaAuditingConfig.class, PlaceDetailBatchLoader.class})
+	static class JpaBenchmarkConfig {
+		
+		@Bean
+		public JPAQueryFactory jpaQueryFactory(EntityManagerFactory entityManagerFactory) {
+			return new JPAQueryFactory(SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory));
+		}
+	}
+}
@@ -0,0 +1,85 @@
+package com.teambind.placeinfoserver.place.repository.impl;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.QTuple;
+import com.teambind.placeinfoserver.place.domain.enums.ApprovalStatus;
+import com.teambind.placeinfoserver.place.domain.enums.ParkingType;
+import com.teambind.placeinfoserver.place.domain.enums.RegistrationStatus;
+import com.teambind.placeinfoserver.place.dto.response.PlaceSearchResponse;
+import com.teambind.placeinfoserver.place.repository.index.PlaceSpatialIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 검색 결과 변환 벤치마크 (DB 조회 제외, 인메모리 Tuple 사용)
+ * - toItem: 프로젝션 행 -> PlaceSearchItem (모든 검색 경로)
+ * - toItemsInCandidateOrder: 위치 검색에서 IN 조회 결과를 후보 거리순으로 재정렬
+ */
+@State(Scope.Benchmark)
+public class PlaceSearchItemMappingBenchmark {
+	
+	@Param({"20", "100"})
+	private int size;
+	
+	private PlaceAdvancedSearchRepositoryImpl repository;
+	private List<Tuple> rows;
+	private List<PlaceSpatialIndex.Candidate> candidates;
+	
+	@Setup
+	public void setUp() {
+		// 변환 메서드는 Q타입만 사용하므로 의존성 없이 생성
+		repository = new PlaceAdvancedSearchRepositoryImpl(null, null, null, null, null, null, null, false);
+		QTuple projection = Projections.tuple(repository.searchItemColumns);
+		
+		rows = new ArrayList<>(size);
+		candidates = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			long id = 1_000_000L + i;
+			rows.add(projection.newInstance(
+					id,
+					"벤치마크 합주실 " + i,
+					"드럼, 앰프, 보컬 마이크를 갖춘 합주실입니다.",
+					"합주실",
+					"음악",
+					4.5,
+					120,
+					true,
+					ApprovalStatus.APPROVED,
+					RegistrationStatus.REGISTERED,
+					LocalDateTime.of(2025, 1, 1, 0, 0).plusMinutes(i),
+					"서울특별시 강남구 테헤란로 " + i,
+					37.4979 + i * 0.0005,
+					127.0276 + i * 0.0005,
+					true,
+					ParkingType.FREE,
+					"02-1234-5678"
+			));
+			candidates.add(new PlaceSpatialIndex.Candidate(id, 50.0 * i));
+		}
+		// IN 조회 결과는 후보 순서와 무관하게 반환됨
+		Collections.shuffle(rows, new Random(42));
+	}
+	
+	@Benchmark
+	public void toItem(Blackhole blackhole) {
+		for (Tuple row : rows) {
+			blackhole.consume(repository.toItem(row));
+		}
+	}
+	
+	@Benchmark
+	public List<PlaceSearchResponse.PlaceSearchItem> toItemsInCandidateOrder() {
+		return repository.toItemsInCandidateOrder(candidates, rows);
+	}
+}
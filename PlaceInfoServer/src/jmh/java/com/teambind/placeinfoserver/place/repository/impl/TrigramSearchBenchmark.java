@@ -0,0 +1,182 @@
+package com.teambind.placeinfoserver.place.repository.impl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 키워드 검색 SQL 벤치마크 (LIKE 순차 탐색 vs 트라이그램 GIN 인덱스)
+ * 통합 테스트와 같은 PostGIS 컨테이너에 place_info를 만들고 V3 마이그레이션(pg_trgm 인덱스)을 적용한 뒤
+ * 업체명/설명/카테고리를 generate_series로 채워 검색 한 페이지(size + 1)의 조회 시간을 비교
+ * <p>
+ * - likeSeqScan: 비트맵 스캔을 끈 세션의 CONTAINS 조건 (트라이그램 인덱스 도입 전 실행 계획)
+ * - likeTrigram: CONTAINS 조건 (lower(컬럼) LIKE '%검색어%', GIN 비트맵 스캔)
+ * - similar: SIMILAR 조건 (lower(컬럼) %> 검색어)
+ * - similarRelevance: SIMILAR 조건 + 관련도순 정렬
+ * <p>
+ * SQL은 PlaceAdvancedSearchRepositoryImpl이 생성하는 조건/정렬과 같은 형태
+ * Docker가 필요하므로 실행: ./gradlew jmh -PjmhIncludes=TrigramSearch
+ */
+@State(Scope.Benchmark)
+public class TrigramSearchBenchmark {
+	
+	private static final int PAGE_SIZE = 20;
+	
+	private static final String CONTAINS_SQL = """
+			SELECT id FROM place_info
+			WHERE is_active = true AND deleted_at IS NULL
+			  AND (lower(place_name) LIKE ? OR lower(description) LIKE ? OR lower(category) LIKE ?)
+			ORDER BY id
+			LIMIT ?""";
+	
+	private static final String SIMILAR_SQL = """
+			SELECT id FROM place_info
+			WHERE is_active = true AND deleted_at IS NULL
+			  AND (lower(place_name) %> ? OR lower(description) %> ? OR lower(category) %> ?)
+			ORDER BY id
+			LIMIT ?""";
+	
+	private static final String SIMILAR_RELEVANCE_SQL = """
+			SELECT id FROM place_info
+			WHERE is_active = true AND deleted_at IS NULL
+			  AND (lower(place_name) %> ? OR lower(description) %> ? OR lower(category) %> ?)
+			ORDER BY greatest(
+			    word_similarity(?, lower(place_name)),
+			    word_similarity(?, lower(coalesce(category, ''))),
+			    word_similarity(?, lower(coalesce(description, ''))) * 0.5) DESC, id
+			LIMIT ?""";
+	
+	/**
+	 * 흔한 단어 / 일부만 가진 단어 / 거의 없는 단어 (LIMIT 조기 종료 여부가 달라짐)
+	 */
+	@Param({"합주", "피아노룸", "77777"})
+	private String keyword;
+	
+	@Param({"100000"})
+	private int rows;
+	
+	private PostgreSQLContainer<?> postgres;
+	private Connection seqScanConnection;
+	private Connection trigramConnection;
+	private PreparedStatement likeSeqScan;
+	private PreparedStatement likeTrigram;
+	private PreparedStatement similar;
+	private PreparedStatement similarRelevance;
+	
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		postgres = new PostgreSQLContainer<>(
+				DockerImageName.parse("postgis/postgis:15-3.3").asCompatibleSubstituteFor("postgres"));
+		postgres.start();
+		
+		try (Connection connection = postgres.createConnection("");
+			 Statement statement = connection.createStatement()) {
+			statement.execute("""
+					CREATE TABLE place_info
+					(
+					    id           BIGINT PRIMARY KEY,
+					    place_name   VARCHAR(100) NOT NULL,
+					    description  VARCHAR(500),
+					    category     VARCHAR(50),
+					    is_active    BOOLEAN NOT NULL DEFAULT false,
+					    deleted_at   TIMESTAMP
+					)""");
+			statement.execute("""
+					INSERT INTO place_info (id, place_name, description, category, is_active)
+					SELECT i,
+					       (ARRAY['홍대','강남','신촌','합정','건대','잠실','부산','대구','대전','광주'])[1 + i % 10]
+					           || ' ' || (ARRAY['합주실','연습실','녹음실','보컬룸','드럼룸','피아노룸','댄스연습실','스튜디오'])[1 + i % 8]
+					           || ' ' || i,
+					       '24시간 운영하는 ' || (ARRAY['합주','개인 연습','녹음','레슨'])[1 + i % 4] || ' 공간입니다',
+					       (ARRAY['연습실','합주실','녹음실','공연장'])[1 + i % 4],
+					       i % 10 <> 0
+					FROM generate_series(1, %d) AS i""".formatted(rows));
+			statement.execute(migration("sql/V3__add_trigram_search_indexes.sql"));
+		}
+		
+		seqScanConnection = postgres.createConnection("");
+		try (Statement statement = seqScanConnection.createStatement()) {
+			// 트라이그램 GIN 인덱스는 비트맵 스캔으로만 사용되므로 끄면 인덱스 도입 전 실행 계획과 같음
+			statement.execute("SET enable_bitmapscan = off");
+		}
+		trigramConnection = postgres.createConnection("");
+		
+		String text = keyword.toLowerCase();
+		String pattern = "%" + text + "%";
+		likeSeqScan = bind(seqScanConnection.prepareStatement(CONTAINS_SQL), pattern, pattern, pattern, PAGE_SIZE + 1);
+		likeTrigram = bind(trigramConnection.prepareStatement(CONTAINS_SQL), pattern, pattern, pattern, PAGE_SIZE + 1);
+		similar = bind(trigramConnection.prepareStatement(SIMILAR_SQL), text, text, text, PAGE_SIZE + 1);
+		similarRelevance = bind(trigramConnection.prepareStatement(SIMILAR_RELEVANCE_SQL),
+				text, text, text, text, text, text, PAGE_SIZE + 1);
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDown() throws SQLException {
+		seqScanConnection.close();
+		trigramConnection.close();
+		postgres.stop();
+	}
+	
+	@Benchmark
+	public List<Long> likeSeqScan() throws SQLException {
+		return ids(likeSeqScan);
+	}
+	
+	@Benchmark
+	public List<Long> likeTrigram() throws SQLException {
+		return ids(likeTrigram);
+	}
+	
+	@Benchmark
+	public List<Long> similar() throws SQLException {
+		return ids(similar);
+	}
+	
+	@Benchmark
+	public List<Long> similarRelevance() throws SQLException {
+		return ids(similarRelevance);
+	}
+	
+	private static List<Long> ids(PreparedStatement statement) throws SQLException {
+		List<Long> ids = new ArrayList<>(PAGE_SIZE + 1);
+		try (ResultSet resultSet = statement.executeQuery()) {
+			while (resultSet.next()) {
+				ids.add(resultSet.getLong(1));
+			}
+		}
+		return ids;
+	}
+	
+	private static PreparedStatement bind(PreparedStatement statement, Object... params) throws SQLException {
+		for (int i = 0; i < params.length; i++) {
+			statement.setObject(i + 1, params[i]);
+		}
+		return statement;
+	}
+	
+	private static String migration(String path) throws IOException {
+		try (InputStream in = TrigramSearchBenchmark.class.getClassLoader().getResourceAsStream(path)) {
+			if (in == null) {
+				throw new IllegalStateException("Migration not found: " + path);
+			}
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+}
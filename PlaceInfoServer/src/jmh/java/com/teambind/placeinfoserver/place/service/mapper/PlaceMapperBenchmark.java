@@ -0,0 +1,58 @@
+package com.teambind.placeinfoserver.place.service.mapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.placeinfoserver.place.benchmark.BenchmarkFixtures;
+import com.teambind.placeinfoserver.place.common.util.AddressParser;
+import com.teambind.placeinfoserver.place.common.util.address.strategy.KakaoAddressParsingStrategy;
+import com.teambind.placeinfoserver.place.common.util.address.strategy.ManualAddressParsingStrategy;
+import com.teambind.placeinfoserver.place.common.util.address.strategy.NaverAddressParsingStrategy;
+import com.teambind.placeinfoserver.place.domain.entity.PlaceInfo;
+import com.teambind.placeinfoserver.place.domain.factory.PlaceContactFactory;
+import com.teambind.placeinfoserver.place.domain.factory.PlaceLocationFactory;
+import com.teambind.placeinfoserver.place.domain.factory.PlaceParkingFactory;
+import com.teambind.placeinfoserver.place.dto.response.PlaceInfoResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * PlaceMapper 엔티티 -> 응답 DTO 변환 벤치마크
+ * 상세 조회(toResponse), 사용자별 목록 조회(toResponseList) 경로
+ */
+@State(Scope.Benchmark)
+public class PlaceMapperBenchmark {
+	
+	@Param({"1", "20", "100"})
+	private int size;
+	
+	private PlaceMapper mapper;
+	private PlaceInfo place;
+	private List<PlaceInfo> places;
+	
+	@Setup
+	public void setUp() {
+		ObjectMapper objectMapper = new ObjectMapper();
+		AddressParser addressParser = new AddressParser(List.of(
+				new KakaoAddressParsingStrategy(objectMapper),
+				new NaverAddressParsingStrategy(objectMapper),
+				new ManualAddressParsingStrategy(objectMapper)
+		));
+		mapper = new PlaceMapper(addressParser, new PlaceContactFactory(), new PlaceLocationFactory(), new PlaceParkingFactory());
+		places = BenchmarkFixtures.places(size);
+		place = places.get(0);
+	}
+	
+	@Benchmark
+	public PlaceInfoResponse toResponse() {
+		return mapper.toResponse(place);
+	}
+	
+	@Benchmark
+	public List<PlaceInfoResponse> toResponseList() {
+		return mapper.toResponseList(places);
+	}
+}
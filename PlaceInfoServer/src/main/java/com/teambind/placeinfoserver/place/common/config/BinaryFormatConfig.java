@@ -0,0 +1,32 @@
+package com.teambind.placeinfoserver.place.common.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * 바이너리 응답 형식 (서비스 간 호출용)
+ * Accept 헤더로 JSON 대신 CBOR(application/cbor) 또는 Smile(application/x-jackson-smile) 선택
+ * - 같은 DTO를 Jackson으로 직렬화하므로 필드/스키마는 JSON과 동일 (필드명 반복을 바이너리 인코딩으로 축소)
+ * - spring.jackson.* 설정(날짜 형식, 모듈 등)을 JSON과 똑같이 적용하도록 Boot의 빌더로 생성
+ * - Accept가 없거나 JSON이면 기존과 같이 JSON 응답
+ */
+@Configuration
+public class BinaryFormatConfig {
+	
+	public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+	
+	@Bean
+	public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+		return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+	}
+	
+	@Bean
+	public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+		return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+	}
+}
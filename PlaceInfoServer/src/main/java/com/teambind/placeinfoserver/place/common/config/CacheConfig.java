@@ -0,0 +1,137 @@
+package com.teambind.placeinfoserver.place.common.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.placeinfoserver.place.dto.response.PlaceInfoResponse;
+import com.teambind.placeinfoserver.place.dto.response.PlaceSearchResponse;
+import com.teambind.placeinfoserver.place.repository.index.PlaceLocationCandidateSet;
+import com.teambind.placeinfoserver.place.service.usecase.query.CachedGetPlaceDetailUseCase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.cache.interceptor.LoggingCacheErrorHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.time.Duration;
+
+/**
+ * 캐시 설정
+ * - 캐시 저장소는 spring.cache.type으로 선택 (운영: redis, 테스트: none)
+ * - 캐시 장애(Redis 연결 실패 등)는 로그만 남기고 DB 조회로 진행
+ * - 전체 무효화(clear)는 KEYS 대신 SCAN으로 수행
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig implements CachingConfigurer {
+	
+	/**
+	 * 검색 결과 개수 캐시
+	 */
+	public static final String SEARCH_COUNT = "placeSearchCount";
+	
+	/**
+	 * 검색 결과 캐시 (엔드포인트 계열별)
+	 */
+	public static final String SEARCH_RESULTS = "placeSearchResults";
+	public static final String REGION_RESULTS = "placeRegionResults";
+	public static final String POPULAR_RESULTS = "placePopularResults";
+	public static final String RECENT_RESULTS = "placeRecentResults";
+	
+	/**
+	 * 검색 결과 캐시 세대 토큰 (교체하면 모든 계열의 기존 항목이 무효화됨, 만료 없음)
+	 */
+	public static final String SEARCH_GENERATION = "placeSearchGeneration";
+	
+	/**
+	 * 격자 셀별 위치 검색 후보 캐시
+	 */
+	public static final String LOCATION_CANDIDATES = "placeLocationCandidates";
+	
+	/**
+	 * 업체 상세 캐시 (L2), 업체별 L2 버전 토큰 및 인스턴스 간 L1 무효화 채널
+	 */
+	public static final String PLACE_DETAIL = "placeDetail";
+	public static final String PLACE_DETAIL_VERSION = "placeDetailVersion";
+	public static final String PLACE_DETAIL_EVICTION_CHANNEL = "place-info:cache:placeDetail:evict";
+	
+	private static final String KEY_PREFIX = "place-info:cache:";
+	private static final int CLEAR_SCAN_BATCH_SIZE = 1000;
+	
+	@Bean
+	public RedisCacheManagerBuilderCustomizer placeCacheManagerCustomizer(
+			RedisConnectionFactory redisConnectionFactory,
+			ObjectMapper objectMapper,
+			@Value("${place.search.count.cache-ttl:60s}") Duration searchCountTtl,
+			@Value("${place.search.cache.ttl.search:10s}") Duration searchTtl,
+			@Value("${place.search.cache.ttl.region:60s}") Duration regionTtl,
+			@Value("${place.search.cache.ttl.popular:60s}") Duration popularTtl,
+			@Value("${place.search.cache.ttl.recent:30s}") Duration recentTtl,
+			@Value("${place.search.cache.ttl.location-candidates:60s}") Duration locationCandidatesTtl,
+			@Value("${place.detail.cache.l2.ttl:10m}") Duration placeDetailTtl) {
+		RedisCacheConfiguration searchResults = typedCacheConfiguration(objectMapper, PlaceSearchResponse.class);
+		return builder -> builder
+				.cacheWriter(RedisCacheWriter.nonLockingRedisCacheWriter(
+						redisConnectionFactory, BatchStrategies.scan(CLEAR_SCAN_BATCH_SIZE)))
+				.cacheDefaults(defaultCacheConfiguration())
+				.withCacheConfiguration(SEARCH_COUNT, defaultCacheConfiguration().entryTtl(searchCountTtl))
+				.withCacheConfiguration(SEARCH_RESULTS, searchResults.entryTtl(searchTtl))
+				.withCacheConfiguration(REGION_RESULTS, searchResults.entryTtl(regionTtl))
+				.withCacheConfiguration(POPULAR_RESULTS, searchResults.entryTtl(popularTtl))
+				.withCacheConfiguration(RECENT_RESULTS, searchResults.entryTtl(recentTtl))
+				.withCacheConfiguration(SEARCH_GENERATION, defaultCacheConfiguration())
+				.withCacheConfiguration(LOCATION_CANDIDATES, typedCacheConfiguration(objectMapper, PlaceLocationCandidateSet.class)
+						.entryTtl(locationCandidatesTtl))
+				.withCacheConfiguration(PLACE_DETAIL, typedCacheConfiguration(objectMapper, PlaceInfoResponse.class)
+						.entryTtl(placeDetailTtl))
+				.withCacheConfiguration(PLACE_DETAIL_VERSION, defaultCacheConfiguration().entryTtl(placeDetailTtl));
+	}
+	
+	/**
+	 * 다른 인스턴스의 업체 변경에 따른 상세 캐시 L1 제거 구독
+	 */
+	@Bean
+	@ConditionalOnProperty(name = "place.detail.cache.enabled", havingValue = "true")
+	public RedisMessageListenerContainer placeDetailEvictionListenerContainer(
+			RedisConnectionFactory redisConnectionFactory,
+			CachedGetPlaceDetailUseCase cachedGetPlaceDetailUseCase) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory);
+		container.addMessageListener(cachedGetPlaceDetailUseCase, new ChannelTopic(PLACE_DETAIL_EVICTION_CHANNEL));
+		return container;
+	}
+	
+	@Override
+	public CacheErrorHandler errorHandler() {
+		return new LoggingCacheErrorHandler();
+	}
+	
+	private RedisCacheConfiguration defaultCacheConfiguration() {
+		return RedisCacheConfiguration.defaultCacheConfig()
+				.computePrefixWith(cacheName -> KEY_PREFIX + cacheName + "::")
+				.serializeValuesWith(RedisSerializationContext.SerializationPair
+						.fromSerializer(new GenericJackson2JsonRedisSerializer()))
+				.disableCachingNullValues();
+	}
+	
+	/**
+	 * 값 타입이 고정된 캐시는 타입 정보 없이 직렬화
+	 * 계산 필드(distanceInKm 등)는 애플리케이션 ObjectMapper 설정(알 수 없는 속성 무시)으로 역직렬화 시 무시
+	 */
+	private RedisCacheConfiguration typedCacheConfiguration(ObjectMapper objectMapper, Class<?> valueType) {
+		return defaultCacheConfiguration()
+				.serializeValuesWith(RedisSerializationContext.SerializationPair
+						.fromSerializer(new Jackson2JsonRedisSerializer<>(objectMapper.copy(), valueType)));
+	}
+}
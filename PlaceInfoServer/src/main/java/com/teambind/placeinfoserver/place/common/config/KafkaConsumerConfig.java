@@ -0,0 +1,51 @@
+package com.teambind.placeinfoserver.place.common.config;
+
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+
+/**
+ * Kafka 컨슈머 설정
+ * 단건 리스너는 Boot 기본 컨테이너 팩토리(kafkaListenerContainerFactory)를 그대로 사용
+ * 재시도 토픽 리스너(@RetryableTopic)는 레코드 단위로 커밋하는 재시도 전용 팩토리를 사용
+ */
+@Configuration
+public class KafkaConsumerConfig {
+	
+	public static final String BATCH_LISTENER_CONTAINER_FACTORY = "batchKafkaListenerContainerFactory";
+	public static final String RETRY_LISTENER_CONTAINER_FACTORY = "retryKafkaListenerContainerFactory";
+	
+	/**
+	 * 배치 리스너 컨테이너 팩토리
+	 * - spring.kafka.listener.* 설정을 Boot 기본 팩토리와 같이 적용한 뒤 배치 모드로 전환
+	 * - 폴링 단위(max-poll-records)로 리스너를 호출하고, 리스너가 배치 처리를 마친 뒤 직접 커밋(MANUAL)
+	 */
+	@Bean(BATCH_LISTENER_CONTAINER_FACTORY)
+	public ConcurrentKafkaListenerContainerFactory<Object, Object> batchKafkaListenerContainerFactory(
+			ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+			ConsumerFactory<Object, Object> kafkaConsumerFactory) {
+		ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+		configurer.configure(factory, kafkaConsumerFactory);
+		factory.setBatchListener(true);
+		factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+		return factory;
+	}
+	
+	/**
+	 * 재시도 토픽 리스너 컨테이너 팩토리
+	 * - 재시도/DLT 토픽은 단건 리스너로 처리하고, 처리 또는 다음 토픽 발행이 끝난 레코드마다 커밋(RECORD)
+	 * - 운영 설정의 ack-mode: manual을 따르면 Acknowledgment를 받지 않는 재시도 리스너의 오프셋이 커밋되지 않음
+	 */
+	@Bean(RETRY_LISTENER_CONTAINER_FACTORY)
+	public ConcurrentKafkaListenerContainerFactory<Object, Object> retryKafkaListenerContainerFactory(
+			ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+			ConsumerFactory<Object, Object> kafkaConsumerFactory) {
+		ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+		configurer.configure(factory, kafkaConsumerFactory);
+		factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.RECORD);
+		return factory;
+	}
+}
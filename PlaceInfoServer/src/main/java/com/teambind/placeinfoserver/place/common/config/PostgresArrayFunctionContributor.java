@@ -0,0 +1,32 @@
+package com.teambind.placeinfoserver.place.common.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * PostgreSQL 배열 연산자를 HQL(QueryDSL)에서 사용하기 위한 등록
+ * META-INF/services/org.hibernate.boot.model.FunctionContributor 로 로드됨
+ * <p>
+ * - bigint_array_overlaps(column, '{1,2}'): column && '{1,2}' (하나라도 포함, GIN 인덱스 사용)
+ * - bigint_array_contains(column, '{1,2}'): column @> '{1,2}' (모두 포함, GIN 인덱스 사용)
+ */
+public class PostgresArrayFunctionContributor implements FunctionContributor {
+
+	@Override
+	public void contributeFunctions(FunctionContributions functionContributions) {
+		BasicTypeRegistry basicTypeRegistry = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+
+		functionContributions.getFunctionRegistry().registerPattern(
+				"bigint_array_overlaps",
+				"(?1 && cast(?2 as bigint[]))",
+				basicTypeRegistry.resolve(StandardBasicTypes.BOOLEAN)
+		);
+		functionContributions.getFunctionRegistry().registerPattern(
+				"bigint_array_contains",
+				"(?1 @> cast(?2 as bigint[]))",
+				basicTypeRegistry.resolve(StandardBasicTypes.BOOLEAN)
+		);
+	}
+}
@@ -0,0 +1,32 @@
+package com.teambind.placeinfoserver.place.common.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * pg_trgm 함수/연산자를 HQL(QueryDSL)에서 사용하기 위한 등록
+ * META-INF/services/org.hibernate.boot.model.FunctionContributor 로 로드됨
+ * <p>
+ * - trgm_word_similar(column, query): column %> query (GIN gin_trgm_ops 인덱스 사용)
+ * - trgm_word_similarity(query, column): word_similarity 점수 (0 ~ 1, 관련도 정렬용)
+ */
+public class PostgresTrigramFunctionContributor implements FunctionContributor {
+
+	@Override
+	public void contributeFunctions(FunctionContributions functionContributions) {
+		BasicTypeRegistry basicTypeRegistry = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+
+		functionContributions.getFunctionRegistry().registerPattern(
+				"trgm_word_similar",
+				"(?1 %> ?2)",
+				basicTypeRegistry.resolve(StandardBasicTypes.BOOLEAN)
+		);
+		functionContributions.getFunctionRegistry().registerPattern(
+				"trgm_word_similarity",
+				"word_similarity(?1, ?2)",
+				basicTypeRegistry.resolve(StandardBasicTypes.DOUBLE)
+		);
+	}
+}
@@ -0,0 +1,13 @@
+package com.teambind.placeinfoserver.place.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * 인메모리 인덱스 주기적 재적재 등 백그라운드 작업용
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -14,6 +14,7 @@ public enum ErrorCode {
 	PLACE_NOT_APPROVED("PLACE_006", "Place is not approved yet", HttpStatus.FORBIDDEN),
 	PLACE_ALREADY_APPROVED("PLACE_007", "Place is already approved", HttpStatus.BAD_REQUEST),
 	PLACE_REJECTED("PLACE_008", "Place has been rejected", HttpStatus.FORBIDDEN),
+	PLACE_STALE_EVENT("PLACE_009", "Place has changed since the event was received", HttpStatus.CONFLICT),
 	
 	// 장소 정보 관련 에러 (PLACE_1XX)
 	PLACE_NAME_REQUIRED("PLACE_101", "Place name is required", HttpStatus.BAD_REQUEST),
@@ -32,6 +32,13 @@ public class InvalidPlaceStateException extends PlaceException {
 		);
 	}
 	
+	public static InvalidPlaceStateException staleEvent() {
+		return new InvalidPlaceStateException(
+				ErrorCode.PLACE_STALE_EVENT,
+				"이벤트 수신 이후 장소가 변경되었습니다."
+		);
+	}
+	
 	public static InvalidPlaceStateException alreadyActive() {
 		return new InvalidPlaceStateException(
 				ErrorCode.PLACE_ALREADY_ACTIVE,
@@ -0,0 +1,64 @@
+package com.teambind.placeinfoserver.place.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Kafka 재시도 토픽 Micrometer 카운터
+ * - place.kafka.retry{topic, stage}: 재시도 단계별 이벤트 수
+ * stage는 forwarded(배치 처리 실패로 재시도 토픽에 발행), attempt(재시도 토픽에서 다시 처리), dead_letter(DLT 도착)
+ * <p>
+ * topic 태그는 원본/재시도/DLT 토픽 이름으로 토픽 수만큼만 생성됨
+ */
+@Component
+public class KafkaRetryMetrics {
+	
+	public static final String RETRY = "place.kafka.retry";
+	
+	private final MeterRegistry meterRegistry;
+	
+	public KafkaRetryMetrics(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+	
+	/**
+	 * 원본 토픽 처리 실패로 재시도 토픽에 발행
+	 */
+	public void recordForwarded(String topic) {
+		counter(topic, Stage.FORWARDED).increment();
+	}
+	
+	/**
+	 * 재시도 토픽에서 이벤트 재처리
+	 */
+	public void recordAttempt(String topic) {
+		counter(topic, Stage.ATTEMPT).increment();
+	}
+	
+	/**
+	 * 재시도를 모두 소진하거나 재시도 불가 예외로 DLT 도착
+	 */
+	public void recordDeadLetter(String topic) {
+		counter(topic, Stage.DEAD_LETTER).increment();
+	}
+	
+	private Counter counter(String topic, Stage stage) {
+		return Counter.builder(RETRY)
+				.description("Kafka 재시도 단계별 이벤트 수")
+				.tag("topic", topic)
+				.tag("stage", stage.tagValue())
+				.register(meterRegistry);
+	}
+	
+	/**
+	 * 재시도 단계
+	 */
+	public enum Stage {
+		FORWARDED, ATTEMPT, DEAD_LETTER;
+		
+		String tagValue() {
+			return name().toLowerCase();
+		}
+	}
+}
@@ -0,0 +1,135 @@
+package com.teambind.placeinfoserver.place.common.metrics;
+
+import com.teambind.placeinfoserver.place.dto.request.PlaceSearchRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.StringJoiner;
+import java.util.function.Supplier;
+
+/**
+ * 검색 파이프라인 Micrometer 타이머
+ * - place.search{type, sort, filters}: 검색 분기(location/keyword/cursor)별 전체 시간
+ * - place.search.stage{type, stage, sort, filters}: 단계별 시간 (candidates, fetch, enrich)
+ * - place.search.serialization: 검색 응답 JSON 직렬화 시간
+ * 모두 퍼센타일 히스토그램을 게시하므로 Prometheus에서 histogram_quantile로 검색 유형별 SLO 설정 가능
+ * <p>
+ * filters 태그는 적용된 필터 종류의 조합(text, tags, region, attrs)으로 카디널리티를 제한
+ */
+@Component
+public class PlaceSearchMetrics {
+	
+	public static final String SEARCH = "place.search";
+	public static final String STAGE = "place.search.stage";
+	public static final String SERIALIZATION = "place.search.serialization";
+	
+	private static final Duration MIN_EXPECTED = Duration.ofMillis(1);
+	private static final Duration MAX_EXPECTED = Duration.ofSeconds(10);
+	
+	private final MeterRegistry meterRegistry;
+	private final Timer serializationTimer;
+	
+	public PlaceSearchMetrics(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+		this.serializationTimer = histogram(Timer.builder(SERIALIZATION)
+				.description("검색 응답 JSON 직렬화 시간"))
+				.register(meterRegistry);
+	}
+	
+	/**
+	 * 검색 분기 전체 시간 기록
+	 */
+	public <T> T recordSearch(SearchType type, PlaceSearchRequest request, Supplier<T> search) {
+		Timer timer = histogram(Timer.builder(SEARCH)
+				.description("검색 분기별 처리 시간")
+				.tags(baseTags(type, request)))
+				.register(meterRegistry);
+		return timer.record(search);
+	}
+	
+	/**
+	 * 검색 단계 시간 기록
+	 */
+	public <T> T recordStage(SearchType type, Stage stage, PlaceSearchRequest request, Supplier<T> work) {
+		Timer timer = histogram(Timer.builder(STAGE)
+				.description("검색 단계별 처리 시간")
+				.tags(baseTags(type, request))
+				.tag("stage", stage.tagValue()))
+				.register(meterRegistry);
+		return timer.record(work);
+	}
+	
+	/**
+	 * 직렬화 시간 기록
+	 */
+	public void recordSerialization(long elapsedNanos) {
+		serializationTimer.record(Duration.ofNanos(elapsedNanos));
+	}
+	
+	/**
+	 * 적용된 필터 종류 조합 (없으면 none)
+	 */
+	static String filterShape(PlaceSearchRequest request) {
+		StringJoiner shape = new StringJoiner("+");
+		if (StringUtils.hasText(request.getKeyword()) || StringUtils.hasText(request.getPlaceName())) {
+			shape.add("text");
+		}
+		if (request.getKeywordIds() != null && !request.getKeywordIds().isEmpty()) {
+			shape.add("tags");
+		}
+		if (request.hasRegionFilter()) {
+			shape.add("region");
+		}
+		if (StringUtils.hasText(request.getCategory())
+				|| StringUtils.hasText(request.getPlaceType())
+				|| request.getParkingAvailable() != null
+				|| StringUtils.hasText(request.getRegistrationStatus())) {
+			shape.add("attrs");
+		}
+		return shape.length() == 0 ? "none" : shape.toString();
+	}
+	
+	private static Tags baseTags(SearchType type, PlaceSearchRequest request) {
+		return Tags.of(
+				"type", type.tagValue(),
+				"sort", request.getSortBy() != null ? request.getSortBy().name().toLowerCase() : "none",
+				"filters", filterShape(request)
+		);
+	}
+	
+	private static Timer.Builder histogram(Timer.Builder builder) {
+		return builder
+				.publishPercentileHistogram()
+				.minimumExpectedValue(MIN_EXPECTED)
+				.maximumExpectedValue(MAX_EXPECTED);
+	}
+	
+	/**
+	 * 검색 분기
+	 */
+	public enum SearchType {
+		LOCATION, KEYWORD, CURSOR;
+		
+		String tagValue() {
+			return name().toLowerCase();
+		}
+	}
+	
+	/**
+	 * 검색 단계
+	 * CANDIDATES: 후보 ID 조회 (PostGIS/공간 인덱스/키워드 역색인)
+	 * FETCH: 프로젝션 컬럼 조회
+	 * ENRICH: DTO 변환 + 썸네일/키워드/Room 일괄 조회
+	 */
+	public enum Stage {
+		CANDIDATES, FETCH, ENRICH;
+		
+		String tagValue() {
+			return name().toLowerCase();
+		}
+	}
+}
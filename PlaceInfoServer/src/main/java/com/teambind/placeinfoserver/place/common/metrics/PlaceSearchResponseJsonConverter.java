@@ -0,0 +1,57 @@
+package com.teambind.placeinfoserver.place.common.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.placeinfoserver.place.dto.response.PlaceSearchResponse;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * 검색 응답 JSON 변환기 (직렬화 시간 측정)
+ * 기본 Jackson 변환기보다 앞에 등록되어 PlaceSearchResponse 쓰기만 담당, 나머지 타입은 기본 변환기 사용
+ * 바이트 배열로 직렬화한 뒤 출력하므로 place.search.serialization에는 네트워크 전송 시간이 포함되지 않음
+ */
+@Component
+public class PlaceSearchResponseJsonConverter extends AbstractHttpMessageConverter<PlaceSearchResponse> {
+	
+	private final ObjectMapper objectMapper;
+	private final PlaceSearchMetrics searchMetrics;
+	
+	public PlaceSearchResponseJsonConverter(ObjectMapper objectMapper, PlaceSearchMetrics searchMetrics) {
+		super(MediaType.APPLICATION_JSON);
+		this.objectMapper = objectMapper;
+		this.searchMetrics = searchMetrics;
+	}
+	
+	@Override
+	protected boolean supports(Class<?> clazz) {
+		return PlaceSearchResponse.class.isAssignableFrom(clazz);
+	}
+	
+	@Override
+	public boolean canRead(Class<?> clazz, MediaType mediaType) {
+		return false;
+	}
+	
+	@Override
+	protected PlaceSearchResponse readInternal(Class<? extends PlaceSearchResponse> clazz, HttpInputMessage inputMessage) {
+		throw new HttpMessageNotReadableException("PlaceSearchResponse는 요청 본문으로 사용할 수 없습니다", inputMessage);
+	}
+	
+	@Override
+	protected void writeInternal(PlaceSearchResponse response, HttpOutputMessage outputMessage) throws IOException {
+		long startTime = System.nanoTime();
+		byte[] body;
+		try {
+			body = objectMapper.writeValueAsBytes(response);
+		} finally {
+			searchMetrics.recordSerialization(System.nanoTime() - startTime);
+		}
+		outputMessage.getBody().write(body);
+	}
+}
@@ -0,0 +1,114 @@
+package com.teambind.placeinfoserver.place.common.util.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 키별 단일 실행 (single-flight)
+ * 같은 키의 조회가 진행 중이면 새로 조회하지 않고 진행 중인 결과(예외 포함)를 공유
+ * - 첫 호출자(leader)가 자기 스레드에서 조회하고, 나머지는 timeout 동안 결과를 기다림
+ * - 대기 시간이 지나거나 대기 중 인터럽트되면 직접 조회 (지연이 무한정 전파되지 않도록)
+ * - 결과는 보관하지 않으며 조회가 끝나면 키를 제거 (캐시는 호출 측 책임)
+ * - {prefix}.requests{result=leader|coalesced|timeout} 카운터와 {prefix}.in-flight 게이지 기록
+ *
+ * @param <K> 키 타입
+ * @param <V> 결과 타입
+ */
+public class SingleFlight<K, V> {
+	
+	private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+	private final long timeoutNanos;
+	private final Counter leaders;
+	private final Counter coalesced;
+	private final Counter timeouts;
+	
+	public SingleFlight(String metricPrefix, Duration timeout, MeterRegistry meterRegistry) {
+		this.timeoutNanos = timeout.toNanos();
+		this.leaders = counter(meterRegistry, metricPrefix, "leader");
+		this.coalesced = counter(meterRegistry, metricPrefix, "coalesced");
+		this.timeouts = counter(meterRegistry, metricPrefix, "timeout");
+		Gauge.builder(metricPrefix + ".in-flight", inFlight, ConcurrentMap::size)
+				.description("진행 중인 단일 실행 키 수")
+				.register(meterRegistry);
+	}
+	
+	/**
+	 * 키별 단일 실행
+	 *
+	 * @param key    조회 키
+	 * @param loader 실제 조회 (같은 키에 대해 동시에 한 번만 실행)
+	 * @return 조회 결과 (진행 중인 조회가 있었으면 그 결과)
+	 */
+	public V execute(K key, Supplier<V> loader) {
+		CompletableFuture<V> created = new CompletableFuture<>();
+		CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+		if (existing == null) {
+			leaders.increment();
+			return lead(key, created, loader);
+		}
+		
+		try {
+			V value = existing.get(timeoutNanos, TimeUnit.NANOSECONDS);
+			coalesced.increment();
+			return value;
+		} catch (ExecutionException e) {
+			coalesced.increment();
+			throw rethrow(e.getCause());
+		} catch (TimeoutException e) {
+			timeouts.increment();
+			return loader.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			timeouts.increment();
+			return loader.get();
+		}
+	}
+	
+	/**
+	 * 진행 중인 조회와의 연결 해제
+	 * 데이터가 바뀌었을 때 호출하면 이후 호출자는 진행 중인(변경 전) 조회 결과를 공유하지 않고 새로 조회
+	 */
+	public void forget(K key) {
+		inFlight.remove(key);
+	}
+	
+	private V lead(K key, CompletableFuture<V> future, Supplier<V> loader) {
+		try {
+			V value = loader.get();
+			future.complete(value);
+			return value;
+		} catch (RuntimeException | Error e) {
+			future.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, future);
+		}
+	}
+	
+	private static RuntimeException rethrow(Throwable cause) {
+		if (cause instanceof RuntimeException runtimeException) {
+			return runtimeException;
+		}
+		if (cause instanceof Error error) {
+			throw error;
+		}
+		return new IllegalStateException(cause);
+	}
+	
+	private static Counter counter(MeterRegistry meterRegistry, String metricPrefix, String result) {
+		return Counter.builder(metricPrefix + ".requests")
+				.description("단일 실행 요청 수 (coalesced: 진행 중인 결과 공유)")
+				.tag("result", result)
+				.register(meterRegistry);
+	}
+}
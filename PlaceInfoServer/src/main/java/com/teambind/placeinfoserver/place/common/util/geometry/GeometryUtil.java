@@ -15,7 +15,17 @@ public class GeometryUtil {
 	 * WGS84 좌표계 (SRID 4326)
 	 */
 	public static final int WGS84_SRID = 4326;
-	
+
+	/**
+	 * 지구 평균 반경 (미터)
+	 */
+	public static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+	/**
+	 * PostGIS(회전타원체)와 Haversine(구) 거리 차이 보정 여유분 (비율)
+	 */
+	public static final double SPHEROID_DISTANCE_SLACK = 1.01;
+
 	/**
 	 * GeometryFactory 싱글톤 인스턴스
 	 */
@@ -90,6 +100,26 @@ public class GeometryUtil {
 		return point.getX();
 	}
 	
+	/**
+	 * 두 좌표 사이의 대원 거리 계산 (Haversine)
+	 * PostGIS geography ST_Distance(구면체)와 수 미터 이내로 일치
+	 *
+	 * @param lat1 기준 위도
+	 * @param lng1 기준 경도
+	 * @param lat2 대상 위도
+	 * @param lng2 대상 경도
+	 * @return 거리 (미터)
+	 */
+	public static double haversineDistance(double lat1, double lng1, double lat2, double lng2) {
+		double dLat = Math.toRadians(lat2 - lat1);
+		double dLng = Math.toRadians(lng2 - lng1);
+		double sinLat = Math.sin(dLat / 2);
+		double sinLng = Math.sin(dLng / 2);
+		double a = sinLat * sinLat
+				+ Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * sinLng * sinLng;
+		return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+	}
+
 	/**
 	 * GeometryFactory 인스턴스 반환
 	 *
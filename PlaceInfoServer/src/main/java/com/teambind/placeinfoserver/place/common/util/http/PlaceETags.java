@@ -0,0 +1,88 @@
+package com.teambind.placeinfoserver.place.common.util.http;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 업체 응답 ETag / Last-Modified 유틸리티
+ * 업체 버전은 place_info.updated_at (업체/연관 엔티티/Room 변경 커밋 시 갱신)
+ * - 상세: 강한 ETag "updated_at 마이크로초"
+ * - 배치: 약한 ETag W/"활성 업체별 (ID, updated_at) 목록의 MD5" (요청 순서/중복과 무관)
+ * 배치 응답은 Accept에 따라 JSON/CBOR/Smile로 본문 바이트가 달라지므로 내용이 같다는 의미의 약한 ETag 사용
+ */
+public final class PlaceETags {
+	
+	private PlaceETags() {
+		// 유틸리티 클래스이므로 인스턴스 생성 방지
+	}
+	
+	/**
+	 * 업체 상세 ETag
+	 *
+	 * @param version 업체 updated_at
+	 * @return 따옴표를 포함한 강한 ETag
+	 */
+	public static String detail(LocalDateTime version) {
+		return "\"" + toEpochMicros(version) + "\"";
+	}
+	
+	/**
+	 * Last-Modified (epoch 밀리초, DB 타임스탬프는 서버 시간대 기준)
+	 */
+	public static long lastModified(LocalDateTime version) {
+		return version.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+	
+	/**
+	 * 배치 상세 ETag
+	 *
+	 * @param versions 응답에 포함되는 업체 ID별 updated_at
+	 * @return W/ 접두사와 따옴표를 포함한 약한 ETag
+	 */
+	public static String batch(Map<Long, LocalDateTime> versions) {
+		StringBuilder sb = new StringBuilder();
+		for (Map.Entry<Long, LocalDateTime> entry : new TreeMap<>(versions).entrySet()) {
+			sb.append(entry.getKey()).append(':').append(toEpochMicros(entry.getValue())).append(',');
+		}
+		return "W/\"" + DigestUtils.md5DigestAsHex(sb.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+	}
+	
+	/**
+	 * If-None-Match 헤더가 ETag와 일치하는지 확인 (목록, 약한 비교, * 지원)
+	 *
+	 * @param ifNoneMatch If-None-Match 헤더 값 (null 가능)
+	 * @param etag        현재 ETag
+	 */
+	public static boolean matches(String ifNoneMatch, String etag) {
+		if (ifNoneMatch == null || etag == null) {
+			return false;
+		}
+		String opaqueTag = stripWeak(etag);
+		for (String candidate : ifNoneMatch.split(",")) {
+			String trimmed = candidate.trim();
+			if (trimmed.equals("*")) {
+				return true;
+			}
+			if (stripWeak(trimmed).equals(opaqueTag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	private static String stripWeak(String etag) {
+		return etag.startsWith("W/") ? etag.substring(2) : etag;
+	}
+	
+	// DB 타임스탬프 정밀도(마이크로초)에 맞춤 (JDBC 드라이버와 같이 나노초를 반올림)
+	private static long toEpochMicros(LocalDateTime version) {
+		LocalDateTime rounded = version.plusNanos(500).truncatedTo(ChronoUnit.MICROS);
+		return ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), rounded);
+	}
+}
@@ -1,8 +1,10 @@
 package com.teambind.placeinfoserver.place.controller;
 
 import com.teambind.placeinfoserver.place.controller.swagger.AdminControllerSwagger;
+import com.teambind.placeinfoserver.place.dto.response.CountResponse;
 import com.teambind.placeinfoserver.place.service.usecase.command.ApprovePlaceUseCase;
 import com.teambind.placeinfoserver.place.service.usecase.command.DeletePlaceUseCase;
+import com.teambind.placeinfoserver.place.service.usecase.command.RebuildPlaceSearchViewUseCase;
 import com.teambind.placeinfoserver.place.service.usecase.command.RejectPlaceUseCase;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -16,6 +18,7 @@ public class AdminController implements AdminControllerSwagger {
 	private final ApprovePlaceUseCase approvePlaceUseCase;
 	private final RejectPlaceUseCase rejectPlaceUseCase;
 	private final DeletePlaceUseCase deletePlaceUseCase;
+	private final RebuildPlaceSearchViewUseCase rebuildPlaceSearchViewUseCase;
 
 	@Override
 	@PatchMapping("/{placeId}")
@@ -41,4 +44,11 @@ public class AdminController implements AdminControllerSwagger {
 		deletePlaceUseCase.executeAsAdmin(placeId, "ADMIN");
 		return ResponseEntity.noContent().build();
 	}
+
+	@Override
+	@PostMapping("/search-view/rebuild")
+	public ResponseEntity<CountResponse> rebuildSearchView() {
+		int rebuilt = rebuildPlaceSearchViewUseCase.execute();
+		return ResponseEntity.ok(new CountResponse((long) rebuilt));
+	}
 }
@@ -4,13 +4,18 @@ import com.teambind.placeinfoserver.place.controller.swagger.KeywordControllerSw
 import com.teambind.placeinfoserver.place.domain.enums.KeywordType;
 import com.teambind.placeinfoserver.place.dto.response.KeywordResponse;
 import com.teambind.placeinfoserver.place.service.usecase.query.GetAllKeywordsUseCase;
+import com.teambind.placeinfoserver.place.service.usecase.query.KeywordCatalog;
+import com.teambind.placeinfoserver.place.service.usecase.query.KeywordCatalogManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -21,19 +26,38 @@ import java.util.List;
 public class KeywordController implements KeywordControllerSwagger {
 
 	private final GetAllKeywordsUseCase getAllKeywordsUseCase;
+	private final KeywordCatalogManager keywordCatalogManager;
 
 	@Override
 	@GetMapping
-	public ResponseEntity<List<KeywordResponse>> getKeywords(
-			@RequestParam(required = false) KeywordType type
+	public ResponseEntity<?> getKeywords(
+			@RequestParam(required = false) KeywordType type,
+			WebRequest webRequest
 	) {
-		log.info("키워드 목록 조회 요청: type={}", type);
+		// 스냅샷 비활성화 시 요청마다 조회 결과를 그대로 응답 (직렬화 본문/ETag 생성 없음)
+		if (!keywordCatalogManager.isEnabled()) {
+			List<KeywordResponse> keywords = type == null
+					? getAllKeywordsUseCase.execute()
+					: getAllKeywordsUseCase.executeByType(type);
+			
+			log.info("키워드 목록 조회 완료: type={}, count={}", type, keywords.size());
+			return ResponseEntity.ok(keywords);
+		}
+		
+		KeywordCatalog catalog = keywordCatalogManager.get();
 
-		List<KeywordResponse> keywords = type == null
-				? getAllKeywordsUseCase.execute()
-				: getAllKeywordsUseCase.executeByType(type);
+		// 카탈로그가 바뀌지 않았으면 본문 없이 304 응답
+		String etag = catalog.getETag(type);
+		if (webRequest.checkNotModified(etag)) {
+			log.debug("키워드 목록 변경 없음: type={}", type);
+			return null;
+		}
 
-		log.info("키워드 목록 조회 완료: count={}", keywords.size());
-		return ResponseEntity.ok(keywords);
+		log.info("키워드 목록 조회 완료: type={}, count={}", type, catalog.getKeywords(type).size());
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_JSON)
+				.cacheControl(CacheControl.noCache())
+				.eTag(etag)
+				.body(catalog.getBody(type));
 	}
 }
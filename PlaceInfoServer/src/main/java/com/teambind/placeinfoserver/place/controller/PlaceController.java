@@ -1,17 +1,25 @@
 package com.teambind.placeinfoserver.place.controller;
 
 import com.teambind.placeinfoserver.place.common.exception.application.ForbiddenException;
+import com.teambind.placeinfoserver.place.common.util.http.PlaceETags;
 import com.teambind.placeinfoserver.place.controller.swagger.PlaceControllerSwagger;
 import com.teambind.placeinfoserver.place.domain.enums.AppType;
 import com.teambind.placeinfoserver.place.dto.response.PlaceInfoResponse;
-import com.teambind.placeinfoserver.place.service.usecase.query.GetPlaceDetailUseCase;
+import com.teambind.placeinfoserver.place.dto.response.PlaceInfoSummaryPageResponse;
+import com.teambind.placeinfoserver.place.service.usecase.query.CachedGetPlaceDetailUseCase;
+import com.teambind.placeinfoserver.place.service.usecase.query.GetPlaceVersionUseCase;
 import com.teambind.placeinfoserver.place.service.usecase.query.GetPlacesByUserUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @RestController
@@ -19,8 +27,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PlaceController implements PlaceControllerSwagger {
 
-	private final GetPlaceDetailUseCase getPlaceDetailUseCase;
+	private final CachedGetPlaceDetailUseCase cachedGetPlaceDetailUseCase;
 	private final GetPlacesByUserUseCase getPlacesByUserUseCase;
+	private final GetPlaceVersionUseCase getPlaceVersionUseCase;
 
 	@Override
 	@GetMapping("/my")
@@ -36,14 +45,49 @@ public class PlaceController implements PlaceControllerSwagger {
 		return ResponseEntity.ok(response);
 	}
 
+	@Override
+	@GetMapping("/my/summary")
+	public ResponseEntity<PlaceInfoSummaryPageResponse> getMyPlaceSummaries(
+			@RequestHeader("X-App-Type") String appType,
+			@RequestHeader("X-User-Id") String userId,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(required = false) Integer size) {
+		validatePlaceManagerApp(appType);
+
+		log.info("내 공간 요약 목록 조회 요청: userId={}, size={}", userId, size);
+		PlaceInfoSummaryPageResponse response = getPlacesByUserUseCase.executeSummaryPage(userId, cursor, size);
+
+		return ResponseEntity.ok(response);
+	}
+
 	@Override
 	@GetMapping("/{placeId}")
-	public ResponseEntity<PlaceInfoResponse> getPlaceDetail(@PathVariable String placeId) {
+	public ResponseEntity<PlaceInfoResponse> getPlaceDetail(@PathVariable String placeId, WebRequest webRequest) {
+		// 조건부 요청이면 업체 버전만 조회하여 변경이 없으면 본문 없이 304 응답
+		if (isConditional(webRequest)) {
+			Optional<LocalDateTime> version = getPlaceVersionUseCase.findDetailVersion(placeId);
+			if (version.isPresent() && webRequest.checkNotModified(
+					PlaceETags.detail(version.get()), PlaceETags.lastModified(version.get()))) {
+				log.debug("공간 상세 변경 없음: placeId={}", placeId);
+				return null;
+			}
+		}
+
 		log.info("공간 상세 조회 요청: placeId={}", placeId);
-		PlaceInfoResponse response = getPlaceDetailUseCase.execute(placeId);
+		PlaceInfoResponse response = cachedGetPlaceDetailUseCase.execute(placeId);
 		log.info("공간 상세 조회 완료: placeId={}, placeName={}", placeId, response.getPlaceName());
 
-		return ResponseEntity.ok(response);
+		ResponseEntity.BodyBuilder builder = ResponseEntity.ok().cacheControl(CacheControl.noCache());
+		if (response.getUpdatedAt() != null) {
+			builder.eTag(PlaceETags.detail(response.getUpdatedAt()))
+					.lastModified(PlaceETags.lastModified(response.getUpdatedAt()));
+		}
+		return builder.body(response);
+	}
+
+	private boolean isConditional(WebRequest webRequest) {
+		return webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+				|| webRequest.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
 	}
 
 	private void validatePlaceManagerApp(String appType) {
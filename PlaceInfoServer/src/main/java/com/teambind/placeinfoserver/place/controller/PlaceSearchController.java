@@ -1,21 +1,35 @@
 package com.teambind.placeinfoserver.place.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.placeinfoserver.place.common.config.BinaryFormatConfig;
+import com.teambind.placeinfoserver.place.common.util.http.PlaceETags;
 import com.teambind.placeinfoserver.place.controller.swagger.PlaceSearchControllerSwagger;
 import com.teambind.placeinfoserver.place.dto.request.LocationSearchRequest;
 import com.teambind.placeinfoserver.place.dto.request.PlaceBatchDetailRequest;
+import com.teambind.placeinfoserver.place.dto.request.PlaceBatchDetailStreamRequest;
 import com.teambind.placeinfoserver.place.dto.request.PlaceSearchRequest;
 import com.teambind.placeinfoserver.place.dto.response.CountResponse;
 import com.teambind.placeinfoserver.place.dto.response.PlaceBatchDetailResponse;
+import com.teambind.placeinfoserver.place.dto.response.PlaceBatchDetailStreamSummary;
 import com.teambind.placeinfoserver.place.dto.response.PlaceSearchResponse;
-import com.teambind.placeinfoserver.place.repository.PlaceAdvancedSearchRepository;
+import com.teambind.placeinfoserver.place.service.usecase.query.CachedSearchPlacesUseCase;
+import com.teambind.placeinfoserver.place.service.usecase.query.CountPlacesUseCase;
 import com.teambind.placeinfoserver.place.service.usecase.query.GetPlaceDetailsBatchUseCase;
-import com.teambind.placeinfoserver.place.service.usecase.query.SearchPlacesUseCase;
+import com.teambind.placeinfoserver.place.service.usecase.query.GetPlaceVersionUseCase;
+import com.teambind.placeinfoserver.place.service.usecase.query.StreamPlaceDetailsBatchUseCase;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @Slf4j
@@ -25,18 +39,23 @@ import java.util.List;
 public class PlaceSearchController implements PlaceSearchControllerSwagger {
 	
 	// Query UseCases
-	private final SearchPlacesUseCase searchPlacesUseCase;
+	private final CachedSearchPlacesUseCase cachedSearchPlacesUseCase;
 	private final GetPlaceDetailsBatchUseCase getPlaceDetailsBatchUseCase;
-	private final PlaceAdvancedSearchRepository searchRepository;
+	private final CountPlacesUseCase countPlacesUseCase;
+	private final StreamPlaceDetailsBatchUseCase streamPlaceDetailsBatchUseCase;
+	private final GetPlaceVersionUseCase getPlaceVersionUseCase;
+	private final ObjectMapper objectMapper;
 	
 	@Override
-	@GetMapping(produces = "application/json;charset=UTF-8")
+	@GetMapping(produces = {"application/json;charset=UTF-8", MediaType.APPLICATION_CBOR_VALUE, BinaryFormatConfig.APPLICATION_SMILE_VALUE})
 	public ResponseEntity<PlaceSearchResponse> search(
 			@RequestParam(required = false) String keyword,
+			@RequestParam(defaultValue = "CONTAINS") PlaceSearchRequest.TextMatch textMatch,
 			@RequestParam(required = false) String placeName,
 			@RequestParam(required = false) String category,
 			@RequestParam(required = false) String placeType,
 			@RequestParam(required = false) List<Long> keywordIds,
+			@RequestParam(defaultValue = "ANY") PlaceSearchRequest.KeywordMatch keywordMatch,
 			@RequestParam(required = false) Boolean parkingAvailable,
 			@RequestParam(required = false) Double latitude,
 			@RequestParam(required = false) Double longitude,
@@ -52,10 +71,12 @@ public class PlaceSearchController implements PlaceSearchControllerSwagger {
 	) {
 		PlaceSearchRequest request = PlaceSearchRequest.builder()
 				.keyword(keyword)
+				.textMatch(textMatch)
 				.placeName(placeName)
 				.category(category)
 				.placeType(placeType)
 				.keywordIds(keywordIds)
+				.keywordMatch(keywordMatch)
 				.parkingAvailable(parkingAvailable)
 				.latitude(latitude)
 				.longitude(longitude)
@@ -87,7 +108,7 @@ public class PlaceSearchController implements PlaceSearchControllerSwagger {
 		log.info("location=({},{}), cursor={}, size={}", latitude, longitude, cursor, size);
 		log.info("================================");
 		
-		PlaceSearchResponse response = searchPlacesUseCase.execute(request);
+		PlaceSearchResponse response = cachedSearchPlacesUseCase.execute(request, CachedSearchPlacesUseCase.Family.SEARCH);
 		
 		log.info("검색 결과: {} 건 조회됨", response.getCount());
 		return ResponseEntity.ok(response);
@@ -115,7 +136,7 @@ public class PlaceSearchController implements PlaceSearchControllerSwagger {
 		log.info("위치 기반 검색: ({}, {}) 반경 {}m",
 				request.getLatitude(), request.getLongitude(), request.getRadius());
 		
-		PlaceSearchResponse response = searchPlacesUseCase.execute(searchRequest);
+		PlaceSearchResponse response = cachedSearchPlacesUseCase.execute(searchRequest, CachedSearchPlacesUseCase.Family.SEARCH);
 		return ResponseEntity.ok(response);
 	}
 	
@@ -142,7 +163,7 @@ public class PlaceSearchController implements PlaceSearchControllerSwagger {
 				.registrationStatus(registrationStatus)
 				.build();
 		
-		PlaceSearchResponse response = searchPlacesUseCase.execute(searchRequest);
+		PlaceSearchResponse response = cachedSearchPlacesUseCase.execute(searchRequest, CachedSearchPlacesUseCase.Family.REGION);
 		return ResponseEntity.ok(response);
 	}
 	
@@ -163,7 +184,7 @@ public class PlaceSearchController implements PlaceSearchControllerSwagger {
 				.registrationStatus(registrationStatus)
 				.build();
 		
-		PlaceSearchResponse response = searchPlacesUseCase.execute(request);
+		PlaceSearchResponse response = cachedSearchPlacesUseCase.execute(request, CachedSearchPlacesUseCase.Family.POPULAR);
 		return ResponseEntity.ok(response);
 	}
 	
@@ -184,32 +205,79 @@ public class PlaceSearchController implements PlaceSearchControllerSwagger {
 				.registrationStatus(registrationStatus)
 				.build();
 		
-		PlaceSearchResponse response = searchPlacesUseCase.execute(request);
+		PlaceSearchResponse response = cachedSearchPlacesUseCase.execute(request, CachedSearchPlacesUseCase.Family.RECENT);
 		return ResponseEntity.ok(response);
 	}
 	
 	@Override
 	@PostMapping("/count")
 	public ResponseEntity<CountResponse> countSearchResults(
-			@RequestBody PlaceSearchRequest request
+			@RequestBody PlaceSearchRequest request,
+			@RequestParam(defaultValue = "false") boolean exact
 	) {
-		Long count = searchRepository.countSearchResults(request);
-		return ResponseEntity.ok(new CountResponse(count));
+		CountResponse response = countPlacesUseCase.execute(request, exact);
+		return ResponseEntity.ok(response);
 	}
 	
 	@Override
 	@PostMapping("/batch/details")
 	public ResponseEntity<PlaceBatchDetailResponse> getPlaceDetailsBatch(
-			@Valid @RequestBody PlaceBatchDetailRequest request
+			@Valid @RequestBody PlaceBatchDetailRequest request,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
 	) {
 		log.info("배치 상세 조회 요청 - placeId 개수: {}", request.getPlaceIds().size());
 		
+		// 조회용 POST이므로 If-None-Match가 현재 버전과 같으면 본문 없이 304 응답
+		if (ifNoneMatch != null) {
+			String currentETag = getPlaceVersionUseCase.findBatchETag(request.getPlaceIds());
+			if (PlaceETags.matches(ifNoneMatch, currentETag)) {
+				log.debug("배치 상세 변경 없음 - placeId 개수: {}", request.getPlaceIds().size());
+				return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentETag).varyBy(HttpHeaders.ACCEPT).build();
+			}
+		}
+		
 		PlaceBatchDetailResponse response = getPlaceDetailsBatchUseCase.execute(request);
 		
 		log.info("배치 상세 조회 완료 - 성공: {}, 실패: {}",
 				response.getSuccessCount(),
 				response.getFailed() != null ? response.getFailed().size() : 0);
 		
-		return ResponseEntity.ok(response);
+		// 같은 결과라도 Accept(JSON/CBOR/Smile)에 따라 본문이 다르므로 캐시가 형식별로 구분하도록 Vary 지정
+		return ResponseEntity.ok()
+				.eTag(getPlaceVersionUseCase.batchETagOf(response.getResults()))
+				.varyBy(HttpHeaders.ACCEPT)
+				.body(response);
+	}
+	
+	@Override
+	@PostMapping(value = "/batch/details", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> streamPlaceDetailsBatch(
+			@Valid @RequestBody PlaceBatchDetailStreamRequest request
+	) {
+		log.info("배치 상세 스트리밍 조회 요청 - placeId 개수: {}", request.getPlaceIds().size());
+		
+		// 응답 버퍼가 찰 때마다 전송되므로 전체 결과를 메모리에 모으지 않음
+		StreamingResponseBody body = outputStream -> {
+			try {
+				PlaceBatchDetailStreamSummary summary = streamPlaceDetailsBatchUseCase.execute(request, response -> writeLine(outputStream, response));
+				writeLine(outputStream, summary);
+				outputStream.flush();
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			}
+		};
+		
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.body(body);
+	}
+	
+	private void writeLine(OutputStream outputStream, Object value) {
+		try {
+			outputStream.write(objectMapper.writeValueAsBytes(value));
+			outputStream.write('\n');
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
 	}
 }
@@ -1,5 +1,6 @@
 package com.teambind.placeinfoserver.place.controller.swagger;
 
+import com.teambind.placeinfoserver.place.dto.response.CountResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -23,4 +24,8 @@ public interface AdminControllerSwagger {
     @ApiResponse(responseCode = "404", description = "존재하지 않는 업체")
     ResponseEntity<Void> delete(
             @Parameter(description = "공간 ID", required = true) String placeId);
+
+    @Operation(summary = "검색 읽기 모델 재구성", description = "place_search_view를 원본 테이블에서 전체 재적재합니다 (초기 적재/복구용)")
+    @ApiResponse(responseCode = "200", description = "재구성 성공 (count: 적재된 업체 수)")
+    ResponseEntity<CountResponse> rebuildSearchView();
 }
@@ -4,20 +4,28 @@ import com.teambind.placeinfoserver.place.domain.enums.KeywordType;
 import com.teambind.placeinfoserver.place.dto.response.KeywordResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "Keyword", description = "키워드 조회 API")
 public interface KeywordControllerSwagger {
 
     @Operation(
             summary = "키워드 목록 조회",
-            description = "활성화된 키워드 목록을 조회합니다. 타입을 지정하면 해당 타입의 키워드만 조회됩니다.")
-    @ApiResponse(responseCode = "200", description = "조회 성공")
-    ResponseEntity<List<KeywordResponse>> getKeywords(
+            description = "활성화된 키워드 목록을 조회합니다. 타입을 지정하면 해당 타입의 키워드만 조회됩니다. "
+                    + "카탈로그 스냅샷이 활성화되어 있으면 응답의 ETag를 If-None-Match로 보내 "
+                    + "카탈로그가 바뀌지 않았을 때 304를 받을 수 있습니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(mediaType = "application/json",
+                    array = @ArraySchema(schema = @Schema(implementation = KeywordResponse.class))))
+    @ApiResponse(responseCode = "304", description = "변경 없음 (본문 없음)")
+    ResponseEntity<?> getKeywords(
             @Parameter(description = "키워드 타입 (SPACE_TYPE, INSTRUMENT_EQUIPMENT, AMENITY, OTHER_FEATURE)", required = false)
-            KeywordType type);
+            KeywordType type,
+            @Parameter(hidden = true) WebRequest webRequest);
 }
@@ -1,11 +1,13 @@
 package com.teambind.placeinfoserver.place.controller.swagger;
 
 import com.teambind.placeinfoserver.place.dto.response.PlaceInfoResponse;
+import com.teambind.placeinfoserver.place.dto.response.PlaceInfoSummaryPageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -19,9 +21,22 @@ public interface PlaceControllerSwagger {
             @Parameter(hidden = true) String appType,
             @Parameter(hidden = true) String userId);
 
-    @Operation(summary = "공간 상세 조회", description = "ID로 공간의 상세 정보를 조회합니다")
+    @Operation(summary = "내 공간 요약 목록 조회 (커서 페이징)",
+            description = "본인이 등록한 공간의 요약 정보를 생성일 내림차순으로 페이지 단위 조회합니다 (PLACE_MANAGER 앱 전용)")
     @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "403", description = "PLACE_MANAGER 앱만 접근 가능")
+    ResponseEntity<PlaceInfoSummaryPageResponse> getMyPlaceSummaries(
+            @Parameter(hidden = true) String appType,
+            @Parameter(hidden = true) String userId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20") Integer size);
+
+    @Operation(summary = "공간 상세 조회",
+            description = "ID로 공간의 상세 정보를 조회합니다. 응답의 ETag/Last-Modified를 If-None-Match/If-Modified-Since로 보내면 변경이 없을 때 304를 반환합니다")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "304", description = "변경 없음 (본문 없음)")
     @ApiResponse(responseCode = "404", description = "존재하지 않는 공간")
     ResponseEntity<PlaceInfoResponse> getPlaceDetail(
-            @Parameter(description = "공간 ID", required = true, example = "1") String placeId);
+            @Parameter(description = "공간 ID", required = true, example = "1") String placeId,
+            @Parameter(hidden = true) WebRequest webRequest);
 }
@@ -2,6 +2,7 @@ package com.teambind.placeinfoserver.place.controller.swagger;
 
 import com.teambind.placeinfoserver.place.dto.request.LocationSearchRequest;
 import com.teambind.placeinfoserver.place.dto.request.PlaceBatchDetailRequest;
+import com.teambind.placeinfoserver.place.dto.request.PlaceBatchDetailStreamRequest;
 import com.teambind.placeinfoserver.place.dto.request.PlaceSearchRequest;
 import com.teambind.placeinfoserver.place.dto.response.CountResponse;
 import com.teambind.placeinfoserver.place.dto.response.PlaceBatchDetailResponse;
@@ -11,20 +12,26 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
 @Tag(name = "Place Search", description = "공간 탐색 API")
 public interface PlaceSearchControllerSwagger {
 
-    @Operation(summary = "공간 통합 검색", description = "다양한 조건으로 공간을 검색합니다")
+    @Operation(summary = "공간 통합 검색",
+            description = "다양한 조건으로 공간을 검색합니다. 서비스 간 호출은 Accept: application/cbor 또는 application/x-jackson-smile로 바이너리 응답을 받을 수 있습니다")
     @ApiResponse(responseCode = "200", description = "검색 성공")
     ResponseEntity<PlaceSearchResponse> search(
             @Parameter(description = "검색 키워드") String keyword,
+            @Parameter(description = "키워드 검색 방식 (CONTAINS: 부분 일치, SIMILAR: 유사도)", example = "CONTAINS, SIMILAR")
+            PlaceSearchRequest.TextMatch textMatch,
             @Parameter(description = "장소명") String placeName,
             @Parameter(description = "카테고리") String category,
             @Parameter(description = "장소 타입") String placeType,
             @Parameter(description = "키워드 ID 목록") List<Long> keywordIds,
+            @Parameter(description = "키워드 매칭 방식 (ANY: 하나라도 보유, ALL: 모두 보유)", example = "ANY, ALL")
+            PlaceSearchRequest.KeywordMatch keywordMatch,
             @Parameter(description = "주차 가능 여부") Boolean parkingAvailable,
             @Parameter(description = "위도") Double latitude,
             @Parameter(description = "경도") Double longitude,
@@ -32,9 +39,9 @@ public interface PlaceSearchControllerSwagger {
             @Parameter(description = "시/도") String province,
             @Parameter(description = "시/군/구") String city,
             @Parameter(description = "동/읍/면") String district,
-            @Parameter(description = "정렬 기준", example = "DISTANCE, RATING, REVIEW_COUNT, CREATED_AT, PLACE_NAME")
+            @Parameter(description = "정렬 기준", example = "DISTANCE, RATING, REVIEW_COUNT, CREATED_AT, PLACE_NAME, RELEVANCE")
             PlaceSearchRequest.SortBy sortBy,
-            @Parameter(description = "정렬 방향", example = "ASC, DESC")
+            @Parameter(description = "정렬 방향 (RELEVANCE는 무시하고 관련도 높은 순)", example = "ASC, DESC")
             PlaceSearchRequest.SortDirection sortDirection,
             @Parameter(description = "페이징 커서") String cursor,
             @Parameter(description = "페이지 크기") Integer size,
@@ -70,14 +77,30 @@ public interface PlaceSearchControllerSwagger {
             @Parameter(description = "등록 상태 필터", example = "REGISTERED, UNREGISTERED")
             String registrationStatus);
 
-    @Operation(summary = "검색 결과 개수 조회", description = "검색 조건에 맞는 전체 결과 수를 반환합니다")
+    @Operation(summary = "검색 결과 개수 조회",
+            description = "검색 조건에 맞는 결과 수를 반환합니다. 기본은 상한(1,000)까지만 세며 초과 시 capped=true를 반환합니다")
     @ApiResponse(responseCode = "200", description = "조회 성공")
-    ResponseEntity<CountResponse> countSearchResults(PlaceSearchRequest request);
+    ResponseEntity<CountResponse> countSearchResults(
+            PlaceSearchRequest request,
+            @Parameter(description = "정확한 개수 조회 여부 (상한 없음)", example = "false") boolean exact);
 
     @Operation(
             summary = "공간 배치 상세 조회",
-            description = "여러 공간의 상세 정보를 한 번에 조회합니다. 최대 50개까지 조회 가능하며, 존재하지 않는 ID는 failed 필드에 반환됩니다.")
+            description = "여러 공간의 상세 정보를 한 번에 조회합니다. 최대 50개까지 조회 가능하며, 존재하지 않는 ID는 failed 필드에 반환됩니다. "
+                    + "응답의 ETag를 같은 요청의 If-None-Match로 보내면 결과가 바뀌지 않았을 때 304를 반환합니다. "
+                    + "Accept: application/cbor 또는 application/x-jackson-smile로 바이너리 응답을 받을 수 있습니다.")
     @ApiResponse(responseCode = "200", description = "조회 성공 (부분 실패 포함)")
+    @ApiResponse(responseCode = "304", description = "변경 없음 (본문 없음)")
     @ApiResponse(responseCode = "400", description = "잘못된 요청 (빈 목록, 개수 초과 등)")
-    ResponseEntity<PlaceBatchDetailResponse> getPlaceDetailsBatch(PlaceBatchDetailRequest request);
+    ResponseEntity<PlaceBatchDetailResponse> getPlaceDetailsBatch(
+            PlaceBatchDetailRequest request,
+            @Parameter(hidden = true) String ifNoneMatch);
+
+    @Operation(
+            summary = "공간 배치 상세 스트리밍 조회",
+            description = "Accept: application/x-ndjson 요청 시 최대 10000개의 공간 상세를 조회되는 대로 한 줄에 하나씩(PlaceInfoResponse) 전송합니다. "
+                    + "마지막 줄은 successCount와 failed(실패 ID 목록)를 담은 요약이며, 요약 줄이 없으면 전송이 중단된 것입니다.")
+    @ApiResponse(responseCode = "200", description = "스트리밍 시작 (부분 실패는 마지막 요약 줄에 포함)")
+    @ApiResponse(responseCode = "400", description = "잘못된 요청 (빈 목록, 개수 초과 등)")
+    ResponseEntity<StreamingResponseBody> streamPlaceDetailsBatch(PlaceBatchDetailStreamRequest request);
 }
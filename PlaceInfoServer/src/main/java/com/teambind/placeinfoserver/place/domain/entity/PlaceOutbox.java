@@ -0,0 +1,91 @@
+package com.teambind.placeinfoserver.place.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Kafka 발행 대기 이벤트 (place_outbox)
+ * 커맨드 트랜잭션 안에서 업체 변경과 함께 저장되고, OutboxRelay가 발행 후 행을 삭제
+ * - 트랜잭션이 롤백되면 이벤트도 함께 사라지고, 커밋되면 발행될 때까지 남음 (최소 1회 발행)
+ * - 발행 실패가 최대 횟수에 도달하면 보류(parked_at)되어 릴레이 대상에서 제외
+ */
+@Entity
+@Table(name = "place_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PlaceOutbox {
+	
+	private static final int MAX_ERROR_LENGTH = 500;
+	
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "id", nullable = false)
+	private Long id;
+	
+	@Column(name = "topic", nullable = false, length = 100)
+	private String topic;
+	
+	/**
+	 * 파티션 키 (같은 업체 이벤트의 발행 순서 유지, 없으면 null)
+	 */
+	@Column(name = "message_key", length = 100)
+	private String messageKey;
+	
+	/**
+	 * 직렬화된 이벤트 JSON
+	 */
+	@Column(name = "payload", nullable = false, columnDefinition = "text")
+	private String payload;
+	
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+	
+	/**
+	 * 발행 실패 횟수
+	 */
+	@Column(name = "attempts", nullable = false)
+	private Integer attempts;
+	
+	@Column(name = "last_error", length = MAX_ERROR_LENGTH)
+	private String lastError;
+	
+	/**
+	 * 발행 보류 일시 (null이면 발행 대상)
+	 */
+	@Column(name = "parked_at")
+	private LocalDateTime parkedAt;
+	
+	public static PlaceOutbox of(String topic, String messageKey, String payload) {
+		PlaceOutbox outbox = new PlaceOutbox();
+		outbox.topic = topic;
+		outbox.messageKey = messageKey;
+		outbox.payload = payload;
+		outbox.createdAt = LocalDateTime.now();
+		outbox.attempts = 0;
+		return outbox;
+	}
+	
+	/**
+	 * 발행 실패 기록 (행은 남아 다음 주기에 다시 발행, 최대 횟수에 도달하면 보류)
+	 *
+	 * @param error       실패 원인
+	 * @param maxAttempts 보류 전까지 허용하는 실패 횟수
+	 */
+	public void markFailed(String error, int maxAttempts) {
+		this.attempts++;
+		this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+				? error.substring(0, MAX_ERROR_LENGTH)
+				: error;
+		if (this.attempts >= maxAttempts) {
+			this.parkedAt = LocalDateTime.now();
+		}
+	}
+	
+	public boolean isParked() {
+		return parkedAt != null;
+	}
+}
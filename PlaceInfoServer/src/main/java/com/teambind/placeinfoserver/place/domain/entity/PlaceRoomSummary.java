@@ -0,0 +1,50 @@
+package com.teambind.placeinfoserver.place.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 업체별 활성 Room 요약 (place_room_summaries, 업체당 1행)
+ * 검색/상세 조회에서 room 테이블 대신 사용
+ * - 조회 전용: 행은 PlaceRoomSummaryRepository의 배열 연산 UPSERT로만 갱신
+ * - Room이 없는 업체는 행이 없을 수 있음 (빈 목록으로 취급)
+ */
+@Entity
+@Immutable
+@Table(name = "place_room_summaries")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PlaceRoomSummary {
+	
+	@Id
+	@Column(name = "place_id", nullable = false)
+	private Long placeId;
+	
+	/**
+	 * 활성 Room ID (추가 순서)
+	 */
+	@Column(name = "room_ids", columnDefinition = "bigint[]", nullable = false)
+	private Long[] roomIds;
+	
+	@Column(name = "room_count", nullable = false)
+	private Integer roomCount;
+	
+	@Column(name = "updated_at", nullable = false)
+	private LocalDateTime updatedAt;
+	
+	/**
+	 * Room ID 목록
+	 */
+	public List<Long> getRoomIdList() {
+		return roomIds != null ? List.of(roomIds) : List.of();
+	}
+}
@@ -0,0 +1,127 @@
+package com.teambind.placeinfoserver.place.domain.entity;
+
+import com.teambind.placeinfoserver.place.domain.enums.ApprovalStatus;
+import com.teambind.placeinfoserver.place.domain.enums.ParkingType;
+import com.teambind.placeinfoserver.place.domain.enums.RegistrationStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.locationtech.jts.geom.Point;
+
+import java.time.LocalDateTime;
+
+/**
+ * 업체 검색 읽기 모델 (place_search_view, 업체당 1행)
+ * 검색에 필요한 업체/위치/주차/연락처 컬럼과 썸네일, 키워드, 활성 Room을 한 행에 비정규화
+ * - 조회 전용: 행은 PlaceSearchViewProjector가 원본 테이블에서 SQL로 다시 계산하여 저장
+ * - 삭제된 업체는 행이 없으므로 deleted_at 조건 불필요
+ */
+@Entity
+@Immutable
+@Table(name = "place_search_view")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PlaceSearchView {
+	
+	@Id
+	@Column(name = "place_id", nullable = false)
+	private Long placeId;
+	
+	@Column(name = "place_name", nullable = false, length = 100)
+	private String placeName;
+	
+	@Column(name = "description", length = 500)
+	private String description;
+	
+	@Column(name = "category", length = 50)
+	private String category;
+	
+	@Column(name = "place_type", length = 50)
+	private String placeType;
+	
+	@Column(name = "rating_average")
+	private Double ratingAverage;
+	
+	@Column(name = "review_count")
+	private Integer reviewCount;
+	
+	@Column(name = "is_active", nullable = false)
+	private Boolean isActive;
+	
+	@Enumerated(EnumType.STRING)
+	@Column(name = "approval_status", length = 20, nullable = false)
+	private ApprovalStatus approvalStatus;
+	
+	@Enumerated(EnumType.STRING)
+	@Column(name = "registration_status", length = 20, nullable = false)
+	private RegistrationStatus registrationStatus;
+	
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+	
+	@Column(name = "full_address", length = 500)
+	private String fullAddress;
+	
+	@Column(name = "province", length = 50)
+	private String province;
+	
+	@Column(name = "city", length = 50)
+	private String city;
+	
+	@Column(name = "district", length = 50)
+	private String district;
+	
+	@Column(name = "latitude")
+	private Double latitude;
+	
+	@Column(name = "longitude")
+	private Double longitude;
+	
+	/**
+	 * 위치 좌표 (위치 검색은 네이티브 쿼리에서 GiST 인덱스로 사용)
+	 */
+	@Column(name = "coordinates", columnDefinition = "geography(Point,4326)")
+	private Point coordinates;
+	
+	@Column(name = "parking_available")
+	private Boolean parkingAvailable;
+	
+	@Enumerated(EnumType.STRING)
+	@Column(name = "parking_type", length = 10)
+	private ParkingType parkingType;
+	
+	@Column(name = "contact", length = 20)
+	private String contact;
+	
+	/**
+	 * 썸네일 (sequence가 가장 작은 이미지)
+	 */
+	@Column(name = "thumbnail_url", length = 500)
+	private String thumbnailUrl;
+	
+	/**
+	 * 키워드 ID (표시 순서, GIN 인덱스로 ANY/ALL 검색)
+	 */
+	@Column(name = "keyword_ids", columnDefinition = "bigint[]", nullable = false)
+	private Long[] keywordIds;
+	
+	/**
+	 * 키워드 이름 (keywordIds와 같은 순서)
+	 */
+	@Column(name = "keyword_names", columnDefinition = "text[]", nullable = false)
+	private String[] keywordNames;
+	
+	/**
+	 * 활성 Room ID
+	 */
+	@Column(name = "room_ids", columnDefinition = "bigint[]", nullable = false)
+	private Long[] roomIds;
+	
+	@Column(name = "room_count", nullable = false)
+	private Integer roomCount;
+	
+	@Column(name = "synced_at", nullable = false)
+	private LocalDateTime syncedAt;
+}
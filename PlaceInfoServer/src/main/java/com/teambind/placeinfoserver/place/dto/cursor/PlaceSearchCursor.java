@@ -9,6 +9,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.Base64;
 
 /**
@@ -49,6 +51,12 @@ public class PlaceSearchCursor {
 	 */
 	private Boolean hasNext;
 	
+	/**
+	 * 거리 커서의 거리 계산 방식
+	 * 같은 커서 체인은 첫 페이지와 같은 방식으로 계산해야 키셋 경계가 어긋나지 않음
+	 */
+	private DistanceMetric distanceMetric;
+	
 	/**
 	 * Base64 문자열을 커서 객체로 디코딩
 	 */
@@ -70,10 +78,12 @@ public class PlaceSearchCursor {
 	/**
 	 * 거리 기반 커서 생성
 	 */
-	public static PlaceSearchCursor forDistance(String lastId, Double distance, Integer totalFetched, Boolean hasNext) {
+	public static PlaceSearchCursor forDistance(String lastId, Double distance, DistanceMetric distanceMetric,
+	                                            Integer totalFetched, Boolean hasNext) {
 		return PlaceSearchCursor.builder()
 				.lastId(lastId)
 				.lastSortValue(distance)
+				.distanceMetric(distanceMetric)
 				.totalFetched(totalFetched)
 				.hasNext(hasNext)
 				.build();
@@ -117,6 +127,45 @@ public class PlaceSearchCursor {
 				.build();
 	}
 	
+	/**
+	 * 생성일 + ID 기반 커서 생성 (내 공간 목록)
+	 * 생성일은 마이크로초까지 보존하도록 ISO 문자열로 저장 (동일 생성일은 ID로 구분)
+	 */
+	public static PlaceSearchCursor forCreatedAtAndId(String lastId, LocalDateTime createdAt) {
+		return PlaceSearchCursor.builder()
+				.lastId(lastId)
+				.secondarySortValue(createdAt.toString())
+				.hasNext(true)
+				.build();
+	}
+	
+	/**
+	 * 관련도 기반 커서 생성
+	 */
+	public static PlaceSearchCursor forRelevance(String lastId, Double relevance, Integer totalFetched, Boolean hasNext) {
+		return PlaceSearchCursor.builder()
+				.lastId(lastId)
+				.lastSortValue(relevance)
+				.totalFetched(totalFetched)
+				.hasNext(hasNext)
+				.build();
+	}
+	
+	/**
+	 * 생성일 + ID 커서의 생성일 (없거나 형식이 잘못되면 null)
+	 */
+	@JsonIgnore
+	public LocalDateTime getLastCreatedAt() {
+		if (secondarySortValue == null) {
+			return null;
+		}
+		try {
+			return LocalDateTime.parse(secondarySortValue);
+		} catch (DateTimeParseException e) {
+			return null;
+		}
+	}
+	
 	/**
 	 * 커서를 Base64 문자열로 인코딩
 	 */
@@ -131,4 +180,14 @@ public class PlaceSearchCursor {
 			throw new RuntimeException("커서 인코딩 실패", e);
 		}
 	}
+	
+	/**
+	 * 거리 계산 방식
+	 * HAVERSINE: 구면 거리 (인메모리 공간 인덱스, 셀 후보 캐시)
+	 * SPHEROID: 회전타원체 거리 (PostGIS geography)
+	 */
+	public enum DistanceMetric {
+		HAVERSINE,
+		SPHEROID
+	}
 }
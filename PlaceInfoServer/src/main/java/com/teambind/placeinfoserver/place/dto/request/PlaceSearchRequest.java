@@ -1,8 +1,16 @@
 package com.teambind.placeinfoserver.place.dto.request;
 
 import lombok.*;
+import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.stream.Collectors;
 
 /**
  * 공간 탐색 요청 DTO
@@ -21,6 +29,13 @@ public class PlaceSearchRequest {
 	 */
 	private String keyword;
 	
+	/**
+	 * 키워드 검색 방식 (기본값: CONTAINS)
+	 * CONTAINS: 부분 문자열 일치, SIMILAR: 트라이그램 단어 유사도 (오타/띄어쓰기 차이 허용)
+	 */
+	@Builder.Default
+	private TextMatch textMatch = TextMatch.CONTAINS;
+	
 	/**
 	 * 장소명 직접 검색
 	 */
@@ -31,6 +46,13 @@ public class PlaceSearchRequest {
 	 */
 	private List<Long> keywordIds;
 	
+	/**
+	 * 키워드 ID 매칭 방식 (기본값: ANY)
+	 * ANY: 하나라도 보유, ALL: 모두 보유
+	 */
+	@Builder.Default
+	private KeywordMatch keywordMatch = KeywordMatch.ANY;
+	
 	/**
 	 * 주차 가능 여부 필터
 	 */
@@ -87,6 +109,7 @@ public class PlaceSearchRequest {
 	
 	/**
 	 * 정렬 방향
+	 * RELEVANCE는 항상 관련도 높은 순이므로 무시되며 검증 시 DESC로 고정
 	 */
 	@Builder.Default
 	private SortDirection sortDirection = SortDirection.ASC;
@@ -136,6 +159,70 @@ public class PlaceSearchRequest {
 		return province != null || city != null || district != null;
 	}
 	
+	/**
+	 * 정규화된 필터 키 (캐시 키용, SHA-256 hex 64자)
+	 * 정렬/커서/페이지 크기는 제외
+	 */
+	public String filterKey() {
+		return sha256(normalizedFilter());
+	}
+	
+	/**
+	 * 정규화된 요청 키 (검색 결과 캐시용, SHA-256 hex 64자)
+	 * 필터 키 + 정렬/페이지 크기/커서
+	 */
+	public String cacheKey() {
+		return sha256(normalizedFilter()
+				+ "|s=" + Objects.toString(sortBy, "")
+				+ "|d=" + Objects.toString(sortDirection, "")
+				+ "|n=" + Objects.toString(size, "")
+				+ "|cur=" + text(cursor));
+	}
+	
+	/**
+	 * 해시 전 필터 문자열
+	 * 대소문자 무시 조건(keyword, placeName)만 소문자로, 키워드 ID는 정렬/중복 제거
+	 * 사용자 입력 문자열은 길이를 앞에 붙여 구분자가 포함되어도 다른 필드 조합과 같은 문자열이 되지 않도록 함
+	 */
+	private String normalizedFilter() {
+		StringJoiner joiner = new StringJoiner("|");
+		joiner.add("q=" + text(keyword == null ? null : keyword.toLowerCase()))
+				.add("tm=" + (StringUtils.hasText(keyword) ? textMatch : ""))
+				.add("pn=" + text(placeName == null ? null : placeName.toLowerCase()))
+				.add("c=" + text(category))
+				.add("pt=" + text(placeType))
+				.add("k=" + (keywordIds == null ? "" : keywordIds.stream()
+						.filter(Objects::nonNull)
+						.distinct()
+						.sorted()
+						.map(String::valueOf)
+						.collect(Collectors.joining(","))))
+				.add("km=" + (keywordIds == null || keywordIds.isEmpty() ? "" : keywordMatch))
+				.add("pa=" + Objects.toString(parkingAvailable, ""))
+				.add("geo=" + (isLocationBasedSearch() ? latitude + "," + longitude + "," + radiusInMeters : ""))
+				.add("r=" + text(province) + "," + text(city) + "," + text(district))
+				.add("a=" + isActive)
+				.add("as=" + text(approvalStatus))
+				.add("rs=" + text(registrationStatus));
+		return joiner.toString();
+	}
+	
+	/**
+	 * 길이 접두 문자열 (null이면 빈 문자열, 그 외 "길이:값")
+	 */
+	private static String text(String value) {
+		return value == null ? "" : value.length() + ":" + value;
+	}
+	
+	private static String sha256(String value) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+	
 	/**
 	 * 유효성 검증
 	 */
@@ -150,6 +237,11 @@ public class PlaceSearchRequest {
 			if (radiusInMeters > 50000) radiusInMeters = 50000; // 최대 50km
 		}
 		
+		// 관련도순은 방향을 받지 않으므로 DESC로 고정 (캐시 키/응답 메타데이터가 실제 정렬과 일치하도록)
+		if (sortBy == SortBy.RELEVANCE) {
+			sortDirection = SortDirection.DESC;
+		}
+		
 		// 위치 기반 검색 시 거리순 정렬이 아니면 경고
 		if (isLocationBasedSearch() && sortBy != SortBy.DISTANCE) {
 			// 로그 경고만 남기고 진행
@@ -164,7 +256,8 @@ public class PlaceSearchRequest {
 		RATING("rating_average"),       // 평점순
 		REVIEW_COUNT("review_count"),   // 리뷰 수순
 		CREATED_AT("created_at"),       // 최신순
-		PLACE_NAME("place_name");       // 이름순
+		PLACE_NAME("place_name"),       // 이름순
+		RELEVANCE("relevance");         // 관련도순 (키워드 검색 시)
 		
 		private final String field;
 		
@@ -183,4 +276,18 @@ public class PlaceSearchRequest {
 	public enum SortDirection {
 		ASC, DESC
 	}
+	
+	/**
+	 * 키워드 매칭 방식 열거형
+	 */
+	public enum KeywordMatch {
+		ANY, ALL
+	}
+	
+	/**
+	 * 키워드 검색 방식 열거형
+	 */
+	public enum TextMatch {
+		CONTAINS, SIMILAR
+	}
 }
@@ -2,15 +2,23 @@ package com.teambind.placeinfoserver.place.dto.response;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 /**
  * 검색 결과 개수 응답 DTO
  * 검색 조건에 맞는 전체 결과 수를 반환
+ * capped가 true이면 count는 상한값이며 실제 결과는 그보다 많음 (예: "1,000+")
  */
 @Getter
 @Setter
+@NoArgsConstructor
 @AllArgsConstructor
 public class CountResponse {
 	private Long count;
+	private Boolean capped;
+	
+	public CountResponse(Long count) {
+		this(count, false);
+	}
 }
@@ -0,0 +1,29 @@
+package com.teambind.placeinfoserver.place.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * PlaceInfo 배치 상세 스트리밍 조회의 마지막 줄
+ * 모든 결과 줄 뒤에 항상 한 번 전송되므로, 이 줄이 없으면 스트림이 중간에 끊긴 것으로 판단
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlaceBatchDetailStreamSummary {
+	
+	/**
+	 * 전송된 PlaceInfo 개수
+	 */
+	private int successCount;
+	
+	/**
+	 * 조회에 실패한 placeId 목록 (존재하지 않거나 비활성)
+	 */
+	private List<Long> failed;
+}
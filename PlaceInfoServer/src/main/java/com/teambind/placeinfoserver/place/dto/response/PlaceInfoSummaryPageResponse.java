@@ -0,0 +1,38 @@
+package com.teambind.placeinfoserver.place.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 업체 요약 목록 응답 DTO (커서 기반 페이징)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlaceInfoSummaryPageResponse {
+	
+	/**
+	 * 업체 요약 목록 (생성일 내림차순, 같은 생성일은 ID 내림차순)
+	 */
+	private List<PlaceInfoSummaryResponse> items;
+	
+	/**
+	 * 다음 페이지 조회를 위한 커서
+	 */
+	private String nextCursor;
+	
+	/**
+	 * 다음 페이지 존재 여부
+	 */
+	private Boolean hasNext;
+	
+	/**
+	 * 현재 페이지 항목 수
+	 */
+	private Integer count;
+}
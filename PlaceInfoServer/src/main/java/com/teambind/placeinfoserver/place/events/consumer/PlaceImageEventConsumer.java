@@ -1,30 +1,197 @@
 package com.teambind.placeinfoserver.place.events.consumer;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.teambind.placeinfoserver.place.common.config.KafkaConsumerConfig;
+import com.teambind.placeinfoserver.place.common.exception.application.InvalidRequestException;
+import com.teambind.placeinfoserver.place.common.exception.domain.InvalidPlaceStateException;
+import com.teambind.placeinfoserver.place.common.exception.domain.PlaceNotFoundException;
+import com.teambind.placeinfoserver.place.common.metrics.KafkaRetryMetrics;
 import com.teambind.placeinfoserver.place.common.util.json.JsonUtil;
 import com.teambind.placeinfoserver.place.events.event.ImagesChangeEventWrapper;
+import com.teambind.placeinfoserver.place.events.publisher.FailedEventPublisher;
 import com.teambind.placeinfoserver.place.service.command.PlaceImageUpdateService;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 업체 이미지 변경 이벤트 컨슈머 (배치)
+ * place-image-changed 토픽을 폴링 단위로 받아 처리
+ * - 이벤트는 해당 업체 이미지 전체 교체이므로 배치 안에서 업체(referenceId)별 마지막 이벤트만 반영
+ * - 청크(place.image.event.chunk-size)마다 대상 업체를 한 번에 조회하여 한 트랜잭션으로 교체
+ * - 청크 처리가 실패하면 해당 청크만 업체별 단건 트랜잭션으로 재시도
+ * - 없는(삭제된) 업체의 이벤트는 청크/단건 모두 로그만 남기고 건너뜀 (이미지를 반영할 업체가 없음)
+ * - 단건으로도 실패한 이벤트는 place-image-changed-retry 토픽에 발행하고, 배치 처리를 마친 뒤 오프셋을 직접 커밋
+ * <p>
+ * 재시도 토픽은 지수 백오프 재시도 토픽(-backoff-N)을 거쳐 소진되면 place-image-changed-retry-dlt로 이동
+ * 이벤트에 버전이 없으므로 재시도 토픽 발행 시 최초 실패 시점의 업체 버전(updated_at)을 헤더로 함께 보내고,
+ * 재시도 때 업체 버전이 달라졌으면(같은 업체의 새 이벤트가 먼저 반영되었을 수 있음) 덮어쓰지 않고 바로 DLT로 이동
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class PlaceImageEventConsumer {
+	
+	static final String TOPIC = "place-image-changed";
+	
 	private final PlaceImageUpdateService placeImageUpdateService;
 	private final JsonUtil jsonUtil;
+	private final FailedEventPublisher failedEventPublisher;
+	private final KafkaRetryMetrics retryMetrics;
+	private final int chunkSize;
+	
+	public PlaceImageEventConsumer(
+			PlaceImageUpdateService placeImageUpdateService,
+			JsonUtil jsonUtil,
+			FailedEventPublisher failedEventPublisher,
+			KafkaRetryMetrics retryMetrics,
+			@Value("${place.image.event.chunk-size:100}") int chunkSize) {
+		this.placeImageUpdateService = placeImageUpdateService;
+		this.jsonUtil = jsonUtil;
+		this.failedEventPublisher = failedEventPublisher;
+		this.retryMetrics = retryMetrics;
+		this.chunkSize = chunkSize;
+	}
+	
+	@KafkaListener(
+			topics = TOPIC,
+			groupId = "place-consumer-group",
+			containerFactory = KafkaConsumerConfig.BATCH_LISTENER_CONTAINER_FACTORY
+	)
+	public void placeImageChanged(List<String> messages, Acknowledgment acknowledgment) {
+		List<PendingEvent> events = latestPerPlace(messages);
+		for (int from = 0; from < events.size(); from += chunkSize) {
+			applyChunk(events.subList(from, Math.min(from + chunkSize, events.size())));
+		}
+		log.info("Processed place-image-changed batch: received={}, places={}", messages.size(), events.size());
+		acknowledgment.acknowledge();
+	}
+	
+	/**
+	 * 재시도 토픽 리스너
+	 * 처리 중 예외가 발생하면 다음 백오프 토픽으로 발행되고, ID 형식 오류/역직렬화 오류/업체 버전 불일치는 재시도 없이 DLT로 이동
+	 */
+	@RetryableTopic(
+			attempts = "${place.kafka.retry.attempts:5}",
+			backoff = @Backoff(
+					delayExpression = "${place.kafka.retry.delay-ms:1000}",
+					multiplierExpression = "${place.kafka.retry.multiplier:2.0}",
+					maxDelayExpression = "${place.kafka.retry.max-delay-ms:60000}"),
+			retryTopicSuffix = "-backoff",
+			topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+			exclude = {InvalidRequestException.class, InvalidPlaceStateException.class, JsonProcessingException.class},
+			traversingCauses = "true",
+			kafkaTemplate = "kafkaTemplate",
+			listenerContainerFactory = KafkaConsumerConfig.RETRY_LISTENER_CONTAINER_FACTORY
+	)
+	@KafkaListener(topics = TOPIC + FailedEventPublisher.RETRY_TOPIC_SUFFIX, groupId = "place-consumer-group")
+	public void retryPlaceImageChanged(
+			String message,
+			@Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+			@Header(name = FailedEventPublisher.HEADER_PLACE_VERSION, required = false) byte[] placeVersion) {
+		retryMetrics.recordAttempt(topic);
+		ImagesChangeEventWrapper event = jsonUtil.fromJson(message, ImagesChangeEventWrapper.class);
+		LocalDateTime expectedVersion = placeVersion == null ? null : LocalDateTime.parse(text(placeVersion));
+		placeImageUpdateService.updateImage(event, expectedVersion);
+		log.info("Processed place-image-changed retry: topic={}, referenceId={}", topic, event.getReferenceId());
+	}
 	
+	/**
+	 * 재시도를 소진했거나 재시도 불가 예외로 DLT에 도착한 이벤트 기록
+	 * 메시지는 DLT에 남으므로 원인 확인 후 재시도 토픽으로 다시 발행하여 재처리
+	 */
+	@DltHandler
+	public void placeImageChangedDlt(
+			String message,
+			@Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+			@Header(name = KafkaHeaders.DLT_EXCEPTION_FQCN, required = false) byte[] exception,
+			@Header(name = KafkaHeaders.DLT_EXCEPTION_MESSAGE, required = false) byte[] exceptionMessage) {
+		retryMetrics.recordDeadLetter(topic);
+		log.error("place-image-changed event dead-lettered: topic={}, exception={}, reason={}, message={}",
+				topic, text(exception), text(exceptionMessage), message);
+	}
 	
-	@KafkaListener(topics = "place-image-changed", groupId = "place-consumer-group")
-	public void placeImageChanged(String message) {
+	/**
+	 * 업체별 마지막 이벤트만 남김 (폴링 순서 = 파티션 내 발행 순서)
+	 * 역직렬화할 수 없거나 referenceId가 없는 메시지는 재시도 토픽으로 보내 DLT에 남김
+	 */
+	private List<PendingEvent> latestPerPlace(List<String> messages) {
+		Map<String, PendingEvent> latest = new LinkedHashMap<>();
+		for (String message : messages) {
+			ImagesChangeEventWrapper event;
+			try {
+				event = jsonUtil.fromJson(message, ImagesChangeEventWrapper.class);
+			} catch (Exception e) {
+				log.error("Failed to deserialize place-image-changed message: {}", message, e);
+				failedEventPublisher.forward(TOPIC, null, message, e);
+				continue;
+			}
+			if (event == null || event.getReferenceId() == null) {
+				log.warn("Forwarding place-image-changed message without referenceId: {}", message);
+				failedEventPublisher.forward(TOPIC, null, message, InvalidRequestException.invalidFormat("referenceId"));
+				continue;
+			}
+			// 나중 이벤트의 위치로 옮겨 업체 간 적용 순서도 마지막 이벤트 기준으로 유지
+			latest.remove(event.getReferenceId());
+			latest.put(event.getReferenceId(), new PendingEvent(event, message));
+		}
+		return new ArrayList<>(latest.values());
+	}
+	
+	private void applyChunk(List<PendingEvent> chunk) {
 		try {
-			ImagesChangeEventWrapper request = jsonUtil.fromJson(message, ImagesChangeEventWrapper.class);
-			placeImageUpdateService.updateImage(request);
+			placeImageUpdateService.updateImages(chunk.stream().map(PendingEvent::event).toList());
 		} catch (Exception e) {
-			// 역직렬화 실패 또는 처리 중 오류 발생 시 로깅/대응
-			log.error("Failed to deserialize or process profile-create-request message: {}", message, e);
-			// 필요하면 DLQ 전송이나 재시도 로직 추가
+			log.warn("Failed to apply image chunk, retrying per place: size={}", chunk.size(), e);
+			for (PendingEvent pending : chunk) {
+				try {
+					placeImageUpdateService.updateImage(pending.event());
+				} catch (PlaceNotFoundException notFound) {
+					log.warn("Skipping image event for missing place: {}", pending.event().getReferenceId());
+				} catch (Exception perPlace) {
+					log.error("Failed to process place-image-changed event: {}", pending.event(), perPlace);
+					failedEventPublisher.forward(TOPIC, pending.event().getReferenceId(), pending.message(), perPlace,
+							versionHeader(pending.event().getReferenceId()));
+				}
+			}
 		}
 	}
+	
+	/**
+	 * 최초 실패 시점의 업체 버전 헤더 (업체가 없거나 조회 실패 시 헤더 없이 발행하여 재시도 때 버전을 확인하지 않음)
+	 */
+	private Map<String, String> versionHeader(String referenceId) {
+		try {
+			return placeImageUpdateService.findVersion(referenceId)
+					.map(version -> Map.of(FailedEventPublisher.HEADER_PLACE_VERSION, version.toString()))
+					.orElse(Map.of());
+		} catch (Exception e) {
+			log.warn("Failed to read place version for retry: referenceId={}", referenceId, e);
+			return Map.of();
+		}
+	}
+	
+	private static String text(byte[] header) {
+		return header == null ? null : new String(header, StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * 역직렬화한 이벤트와 재시도 토픽에 그대로 발행할 원본 메시지
+	 */
+	private record PendingEvent(ImagesChangeEventWrapper event, String message) {
+	}
 }
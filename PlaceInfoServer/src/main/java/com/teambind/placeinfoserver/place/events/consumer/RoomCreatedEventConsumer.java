@@ -1,36 +1,145 @@
 package com.teambind.placeinfoserver.place.events.consumer;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.teambind.placeinfoserver.place.common.config.KafkaConsumerConfig;
+import com.teambind.placeinfoserver.place.common.exception.application.InvalidRequestException;
+import com.teambind.placeinfoserver.place.common.metrics.KafkaRetryMetrics;
 import com.teambind.placeinfoserver.place.common.util.json.JsonUtil;
 import com.teambind.placeinfoserver.place.events.event.RoomCreatedEvent;
+import com.teambind.placeinfoserver.place.events.publisher.FailedEventPublisher;
 import com.teambind.placeinfoserver.place.service.command.RoomCreateService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
- * Room 생성 이벤트 컨슈머
- * room-created 토픽을 구독하여 Room 생성 이벤트를 처리
+ * Room 생성 이벤트 컨슈머 (배치)
+ * room-created 토픽을 폴링 단위로 받아 한 트랜잭션에서 일괄 생성
+ * - 배치 처리가 실패하면 이벤트별 단건 트랜잭션으로 재시도
+ * - 단건으로도 실패한 이벤트는 room-created-retry 토픽에 발행하고, 배치 처리를 마친 뒤 오프셋을 직접 커밋
+ * <p>
+ * 재시도 토픽은 지수 백오프 재시도 토픽(-backoff-N)을 거쳐 소진되면 room-created-retry-dlt로 이동
+ * Room 생성은 이미 있는 Room을 건너뛰므로 재처리해도 중복 생성되지 않음
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class RoomCreatedEventConsumer {
 	
+	static final String TOPIC = "room-created";
+	
 	private final RoomCreateService roomCreateService;
 	private final JsonUtil jsonUtil;
+	private final FailedEventPublisher failedEventPublisher;
+	private final KafkaRetryMetrics retryMetrics;
 	
-	@KafkaListener(topics = "room-created", groupId = "place-consumer-group")
-	public void roomCreated(String message) {
+	@KafkaListener(
+			topics = TOPIC,
+			groupId = "place-consumer-group",
+			containerFactory = KafkaConsumerConfig.BATCH_LISTENER_CONTAINER_FACTORY
+	)
+	public void roomCreated(List<String> messages, Acknowledgment acknowledgment) {
+		List<RoomCreatedEvent> events = new ArrayList<>(messages.size());
+		List<String> sources = new ArrayList<>(messages.size());
+		for (String message : messages) {
+			RoomCreatedEvent event;
+			try {
+				event = requireIds(jsonUtil.fromJson(message, RoomCreatedEvent.class));
+			} catch (Exception e) {
+				log.error("Invalid room-created event: {}", message, e);
+				failedEventPublisher.forward(TOPIC, null, message, e);
+				continue;
+			}
+			events.add(event);
+			sources.add(message);
+		}
+		
 		try {
-			log.info("Received room-created event: {}", message);
-			RoomCreatedEvent event = jsonUtil.fromJson(message, RoomCreatedEvent.class);
-			roomCreateService.createRoom(event.getRoomId(), event.getPlaceId());
-			log.info("Successfully processed room-created event: roomId={}, placeId={}",
-					event.getRoomId(), event.getPlaceId());
+			int created = roomCreateService.createRooms(events);
+			log.info("Processed room-created batch: received={}, created={}", messages.size(), created);
 		} catch (Exception e) {
-			log.error("Failed to process room-created event: {}", message, e);
-			// DLQ 전송이나 재시도 로직 추가 가능
+			log.warn("Failed to process room-created batch, retrying per event: size={}", events.size(), e);
+			for (int i = 0; i < events.size(); i++) {
+				RoomCreatedEvent event = events.get(i);
+				try {
+					roomCreateService.createRoom(event.getRoomId(), event.getPlaceId());
+				} catch (Exception perEvent) {
+					log.error("Failed to process room-created event: roomId={}, placeId={}",
+							event.getRoomId(), event.getPlaceId(), perEvent);
+					failedEventPublisher.forward(TOPIC, String.valueOf(event.getPlaceId()), sources.get(i), perEvent);
+				}
+			}
 		}
+		acknowledgment.acknowledge();
+	}
+	
+	/**
+	 * 재시도 토픽 리스너
+	 * 처리 중 예외가 발생하면 다음 백오프 토픽으로 발행되고, 역직렬화 오류/ID 누락은 재시도 없이 DLT로 이동
+	 */
+	@RetryableTopic(
+			attempts = "${place.kafka.retry.attempts:5}",
+			backoff = @Backoff(
+					delayExpression = "${place.kafka.retry.delay-ms:1000}",
+					multiplierExpression = "${place.kafka.retry.multiplier:2.0}",
+					maxDelayExpression = "${place.kafka.retry.max-delay-ms:60000}"),
+			retryTopicSuffix = "-backoff",
+			topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+			exclude = {InvalidRequestException.class, JsonProcessingException.class},
+			traversingCauses = "true",
+			kafkaTemplate = "kafkaTemplate",
+			listenerContainerFactory = KafkaConsumerConfig.RETRY_LISTENER_CONTAINER_FACTORY
+	)
+	@KafkaListener(topics = TOPIC + FailedEventPublisher.RETRY_TOPIC_SUFFIX, groupId = "place-consumer-group")
+	public void retryRoomCreated(String message, @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
+		retryMetrics.recordAttempt(topic);
+		RoomCreatedEvent event = requireIds(jsonUtil.fromJson(message, RoomCreatedEvent.class));
+		roomCreateService.createRoom(event.getRoomId(), event.getPlaceId());
+		log.info("Processed room-created retry: topic={}, roomId={}, placeId={}",
+				topic, event.getRoomId(), event.getPlaceId());
+	}
+	
+	/**
+	 * 재시도를 소진했거나 재시도 불가 예외로 DLT에 도착한 이벤트 기록
+	 * 메시지는 DLT에 남으므로 원인 확인 후 재시도 토픽으로 다시 발행하여 재처리
+	 */
+	@DltHandler
+	public void roomCreatedDlt(
+			String message,
+			@Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+			@Header(name = KafkaHeaders.DLT_EXCEPTION_FQCN, required = false) byte[] exception,
+			@Header(name = KafkaHeaders.DLT_EXCEPTION_MESSAGE, required = false) byte[] exceptionMessage) {
+		retryMetrics.recordDeadLetter(topic);
+		log.error("room-created event dead-lettered: topic={}, exception={}, reason={}, message={}",
+				topic, text(exception), text(exceptionMessage), message);
+	}
+	
+	/**
+	 * 빈 메시지(null)나 roomId/placeId가 없는 이벤트는 재시도해도 처리할 수 없으므로 ID 형식 오류로 처리
+	 */
+	private static RoomCreatedEvent requireIds(RoomCreatedEvent event) {
+		if (event == null || event.getRoomId() == null) {
+			throw InvalidRequestException.invalidFormat("roomId");
+		}
+		if (event.getPlaceId() == null) {
+			throw InvalidRequestException.invalidFormat("placeId");
+		}
+		return event;
+	}
+	
+	private static String text(byte[] header) {
+		return header == null ? null : new String(header, StandardCharsets.UTF_8);
 	}
 }
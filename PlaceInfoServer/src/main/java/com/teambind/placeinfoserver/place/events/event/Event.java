@@ -1,5 +1,6 @@
 package com.teambind.placeinfoserver.place.events.event;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -20,4 +21,12 @@ public abstract class Event {
 	 * 이벤트가 발행될 Kafka 토픽
 	 */
 	private String topic;
+	
+	/**
+	 * Kafka 파티션 키 (같은 대상의 이벤트 순서 유지용, 기본은 키 없음)
+	 */
+	@JsonIgnore
+	public String getPartitionKey() {
+		return null;
+	}
 }
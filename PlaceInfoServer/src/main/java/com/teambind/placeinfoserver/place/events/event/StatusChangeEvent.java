@@ -1,5 +1,7 @@
 package com.teambind.placeinfoserver.place.events.event;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.teambind.placeinfoserver.place.domain.enums.PlaceOperationType;
 import lombok.Getter;
@@ -9,6 +11,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class StatusChangeEvent extends Event {
+	// Snowflake ID는 JavaScript 정수 범위를 넘으므로 문자열로 발행 (README 5.2 페이로드)
+	@JsonFormat(shape = JsonFormat.Shape.STRING)
 	private Long placeInfoId;
 	private PlaceOperationType status;
 	
@@ -18,6 +22,15 @@ public class StatusChangeEvent extends Event {
 		this.status = status;
 	}
 	
+	/**
+	 * 같은 업체의 상태 변경은 같은 파티션으로 발행
+	 */
+	@Override
+	@JsonIgnore
+	public String getPartitionKey() {
+		return placeInfoId != null ? String.valueOf(placeInfoId) : null;
+	}
+	
 	/**
 	 * Jackson 역직렬화용 setter - String을 받아서 Long으로 변환
 	 */
@@ -0,0 +1,36 @@
+package com.teambind.placeinfoserver.place.events.internal;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 업체 변경 내부 이벤트
+ * Kafka로 발행되지 않으며, 커밋 이후 인메모리 인덱스/캐시 갱신과 커밋 직전 검색 읽기 모델/업체 버전 갱신 용도로만 사용
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor(staticName = "of")
+public class PlaceChangedEvent {
+	
+	private final Long placeId;
+	private final ChangeType changeType;
+	
+	/**
+	 * 검색 조건(위치/키워드/상태/개수)에 영향을 주는 변경인지 여부
+	 * 이미지/Room 변경은 응답 내용만 바뀌므로 인덱스/후보/개수 캐시는 갱신하지 않음
+	 */
+	public boolean affectsSearchFilters() {
+		return changeType != ChangeType.IMAGES_CHANGED && changeType != ChangeType.ROOMS_CHANGED;
+	}
+	
+	public enum ChangeType {
+		CREATED,
+		UPDATED,
+		LOCATION_CHANGED,
+		STATUS_CHANGED,
+		DELETED,
+		IMAGES_CHANGED,
+		ROOMS_CHANGED
+	}
+}
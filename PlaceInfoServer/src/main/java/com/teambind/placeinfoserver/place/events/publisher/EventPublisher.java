@@ -2,19 +2,28 @@ package com.teambind.placeinfoserver.place.events.publisher;
 
 
 import com.teambind.placeinfoserver.place.common.util.json.JsonUtil;
+import com.teambind.placeinfoserver.place.domain.entity.PlaceOutbox;
 import com.teambind.placeinfoserver.place.events.event.Event;
+import com.teambind.placeinfoserver.place.repository.PlaceOutboxRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 도메인 이벤트 발행
+ * 요청 경로에서 Kafka로 직접 보내지 않고 호출한 커맨드 트랜잭션 안에서 place_outbox에 저장
+ * 실제 발행은 OutboxRelay가 커밋된 행을 묶어서 처리하므로 업체 변경이 커밋되면 이벤트도 반드시 발행됨
+ */
 @Service
 @RequiredArgsConstructor
 public class EventPublisher {
-	private final KafkaTemplate<String, Object> kafkaTemplate;
+	private final PlaceOutboxRepository placeOutboxRepository;
 	private final JsonUtil jsonUtil;
 	
+	@Transactional(propagation = Propagation.MANDATORY)
 	public void publish(Event event) {
 		String json = jsonUtil.toJson(event);
-		kafkaTemplate.send(event.getTopic(), json);
+		placeOutboxRepository.save(PlaceOutbox.of(event.getTopic(), event.getPartitionKey(), json));
 	}
 }
@@ -0,0 +1,72 @@
+package com.teambind.placeinfoserver.place.events.publisher;
+
+import com.teambind.placeinfoserver.place.common.metrics.KafkaRetryMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * 처리 실패 이벤트 재시도 토픽 발행
+ * 배치 컨슈머가 처리하지 못한 원본 메시지를 {원본 토픽}-retry 토픽에 그대로 발행하여
+ * 원본 파티션을 막지 않고 재시도 리스너(@RetryableTopic)가 지연 재시도/DLT 이동을 맡도록 함
+ * - 최초 실패 원인은 place-failure-* 헤더로 전달 (DLT 도착 시 Spring Kafka가 kafka_dlt-* 헤더를 추가)
+ * - 재시도 시 필요한 부가 정보(예: 실패 시점의 업체 버전)는 추가 헤더로 전달 (재시도/백오프 토픽 간에 유지됨)
+ * - 발행 완료까지 기다리므로 발행이 실패하면 예외가 전파되어 배치 오프셋이 커밋되지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FailedEventPublisher {
+	
+	public static final String RETRY_TOPIC_SUFFIX = "-retry";
+	public static final String HEADER_ORIGINAL_TOPIC = "place-failure-original-topic";
+	public static final String HEADER_EXCEPTION = "place-failure-exception";
+	public static final String HEADER_EXCEPTION_MESSAGE = "place-failure-exception-message";
+	public static final String HEADER_PLACE_VERSION = "place-failure-place-version";
+	
+	private final KafkaTemplate<String, Object> kafkaTemplate;
+	private final KafkaRetryMetrics retryMetrics;
+	
+	/**
+	 * 실패한 원본 메시지를 재시도 토픽에 발행
+	 *
+	 * @param topic   원본 토픽
+	 * @param key     파티션 키 (같은 업체 이벤트 순서 유지용, 없으면 null)
+	 * @param message 원본 메시지
+	 * @param cause   실패 원인
+	 */
+	public void forward(String topic, String key, String message, Throwable cause) {
+		forward(topic, key, message, cause, Map.of());
+	}
+	
+	/**
+	 * 실패한 원본 메시지를 추가 헤더와 함께 재시도 토픽에 발행
+	 *
+	 * @param topic   원본 토픽
+	 * @param key     파티션 키 (같은 업체 이벤트 순서 유지용, 없으면 null)
+	 * @param message 원본 메시지
+	 * @param cause   실패 원인
+	 * @param headers 추가 헤더 (이름 -> 값)
+	 */
+	public void forward(String topic, String key, String message, Throwable cause, Map<String, String> headers) {
+		ProducerRecord<String, Object> record = new ProducerRecord<>(topic + RETRY_TOPIC_SUFFIX, key, message);
+		record.headers()
+				.add(HEADER_ORIGINAL_TOPIC, bytes(topic))
+				.add(HEADER_EXCEPTION, bytes(cause.getClass().getName()))
+				.add(HEADER_EXCEPTION_MESSAGE, bytes(String.valueOf(cause.getMessage())));
+		headers.forEach((name, value) -> record.headers().add(name, bytes(value)));
+		kafkaTemplate.send(record).join();
+		retryMetrics.recordForwarded(topic);
+		log.warn("Forwarded failed event to retry topic: topic={}, key={}, cause={}",
+				record.topic(), key, cause.toString());
+	}
+	
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,153 @@
+package com.teambind.placeinfoserver.place.events.publisher;
+
+import com.teambind.placeinfoserver.place.domain.entity.PlaceOutbox;
+import com.teambind.placeinfoserver.place.repository.PlaceOutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * place_outbox 발행 릴레이
+ * 주기적으로 커밋된 이벤트를 저장 순서대로 잠가(FOR UPDATE SKIP LOCKED) 한 번에 전송하고, 발행된 행을 삭제
+ * - 배치 전체를 보낸 뒤 flush하므로 프로듀서가 파티션별 배치로 묶어 압축(compression-type) 전송
+ * - 행 잠금은 발행 결과를 확인할 때까지 유지되어 다른 인스턴스와 같은 행을 중복 발행하지 않음
+ * - 전송 실패 행은 attempts/last_error만 기록하고 남겨 다음 주기에 다시 발행 (소비자는 최소 1회 수신을 전제)
+ * - 같은 키(업체)의 앞선 행이 실패하면 배치 안의 뒤 행은 전송되었더라도 삭제하지 않고 남겨,
+ *   다음 주기에 실패 행부터 다시 발행 (마지막으로 도착하는 이벤트가 항상 최신 상태)
+ * - 실패가 max-attempts에 도달한 행은 parked_at을 기록하고 더 이상 발행하지 않음 (원인 확인 후 parked_at을 비워 재발행)
+ *   보류된 행이 있는 키는 뒤 행도 잠그지 않으므로, 보류를 풀 때까지 해당 키의 발행이 멈춤
+ * - 한 키는 가장 앞선 행을 잠근 인스턴스만 발행하므로 여러 인스턴스에서도 키별 순서 유지 (lockNextBatch 참고)
+ * - 가득 찬 배치를 실패 없이 처리하면 대기 이벤트가 더 있는 것으로 보고 바로 다음 배치를 이어서 처리
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+	
+	public static final String RELAY = "place.outbox.relay";
+	
+	private final PlaceOutboxRepository placeOutboxRepository;
+	private final KafkaTemplate<String, Object> kafkaTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final MeterRegistry meterRegistry;
+	private final boolean enabled;
+	private final int batchSize;
+	private final long sendTimeoutMs;
+	private final int maxAttempts;
+	
+	public OutboxRelay(
+			PlaceOutboxRepository placeOutboxRepository,
+			KafkaTemplate<String, Object> kafkaTemplate,
+			TransactionTemplate transactionTemplate,
+			MeterRegistry meterRegistry,
+			@Value("${place.outbox.relay.enabled:false}") boolean enabled,
+			@Value("${place.outbox.relay.batch-size:500}") int batchSize,
+			@Value("${place.outbox.relay.send-timeout-ms:10000}") long sendTimeoutMs,
+			@Value("${place.outbox.relay.max-attempts:10}") int maxAttempts) {
+		this.placeOutboxRepository = placeOutboxRepository;
+		this.kafkaTemplate = kafkaTemplate;
+		this.transactionTemplate = transactionTemplate;
+		this.meterRegistry = meterRegistry;
+		this.enabled = enabled;
+		this.batchSize = batchSize;
+		this.sendTimeoutMs = sendTimeoutMs;
+		this.maxAttempts = maxAttempts;
+	}
+	
+	@Scheduled(fixedDelayString = "${place.outbox.relay.interval-ms:1000}")
+	public void scheduledRelay() {
+		if (!enabled) {
+			return;
+		}
+		try {
+			relay();
+		} catch (Exception e) {
+			// 실패한 배치는 롤백되어 행이 그대로 남으므로 다음 주기에 다시 발행
+			log.error("Failed to relay outbox events", e);
+		}
+	}
+	
+	/**
+	 * 대기 이벤트가 배치 크기보다 적어질 때까지 발행
+	 *
+	 * @return 발행된 이벤트 수
+	 */
+	public int relay() {
+		int total = 0;
+		BatchResult result;
+		do {
+			result = transactionTemplate.execute(status -> relayBatch());
+			total += result.published();
+		} while (result.locked() == batchSize && result.failed() == 0);
+		return total;
+	}
+	
+	private BatchResult relayBatch() {
+		List<PlaceOutbox> batch = placeOutboxRepository.lockNextBatch(batchSize);
+		if (batch.isEmpty()) {
+			return new BatchResult(0, 0, 0);
+		}
+		
+		List<CompletableFuture<SendResult<String, Object>>> sends = new ArrayList<>(batch.size());
+		for (PlaceOutbox outbox : batch) {
+			sends.add(kafkaTemplate.send(outbox.getTopic(), outbox.getMessageKey(), outbox.getPayload()));
+		}
+		kafkaTemplate.flush();
+		
+		List<Long> published = new ArrayList<>(batch.size());
+		Set<String> failedKeys = new HashSet<>();
+		int failed = 0;
+		int held = 0;
+		int parked = 0;
+		for (int i = 0; i < batch.size(); i++) {
+			PlaceOutbox outbox = batch.get(i);
+			String key = outbox.getMessageKey();
+			try {
+				sends.get(i).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+			} catch (Exception e) {
+				outbox.markFailed(e.toString(), maxAttempts);
+				failed++;
+				if (outbox.isParked()) {
+					parked++;
+					log.error("Parked outbox event after {} attempts: id={}, topic={}",
+							outbox.getAttempts(), outbox.getId(), outbox.getTopic(), e);
+				} else {
+					log.warn("Failed to publish outbox event: id={}, topic={}, attempts={}",
+							outbox.getId(), outbox.getTopic(), outbox.getAttempts(), e);
+				}
+				if (key != null) {
+					failedKeys.add(key);
+				}
+				continue;
+			}
+			if (key != null && failedKeys.contains(key)) {
+				// 앞선 실패 행이 다시 발행된 뒤에 이 행도 다시 발행되어야 순서가 유지됨
+				held++;
+				continue;
+			}
+			published.add(outbox.getId());
+		}
+		placeOutboxRepository.deleteAllByIdInBatch(published);
+		
+		meterRegistry.counter(RELAY, "result", "published").increment(published.size());
+		meterRegistry.counter(RELAY, "result", "failed").increment(failed);
+		meterRegistry.counter(RELAY, "result", "parked").increment(parked);
+		log.debug("Relayed outbox batch: locked={}, published={}, failed={}, held={}",
+				batch.size(), published.size(), failed, held);
+		return new BatchResult(batch.size(), published.size(), failed);
+	}
+	
+	private record BatchResult(int locked, int published, int failed) {
+	}
+}
@@ -26,18 +26,28 @@ public interface PlaceAdvancedSearchRepository {
 	PlaceSearchResponse searchByLocation(PlaceSearchRequest request);
 	
 	/**
-	 * 키워드 기반 검색
+	 * 키워드 기반 검색 (ANY/ALL 매칭, 커서 기반 페이징)
 	 *
 	 * @param request 키워드를 포함한 검색 요청
-	 * @return 키워드 매칭 검색 결과
+	 * @return 키워드 매칭 검색 결과와 다음 페이지 커서
 	 */
 	PlaceSearchResponse searchByKeywords(PlaceSearchRequest request);
 	
 	/**
-	 * 검색 결과 개수 조회 (선택적)
+	 * 검색 결과 개수 조회 (fetch join 없는 count)
 	 *
 	 * @param request 검색 요청
 	 * @return 총 결과 수
 	 */
 	Long countSearchResults(PlaceSearchRequest request);
+	
+	/**
+	 * 상한이 있는 검색 결과 개수 조회
+	 * 조건에 맞는 행을 limit개까지만 읽으므로 결과가 많아도 비용이 일정
+	 *
+	 * @param request 검색 요청
+	 * @param limit   최대 개수
+	 * @return min(총 결과 수, limit)
+	 */
+	long countSearchResultsUpTo(PlaceSearchRequest request, long limit);
 }
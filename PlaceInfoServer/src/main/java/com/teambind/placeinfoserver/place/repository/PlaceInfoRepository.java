@@ -2,11 +2,15 @@ package com.teambind.placeinfoserver.place.repository;
 
 import com.teambind.placeinfoserver.place.domain.entity.PlaceInfo;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -23,7 +27,10 @@ public interface PlaceInfoRepository extends JpaRepository<PlaceInfo, Long> {
 	 *
 	 * @param ids 조회할 placeId 집합
 	 * @return 조회된 PlaceInfo 목록 (존재하는 것만)
+	 * @deprecated images/keywords 동시 fetch join으로 업체당 (이미지 수 × 키워드 수) 행이 전송됨.
+	 * PlaceDetailBatchLoader 사용 (비교 테스트용으로 유지)
 	 */
+	@Deprecated
 	@Query("SELECT DISTINCT p FROM PlaceInfo p " +
 			"LEFT JOIN FETCH p.contact " +
 			"LEFT JOIN FETCH p.location " +
@@ -52,4 +59,73 @@ public interface PlaceInfoRepository extends JpaRepository<PlaceInfo, Long> {
 			"ORDER BY p.createdAt DESC")
 	List<PlaceInfo> findAllByUserIdWithDetails(@Param("userId") String userId);
 	
+	/**
+	 * 이미지 일괄 교체용 업체 조회 (이미지만 Fetch Join)
+	 * PlaceInfo의 @Where(deleted_at IS NULL)가 적용되므로 단건 교체(findById)와 같이 삭제된 업체는 조회되지 않음
+	 *
+	 * @param ids 업체 ID 목록
+	 * @return 조회된 PlaceInfo 목록 (존재하는 것만)
+	 */
+	@Query("SELECT DISTINCT p FROM PlaceInfo p " +
+			"LEFT JOIN FETCH p.images " +
+			"WHERE p.id IN :ids")
+	List<PlaceInfo> findAllWithImagesByIdIn(@Param("ids") Collection<Long> ids);
+	
+	/**
+	 * 키워드 역색인 적재용 (업체 ID, 키워드 ID) 전체 조회
+	 * 엔티티를 적재하지 않고 매핑 테이블 값만 조회
+	 *
+	 * @return [placeId, keywordId] 목록
+	 */
+	@Query("SELECT p.id, k.id FROM PlaceInfo p " +
+			"JOIN p.keywords k " +
+			"WHERE p.deletedAt IS NULL")
+	List<Object[]> findAllKeywordIndexRows();
+	
+	/**
+	 * 단일 업체의 키워드 ID 조회 (키워드 역색인 단건 갱신용)
+	 *
+	 * @param placeId 업체 ID
+	 * @return 키워드 ID 목록 (삭제된 업체면 빈 목록)
+	 */
+	@Query("SELECT k.id FROM PlaceInfo p " +
+			"JOIN p.keywords k " +
+			"WHERE p.id = :placeId " +
+			"AND p.deletedAt IS NULL")
+	List<Long> findKeywordIdsByPlaceId(@Param("placeId") Long placeId);
+	
+	/**
+	 * 업체 버전(updated_at) 조회 (조건부 요청 검증용, 연관 엔티티를 적재하지 않음)
+	 *
+	 * @param placeId 업체 ID
+	 * @return updated_at (삭제되었거나 없으면 empty)
+	 */
+	@Query("SELECT p.updatedAt FROM PlaceInfo p " +
+			"WHERE p.id = :placeId " +
+			"AND p.deletedAt IS NULL")
+	Optional<LocalDateTime> findUpdatedAtById(@Param("placeId") Long placeId);
+	
+	/**
+	 * 활성 업체들의 버전(updated_at) 조회 (배치 상세 조건부 요청 검증용)
+	 * 배치 상세 조회와 같은 조건 (활성, 삭제 제외)
+	 *
+	 * @param ids 업체 ID 목록
+	 * @return [placeId, updatedAt] 목록
+	 */
+	@Query("SELECT p.id, p.updatedAt FROM PlaceInfo p " +
+			"WHERE p.id IN :ids " +
+			"AND p.isActive = true")
+	List<Object[]> findActiveUpdatedAtByIds(@Param("ids") Collection<Long> ids);
+	
+	/**
+	 * 업체 버전 갱신 (연관 엔티티/Room 변경도 ETag에 반영되도록 updated_at 갱신)
+	 * 같은 트랜잭션의 변경을 먼저 반영한 뒤 DB 시각으로 갱신
+	 *
+	 * @param placeId 업체 ID
+	 * @return 갱신된 행 수
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query(value = "UPDATE place_info SET updated_at = clock_timestamp() WHERE id = :placeId", nativeQuery = true)
+	int touchUpdatedAt(@Param("placeId") Long placeId);
+	
 }
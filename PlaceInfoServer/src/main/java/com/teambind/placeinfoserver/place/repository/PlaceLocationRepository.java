@@ -2,11 +2,33 @@ package com.teambind.placeinfoserver.place.repository;
 
 import com.teambind.placeinfoserver.place.domain.entity.PlaceLocation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * 업체 위치 정보 Repository
  */
 @Repository
 public interface PlaceLocationRepository extends JpaRepository<PlaceLocation, Long> {
+	
+	/**
+	 * 공간 인덱스 적재용 좌표/상태 조회 (삭제되지 않은 전체 업체)
+	 * [placeId, latitude, longitude, isActive, approvalStatus, registrationStatus]
+	 */
+	@Query("SELECT p.id, l.latitude, l.longitude, p.isActive, p.approvalStatus, p.registrationStatus " +
+			"FROM PlaceLocation l JOIN l.placeInfo p " +
+			"WHERE p.deletedAt IS NULL AND l.latitude IS NOT NULL AND l.longitude IS NOT NULL")
+	List<Object[]> findAllSpatialIndexRows();
+	
+	/**
+	 * 공간 인덱스 단건 갱신용 좌표/상태 조회
+	 */
+	@Query("SELECT p.id, l.latitude, l.longitude, p.isActive, p.approvalStatus, p.registrationStatus " +
+			"FROM PlaceLocation l JOIN l.placeInfo p " +
+			"WHERE p.id = :placeId AND p.deletedAt IS NULL " +
+			"AND l.latitude IS NOT NULL AND l.longitude IS NOT NULL")
+	List<Object[]> findSpatialIndexRowsByPlaceId(@Param("placeId") Long placeId);
 }
@@ -0,0 +1,55 @@
+package com.teambind.placeinfoserver.place.repository;
+
+import com.teambind.placeinfoserver.place.domain.entity.PlaceOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Kafka 발행 대기 이벤트 Repository
+ */
+@Repository
+public interface PlaceOutboxRepository extends JpaRepository<PlaceOutbox, Long> {
+	
+	/**
+	 * 발행할 이벤트를 저장 순서대로 잠금
+	 * 다른 인스턴스가 잠근 행은 기다리지 않고 건너뛰므로(SKIP LOCKED) 여러 인스턴스의 릴레이가 서로 다른 행을 나눠 발행
+	 * 같은 키의 순서는 다음 두 조건으로 유지
+	 * - 같은 키의 앞선 행이 보류(parked_at)되어 있으면 뒤 행은 잠그지 않음 (보류를 풀면 앞선 행부터 다시 발행)
+	 * - 같은 키의 앞선 행이 이번 배치에 없으면(다른 인스턴스가 잠가 발행 중) 뒤 행은 반환하지 않음
+	 *   키의 가장 앞선 행을 잠근 인스턴스만 그 키를 발행하므로 같은 키를 동시에 발행하지 않음
+	 *
+	 * @param limit 최대 건수
+	 */
+	@Query(value = """
+			WITH batch AS (
+			    SELECT o.*
+			    FROM place_outbox o
+			    WHERE o.parked_at IS NULL
+			      AND NOT EXISTS (
+			          SELECT 1
+			          FROM place_outbox p
+			          WHERE p.message_key = o.message_key
+			            AND p.id < o.id
+			            AND p.parked_at IS NOT NULL
+			      )
+			    ORDER BY o.id
+			    LIMIT :limit
+			    FOR UPDATE SKIP LOCKED
+			)
+			SELECT b.*
+			FROM batch b
+			WHERE NOT EXISTS (
+			    SELECT 1
+			    FROM place_outbox p
+			    WHERE p.message_key = b.message_key
+			      AND p.id < b.id
+			      AND p.id NOT IN (SELECT id FROM batch)
+			)
+			ORDER BY b.id
+			""", nativeQuery = true)
+	List<PlaceOutbox> lockNextBatch(@Param("limit") int limit);
+}
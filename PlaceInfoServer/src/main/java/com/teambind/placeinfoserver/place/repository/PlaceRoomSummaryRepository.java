@@ -0,0 +1,55 @@
+package com.teambind.placeinfoserver.place.repository;
+
+import com.teambind.placeinfoserver.place.domain.entity.PlaceRoomSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 업체별 Room 요약 Repository
+ * 갱신은 한 문장의 UPSERT로 수행하여 같은 업체의 동시 이벤트도 행 잠금으로 직렬화됨 (읽고-쓰기 경합 없음)
+ */
+@Repository
+public interface PlaceRoomSummaryRepository extends JpaRepository<PlaceRoomSummary, Long> {
+	
+	/**
+	 * 여러 업체에 활성 Room 일괄 추가 (업체별 한 행 UPSERT, 이미 포함된 Room ID는 제외)
+	 * Room ID는 입력 순서대로 뒤에 추가
+	 *
+	 * @param placeIds PlaceInfo ID 배열 리터럴 ('{1,1,2}')
+	 * @param roomIds  placeIds와 같은 순서의 Room ID 배열 리터럴
+	 * @return 변경된 업체 행 수
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query(value = """
+			INSERT INTO place_room_summaries AS s (place_id, room_ids, room_count, updated_at)
+			SELECT n.place_id, array_agg(n.room_id ORDER BY n.ord), count(*), CURRENT_TIMESTAMP
+			FROM unnest(CAST(:placeIds AS bigint[]), CAST(:roomIds AS bigint[])) WITH ORDINALITY AS n(place_id, room_id, ord)
+			GROUP BY n.place_id
+			ON CONFLICT (place_id) DO UPDATE
+			SET room_ids = s.room_ids || ARRAY(SELECT r FROM unnest(EXCLUDED.room_ids) AS r WHERE NOT (r = ANY (s.room_ids))),
+			    room_count = cardinality(s.room_ids)
+			        + (SELECT count(*) FROM unnest(EXCLUDED.room_ids) AS r WHERE NOT (r = ANY (s.room_ids)))::int,
+			    updated_at = CURRENT_TIMESTAMP
+			WHERE NOT (EXCLUDED.room_ids <@ s.room_ids)
+			""", nativeQuery = true)
+	int addRooms(@Param("placeIds") String placeIds, @Param("roomIds") String roomIds);
+	
+	/**
+	 * 활성 Room 제거 (포함되지 않은 Room ID면 변경 없음)
+	 *
+	 * @return 변경된 행 수
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query(value = """
+			UPDATE place_room_summaries
+			SET room_ids = array_remove(room_ids, :roomId),
+			    room_count = cardinality(array_remove(room_ids, :roomId)),
+			    updated_at = CURRENT_TIMESTAMP
+			WHERE place_id = :placeId
+			  AND :roomId = ANY (room_ids)
+			""", nativeQuery = true)
+	int removeRoom(@Param("placeId") Long placeId, @Param("roomId") Long roomId);
+}
@@ -47,4 +47,22 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
 	 */
 	@Query("SELECT r.placeId, r.roomId FROM Room r WHERE r.placeId IN :placeIds AND r.isActive = true")
 	List<Object[]> findRoomIdsByPlaceIds(@Param("placeIds") List<Long> placeIds);
+	
+	/**
+	 * Room 일괄 생성 (이미 있는 room_id는 건너뜀)
+	 * 조회 후 저장 대신 한 문장의 다중 행 INSERT로 처리하여 컨슈머 간 경합에도 중복 없이 멱등
+	 * (IDENTITY 키라 JPA 배치 INSERT가 되지 않으므로 네이티브 SQL 사용)
+	 *
+	 * @param roomIds  Room ID 배열 리터럴 ('{1,2}')
+	 * @param placeIds roomIds와 같은 순서의 PlaceInfo ID 배열 리터럴
+	 * @return 새로 생성된 Room ID 목록 (순서 보장 없음)
+	 */
+	@Query(value = """
+			INSERT INTO room (room_id, place_id, is_active, created_at, updated_at)
+			SELECT n.room_id, n.place_id, true, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+			FROM unnest(CAST(:roomIds AS bigint[]), CAST(:placeIds AS bigint[])) AS n(room_id, place_id)
+			ON CONFLICT (room_id) DO NOTHING
+			RETURNING room_id
+			""", nativeQuery = true)
+	List<Long> insertAllIgnoringExisting(@Param("roomIds") String roomIds, @Param("placeIds") String placeIds);
 }
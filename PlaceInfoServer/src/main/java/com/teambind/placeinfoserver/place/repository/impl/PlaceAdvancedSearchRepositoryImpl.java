@@ -1,62 +1,156 @@
 package com.teambind.placeinfoserver.place.repository.impl;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.teambind.placeinfoserver.place.common.metrics.PlaceSearchMetrics;
+import com.teambind.placeinfoserver.place.common.metrics.PlaceSearchMetrics.SearchType;
+import com.teambind.placeinfoserver.place.common.metrics.PlaceSearchMetrics.Stage;
+import com.teambind.placeinfoserver.place.common.util.geometry.GeometryUtil;
 import com.teambind.placeinfoserver.place.domain.entity.*;
 import com.teambind.placeinfoserver.place.domain.enums.ApprovalStatus;
+import com.teambind.placeinfoserver.place.domain.enums.ParkingType;
 import com.teambind.placeinfoserver.place.domain.enums.RegistrationStatus;
 import com.teambind.placeinfoserver.place.dto.cursor.PlaceSearchCursor;
 import com.teambind.placeinfoserver.place.dto.request.PlaceSearchRequest;
 import com.teambind.placeinfoserver.place.dto.response.PlaceSearchResponse;
 import com.teambind.placeinfoserver.place.repository.PlaceAdvancedSearchRepository;
-import com.teambind.placeinfoserver.place.repository.RoomRepository;
+import com.teambind.placeinfoserver.place.repository.index.PlaceKeywordIndexManager;
+import com.teambind.placeinfoserver.place.repository.index.PlaceLocationCandidateCache;
+import com.teambind.placeinfoserver.place.repository.index.PlaceLocationCandidateSet;
+import com.teambind.placeinfoserver.place.repository.index.PlaceSpatialIndex;
+import com.teambind.placeinfoserver.place.repository.index.PlaceSpatialIndexManager;
 import jakarta.persistence.EntityManager;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
  * QueryDSL을 활용한 고급 검색 리포지토리 구현
  * 커서 기반 페이징과 최적화된 쿼리 실행
+ * place.search.view.read-enabled이면 원본 조인 대신 검색 읽기 모델(place_search_view) 단일 테이블로 조회
  */
 @Repository
-@RequiredArgsConstructor
 public class PlaceAdvancedSearchRepositoryImpl implements PlaceAdvancedSearchRepository {
 	
 	private final JPAQueryFactory queryFactory;
 	private final EntityManager entityManager;
-	private final RoomRepository roomRepository;
+	private final PlaceSearchEnricher searchEnricher;
+	private final PlaceSpatialIndexManager spatialIndexManager;
+	private final PlaceKeywordIndexManager keywordIndexManager;
+	private final PlaceLocationCandidateCache locationCandidateCache;
+	private final PlaceSearchMetrics searchMetrics;
+	
+	// HAVERSINE 커서 이어 조회 시 페이지 크기 외에 더 읽는 행 수 (회전타원체 거리순과 Haversine 거리순 차이 보정)
+	private static final int HAVERSINE_EXTRA_ROWS = 32;
 	
 	// Q타입 엔티티
 	private final QPlaceInfo placeInfo = QPlaceInfo.placeInfo;
 	private final QPlaceLocation placeLocation = QPlaceLocation.placeLocation;
 	private final QPlaceParking placeParking = QPlaceParking.placeParking;
-	private final QPlaceImage placeImage = QPlaceImage.placeImage;
 	private final QPlaceContact placeContact = QPlaceContact.placeContact;
+	private final QPlaceSearchView placeSearchView = QPlaceSearchView.placeSearchView;
 	private final QKeyword keyword = QKeyword.keyword;
 	
+	// 검색 조건/정렬/커서가 참조하는 컬럼 (원본 조인 또는 읽기 모델)
+	private final PlaceSearchColumns columns;
+	
+	// 검색 결과 프로젝션 컬럼 (PlaceSearchItem 필드 + 커서용 createdAt, 읽기 모델이면 썸네일/키워드/Room 포함)
+	// 패키지 접근: 벤치마크(src/jmh)에서 인메모리 Tuple 생성용
+	final Expression<?>[] searchItemColumns;
+	
+	public PlaceAdvancedSearchRepositoryImpl(
+			JPAQueryFactory queryFactory,
+			EntityManager entityManager,
+			PlaceSearchEnricher searchEnricher,
+			PlaceSpatialIndexManager spatialIndexManager,
+			PlaceKeywordIndexManager keywordIndexManager,
+			PlaceLocationCandidateCache locationCandidateCache,
+			PlaceSearchMetrics searchMetrics,
+			@Value("${place.search.view.read-enabled:false}") boolean viewReadEnabled) {
+		this.queryFactory = queryFactory;
+		this.entityManager = entityManager;
+		this.searchEnricher = searchEnricher;
+		this.spatialIndexManager = spatialIndexManager;
+		this.keywordIndexManager = keywordIndexManager;
+		this.locationCandidateCache = locationCandidateCache;
+		this.searchMetrics = searchMetrics;
+		this.columns = viewReadEnabled ? PlaceSearchColumns.view() : PlaceSearchColumns.joined();
+		this.searchItemColumns = itemColumns(columns);
+	}
+	
+	private static Expression<?>[] itemColumns(PlaceSearchColumns columns) {
+		List<Expression<?>> itemColumns = new ArrayList<>(List.of(
+				columns.id(),
+				columns.placeName(),
+				columns.description(),
+				columns.category(),
+				columns.placeType(),
+				columns.ratingAverage(),
+				columns.reviewCount(),
+				columns.isActive(),
+				columns.approvalStatus(),
+				columns.registrationStatus(),
+				columns.createdAt(),
+				columns.fullAddress(),
+				columns.latitude(),
+				columns.longitude(),
+				columns.parkingAvailable(),
+				columns.parkingType(),
+				columns.contact()
+		));
+		if (columns.readModel()) {
+			QPlaceSearchView view = QPlaceSearchView.placeSearchView;
+			itemColumns.addAll(List.of(view.thumbnailUrl, view.keywordNames, view.roomIds));
+		}
+		return itemColumns.toArray(new Expression<?>[0]);
+	}
+	
 	@Override
 	public PlaceSearchResponse searchWithCursor(PlaceSearchRequest request) {
-		long startTime = System.currentTimeMillis();
-		
 		// 요청 유효성 검증
 		request.validate();
 		
+		return searchProjected(request, null, SearchType.CURSOR);
+	}
+	
+	/**
+	 * 프로젝션 + 커서 페이징 공통 경로
+	 *
+	 * @param request        검색 요청
+	 * @param extraCondition 추가 조건 (키워드 후보 등, null이면 없음)
+	 * @param type           단계 타이머 태그용 검색 분기
+	 */
+	private PlaceSearchResponse searchProjected(PlaceSearchRequest request, BooleanExpression extraCondition,
+	                                            SearchType type) {
+		long startTime = System.currentTimeMillis();
+		
 		// 커서 디코딩
 		PlaceSearchCursor cursor = PlaceSearchCursor.decode(request.getCursor());
 		
-		// 기본 쿼리 빌드
-		JPAQuery<PlaceInfo> query = buildBaseQuery(request);
+		// 기본 쿼리 빌드 (엔티티가 아닌 필요한 컬럼만 조회)
+		JPAQuery<Tuple> query = buildProjectionQuery(request);
+		if (extraCondition != null) {
+			query.where(extraCondition);
+		}
 		
 		// 커서 조건 추가
 		if (cursor != null) {
@@ -67,24 +161,25 @@ public class PlaceAdvancedSearchRepositoryImpl implements PlaceAdvancedSearchRep
 		applyOrdering(query, request);
 		
 		// 페이지 크기 + 1로 조회 (hasNext 판단용)
-		List<PlaceInfo> results = query
-				.limit(request.getSize() + 1)
-				.fetch();
+		List<Tuple> rows = searchMetrics.recordStage(type, Stage.FETCH, request,
+				() -> query.limit(request.getSize() + 1).fetch());
 		
 		// 응답 생성
-		boolean hasNext = results.size() > request.getSize();
+		boolean hasNext = rows.size() > request.getSize();
 		if (hasNext) {
-			results = results.subList(0, request.getSize());
+			rows = rows.subList(0, request.getSize());
 		}
 		
 		// DTO 변환
-		List<PlaceSearchResponse.PlaceSearchItem> items = convertToItems(results, request);
+		List<Tuple> pageRows = rows;
+		List<PlaceSearchResponse.PlaceSearchItem> items = searchMetrics.recordStage(type, Stage.ENRICH, request,
+				() -> toItems(pageRows));
 		
 		// 다음 커서 생성
 		String nextCursor = null;
-		if (hasNext && !results.isEmpty()) {
-			PlaceInfo lastItem = results.get(results.size() - 1);
-			nextCursor = createCursor(lastItem, request).encode();
+		if (hasNext && !items.isEmpty()) {
+			int lastIndex = items.size() - 1;
+			nextCursor = createCursor(items.get(lastIndex), rows.get(lastIndex), request).encode();
 		}
 		
 		// 메타데이터 생성
@@ -114,82 +209,57 @@ public class PlaceAdvancedSearchRepositoryImpl implements PlaceAdvancedSearchRep
 		
 		long startTime = System.currentTimeMillis();
 		
-		// PostGIS를 활용한 위치 기반 검색 - ID만 조회
-		// registrationStatus 필터 적용 (null이면 전체 조회)
-		String registrationStatusFilter = StringUtils.hasText(request.getRegistrationStatus())
-				? "  AND pi.registration_status = :registrationStatus\n" : "";
-		
-		String sql = """
-				SELECT pi.id,
-				       ST_Distance(pl.coordinates, ST_SetSRID(ST_MakePoint(:lng, :lat), 4326)::geography) as distance
-				FROM place_info pi
-				JOIN place_locations pl ON pi.id = pl.place_info_id
-				WHERE pi.deleted_at IS NULL
-				  AND pi.is_active = :isActive
-				  AND pi.approval_status = :approvalStatus
-				  AND ST_DWithin(pl.coordinates, ST_SetSRID(ST_MakePoint(:lng, :lat), 4326)::geography, :radius)
-				""" + registrationStatusFilter + """
-				ORDER BY distance
-				LIMIT :limit
-				""";
-		
-		var nativeQuery = entityManager.createNativeQuery(sql)
-				.setParameter("lat", request.getLatitude())
-				.setParameter("lng", request.getLongitude())
-				.setParameter("radius", request.getRadiusInMeters())
-				.setParameter("isActive", request.getIsActive())
-				.setParameter("approvalStatus", request.getApprovalStatus())
-				.setParameter("limit", request.getSize() + 1);  // hasNext 판단용
-		
-		// registrationStatus 파라미터 설정 (필터가 있는 경우에만)
-		if (StringUtils.hasText(request.getRegistrationStatus())) {
-			nativeQuery.setParameter("registrationStatus", request.getRegistrationStatus());
-		}
+		// 커서 디코딩 - (distance, id) 키셋과 첫 페이지의 거리 계산 방식
+		PlaceSearchCursor cursor = PlaceSearchCursor.decode(request.getCursor());
+		PlaceSpatialIndex.Candidate after = toDistanceKey(cursor);
+		PlaceSearchCursor.DistanceMetric pinnedMetric = after != null ? cursor.getDistanceMetric() : null;
 		
-		@SuppressWarnings("unchecked")
-		List<Object[]> results = nativeQuery.getResultList();
+		// 후보 ID + 거리 조회 (인메모리 공간 인덱스, 셀 후보 캐시 또는 PostGIS)
+		LocationCandidates found = searchMetrics.recordStage(SearchType.LOCATION, Stage.CANDIDATES,
+				request, () -> findLocationCandidates(request, after, pinnedMetric, request.getSize() + 1));
+		List<PlaceSpatialIndex.Candidate> candidates = found.candidates();
 		
-		if (results.isEmpty()) {
+		if (candidates.isEmpty()) {
 			return PlaceSearchResponse.empty();
 		}
 		
 		// hasNext 판단
-		boolean hasNext = results.size() > request.getSize();
+		boolean hasNext = candidates.size() > request.getSize();
 		if (hasNext) {
-			results = results.subList(0, request.getSize());
+			candidates = candidates.subList(0, request.getSize());
 		}
 		
-		// ID 추출 (Native Query returns Long, but we need it for QueryDSL)
-		List<Long> placeIds = results.stream()
-				.map(row -> ((Number) row[0]).longValue())
+		// ID 추출
+		List<Long> placeIds = candidates.stream()
+				.map(PlaceSpatialIndex.Candidate::placeId)
 				.collect(Collectors.toList());
 		
-		// QueryDSL로 엔티티 조회 (거리 순서 유지)
-		List<PlaceInfo> places = queryFactory
-				.selectFrom(placeInfo)
-				.distinct()
-				.leftJoin(placeInfo.location, placeLocation).fetchJoin()
-				.leftJoin(placeInfo.parking, placeParking).fetchJoin()
-				.leftJoin(placeInfo.contact, placeContact).fetchJoin()
-				.where(placeInfo.id.in(placeIds))
-				.fetch();
-		
-		// 거리 순서대로 정렬 (Native Query 결과 순서 유지)
-		List<PlaceInfo> orderedPlaces = placeIds.stream()
-				.map(id -> places.stream()
-						.filter(p -> p.getId().equals(id))
-						.findFirst()
-						.orElse(null))
-				.filter(p -> p != null)
-				.collect(Collectors.toList());
-		
-		// DTO 변환
-		List<PlaceSearchResponse.PlaceSearchItem> items = convertToItems(orderedPlaces, request);
-		
-		// 거리 정보 추가
-		for (int i = 0; i < items.size(); i++) {
-			Double distance = ((Number) results.get(i)[1]).doubleValue();
-			items.get(i).setDistance(distance);
+		// 필요한 컬럼만 조회
+		List<Tuple> rows = searchMetrics.recordStage(SearchType.LOCATION, Stage.FETCH, request,
+				() -> projectionQuery()
+						.where(columns.id().in(placeIds))
+						.fetch());
+		
+		List<PlaceSpatialIndex.Candidate> pageCandidates = candidates;
+		List<PlaceSearchResponse.PlaceSearchItem> items = searchMetrics.recordStage(SearchType.LOCATION, Stage.ENRICH,
+				request, () -> {
+					List<PlaceSearchResponse.PlaceSearchItem> converted = toItemsInCandidateOrder(pageCandidates, rows);
+					enrich(converted);
+					return converted;
+				});
+		
+		// 다음 커서 생성 (마지막 후보의 거리와 ID, 이번 페이지의 거리 계산 방식)
+		String nextCursor = null;
+		if (hasNext) {
+			PlaceSpatialIndex.Candidate last = candidates.get(candidates.size() - 1);
+			int previouslyFetched = cursor != null && cursor.getTotalFetched() != null ? cursor.getTotalFetched() : 0;
+			nextCursor = PlaceSearchCursor.forDistance(
+					String.valueOf(last.placeId()),
+					last.distance(),
+					found.metric(),
+					previouslyFetched + candidates.size(),
+					true
+			).encode();
 		}
 		
 		// 메타데이터 생성
@@ -204,143 +274,483 @@ public class PlaceAdvancedSearchRepositoryImpl implements PlaceAdvancedSearchRep
 		
 		return PlaceSearchResponse.builder()
 				.items(items)
+				.nextCursor(nextCursor)
 				.hasNext(hasNext)
 				.count(items.size())
 				.metadata(metadata)
 				.build();
 	}
 	
+	/**
+	 * 거리 커서를 (distance, id) 키로 변환
+	 * 잘못된 커서는 무시하고 처음부터 조회
+	 */
+	private PlaceSpatialIndex.Candidate toDistanceKey(PlaceSearchCursor cursor) {
+		if (cursor == null || cursor.getLastSortValue() == null || !StringUtils.hasText(cursor.getLastId())) {
+			return null;
+		}
+		try {
+			return new PlaceSpatialIndex.Candidate(Long.parseLong(cursor.getLastId()), cursor.getLastSortValue());
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+	
+	/**
+	 * 위치 기반 후보 조회 경로 선택
+	 * 1. 인메모리 공간 인덱스 (활성화 + 적재 완료)
+	 * 2. 격자 셀 후보 캐시 (활성화 + 버킷 이하 반경 + 후보 과다 셀 아님) - 거리/정렬은 Java에서 계산
+	 * 3. PostGIS
+	 * 두 번째 페이지부터는 커서의 거리 계산 방식을 유지 (Haversine과 회전타원체 거리가 달라 경로가 바뀌면 중복/누락 발생)
+	 * - SPHEROID 커서: 항상 PostGIS
+	 * - HAVERSINE 커서: 1, 2를 못 쓰면 PostGIS에서 좌표만 읽어 Java에서 Haversine으로 계산
+	 */
+	private LocationCandidates findLocationCandidates(PlaceSearchRequest request,
+	                                                  PlaceSpatialIndex.Candidate after,
+	                                                  PlaceSearchCursor.DistanceMetric pinnedMetric,
+	                                                  int limit) {
+		if (pinnedMetric != PlaceSearchCursor.DistanceMetric.SPHEROID) {
+			if (spatialIndexManager.isAvailable()) {
+				return LocationCandidates.haversine(spatialIndexManager.search(request, after, limit));
+			}
+			
+			Optional<PlaceLocationCandidateSet> cached = locationCandidateCache.find(request,
+					(centerLat, centerLng, radiusMeters, maxRows) ->
+							findLocationCandidatePoints(request, centerLat, centerLng, radiusMeters, 0, maxRows, false));
+			if (cached.isPresent()) {
+				return LocationCandidates.haversine(cached.get().search(request.getLatitude(), request.getLongitude(),
+						request.getRadiusInMeters(), after, limit));
+			}
+			
+			if (pinnedMetric == PlaceSearchCursor.DistanceMetric.HAVERSINE) {
+				return LocationCandidates.haversine(findHaversineCandidates(request, after, limit));
+			}
+		}
+		
+		return new LocationCandidates(findPostgisCandidates(request, after, limit),
+				PlaceSearchCursor.DistanceMetric.SPHEROID);
+	}
+	
+	/**
+	 * HAVERSINE 커서를 인메모리 경로 없이 이어서 조회
+	 * 이전 페이지 마지막 거리 안쪽 업체는 제외하고 (보정 여유분 포함) 회전타원체 거리순으로 좌표를 읽어 실제 중심점 기준으로 계산
+	 * - 읽지 않은 행의 Haversine 거리는 마지막으로 읽은 행의 Haversine 거리 / 여유분² 이상이므로
+	 *   limit번째 후보가 그보다 가까우면 결과 확정, 아니면 읽는 행 수를 두 배로 늘려 다시 조회
+	 * - 반경 고리 전체를 읽지 않고 페이지 크기에 비례한 행만 읽음
+	 */
+	private List<PlaceSpatialIndex.Candidate> findHaversineCandidates(PlaceSearchRequest request,
+	                                                                 PlaceSpatialIndex.Candidate after,
+	                                                                 int limit) {
+		double latitude = request.getLatitude();
+		double longitude = request.getLongitude();
+		double slack = GeometryUtil.SPHEROID_DISTANCE_SLACK;
+		int rows = limit + HAVERSINE_EXTRA_ROWS;
+		while (true) {
+			PlaceLocationCandidateSet points = findLocationCandidatePoints(request, latitude, longitude,
+					request.getRadiusInMeters() * slack, after.distance() / slack, rows, true);
+			List<PlaceSpatialIndex.Candidate> candidates = points.search(latitude, longitude,
+					request.getRadiusInMeters(), after, limit);
+			
+			int read = points.placeIds().length;
+			if (read < rows) {
+				return candidates;
+			}
+			double unreadLowerBound = GeometryUtil.haversineDistance(latitude, longitude,
+					points.latitudes()[read - 1], points.longitudes()[read - 1]) / (slack * slack);
+			if (candidates.size() == limit && candidates.get(limit - 1).distance() < unreadLowerBound) {
+				return candidates;
+			}
+			rows = (int) Math.min((long) rows * 2, Integer.MAX_VALUE);
+		}
+	}
+	
+	/**
+	 * 중심점 반경 내 업체 ID와 좌표 조회
+	 * 셀 후보 캐시 적재와 HAVERSINE 커서 이어 조회에 사용
+	 *
+	 * @param minRadiusMeters 이 거리 이내 업체는 제외 (0이면 제외 없음)
+	 * @param nearestFirst    true면 회전타원체 거리, ID 순으로 정렬 (false면 정렬 없음)
+	 */
+	private PlaceLocationCandidateSet findLocationCandidatePoints(PlaceSearchRequest request,
+	                                                             double centerLat, double centerLng,
+	                                                             double radiusMeters, double minRadiusMeters,
+	                                                             int limit, boolean nearestFirst) {
+		PlaceSearchColumns.LocationSource source = columns.location();
+		String registrationStatusFilter = StringUtils.hasText(request.getRegistrationStatus())
+				? "  AND pi.registration_status = :registrationStatus\n" : "";
+		String minRadiusFilter = minRadiusMeters > 0
+				? "  AND NOT ST_DWithin(%2$s.coordinates, ST_SetSRID(ST_MakePoint(:lng, :lat), 4326)::geography, :minRadius)\n"
+				.formatted(source.id(), source.alias()) : "";
+		String orderBy = nearestFirst
+				? "ORDER BY ST_Distance(%2$s.coordinates, ST_SetSRID(ST_MakePoint(:lng, :lat), 4326)::geography), %1$s\n"
+				.formatted(source.id(), source.alias()) : "";
+		
+		String sql = """
+				SELECT %1$s, %2$s.latitude, %2$s.longitude
+				FROM %3$s
+				WHERE %4$s
+				  AND pi.is_active = :isActive
+				  AND pi.approval_status = :approvalStatus
+				  AND %2$s.latitude IS NOT NULL
+				  AND %2$s.longitude IS NOT NULL
+				  AND ST_DWithin(%2$s.coordinates, ST_SetSRID(ST_MakePoint(:lng, :lat), 4326)::geography, :radius)
+				""".formatted(source.id(), source.alias(), source.from(), source.notDeleted())
+				+ registrationStatusFilter + minRadiusFilter + orderBy + """
+				LIMIT :limit
+				""";
+		
+		var nativeQuery = entityManager.createNativeQuery(sql)
+				.setParameter("lat", centerLat)
+				.setParameter("lng", centerLng)
+				.setParameter("radius", radiusMeters)
+				.setParameter("isActive", request.getIsActive())
+				.setParameter("approvalStatus", request.getApprovalStatus())
+				.setParameter("limit", limit);
+		
+		if (StringUtils.hasText(request.getRegistrationStatus())) {
+			nativeQuery.setParameter("registrationStatus", request.getRegistrationStatus());
+		}
+		if (minRadiusMeters > 0) {
+			nativeQuery.setParameter("minRadius", minRadiusMeters);
+		}
+		
+		@SuppressWarnings("unchecked")
+		List<Object[]> results = nativeQuery.getResultList();
+		
+		long[] placeIds = new long[results.size()];
+		double[] latitudes = new double[results.size()];
+		double[] longitudes = new double[results.size()];
+		for (int i = 0; i < results.size(); i++) {
+			Object[] row = results.get(i);
+			placeIds[i] = ((Number) row[0]).longValue();
+			latitudes[i] = ((Number) row[1]).doubleValue();
+			longitudes[i] = ((Number) row[2]).doubleValue();
+		}
+		return new PlaceLocationCandidateSet(placeIds, latitudes, longitudes, false);
+	}
+	
+	/**
+	 * PostGIS를 활용한 위치 기반 후보 조회 - ID와 거리만 조회
+	 * registrationStatus 필터 적용 (null이면 전체 조회)
+	 * 커서가 있으면 (distance, id) 행 비교로 이전 페이지 이후부터 조회 (OFFSET 없음)
+	 */
+	private List<PlaceSpatialIndex.Candidate> findPostgisCandidates(PlaceSearchRequest request,
+	                                                                 PlaceSpatialIndex.Candidate after,
+	                                                                 int limit) {
+		PlaceSearchColumns.LocationSource source = columns.location();
+		String registrationStatusFilter = StringUtils.hasText(request.getRegistrationStatus())
+				? "  AND pi.registration_status = :registrationStatus\n" : "";
+		String keysetFilter = after != null
+				? "  AND (ST_Distance(%2$s.coordinates, ST_SetSRID(ST_MakePoint(:lng, :lat), 4326)::geography), %1$s)"
+				+ " > (:lastDistance, :lastId)\n" : "";
+		
+		String sql = ("""
+				SELECT %1$s,
+				       ST_Distance(%2$s.coordinates, ST_SetSRID(ST_MakePoint(:lng, :lat), 4326)::geography) as distance
+				FROM %3$s
+				WHERE %4$s
+				  AND pi.is_active = :isActive
+				  AND pi.approval_status = :approvalStatus
+				  AND ST_DWithin(%2$s.coordinates, ST_SetSRID(ST_MakePoint(:lng, :lat), 4326)::geography, :radius)
+				""" + registrationStatusFilter + keysetFilter + """
+				ORDER BY distance, %1$s
+				LIMIT :limit
+				""").formatted(source.id(), source.alias(), source.from(), source.notDeleted());
+		
+		var nativeQuery = entityManager.createNativeQuery(sql)
+				.setParameter("lat", request.getLatitude())
+				.setParameter("lng", request.getLongitude())
+				.setParameter("radius", request.getRadiusInMeters())
+				.setParameter("isActive", request.getIsActive())
+				.setParameter("approvalStatus", request.getApprovalStatus())
+				.setParameter("limit", limit);
+		
+		// registrationStatus 파라미터 설정 (필터가 있는 경우에만)
+		if (StringUtils.hasText(request.getRegistrationStatus())) {
+			nativeQuery.setParameter("registrationStatus", request.getRegistrationStatus());
+		}
+		
+		// 키셋 파라미터 설정 (커서가 있는 경우에만)
+		if (after != null) {
+			nativeQuery.setParameter("lastDistance", after.distance());
+			nativeQuery.setParameter("lastId", after.placeId());
+		}
+		
+		@SuppressWarnings("unchecked")
+		List<Object[]> results = nativeQuery.getResultList();
+		
+		return results.stream()
+				.map(row -> new PlaceSpatialIndex.Candidate(
+						((Number) row[0]).longValue(),
+						((Number) row[1]).doubleValue()))
+				.collect(Collectors.toList());
+	}
+	
+	/**
+	 * 위치 기반 후보와 거리 계산 방식
+	 */
+	private record LocationCandidates(List<PlaceSpatialIndex.Candidate> candidates,
+	                                  PlaceSearchCursor.DistanceMetric metric) {
+		
+		static LocationCandidates haversine(List<PlaceSpatialIndex.Candidate> candidates) {
+			return new LocationCandidates(candidates, PlaceSearchCursor.DistanceMetric.HAVERSINE);
+		}
+	}
+	
 	@Override
 	public PlaceSearchResponse searchByKeywords(PlaceSearchRequest request) {
 		if (request.getKeywordIds() == null || request.getKeywordIds().isEmpty()) {
 			return searchWithCursor(request);
 		}
 		
-		JPAQuery<PlaceInfo> query = queryFactory
-				.selectFrom(placeInfo)
-				.distinct()
-				.leftJoin(placeInfo.keywords, keyword)
-				.where(
-						// 기본 필터
-						placeInfo.deletedAt.isNull(),
-						placeInfo.isActive.eq(true),
-						placeInfo.approvalStatus.eq(ApprovalStatus.valueOf(request.getApprovalStatus())),
-						// 키워드 필터
-						keyword.id.in(request.getKeywordIds())
-				);
-		
-		// 추가 조건 적용
-		applyAdditionalConditions(query, request);
-		
-		// 정렬 적용
-		applyOrdering(query, request);
-		
-		// 결과 조회
-		List<PlaceInfo> results = query
-				.limit(request.getSize())
-				.fetch();
+		// 요청 유효성 검증
+		request.validate();
 		
-		// DTO 변환
-		List<PlaceSearchResponse.PlaceSearchItem> items = convertToItems(results, request);
+		// 인메모리 역색인이 있으면 후보 ID로 필터 (place_keywords 조인 없음)
+		if (keywordIndexManager.isAvailable()) {
+			Optional<List<Long>> candidates = searchMetrics.recordStage(SearchType.KEYWORD, Stage.CANDIDATES, request,
+					() -> keywordIndexManager.findCandidates(request));
+			if (candidates.isPresent()) {
+				if (candidates.get().isEmpty()) {
+					return PlaceSearchResponse.empty();
+				}
+				return searchProjected(request, columns.id().in(candidates.get()), SearchType.KEYWORD);
+			}
+		}
 		
-		return PlaceSearchResponse.builder()
-				.items(items)
-				.hasNext(results.size() >= request.getSize())
-				.count(items.size())
-				.build();
+		// 역색인 미사용 또는 후보 과다 시 읽기 모델은 키워드 배열, 원본은 서브쿼리로 판단 (후보 단계가 FETCH에 포함됨)
+		BooleanExpression keywordCondition = columns.readModel()
+				? keywordArrayCondition(request)
+				: columns.id().in(keywordPlaceIds(request));
+		return searchProjected(request, keywordCondition, SearchType.KEYWORD);
+	}
+	
+	/**
+	 * 읽기 모델의 키워드 ID 배열 조건 (keyword_ids GIN 인덱스 사용)
+	 * ANY: 하나라도 보유 (&&), ALL: 요청 키워드를 모두 보유 (@>)
+	 */
+	private BooleanExpression keywordArrayCondition(PlaceSearchRequest request) {
+		String keywordIds = request.getKeywordIds().stream()
+				.map(String::valueOf)
+				.collect(Collectors.joining(",", "{", "}"));
+		String function = request.getKeywordMatch() == PlaceSearchRequest.KeywordMatch.ALL
+				? "bigint_array_contains"
+				: "bigint_array_overlaps";
+		return Expressions.booleanTemplate(function + "({0}, {1})", placeSearchView.keywordIds, keywordIds);
+	}
+	
+	/**
+	 * 키워드 조건을 만족하는 업체 ID 서브쿼리
+	 * ANY: 하나라도 보유, ALL: 요청 키워드를 모두 보유 (보유 개수 = 요청 개수)
+	 */
+	private JPQLQuery<Long> keywordPlaceIds(PlaceSearchRequest request) {
+		QPlaceInfo keywordPlace = new QPlaceInfo("keywordPlace");
+		JPQLQuery<Long> subQuery = JPAExpressions
+				.select(keywordPlace.id)
+				.from(keywordPlace)
+				.join(keywordPlace.keywords, keyword)
+				.where(keyword.id.in(request.getKeywordIds()));
+		
+		if (request.getKeywordMatch() == PlaceSearchRequest.KeywordMatch.ALL) {
+			long required = new HashSet<>(request.getKeywordIds()).size();
+			subQuery.groupBy(keywordPlace.id)
+					.having(keyword.id.countDistinct().eq(required));
+		}
+		return subQuery;
 	}
 	
 	@Override
 	public Long countSearchResults(PlaceSearchRequest request) {
-		JPAQuery<PlaceInfo> query = buildBaseQuery(request);
-		return query.fetchCount();
+		return countQuery(request)
+				.select(columns.id().count())
+				.fetchOne();
+	}
+	
+	@Override
+	public long countSearchResultsUpTo(PlaceSearchRequest request, long limit) {
+		// 조건에 맞는 ID를 limit개까지만 읽고 중단 (전체 집계 없음)
+		return countQuery(request)
+				.select(columns.id())
+				.limit(limit)
+				.fetch()
+				.size();
 	}
 	
 	/**
-	 * 기본 쿼리 빌드
+	 * 개수 조회 쿼리 빌드
+	 * fetch join/DISTINCT 없이 필터에 필요한 1:1 연관만 조인 (읽기 모델은 조인 없음)
 	 */
-	private JPAQuery<PlaceInfo> buildBaseQuery(PlaceSearchRequest request) {
-		JPAQuery<PlaceInfo> query = queryFactory
-				.selectFrom(placeInfo)
-				.distinct();
-		
-		// 필요한 연관 엔티티 조인
-		query.leftJoin(placeInfo.location, placeLocation).fetchJoin();
-		query.leftJoin(placeInfo.parking, placeParking).fetchJoin();
-		query.leftJoin(placeInfo.contact, placeContact).fetchJoin();
+	private JPAQuery<?> countQuery(PlaceSearchRequest request) {
+		JPAQuery<?> query = queryFactory.from(columns.root());
+		if (!columns.readModel()) {
+			if (request.hasRegionFilter()) {
+				query.leftJoin(placeInfo.location, placeLocation);
+			}
+			if (request.getParkingAvailable() != null) {
+				query.leftJoin(placeInfo.parking, placeParking);
+			}
+		}
 		
 		// 기본 필터 (항상 적용)
-		BooleanBuilder whereClause = new BooleanBuilder();
-		whereClause.and(placeInfo.deletedAt.isNull());
-		whereClause.and(placeInfo.isActive.eq(request.getIsActive()));
-		whereClause.and(placeInfo.approvalStatus.eq(ApprovalStatus.valueOf(request.getApprovalStatus())));
+		BooleanBuilder whereClause = baseConditions(request);
 		
 		// 검색 조건 추가
 		applySearchConditions(whereClause, request);
 		
-		query.where(whereClause);
-		
+		return query.where(whereClause);
+	}
+	
+	/**
+	 * 기본 필터 (삭제 제외, 활성 여부, 승인 상태)
+	 */
+	private BooleanBuilder baseConditions(PlaceSearchRequest request) {
+		BooleanBuilder whereClause = new BooleanBuilder();
+		if (columns.notDeleted() != null) {
+			whereClause.and(columns.notDeleted());
+		}
+		whereClause.and(columns.isActive().eq(request.getIsActive()));
+		whereClause.and(columns.approvalStatus().eq(ApprovalStatus.valueOf(request.getApprovalStatus())));
+		return whereClause;
+	}
+	
+	/**
+	 * 프로젝션 쿼리 빌드
+	 * 1:1 연관만 일반 조인하므로 DISTINCT 불필요, 영속성 컨텍스트에 엔티티를 적재하지 않음
+	 * 읽기 모델은 조인 없이 단일 테이블 조회
+	 *
+	 * @param extraColumns 추가 조회 컬럼 (관련도 점수 등)
+	 */
+	private JPAQuery<Tuple> projectionQuery(Expression<?>... extraColumns) {
+		Expression<?>[] columns = searchItemColumns;
+		if (extraColumns.length > 0) {
+			columns = Arrays.copyOf(searchItemColumns, searchItemColumns.length + extraColumns.length);
+			System.arraycopy(extraColumns, 0, columns, searchItemColumns.length, extraColumns.length);
+		}
+		JPAQuery<Tuple> query = queryFactory
+				.select(columns)
+				.from(this.columns.root());
+		if (!this.columns.readModel()) {
+			query.leftJoin(placeInfo.location, placeLocation)
+					.leftJoin(placeInfo.parking, placeParking)
+					.leftJoin(placeInfo.contact, placeContact);
+		}
 		return query;
 	}
 	
+	/**
+	 * 기본 필터와 검색 조건이 적용된 프로젝션 쿼리 빌드
+	 */
+	private JPAQuery<Tuple> buildProjectionQuery(PlaceSearchRequest request) {
+		BooleanBuilder whereClause = baseConditions(request);
+		
+		applySearchConditions(whereClause, request);
+		
+		// 관련도순이면 커서 생성을 위해 점수도 함께 조회
+		NumberExpression<Double> relevance = relevanceOrder(request);
+		JPAQuery<Tuple> query = relevance != null ? projectionQuery(relevance) : projectionQuery();
+		return query.where(whereClause);
+	}
+	
 	/**
 	 * 검색 조건 적용
 	 */
 	private void applySearchConditions(BooleanBuilder builder, PlaceSearchRequest request) {
-		// 키워드 검색
+		// 키워드 검색 (lower(컬럼) 트라이그램 GIN 인덱스 사용)
 		if (StringUtils.hasText(request.getKeyword())) {
-			builder.and(
-					placeInfo.placeName.containsIgnoreCase(request.getKeyword())
-							.or(placeInfo.description.containsIgnoreCase(request.getKeyword()))
-							.or(placeInfo.category.containsIgnoreCase(request.getKeyword()))
-			);
+			if (request.getTextMatch() == PlaceSearchRequest.TextMatch.SIMILAR) {
+				String text = request.getKeyword().toLowerCase();
+				builder.and(
+						wordSimilar(columns.placeName(), text)
+								.or(wordSimilar(columns.description(), text))
+								.or(wordSimilar(columns.category(), text))
+				);
+			} else {
+				builder.and(
+						columns.placeName().containsIgnoreCase(request.getKeyword())
+								.or(columns.description().containsIgnoreCase(request.getKeyword()))
+								.or(columns.category().containsIgnoreCase(request.getKeyword()))
+				);
+			}
 		}
 		
 		// 장소명 검색
 		if (StringUtils.hasText(request.getPlaceName())) {
-			builder.and(placeInfo.placeName.containsIgnoreCase(request.getPlaceName()));
+			builder.and(columns.placeName().containsIgnoreCase(request.getPlaceName()));
 		}
 		
 		// 카테고리 필터
 		if (StringUtils.hasText(request.getCategory())) {
-			builder.and(placeInfo.category.eq(request.getCategory()));
+			builder.and(columns.category().eq(request.getCategory()));
 		}
 		
 		// 장소 타입 필터
 		if (StringUtils.hasText(request.getPlaceType())) {
-			builder.and(placeInfo.placeType.eq(request.getPlaceType()));
+			builder.and(columns.placeType().eq(request.getPlaceType()));
 		}
 		
 		// 주차 가능 여부 필터
 		if (request.getParkingAvailable() != null) {
-			builder.and(placeParking.available.eq(request.getParkingAvailable()));
+			builder.and(columns.parkingAvailable().eq(request.getParkingAvailable()));
 		}
 		
 		// 지역 필터
 		if (request.hasRegionFilter()) {
 			if (StringUtils.hasText(request.getProvince())) {
-				builder.and(placeLocation.address.province.eq(request.getProvince()));
+				builder.and(columns.province().eq(request.getProvince()));
 			}
 			if (StringUtils.hasText(request.getCity())) {
-				builder.and(placeLocation.address.city.eq(request.getCity()));
+				builder.and(columns.city().eq(request.getCity()));
 			}
 			if (StringUtils.hasText(request.getDistrict())) {
-				builder.and(placeLocation.address.district.eq(request.getDistrict()));
+				builder.and(columns.district().eq(request.getDistrict()));
 			}
 		}
 		
 		// 등록 상태 필터
 		if (StringUtils.hasText(request.getRegistrationStatus())) {
-			builder.and(placeInfo.registrationStatus.eq(
+			builder.and(columns.registrationStatus().eq(
 					RegistrationStatus.valueOf(request.getRegistrationStatus())
 			));
 		}
 	}
 	
+	/**
+	 * 트라이그램 단어 유사도 조건 (lower(column) %> text)
+	 */
+	private BooleanExpression wordSimilar(Expression<String> column, String text) {
+		return Expressions.booleanTemplate("trgm_word_similar(lower({0}), {1})", column, text);
+	}
+	
+	/**
+	 * 관련도 점수 (0 ~ 1,000,000 정수 값)
+	 * 장소명/카테고리의 단어 유사도 중 큰 값, 설명은 절반 가중치
+	 * 유사도(0 ~ 1)를 백만 배 후 반올림하여 정렬/커서 조건/커서 값이 같은 정수 값을 쓰도록 함
+	 * (실수 점수를 커서 문자열로 옮긴 뒤 다시 계산한 값과 eq 비교하면 같은 점수 행이 누락/중복될 수 있음)
+	 */
+	private NumberExpression<Double> relevance(String keyword) {
+		String text = keyword.toLowerCase();
+		return Expressions.numberTemplate(Double.class,
+				"round(greatest("
+						+ "trgm_word_similarity({0}, lower({1})), "
+						+ "trgm_word_similarity({0}, lower(coalesce({2}, ''))), "
+						+ "trgm_word_similarity({0}, lower(coalesce({3}, ''))) * 0.5) * 1000000)",
+				text, columns.placeName(), columns.category(), columns.description());
+	}
+	
+	/**
+	 * 관련도순 정렬에 사용할 점수 (관련도순이 아니거나 키워드가 없으면 null)
+	 */
+	private NumberExpression<Double> relevanceOrder(PlaceSearchRequest request) {
+		if (request.getSortBy() != PlaceSearchRequest.SortBy.RELEVANCE || !StringUtils.hasText(request.getKeyword())) {
+			return null;
+		}
+		return relevance(request.getKeyword());
+	}
+	
 	/**
 	 * 커서 조건 적용
 	 */
-	private void applyCursorCondition(JPAQuery<PlaceInfo> query, PlaceSearchCursor cursor, PlaceSearchRequest request) {
+	private void applyCursorCondition(JPAQuery<?> query, PlaceSearchCursor cursor, PlaceSearchRequest request) {
 		BooleanExpression cursorCondition = null;
 		
 		// Cursor의 lastId는 String이므로 Long으로 변환
@@ -349,24 +759,24 @@ public class PlaceAdvancedSearchRepositoryImpl implements PlaceAdvancedSearchRep
 		switch (request.getSortBy()) {
 			case RATING -> {
 				if (request.getSortDirection() == PlaceSearchRequest.SortDirection.DESC) {
-					cursorCondition = placeInfo.ratingAverage.lt(cursor.getLastSortValue())
-							.or(placeInfo.ratingAverage.eq(cursor.getLastSortValue())
-									.and(placeInfo.id.gt(lastIdAsLong)));
+					cursorCondition = columns.ratingAverage().lt(cursor.getLastSortValue())
+							.or(columns.ratingAverage().eq(cursor.getLastSortValue())
+									.and(columns.id().gt(lastIdAsLong)));
 				} else {
-					cursorCondition = placeInfo.ratingAverage.gt(cursor.getLastSortValue())
-							.or(placeInfo.ratingAverage.eq(cursor.getLastSortValue())
-									.and(placeInfo.id.gt(lastIdAsLong)));
+					cursorCondition = columns.ratingAverage().gt(cursor.getLastSortValue())
+							.or(columns.ratingAverage().eq(cursor.getLastSortValue())
+									.and(columns.id().gt(lastIdAsLong)));
 				}
 			}
 			case REVIEW_COUNT -> {
 				if (request.getSortDirection() == PlaceSearchRequest.SortDirection.DESC) {
-					cursorCondition = placeInfo.reviewCount.lt(cursor.getLastSortValue().intValue())
-							.or(placeInfo.reviewCount.eq(cursor.getLastSortValue().intValue())
-									.and(placeInfo.id.gt(lastIdAsLong)));
+					cursorCondition = columns.reviewCount().lt(cursor.getLastSortValue().intValue())
+							.or(columns.reviewCount().eq(cursor.getLastSortValue().intValue())
+									.and(columns.id().gt(lastIdAsLong)));
 				} else {
-					cursorCondition = placeInfo.reviewCount.gt(cursor.getLastSortValue().intValue())
-							.or(placeInfo.reviewCount.eq(cursor.getLastSortValue().intValue())
-									.and(placeInfo.id.gt(lastIdAsLong)));
+					cursorCondition = columns.reviewCount().gt(cursor.getLastSortValue().intValue())
+							.or(columns.reviewCount().eq(cursor.getLastSortValue().intValue())
+									.and(columns.id().gt(lastIdAsLong)));
 				}
 			}
 			case CREATED_AT -> {
@@ -376,27 +786,37 @@ public class PlaceAdvancedSearchRepositoryImpl implements PlaceAdvancedSearchRep
 						java.time.ZoneId.systemDefault().getRules().getOffset(java.time.Instant.now())
 				);
 				if (request.getSortDirection() == PlaceSearchRequest.SortDirection.DESC) {
-					cursorCondition = placeInfo.createdAt.before(lastCreatedAt)
-							.or(placeInfo.createdAt.eq(lastCreatedAt)
-									.and(placeInfo.id.gt(lastIdAsLong)));
+					cursorCondition = columns.createdAt().before(lastCreatedAt)
+							.or(columns.createdAt().eq(lastCreatedAt)
+									.and(columns.id().gt(lastIdAsLong)));
 				} else {
-					cursorCondition = placeInfo.createdAt.after(lastCreatedAt)
-							.or(placeInfo.createdAt.eq(lastCreatedAt)
-									.and(placeInfo.id.gt(lastIdAsLong)));
+					cursorCondition = columns.createdAt().after(lastCreatedAt)
+							.or(columns.createdAt().eq(lastCreatedAt)
+									.and(columns.id().gt(lastIdAsLong)));
 				}
 			}
 			case PLACE_NAME -> {
 				if (request.getSortDirection() == PlaceSearchRequest.SortDirection.DESC) {
-					cursorCondition = placeInfo.placeName.lt(cursor.getSecondarySortValue())
-							.or(placeInfo.placeName.eq(cursor.getSecondarySortValue())
-									.and(placeInfo.id.gt(lastIdAsLong)));
+					cursorCondition = columns.placeName().lt(cursor.getSecondarySortValue())
+							.or(columns.placeName().eq(cursor.getSecondarySortValue())
+									.and(columns.id().gt(lastIdAsLong)));
 				} else {
-					cursorCondition = placeInfo.placeName.gt(cursor.getSecondarySortValue())
-							.or(placeInfo.placeName.eq(cursor.getSecondarySortValue())
-									.and(placeInfo.id.gt(lastIdAsLong)));
+					cursorCondition = columns.placeName().gt(cursor.getSecondarySortValue())
+							.or(columns.placeName().eq(cursor.getSecondarySortValue())
+									.and(columns.id().gt(lastIdAsLong)));
 				}
 			}
-			default -> cursorCondition = placeInfo.id.gt(lastIdAsLong);
+			case RELEVANCE -> {
+				NumberExpression<Double> relevance = relevanceOrder(request);
+				if (relevance == null || cursor.getLastSortValue() == null) {
+					cursorCondition = columns.id().gt(lastIdAsLong);
+				} else {
+					cursorCondition = relevance.lt(cursor.getLastSortValue())
+							.or(relevance.eq(cursor.getLastSortValue())
+									.and(columns.id().gt(lastIdAsLong)));
+				}
+			}
+			default -> cursorCondition = columns.id().gt(lastIdAsLong);
 		}
 		
 		if (cursorCondition != null) {
@@ -409,30 +829,37 @@ public class PlaceAdvancedSearchRepositoryImpl implements PlaceAdvancedSearchRep
 	 * 1차 정렬: 요청된 정렬 조건
 	 * 2차 정렬: ID (안정적 페이징)
 	 */
-	private void applyOrdering(JPAQuery<PlaceInfo> query, PlaceSearchRequest request) {
+	private void applyOrdering(JPAQuery<?> query, PlaceSearchRequest request) {
 		List<OrderSpecifier<?>> orderSpecifiers = new ArrayList<>();
 		
 		// 1차 정렬: 요청된 정렬 조건
 		switch (request.getSortBy()) {
 			case RATING -> {
 				orderSpecifiers.add(request.getSortDirection() == PlaceSearchRequest.SortDirection.DESC
-						? placeInfo.ratingAverage.desc().nullsLast()
-						: placeInfo.ratingAverage.asc().nullsFirst());
+						? columns.ratingAverage().desc().nullsLast()
+						: columns.ratingAverage().asc().nullsFirst());
 			}
 			case REVIEW_COUNT -> {
 				orderSpecifiers.add(request.getSortDirection() == PlaceSearchRequest.SortDirection.DESC
-						? placeInfo.reviewCount.desc()
-						: placeInfo.reviewCount.asc());
+						? columns.reviewCount().desc()
+						: columns.reviewCount().asc());
 			}
 			case CREATED_AT -> {
 				orderSpecifiers.add(request.getSortDirection() == PlaceSearchRequest.SortDirection.DESC
-						? placeInfo.createdAt.desc()
-						: placeInfo.createdAt.asc());
+						? columns.createdAt().desc()
+						: columns.createdAt().asc());
 			}
 			case PLACE_NAME -> {
 				orderSpecifiers.add(request.getSortDirection() == PlaceSearchRequest.SortDirection.DESC
-						? placeInfo.placeName.desc()
-						: placeInfo.placeName.asc());
+						? columns.placeName().desc()
+						: columns.placeName().asc());
+			}
+			case RELEVANCE -> {
+				// 정렬 방향과 무관하게 관련도 높은 순 (키워드가 없으면 ID 순)
+				NumberExpression<Double> relevance = relevanceOrder(request);
+				if (relevance != null) {
+					orderSpecifiers.add(relevance.desc());
+				}
 			}
 			default -> {
 				// DISTANCE는 PostGIS 쿼리에서 처리
@@ -440,105 +867,108 @@ public class PlaceAdvancedSearchRepositoryImpl implements PlaceAdvancedSearchRep
 		}
 		
 		// 2차 정렬: ID (안정적인 페이징을 위해)
-		orderSpecifiers.add(placeInfo.id.asc());
+		orderSpecifiers.add(columns.id().asc());
 		
 		query.orderBy(orderSpecifiers.toArray(new OrderSpecifier[0]));
 	}
 	
 	/**
-	 * 추가 조건 적용
+	 * 프로젝션 결과를 DTO로 변환 (썸네일/키워드/Room 정보 포함)
+	 */
+	private List<PlaceSearchResponse.PlaceSearchItem> toItems(List<Tuple> rows) {
+		if (rows.isEmpty()) {
+			return List.of();
+		}
+		
+		List<PlaceSearchResponse.PlaceSearchItem> items = new ArrayList<>(rows.size());
+		for (Tuple row : rows) {
+			items.add(toItem(row));
+		}
+		enrich(items);
+		return items;
+	}
+	
+	/**
+	 * 썸네일/키워드/Room 정보 채우기
+	 * 읽기 모델 행에는 이미 포함되어 있으므로 추가 조회 없음
 	 */
-	private void applyAdditionalConditions(JPAQuery<PlaceInfo> query, PlaceSearchRequest request) {
-		BooleanBuilder additionalConditions = new BooleanBuilder();
-		applySearchConditions(additionalConditions, request);
-		query.where(additionalConditions);
+	private void enrich(List<PlaceSearchResponse.PlaceSearchItem> items) {
+		if (!columns.readModel()) {
+			searchEnricher.enrich(items);
+		}
 	}
 	
 	/**
-	 * 엔티티를 DTO로 변환
+	 * 후보 순서(거리순)대로 프로젝션 행을 DTO로 변환하며 거리 정보 추가
+	 * 후보 조회 이후 삭제된 업체(행 없음)는 제외
 	 */
-	private List<PlaceSearchResponse.PlaceSearchItem> convertToItems(List<PlaceInfo> entities, PlaceSearchRequest request) {
-		if (entities.isEmpty()) {
-			return List.of();
+	List<PlaceSearchResponse.PlaceSearchItem> toItemsInCandidateOrder(List<PlaceSpatialIndex.Candidate> candidates,
+	                                                                  List<Tuple> rows) {
+		Map<Long, Tuple> rowById = new HashMap<>(rows.size() * 2);
+		for (Tuple row : rows) {
+			rowById.put(row.get(columns.id()), row);
 		}
 		
-		// N+1 문제 방지: 모든 place ID로 Room 정보 한 번에 조회
-		List<Long> placeIds = entities.stream()
-				.map(PlaceInfo::getId)
-				.collect(Collectors.toList());
+		List<PlaceSearchResponse.PlaceSearchItem> items = new ArrayList<>(candidates.size());
+		for (PlaceSpatialIndex.Candidate candidate : candidates) {
+			Tuple row = rowById.get(candidate.placeId());
+			if (row != null) {
+				PlaceSearchResponse.PlaceSearchItem item = toItem(row);
+				item.setDistance(candidate.distance());
+				items.add(item);
+			}
+		}
+		return items;
+	}
+	
+	/**
+	 * 프로젝션 행을 DTO로 변환
+	 */
+	PlaceSearchResponse.PlaceSearchItem toItem(Tuple row) {
+		ApprovalStatus approvalStatus = row.get(columns.approvalStatus());
+		RegistrationStatus registrationStatus = row.get(columns.registrationStatus());
+		ParkingType parkingType = row.get(columns.parkingType());
+		
+		PlaceSearchResponse.PlaceSearchItem item = PlaceSearchResponse.PlaceSearchItem.builder()
+				.id(String.valueOf(row.get(columns.id())))  // Long → String 변환 (클라이언트 통신용)
+				.placeName(row.get(columns.placeName()))
+				.description(row.get(columns.description()))
+				.category(row.get(columns.category()))
+				.placeType(row.get(columns.placeType()))
+				.ratingAverage(row.get(columns.ratingAverage()))
+				.reviewCount(row.get(columns.reviewCount()))
+				.isActive(row.get(columns.isActive()))
+				.approvalStatus(String.valueOf(approvalStatus))
+				.registrationStatus(registrationStatus != null ? registrationStatus.name() : null)
+				.fullAddress(row.get(columns.fullAddress()))
+				.latitude(row.get(columns.latitude()))
+				.longitude(row.get(columns.longitude()))
+				.parkingAvailable(row.get(columns.parkingAvailable()))
+				.parkingType(parkingType != null ? parkingType.name() : null)
+				.contact(row.get(columns.contact()))
+				.build();
 		
-		// placeId -> roomIds 매핑 생성
-		Map<Long, List<Long>> placeRoomMap = new HashMap<>();
-		List<Object[]> roomResults = roomRepository.findRoomIdsByPlaceIds(placeIds);
-		for (Object[] row : roomResults) {
-			Long placeId = ((Number) row[0]).longValue();
-			Long roomId = ((Number) row[1]).longValue();
-			placeRoomMap.computeIfAbsent(placeId, k -> new ArrayList<>()).add(roomId);
-		}
-		
-		return entities.stream()
-				.map(entity -> {
-					PlaceSearchResponse.PlaceSearchItem.PlaceSearchItemBuilder builder = PlaceSearchResponse.PlaceSearchItem.builder()
-							.id(String.valueOf(entity.getId()))  // Long → String 변환 (클라이언트 통신용)
-							.placeName(entity.getPlaceName())
-							.description(entity.getDescription())
-							.category(entity.getCategory())
-							.placeType(entity.getPlaceType())
-							.ratingAverage(entity.getRatingAverage())
-							.reviewCount(entity.getReviewCount())
-							.isActive(entity.getIsActive())
-							.approvalStatus(String.valueOf(entity.getApprovalStatus()))
-							.registrationStatus(entity.getRegistrationStatus() != null
-									? entity.getRegistrationStatus().name() : null);
-					
-					// 위치 정보
-					if (entity.getLocation() != null) {
-						builder.fullAddress(entity.getLocation().getAddress().getFullAddress())
-								.latitude(entity.getLocation().getLatitude())
-								.longitude(entity.getLocation().getLongitude());
-					}
-					
-					// 주차 정보
-					if (entity.getParking() != null) {
-						builder.parkingAvailable(entity.getParking().getAvailable())
-								.parkingType(entity.getParking().getParkingType() != null ?
-										entity.getParking().getParkingType().name() : null);
-					}
-					
-					// 연락처
-					if (entity.getContact() != null) {
-						builder.contact(entity.getContact().getContact());
-					}
-					
-					// 첫 번째 이미지를 썸네일로
-					if (entity.getImages() != null && !entity.getImages().isEmpty()) {
-						builder.thumbnailUrl(entity.getImages().get(0).getImageUrl());
-					}
-					
-					// 키워드
-					if (entity.getKeywords() != null) {
-						List<String> keywordNames = entity.getKeywords().stream()
-								.map(Keyword::getName)
-								.collect(Collectors.toList());
-						builder.keywords(keywordNames);
-					}
-					
-					// Room 정보 추가
-					List<Long> roomIds = placeRoomMap.getOrDefault(entity.getId(), List.of());
-					builder.roomCount(roomIds.size());
-					builder.roomIds(roomIds);
-					
-					return builder.build();
-				})
-				.collect(Collectors.toList());
+		if (columns.readModel()) {
+			String[] keywordNames = row.get(placeSearchView.keywordNames);
+			Long[] roomIds = row.get(placeSearchView.roomIds);
+			List<Long> rooms = roomIds != null ? List.of(roomIds) : List.of();
+			item.setThumbnailUrl(row.get(placeSearchView.thumbnailUrl));
+			item.setKeywords(keywordNames != null ? List.of(keywordNames) : List.of());
+			item.setRoomCount(rooms.size());
+			item.setRoomIds(rooms);
+		}
+		return item;
 	}
 	
 	/**
 	 * 커서 생성
 	 */
-	private PlaceSearchCursor createCursor(PlaceInfo lastItem, PlaceSearchRequest request) {
-		// Long ID를 String으로 변환 (커서는 API 통신용)
-		String lastIdAsString = String.valueOf(lastItem.getId());
+	private PlaceSearchCursor createCursor(PlaceSearchResponse.PlaceSearchItem lastItem, Tuple lastRow,
+	                                       PlaceSearchRequest request) {
+		// 커서의 ID는 String (API 통신용)
+		String lastIdAsString = lastItem.getId();
+		LocalDateTime createdAt = lastRow.get(columns.createdAt());
+		NumberExpression<Double> relevance = relevanceOrder(request);
 		
 		return switch (request.getSortBy()) {
 			case RATING -> PlaceSearchCursor.forRating(
@@ -557,12 +987,18 @@ public class PlaceAdvancedSearchRepositoryImpl implements PlaceAdvancedSearchRep
 			);
 			case CREATED_AT -> PlaceSearchCursor.forCreatedAt(
 					lastIdAsString,
-					lastItem.getCreatedAt().toEpochSecond(
+					createdAt.toEpochSecond(
 							java.time.ZoneId.systemDefault().getRules().getOffset(java.time.Instant.now())
 					),
 					null,
 					true
 			);
+			case RELEVANCE -> PlaceSearchCursor.forRelevance(
+					lastIdAsString,
+					relevance != null ? lastRow.get(relevance) : null,
+					null,
+					true
+			);
 			default -> PlaceSearchCursor.builder()
 					.lastId(lastIdAsString)
 					.hasNext(true)
@@ -0,0 +1,162 @@
+package com.teambind.placeinfoserver.place.repository.impl;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.teambind.placeinfoserver.place.domain.entity.Keyword;
+import com.teambind.placeinfoserver.place.domain.entity.PlaceContact;
+import com.teambind.placeinfoserver.place.domain.entity.PlaceImage;
+import com.teambind.placeinfoserver.place.domain.entity.PlaceInfo;
+import com.teambind.placeinfoserver.place.domain.entity.QKeyword;
+import com.teambind.placeinfoserver.place.domain.entity.QPlaceContact;
+import com.teambind.placeinfoserver.place.domain.entity.QPlaceImage;
+import com.teambind.placeinfoserver.place.domain.entity.QPlaceInfo;
+import com.teambind.placeinfoserver.place.domain.entity.QPlaceLocation;
+import com.teambind.placeinfoserver.place.domain.entity.QPlaceParking;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 업체 상세 배치 로더
+ * 컬렉션 두 개(images, keywords)를 한 쿼리에서 fetch join 하면 업체당 (이미지 수 × 키워드 수) 행이 전송되므로
+ * 단건 연관(contact/location/parking)은 한 쿼리, 각 컬렉션은 별도 IN 쿼리로 조회하여 메모리에서 조립
+ * - 청크당 쿼리 5회 (업체+단건 연관, 이미지, 키워드, 연락처 웹사이트, 연락처 SNS 링크)
+ * - 전송 행 수는 (업체 수 + 이미지 수 + 키워드 수 + 링크 수)로 컬렉션 크기의 합에 비례
+ * - 업체 ID는 chunk-size 단위로 나누어 IN 목록 크기 제한
+ * - 호출 측 트랜잭션(영속성 컨텍스트) 안에서 사용
+ */
+@Component
+public class PlaceDetailBatchLoader {
+
+	private final JPAQueryFactory queryFactory;
+	private final int chunkSize;
+
+	private final QPlaceInfo placeInfo = QPlaceInfo.placeInfo;
+	private final QPlaceContact placeContact = QPlaceContact.placeContact;
+	private final QPlaceLocation placeLocation = QPlaceLocation.placeLocation;
+	private final QPlaceParking placeParking = QPlaceParking.placeParking;
+	private final QPlaceImage placeImage = QPlaceImage.placeImage;
+	private final QKeyword keyword = QKeyword.keyword;
+
+	public PlaceDetailBatchLoader(
+			JPAQueryFactory queryFactory,
+			@Value("${place.batch.detail.chunk-size:500}") int chunkSize) {
+		this.queryFactory = queryFactory;
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * 활성 업체 상세 일괄 조회
+	 * 없거나 비활성/삭제된 업체는 결과에서 제외
+	 *
+	 * @param placeIds 업체 ID 목록 (중복 없음)
+	 * @return 업체별 상세 (이미지는 sequence 순, 키워드는 표시 순서 순)
+	 */
+	public List<PlaceDetails> load(Collection<Long> placeIds) {
+		List<Long> ids = new ArrayList<>(placeIds);
+		List<PlaceDetails> result = new ArrayList<>(ids.size());
+		for (int from = 0; from < ids.size(); from += chunkSize) {
+			result.addAll(loadChunk(ids.subList(from, Math.min(from + chunkSize, ids.size()))));
+		}
+		return result;
+	}
+
+	private List<PlaceDetails> loadChunk(List<Long> ids) {
+		List<PlaceInfo> places = queryFactory
+				.selectFrom(placeInfo)
+				.leftJoin(placeInfo.contact, placeContact).fetchJoin()
+				.leftJoin(placeInfo.location, placeLocation).fetchJoin()
+				.leftJoin(placeInfo.parking, placeParking).fetchJoin()
+				.where(placeInfo.id.in(ids), placeInfo.isActive.isTrue())
+				.fetch();
+		if (places.isEmpty()) {
+			return List.of();
+		}
+
+		List<Long> foundIds = places.stream()
+				.map(PlaceInfo::getId)
+				.toList();
+		Map<Long, List<PlaceImage>> imageMap = findImages(foundIds);
+		Map<Long, List<Keyword>> keywordMap = findKeywords(foundIds);
+		initializeContactLinks(places);
+
+		List<PlaceDetails> details = new ArrayList<>(places.size());
+		for (PlaceInfo place : places) {
+			details.add(new PlaceDetails(
+					place,
+					imageMap.getOrDefault(place.getId(), List.of()),
+					keywordMap.getOrDefault(place.getId(), List.of())));
+		}
+		return details;
+	}
+
+	/**
+	 * 업체별 이미지 (sequence 순)
+	 */
+	private Map<Long, List<PlaceImage>> findImages(List<Long> placeIds) {
+		List<PlaceImage> rows = queryFactory
+				.selectFrom(placeImage)
+				.where(placeImage.placeInfo.id.in(placeIds))
+				.orderBy(placeImage.sequence.asc().nullsLast(), placeImage.id.asc())
+				.fetch();
+
+		Map<Long, List<PlaceImage>> imageMap = new HashMap<>();
+		for (PlaceImage row : rows) {
+			imageMap.computeIfAbsent(row.getPlaceInfo().getId(), k -> new ArrayList<>()).add(row);
+		}
+		return imageMap;
+	}
+
+	/**
+	 * 업체별 키워드 (표시 순서 순)
+	 */
+	private Map<Long, List<Keyword>> findKeywords(List<Long> placeIds) {
+		List<Tuple> rows = queryFactory
+				.select(placeInfo.id, keyword)
+				.from(placeInfo)
+				.join(placeInfo.keywords, keyword)
+				.where(placeInfo.id.in(placeIds))
+				.orderBy(keyword.displayOrder.asc().nullsLast(), keyword.id.asc())
+				.fetch();
+
+		Map<Long, List<Keyword>> keywordMap = new HashMap<>();
+		for (Tuple row : rows) {
+			keywordMap.computeIfAbsent(row.get(placeInfo.id), k -> new ArrayList<>()).add(row.get(keyword));
+		}
+		return keywordMap;
+	}
+
+	/**
+	 * 연락처 웹사이트/SNS 링크 컬렉션 초기화 (연락처마다 지연 로딩하지 않도록 컬렉션별 한 번씩 조회)
+	 */
+	private void initializeContactLinks(List<PlaceInfo> places) {
+		List<PlaceContact> contacts = places.stream()
+				.map(PlaceInfo::getContact)
+				.filter(Objects::nonNull)
+				.toList();
+		if (contacts.isEmpty()) {
+			return;
+		}
+
+		queryFactory.selectFrom(placeContact)
+				.leftJoin(placeContact.websites).fetchJoin()
+				.where(placeContact.in(contacts))
+				.fetch();
+		queryFactory.selectFrom(placeContact)
+				.leftJoin(placeContact.socialLinks).fetchJoin()
+				.where(placeContact.in(contacts))
+				.fetch();
+	}
+
+	/**
+	 * 업체 + 컬렉션 조회 결과
+	 */
+	public record PlaceDetails(PlaceInfo place, List<PlaceImage> images, List<Keyword> keywords) {
+	}
+}
@@ -0,0 +1,72 @@
+package com.teambind.placeinfoserver.place.repository.impl;
+
+import com.teambind.placeinfoserver.place.domain.entity.PlaceRoomSummary;
+import com.teambind.placeinfoserver.place.repository.PlaceRoomSummaryRepository;
+import com.teambind.placeinfoserver.place.repository.RoomRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 업체별 활성 Room ID 조회
+ * place.room.summary.read-enabled이면 place_room_summaries(업체당 1행)에서, 아니면 room 테이블에서 조회
+ * Room이 없는 업체는 결과 맵에 없으므로 호출 측에서 빈 목록으로 처리
+ */
+@Component
+public class PlaceRoomSummaryLoader {
+	
+	private final RoomRepository roomRepository;
+	private final PlaceRoomSummaryRepository placeRoomSummaryRepository;
+	private final boolean summaryReadEnabled;
+	
+	public PlaceRoomSummaryLoader(
+			RoomRepository roomRepository,
+			PlaceRoomSummaryRepository placeRoomSummaryRepository,
+			@Value("${place.room.summary.read-enabled:false}") boolean summaryReadEnabled) {
+		this.roomRepository = roomRepository;
+		this.placeRoomSummaryRepository = placeRoomSummaryRepository;
+		this.summaryReadEnabled = summaryReadEnabled;
+	}
+	
+	/**
+	 * 여러 업체의 활성 Room ID 일괄 조회
+	 *
+	 * @param placeIds 업체 ID 목록
+	 * @return 업체 ID별 Room ID 목록
+	 */
+	public Map<Long, List<Long>> findRoomIds(Collection<Long> placeIds) {
+		Map<Long, List<Long>> roomMap = new HashMap<>();
+		if (placeIds.isEmpty()) {
+			return roomMap;
+		}
+		
+		if (summaryReadEnabled) {
+			for (PlaceRoomSummary summary : placeRoomSummaryRepository.findAllById(placeIds)) {
+				roomMap.put(summary.getPlaceId(), summary.getRoomIdList());
+			}
+			return roomMap;
+		}
+		
+		for (Object[] row : roomRepository.findRoomIdsByPlaceIds(List.copyOf(placeIds))) {
+			Long placeId = ((Number) row[0]).longValue();
+			Long roomId = ((Number) row[1]).longValue();
+			roomMap.computeIfAbsent(placeId, k -> new ArrayList<>()).add(roomId);
+		}
+		return roomMap;
+	}
+	
+	/**
+	 * 업체 한 건의 활성 Room ID 조회
+	 *
+	 * @param placeId 업체 ID
+	 * @return Room ID 목록 (없으면 빈 목록)
+	 */
+	public List<Long> findRoomIds(Long placeId) {
+		return findRoomIds(List.of(placeId)).getOrDefault(placeId, List.of());
+	}
+}
@@ -0,0 +1,145 @@
+package com.teambind.placeinfoserver.place.repository.impl;
+
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.BooleanPath;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.EnumPath;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
+import com.teambind.placeinfoserver.place.domain.entity.QPlaceContact;
+import com.teambind.placeinfoserver.place.domain.entity.QPlaceInfo;
+import com.teambind.placeinfoserver.place.domain.entity.QPlaceLocation;
+import com.teambind.placeinfoserver.place.domain.entity.QPlaceParking;
+import com.teambind.placeinfoserver.place.domain.entity.QPlaceSearchView;
+import com.teambind.placeinfoserver.place.domain.enums.ApprovalStatus;
+import com.teambind.placeinfoserver.place.domain.enums.ParkingType;
+import com.teambind.placeinfoserver.place.domain.enums.RegistrationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 쿼리가 참조하는 컬럼 묶음
+ * 같은 검색 조건/정렬/커서를 원본 조인(JOINED)과 읽기 모델(VIEW) 중 어느 쪽에도 적용할 수 있도록 경로를 추상화
+ *
+ * @param root        조회 시작 엔티티
+ * @param notDeleted  삭제 제외 조건 (읽기 모델은 삭제된 업체 행이 없으므로 null)
+ * @param readModel   place_search_view 사용 여부 (썸네일/키워드/Room이 행에 포함됨)
+ * @param location    위치 검색 네이티브 SQL 조각
+ */
+record PlaceSearchColumns(
+		EntityPath<?> root,
+		NumberPath<Long> id,
+		StringPath placeName,
+		StringPath description,
+		StringPath category,
+		StringPath placeType,
+		NumberPath<Double> ratingAverage,
+		NumberPath<Integer> reviewCount,
+		BooleanPath isActive,
+		EnumPath<ApprovalStatus> approvalStatus,
+		EnumPath<RegistrationStatus> registrationStatus,
+		DateTimePath<LocalDateTime> createdAt,
+		StringPath fullAddress,
+		StringPath province,
+		StringPath city,
+		StringPath district,
+		NumberPath<Double> latitude,
+		NumberPath<Double> longitude,
+		BooleanPath parkingAvailable,
+		EnumPath<ParkingType> parkingType,
+		StringPath contact,
+		BooleanExpression notDeleted,
+		boolean readModel,
+		LocationSource location
+) {
+
+	/**
+	 * 원본 테이블 조인 (place_info + place_locations + place_parkings + place_contacts)
+	 */
+	static PlaceSearchColumns joined() {
+		QPlaceInfo placeInfo = QPlaceInfo.placeInfo;
+		QPlaceLocation placeLocation = QPlaceLocation.placeLocation;
+		QPlaceParking placeParking = QPlaceParking.placeParking;
+		QPlaceContact placeContact = QPlaceContact.placeContact;
+		return new PlaceSearchColumns(
+				placeInfo,
+				placeInfo.id,
+				placeInfo.placeName,
+				placeInfo.description,
+				placeInfo.category,
+				placeInfo.placeType,
+				placeInfo.ratingAverage,
+				placeInfo.reviewCount,
+				placeInfo.isActive,
+				placeInfo.approvalStatus,
+				placeInfo.registrationStatus,
+				placeInfo.createdAt,
+				placeLocation.address.fullAddress,
+				placeLocation.address.province,
+				placeLocation.address.city,
+				placeLocation.address.district,
+				placeLocation.latitude,
+				placeLocation.longitude,
+				placeParking.available,
+				placeParking.parkingType,
+				placeContact.contact,
+				placeInfo.deletedAt.isNull(),
+				false,
+				new LocationSource(
+						"place_info pi\nJOIN place_locations pl ON pi.id = pl.place_info_id",
+						"pi.id",
+						"pl",
+						"pi.deleted_at IS NULL")
+		);
+	}
+
+	/**
+	 * 검색 읽기 모델 단일 테이블 (place_search_view)
+	 */
+	static PlaceSearchColumns view() {
+		QPlaceSearchView view = QPlaceSearchView.placeSearchView;
+		return new PlaceSearchColumns(
+				view,
+				view.placeId,
+				view.placeName,
+				view.description,
+				view.category,
+				view.placeType,
+				view.ratingAverage,
+				view.reviewCount,
+				view.isActive,
+				view.approvalStatus,
+				view.registrationStatus,
+				view.createdAt,
+				view.fullAddress,
+				view.province,
+				view.city,
+				view.district,
+				view.latitude,
+				view.longitude,
+				view.parkingAvailable,
+				view.parkingType,
+				view.contact,
+				null,
+				true,
+				new LocationSource(
+						"place_search_view pi",
+						"pi.place_id",
+						"pi",
+						"pi.coordinates IS NOT NULL")
+		);
+	}
+
+	/**
+	 * 위치 검색 네이티브 SQL 조각
+	 * 상태 컬럼(is_active, approval_status, registration_status)은 양쪽 모두 별칭 pi로 참조
+	 *
+	 * @param from       FROM 절
+	 * @param id         업체 ID 컬럼
+	 * @param alias      latitude/longitude/coordinates 컬럼의 테이블 별칭
+	 * @param notDeleted 기본 WHERE 조건
+	 */
+	record LocationSource(String from, String id, String alias, String notDeleted) {
+	}
+}
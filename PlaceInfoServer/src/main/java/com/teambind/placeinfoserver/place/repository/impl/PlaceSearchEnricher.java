@@ -0,0 +1,99 @@
+package com.teambind.placeinfoserver.place.repository.impl;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.teambind.placeinfoserver.place.domain.entity.QKeyword;
+import com.teambind.placeinfoserver.place.domain.entity.QPlaceImage;
+import com.teambind.placeinfoserver.place.domain.entity.QPlaceInfo;
+import com.teambind.placeinfoserver.place.dto.response.PlaceSearchResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검색 결과 보강 단계
+ * 페이지의 장소 ID 전체에 대해 썸네일/키워드/Room 정보를 각각 한 번의 쿼리로 조회
+ * 페이지 크기와 무관하게 쿼리 수가 일정 (N+1 방지)
+ */
+@Component
+@RequiredArgsConstructor
+public class PlaceSearchEnricher {
+
+	private final JPAQueryFactory queryFactory;
+	private final PlaceRoomSummaryLoader roomSummaryLoader;
+
+	private final QPlaceInfo placeInfo = QPlaceInfo.placeInfo;
+	private final QPlaceImage placeImage = QPlaceImage.placeImage;
+	private final QKeyword keyword = QKeyword.keyword;
+
+	/**
+	 * 검색 결과에 썸네일, 키워드, Room 정보 채우기
+	 *
+	 * @param items 검색 결과 (ID는 Long 문자열)
+	 */
+	public void enrich(List<PlaceSearchResponse.PlaceSearchItem> items) {
+		if (items.isEmpty()) {
+			return;
+		}
+
+		List<Long> placeIds = new ArrayList<>(items.size());
+		for (PlaceSearchResponse.PlaceSearchItem item : items) {
+			placeIds.add(Long.parseLong(item.getId()));
+		}
+
+		Map<Long, String> thumbnailMap = findThumbnails(placeIds);
+		Map<Long, List<String>> keywordMap = findKeywordNames(placeIds);
+		Map<Long, List<Long>> roomMap = roomSummaryLoader.findRoomIds(placeIds);
+
+		for (int i = 0; i < items.size(); i++) {
+			PlaceSearchResponse.PlaceSearchItem item = items.get(i);
+			Long placeId = placeIds.get(i);
+			List<Long> roomIds = roomMap.getOrDefault(placeId, List.of());
+			item.setThumbnailUrl(thumbnailMap.get(placeId));
+			item.setKeywords(keywordMap.getOrDefault(placeId, List.of()));
+			item.setRoomCount(roomIds.size());
+			item.setRoomIds(roomIds);
+		}
+	}
+
+	/**
+	 * 장소별 썸네일 (sequence가 가장 작은 이미지)
+	 */
+	private Map<Long, String> findThumbnails(List<Long> placeIds) {
+		List<Tuple> rows = queryFactory
+				.select(placeImage.placeInfo.id, placeImage.imageUrl)
+				.from(placeImage)
+				.where(placeImage.placeInfo.id.in(placeIds))
+				.orderBy(placeImage.sequence.asc().nullsLast(), placeImage.id.asc())
+				.fetch();
+
+		Map<Long, String> thumbnailMap = new HashMap<>();
+		for (Tuple row : rows) {
+			thumbnailMap.putIfAbsent(row.get(placeImage.placeInfo.id), row.get(placeImage.imageUrl));
+		}
+		return thumbnailMap;
+	}
+
+	/**
+	 * 장소별 키워드 이름 (표시 순서)
+	 */
+	private Map<Long, List<String>> findKeywordNames(List<Long> placeIds) {
+		List<Tuple> rows = queryFactory
+				.select(placeInfo.id, keyword.name)
+				.from(placeInfo)
+				.join(placeInfo.keywords, keyword)
+				.where(placeInfo.id.in(placeIds))
+				.orderBy(keyword.displayOrder.asc().nullsLast(), keyword.id.asc())
+				.fetch();
+
+		Map<Long, List<String>> keywordMap = new HashMap<>();
+		for (Tuple row : rows) {
+			keywordMap.computeIfAbsent(row.get(placeInfo.id), k -> new ArrayList<>()).add(row.get(keyword.name));
+		}
+		return keywordMap;
+	}
+}
@@ -0,0 +1,164 @@
+package com.teambind.placeinfoserver.place.repository.impl;
+
+import com.teambind.placeinfoserver.place.events.internal.PlaceChangedEvent;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 검색 읽기 모델(place_search_view) 갱신
+ * 원본 테이블에서 업체 행을 SQL로 다시 계산하여 저장 (엔티티를 적재하지 않음)
+ * - 업체 변경 이벤트는 커밋 직전(BEFORE_COMMIT) 같은 트랜잭션에서 반영하므로 원본과 읽기 모델이 함께 커밋/롤백됨
+ * - 삭제(소프트 삭제 포함)된 업체는 행 제거
+ * - 재구성(rebuild)은 한 트랜잭션에서 전체 삭제 후 재적재하므로 커밋 전까지 조회는 이전 행을 봄
+ *   재적재도 UPSERT로 수행하므로 그 사이 다른 트랜잭션이 같은 업체 행을 커밋해도 고유 키 위반 없이 덮어씀
+ * - place.search.view.sync-enabled=false(기본값)이면 이벤트 반영 안 함 (V4 적용 후 활성화 → 재구성 → 조회 전환 순서)
+ */
+@Slf4j
+@Component
+public class PlaceSearchViewProjector {
+
+	private static final String COLUMNS = """
+			place_id, place_name, description, category, place_type, rating_average, review_count,
+			is_active, approval_status, registration_status, created_at,
+			full_address, province, city, district, latitude, longitude, coordinates,
+			parking_available, parking_type, contact,
+			thumbnail_url, keyword_ids, keyword_names, room_ids, room_count, synced_at
+			""";
+
+	// 썸네일/키워드/Room은 PlaceSearchEnricher와 같은 기준 (sequence 순 첫 이미지, 표시 순서, 활성 Room)
+	private static final String PROJECTION = """
+			SELECT pi.id, pi.place_name, pi.description, pi.category, pi.place_type, pi.rating_average, pi.review_count,
+			       pi.is_active, pi.approval_status, pi.registration_status, pi.created_at,
+			       pl.full_address, pl.province, pl.city, pl.district, pl.latitude, pl.longitude, pl.coordinates,
+			       pp.available, pp.parking_type, pc.contact,
+			       (SELECT img.image_url
+			        FROM place_images img
+			        WHERE img.place_info_id = pi.id
+			        ORDER BY img.sequence NULLS LAST, img.id
+			        LIMIT 1),
+			       COALESCE((SELECT array_agg(k.id ORDER BY k.display_order NULLS LAST, k.id)
+			                 FROM place_keywords pk
+			                 JOIN keywords k ON k.id = pk.keyword_id
+			                 WHERE pk.place_info_id = pi.id), '{}'),
+			       COALESCE((SELECT array_agg(k.name::text ORDER BY k.display_order NULLS LAST, k.id)
+			                 FROM place_keywords pk
+			                 JOIN keywords k ON k.id = pk.keyword_id
+			                 WHERE pk.place_info_id = pi.id), '{}'),
+			       COALESCE((SELECT array_agg(r.room_id ORDER BY r.room_id)
+			                 FROM room r
+			                 WHERE r.place_id = pi.id AND r.is_active = true), '{}'),
+			       (SELECT count(*)
+			        FROM room r
+			        WHERE r.place_id = pi.id AND r.is_active = true),
+			       CURRENT_TIMESTAMP
+			FROM place_info pi
+			LEFT JOIN place_locations pl ON pl.place_info_id = pi.id
+			LEFT JOIN place_parkings pp ON pp.place_info_id = pi.id
+			LEFT JOIN place_contacts pc ON pc.place_info_id = pi.id
+			WHERE pi.deleted_at IS NULL
+			""";
+
+	private static final String INSERT = "INSERT INTO place_search_view (" + COLUMNS + ")\n" + PROJECTION;
+
+	private static final String ON_CONFLICT_UPDATE = """
+			ON CONFLICT (place_id) DO UPDATE SET
+			    place_name = EXCLUDED.place_name,
+			    description = EXCLUDED.description,
+			    category = EXCLUDED.category,
+			    place_type = EXCLUDED.place_type,
+			    rating_average = EXCLUDED.rating_average,
+			    review_count = EXCLUDED.review_count,
+			    is_active = EXCLUDED.is_active,
+			    approval_status = EXCLUDED.approval_status,
+			    registration_status = EXCLUDED.registration_status,
+			    created_at = EXCLUDED.created_at,
+			    full_address = EXCLUDED.full_address,
+			    province = EXCLUDED.province,
+			    city = EXCLUDED.city,
+			    district = EXCLUDED.district,
+			    latitude = EXCLUDED.latitude,
+			    longitude = EXCLUDED.longitude,
+			    coordinates = EXCLUDED.coordinates,
+			    parking_available = EXCLUDED.parking_available,
+			    parking_type = EXCLUDED.parking_type,
+			    contact = EXCLUDED.contact,
+			    thumbnail_url = EXCLUDED.thumbnail_url,
+			    keyword_ids = EXCLUDED.keyword_ids,
+			    keyword_names = EXCLUDED.keyword_names,
+			    room_ids = EXCLUDED.room_ids,
+			    room_count = EXCLUDED.room_count,
+			    synced_at = EXCLUDED.synced_at
+			""";
+
+	private static final String UPSERT = INSERT + """
+			  AND pi.id = :placeId
+			""" + ON_CONFLICT_UPDATE;
+
+	// 재적재 중 커밋된 단건 UPSERT(BEFORE_COMMIT)와 같은 업체 행이 겹쳐도 고유 키 위반 없이 덮어씀
+	private static final String REBUILD = INSERT + ON_CONFLICT_UPDATE;
+
+	private static final String DELETE_REMOVED = """
+			DELETE FROM place_search_view v
+			WHERE v.place_id = :placeId
+			  AND NOT EXISTS (SELECT 1 FROM place_info pi WHERE pi.id = v.place_id AND pi.deleted_at IS NULL)
+			""";
+
+	private final EntityManager entityManager;
+	private final boolean syncEnabled;
+
+	public PlaceSearchViewProjector(
+			EntityManager entityManager,
+			@Value("${place.search.view.sync-enabled:false}") boolean syncEnabled) {
+		this.entityManager = entityManager;
+		this.syncEnabled = syncEnabled;
+	}
+
+	/**
+	 * 업체 변경 시 같은 트랜잭션에서 읽기 모델 갱신
+	 * 커맨드 UseCase와 Kafka 컨슈머(이미지/Room) 모두 트랜잭션 안에서 PlaceChangedEvent를 발행하므로 커밋 직전에 반영
+	 * 갱신 실패 시 원본 변경도 롤백되어 읽기 모델과 어긋나지 않음
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+	public void onPlaceChanged(PlaceChangedEvent event) {
+		if (!syncEnabled || event.getPlaceId() == null) {
+			return;
+		}
+		refresh(event.getPlaceId());
+	}
+
+	/**
+	 * 업체 한 건의 읽기 모델 행 재계산 (없거나 삭제된 업체는 행 제거)
+	 *
+	 * @param placeId 업체 ID
+	 */
+	@Transactional
+	public void refresh(Long placeId) {
+		// 영속성 컨텍스트의 변경을 먼저 반영해야 SQL이 최신 원본을 읽음
+		entityManager.flush();
+		entityManager.createNativeQuery(UPSERT)
+				.setParameter("placeId", placeId)
+				.executeUpdate();
+		entityManager.createNativeQuery(DELETE_REMOVED)
+				.setParameter("placeId", placeId)
+				.executeUpdate();
+	}
+
+	/**
+	 * 읽기 모델 전체 재구성 (기존 행 삭제 후 원본 전체 재적재)
+	 *
+	 * @return 적재된 업체 수
+	 */
+	@Transactional
+	public int rebuild() {
+		entityManager.flush();
+		int deleted = entityManager.createNativeQuery("DELETE FROM place_search_view").executeUpdate();
+		int inserted = entityManager.createNativeQuery(REBUILD).executeUpdate();
+		log.info("검색 읽기 모델 재구성 완료 - 삭제: {}, 적재: {}", deleted, inserted);
+		return inserted;
+	}
+}
@@ -0,0 +1,172 @@
+package com.teambind.placeinfoserver.place.repository.impl;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.teambind.placeinfoserver.place.domain.entity.QPlaceImage;
+import com.teambind.placeinfoserver.place.domain.entity.QPlaceInfo;
+import com.teambind.placeinfoserver.place.domain.entity.QPlaceLocation;
+import com.teambind.placeinfoserver.place.domain.entity.QPlaceParking;
+import com.teambind.placeinfoserver.place.domain.enums.RegistrationStatus;
+import com.teambind.placeinfoserver.place.domain.vo.Address;
+import com.teambind.placeinfoserver.place.dto.cursor.PlaceSearchCursor;
+import com.teambind.placeinfoserver.place.dto.response.PlaceInfoSummaryPageResponse;
+import com.teambind.placeinfoserver.place.dto.response.PlaceInfoSummaryResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 업체 요약 페이지 조회
+ * 엔티티/컬렉션을 적재하지 않고 요약 컬럼만 프로젝션 (업체 + 위치 + 주차 1쿼리, 썸네일 1쿼리)
+ * - 정렬: created_at DESC, id DESC (user_id 복합 인덱스로 페이지 크기만큼만 스캔)
+ * - 커서: 마지막 항목의 (생성일, ID)보다 뒤인 행부터 조회 (offset 없음)
+ */
+@Component
+@RequiredArgsConstructor
+public class PlaceSummaryPageLoader {
+	
+	private final JPAQueryFactory queryFactory;
+	
+	private final QPlaceInfo placeInfo = QPlaceInfo.placeInfo;
+	private final QPlaceLocation placeLocation = QPlaceLocation.placeLocation;
+	private final QPlaceParking placeParking = QPlaceParking.placeParking;
+	private final QPlaceImage placeImage = QPlaceImage.placeImage;
+	
+	/**
+	 * 사용자가 등록한 업체 요약 한 페이지 조회 (삭제된 업체 제외, 활성/비활성 모두 포함)
+	 *
+	 * @param userId 사용자 ID
+	 * @param cursor 이전 페이지 커서 (첫 페이지면 null)
+	 * @param size   페이지 크기
+	 * @return 업체 요약 페이지
+	 */
+	public PlaceInfoSummaryPageResponse load(String userId, PlaceSearchCursor cursor, int size) {
+		List<Tuple> rows = queryFactory
+				.select(
+						placeInfo.id,
+						placeInfo.placeName,
+						placeInfo.category,
+						placeInfo.placeType,
+						placeInfo.ratingAverage,
+						placeInfo.reviewCount,
+						placeInfo.approvalStatus,
+						placeInfo.registrationStatus,
+						placeInfo.isActive,
+						placeInfo.createdAt,
+						placeLocation.address,
+						placeParking.available
+				)
+				.from(placeInfo)
+				.leftJoin(placeInfo.location, placeLocation)
+				.leftJoin(placeInfo.parking, placeParking)
+				.where(
+						placeInfo.userId.eq(userId),
+						placeInfo.deletedAt.isNull(),
+						cursorCondition(cursor)
+				)
+				.orderBy(placeInfo.createdAt.desc(), placeInfo.id.desc())
+				.limit(size + 1L)
+				.fetch();
+		
+		boolean hasNext = rows.size() > size;
+		if (hasNext) {
+			rows = rows.subList(0, size);
+		}
+		
+		List<Long> placeIds = new ArrayList<>(rows.size());
+		for (Tuple row : rows) {
+			placeIds.add(row.get(placeInfo.id));
+		}
+		Map<Long, String> thumbnailMap = findThumbnails(placeIds);
+		
+		List<PlaceInfoSummaryResponse> items = new ArrayList<>(rows.size());
+		for (Tuple row : rows) {
+			items.add(toSummary(row, thumbnailMap));
+		}
+		
+		String nextCursor = null;
+		if (hasNext) {
+			Tuple lastRow = rows.get(rows.size() - 1);
+			nextCursor = PlaceSearchCursor.forCreatedAtAndId(
+					String.valueOf(lastRow.get(placeInfo.id)),
+					lastRow.get(placeInfo.createdAt)
+			).encode();
+		}
+		
+		return PlaceInfoSummaryPageResponse.builder()
+				.items(items)
+				.nextCursor(nextCursor)
+				.hasNext(hasNext)
+				.count(items.size())
+				.build();
+	}
+	
+	/**
+	 * (created_at, id) < (마지막 생성일, 마지막 ID)
+	 * 커서가 없거나 잘못된 형식이면 첫 페이지
+	 */
+	private BooleanExpression cursorCondition(PlaceSearchCursor cursor) {
+		if (cursor == null || cursor.getLastId() == null) {
+			return null;
+		}
+		LocalDateTime lastCreatedAt = cursor.getLastCreatedAt();
+		if (lastCreatedAt == null) {
+			return null;
+		}
+		long lastId;
+		try {
+			lastId = Long.parseLong(cursor.getLastId());
+		} catch (NumberFormatException e) {
+			return null;
+		}
+		return placeInfo.createdAt.lt(lastCreatedAt)
+				.or(placeInfo.createdAt.eq(lastCreatedAt).and(placeInfo.id.lt(lastId)));
+	}
+	
+	/**
+	 * 업체별 썸네일 (sequence가 가장 작은 이미지)
+	 */
+	private Map<Long, String> findThumbnails(List<Long> placeIds) {
+		Map<Long, String> thumbnailMap = new HashMap<>();
+		if (placeIds.isEmpty()) {
+			return thumbnailMap;
+		}
+		
+		List<Tuple> rows = queryFactory
+				.select(placeImage.placeInfo.id, placeImage.imageUrl)
+				.from(placeImage)
+				.where(placeImage.placeInfo.id.in(placeIds))
+				.orderBy(placeImage.sequence.asc().nullsLast(), placeImage.id.asc())
+				.fetch();
+		for (Tuple row : rows) {
+			thumbnailMap.putIfAbsent(row.get(placeImage.placeInfo.id), row.get(placeImage.imageUrl));
+		}
+		return thumbnailMap;
+	}
+	
+	private PlaceInfoSummaryResponse toSummary(Tuple row, Map<Long, String> thumbnailMap) {
+		Long placeId = row.get(placeInfo.id);
+		Address address = row.get(placeLocation.address);
+		RegistrationStatus registrationStatus = row.get(placeInfo.registrationStatus);
+		return PlaceInfoSummaryResponse.builder()
+				.id(String.valueOf(placeId))  // Long → String 변환 (클라이언트 통신용)
+				.placeName(row.get(placeInfo.placeName))
+				.category(row.get(placeInfo.category))
+				.placeType(row.get(placeInfo.placeType))
+				.thumbnailUrl(thumbnailMap.get(placeId))
+				.shortAddress(address != null ? address.getShortAddress() : null)
+				.parkingAvailable(row.get(placeParking.available))
+				.ratingAverage(row.get(placeInfo.ratingAverage))
+				.reviewCount(row.get(placeInfo.reviewCount))
+				.approvalStatus(row.get(placeInfo.approvalStatus))
+				.registrationStatus(registrationStatus != null ? registrationStatus.name() : null)
+				.isActive(row.get(placeInfo.isActive))
+				.build();
+	}
+}
@@ -0,0 +1,29 @@
+package com.teambind.placeinfoserver.place.repository.impl;
+
+import com.teambind.placeinfoserver.place.events.internal.PlaceChangedEvent;
+import com.teambind.placeinfoserver.place.repository.PlaceInfoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 업체 버전(place_info.updated_at) 갱신
+ * 이미지/키워드/위치/Room 등 연관 엔티티만 바뀐 경우에도 업체 행의 updated_at이 바뀌어야 상세/배치 응답의 ETag가 달라짐
+ * - 업체 변경 이벤트마다 커밋 직전(BEFORE_COMMIT) 같은 트랜잭션에서 DB 시각으로 갱신 (변경과 함께 커밋/롤백)
+ * - 같은 업체의 동시 변경은 행 잠금으로 직렬화되므로 나중에 커밋된 변경의 버전이 남음
+ */
+@Component
+@RequiredArgsConstructor
+public class PlaceVersionToucher {
+	
+	private final PlaceInfoRepository placeInfoRepository;
+	
+	@TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+	public void onPlaceChanged(PlaceChangedEvent event) {
+		if (event.getPlaceId() == null) {
+			return;
+		}
+		placeInfoRepository.touchUpdatedAt(event.getPlaceId());
+	}
+}
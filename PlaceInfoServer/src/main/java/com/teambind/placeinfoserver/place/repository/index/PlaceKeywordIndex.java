@@ -0,0 +1,232 @@
+package com.teambind.placeinfoserver.place.repository.index;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 키워드 역색인 (키워드 ID -> 업체 비트맵)
+ * 업체 ID를 0부터 시작하는 연속 서수로 매핑하여 BitSet으로 표현
+ * ALL은 교집합, ANY는 합집합으로 계산
+ * <p>
+ * 쓰기만 동기화하고 읽기는 락 없이 수행
+ * - 키워드별 비트맵(postings)만 copy-on-write: 변경할 비트맵을 복제해 새 스냅샷으로 게시하고 게시된 비트맵은 변경하지 않음
+ * - 서수 매핑(ordinals), 업체별 키워드(keywordsByPlace), 서수 -> 업체 ID 배열(placeIdsByOrdinal)은
+ *   스냅샷 간에 공유되며 쓰기 락 안에서 그대로 변경됨 (읽기는 게시된 비트맵에 있는 서수만 조회하므로
+ *   새 서수 추가/배열 확장과 경합하지 않음)
+ * <p>
+ * 서수는 재사용하지 않음: 제거된 업체도 서수와 배열 칸을 유지하므로(같은 업체가 다시 색인되면 같은 서수 사용)
+ * 서수는 전체 재구성 이후 색인된 서로 다른 업체 수만큼 계속 증가하며, 다음 전체 재구성(주기적 재적재) 때 현재 업체 기준으로 다시 부여됨
+ */
+public class PlaceKeywordIndex {
+
+	private volatile Snapshot snapshot = Snapshot.empty();
+	// 재적재 중 반영된 단건 변경 (업체 ID -> 최신 키워드 목록, null이면 제거). 재적재 중이 아니면 null
+	private Map<Long, Collection<Long>> pendingChanges;
+
+	/**
+	 * 재적재 시작 (전체 조회 전에 호출)
+	 * 이후 replaceAll까지 들어온 단건 변경을 기록해 두었다가 새 스냅샷에 다시 적용
+	 */
+	public synchronized void beginReload() {
+		this.pendingChanges = new LinkedHashMap<>();
+	}
+
+	/**
+	 * 재적재 취소 (전체 조회 실패 시 호출)
+	 */
+	public synchronized void abortReload() {
+		this.pendingChanges = null;
+	}
+
+	/**
+	 * 전체 재구성
+	 * beginReload 이후 기록된 단건 변경은 전체 데이터 대신 적용
+	 *
+	 * @param keywordsByPlace 업체 ID -> 보유 키워드 ID 목록
+	 */
+	public synchronized void replaceAll(Map<Long, ? extends Collection<Long>> keywordsByPlace) {
+		Map<Long, Collection<Long>> merged = new LinkedHashMap<>(keywordsByPlace);
+		if (pendingChanges != null) {
+			for (Map.Entry<Long, Collection<Long>> change : pendingChanges.entrySet()) {
+				if (change.getValue() == null) {
+					merged.remove(change.getKey());
+				} else {
+					merged.put(change.getKey(), change.getValue());
+				}
+			}
+			pendingChanges = null;
+		}
+
+		Snapshot rebuilt = Snapshot.empty();
+		Map<Long, BitSet> postings = new HashMap<>();
+		for (Map.Entry<Long, Collection<Long>> entry : merged.entrySet()) {
+			int ordinal = rebuilt.assignOrdinal(entry.getKey());
+			long[] keywordIds = toArray(entry.getValue());
+			rebuilt.keywordsByPlace.put(entry.getKey(), keywordIds);
+			for (long keywordId : keywordIds) {
+				postings.computeIfAbsent(keywordId, k -> new BitSet()).set(ordinal);
+			}
+		}
+		this.snapshot = rebuilt.withPostings(postings);
+	}
+
+	/**
+	 * 단건 갱신 (보유 키워드 교체)
+	 */
+	public synchronized void update(long placeId, Collection<Long> keywordIds) {
+		if (pendingChanges != null) {
+			pendingChanges.put(placeId, List.copyOf(keywordIds));
+		}
+		Snapshot current = this.snapshot;
+		long[] previous = current.keywordsByPlace.getOrDefault(placeId, new long[0]);
+		long[] next = toArray(keywordIds);
+		if (Arrays.equals(previous, next) && current.ordinals.containsKey(placeId)) {
+			return;
+		}
+
+		int ordinal = current.assignOrdinal(placeId);
+		Map<Long, BitSet> postings = new HashMap<>(current.postings);
+		for (long keywordId : previous) {
+			copyOf(postings, keywordId).clear(ordinal);
+		}
+		for (long keywordId : next) {
+			copyOf(postings, keywordId).set(ordinal);
+		}
+		current.keywordsByPlace.put(placeId, next);
+		this.snapshot = current.withPostings(postings);
+	}
+
+	/**
+	 * 단건 제거
+	 */
+	public synchronized void remove(long placeId) {
+		if (pendingChanges != null) {
+			pendingChanges.put(placeId, null);
+		}
+		Snapshot current = this.snapshot;
+		long[] previous = current.keywordsByPlace.remove(placeId);
+		Integer ordinal = current.ordinals.get(placeId);
+		if (previous == null || ordinal == null) {
+			return;
+		}
+
+		Map<Long, BitSet> postings = new HashMap<>(current.postings);
+		for (long keywordId : previous) {
+			copyOf(postings, keywordId).clear(ordinal);
+		}
+		this.snapshot = current.withPostings(postings);
+	}
+
+	/**
+	 * 키워드 조건에 맞는 업체 ID 조회
+	 *
+	 * @param keywordIds 키워드 ID 목록
+	 * @param matchAll   true면 모두 보유(ALL), false면 하나라도 보유(ANY)
+	 * @return 업체 ID 목록 (순서 없음)
+	 */
+	public List<Long> match(Collection<Long> keywordIds, boolean matchAll) {
+		Snapshot current = this.snapshot;
+		BitSet result = null;
+		for (Long keywordId : new LinkedHashSet<>(keywordIds)) {
+			BitSet bits = current.postings.get(keywordId);
+			if (bits == null) {
+				if (matchAll) {
+					return List.of();
+				}
+				continue;
+			}
+			if (result == null) {
+				result = (BitSet) bits.clone();
+			} else if (matchAll) {
+				result.and(bits);
+			} else {
+				result.or(bits);
+			}
+		}
+		if (result == null || result.isEmpty()) {
+			return List.of();
+		}
+
+		long[] placeIdsByOrdinal = current.placeIdsByOrdinal;
+		return result.stream()
+				.mapToObj(ordinal -> placeIdsByOrdinal[ordinal])
+				.toList();
+	}
+
+	/**
+	 * 색인된 업체 수
+	 */
+	public int size() {
+		return snapshot.keywordsByPlace.size();
+	}
+
+	private static BitSet copyOf(Map<Long, BitSet> postings, long keywordId) {
+		BitSet existing = postings.get(keywordId);
+		BitSet copy = existing != null ? (BitSet) existing.clone() : new BitSet();
+		postings.put(keywordId, copy);
+		return copy;
+	}
+
+	private static long[] toArray(Collection<Long> keywordIds) {
+		if (keywordIds == null) {
+			return new long[0];
+		}
+		Set<Long> unique = new LinkedHashSet<>(keywordIds);
+		return unique.stream().mapToLong(Long::longValue).sorted().toArray();
+	}
+
+	/**
+	 * 인덱스 스냅샷
+	 * postings만 스냅샷별 불변 사본이고 ordinals/keywordsByPlace/placeIdsByOrdinal은
+	 * 이전 스냅샷과 공유하여 쓰기 락 안에서 직접 변경 (서수는 replaceAll 전까지 증가만 함)
+	 */
+	private static final class Snapshot {
+		private final Map<Long, Integer> ordinals;
+		private final Map<Long, long[]> keywordsByPlace;
+		private final Map<Long, BitSet> postings;
+		private volatile long[] placeIdsByOrdinal;
+
+		private Snapshot(Map<Long, Integer> ordinals, Map<Long, long[]> keywordsByPlace,
+		                 Map<Long, BitSet> postings, long[] placeIdsByOrdinal) {
+			this.ordinals = ordinals;
+			this.keywordsByPlace = keywordsByPlace;
+			this.postings = postings;
+			this.placeIdsByOrdinal = placeIdsByOrdinal;
+		}
+
+		private static Snapshot empty() {
+			return new Snapshot(
+					new ConcurrentHashMap<>(),
+					new ConcurrentHashMap<>(),
+					Map.of(),
+					new long[16]
+			);
+		}
+
+		private int assignOrdinal(long placeId) {
+			Integer existing = ordinals.get(placeId);
+			if (existing != null) {
+				return existing;
+			}
+			int ordinal = ordinals.size();
+			if (ordinal >= placeIdsByOrdinal.length) {
+				placeIdsByOrdinal = Arrays.copyOf(placeIdsByOrdinal, placeIdsByOrdinal.length * 2);
+			}
+			placeIdsByOrdinal[ordinal] = placeId;
+			ordinals.put(placeId, ordinal);
+			return ordinal;
+		}
+
+		private Snapshot withPostings(Map<Long, BitSet> postings) {
+			return new Snapshot(ordinals, keywordsByPlace, Map.copyOf(postings), placeIdsByOrdinal);
+		}
+	}
+}
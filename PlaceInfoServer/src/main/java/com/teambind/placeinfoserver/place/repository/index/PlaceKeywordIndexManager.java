@@ -0,0 +1,139 @@
+package com.teambind.placeinfoserver.place.repository.index;
+
+import com.teambind.placeinfoserver.place.dto.request.PlaceSearchRequest;
+import com.teambind.placeinfoserver.place.events.internal.PlaceChangedEvent;
+import com.teambind.placeinfoserver.place.repository.PlaceInfoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 키워드 역색인 관리자
+ * - 기동 시 전체 적재, 이후 주기적으로 재적재 (다중 인스턴스 간 정합성 보정)
+ * - 같은 인스턴스의 키워드 변경/삭제는 커밋 직후 단건 반영
+ * - 업체 상태(활성/승인) 필터는 후보 ID와 함께 SQL에서 적용
+ * - place.search.keyword-index.enabled=false(기본값)이면 place_keywords 서브쿼리 사용
+ */
+@Component
+@Slf4j
+public class PlaceKeywordIndexManager {
+
+	private final PlaceInfoRepository placeInfoRepository;
+	private final PlaceKeywordIndex index = new PlaceKeywordIndex();
+	private final boolean enabled;
+	private final int maxCandidates;
+	private volatile boolean ready = false;
+
+	public PlaceKeywordIndexManager(
+			PlaceInfoRepository placeInfoRepository,
+			@Value("${place.search.keyword-index.enabled:false}") boolean enabled,
+			@Value("${place.search.keyword-index.max-candidates:10000}") int maxCandidates) {
+		this.placeInfoRepository = placeInfoRepository;
+		this.enabled = enabled;
+		this.maxCandidates = maxCandidates;
+	}
+
+	/**
+	 * 인덱스 검색 가능 여부 (활성화 + 최초 적재 완료)
+	 */
+	public boolean isAvailable() {
+		return enabled && ready;
+	}
+
+	/**
+	 * 키워드 조건에 맞는 후보 업체 ID 조회
+	 * 후보가 max-candidates를 넘으면 IN 목록이 과도해지므로 Optional.empty()를 반환하여 SQL 경로 사용
+	 *
+	 * @param request 검색 요청 (keywordIds, keywordMatch)
+	 * @return 후보 업체 ID 목록 (빈 목록이면 일치하는 업체 없음)
+	 */
+	public Optional<List<Long>> findCandidates(PlaceSearchRequest request) {
+		boolean matchAll = request.getKeywordMatch() == PlaceSearchRequest.KeywordMatch.ALL;
+		List<Long> candidates = index.match(request.getKeywordIds(), matchAll);
+		if (candidates.size() > maxCandidates) {
+			return Optional.empty();
+		}
+		return Optional.of(candidates);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		if (enabled) {
+			reload();
+		}
+	}
+
+	@Scheduled(
+			fixedDelayString = "${place.search.keyword-index.refresh-interval-ms:300000}",
+			initialDelayString = "${place.search.keyword-index.refresh-interval-ms:300000}"
+	)
+	public void scheduledReload() {
+		if (enabled) {
+			reload();
+		}
+	}
+
+	/**
+	 * 전체 재적재
+	 * 조회 중 커밋 직후 반영된 단건 변경은 인덱스가 기록해 두었다가 교체 시 다시 적용
+	 */
+	public synchronized void reload() {
+		long startTime = System.currentTimeMillis();
+		index.beginReload();
+		try {
+			Map<Long, List<Long>> keywordsByPlace = new HashMap<>();
+			for (Object[] row : placeInfoRepository.findAllKeywordIndexRows()) {
+				keywordsByPlace.computeIfAbsent(((Number) row[0]).longValue(), k -> new ArrayList<>())
+						.add(((Number) row[1]).longValue());
+			}
+			index.replaceAll(keywordsByPlace);
+			ready = true;
+			log.info("Keyword index reloaded: size={}, elapsed={}ms",
+					keywordsByPlace.size(), System.currentTimeMillis() - startTime);
+		} catch (Exception e) {
+			// 재적재 실패 시 기존 인덱스 유지 (최초 적재 실패면 서브쿼리 경로 사용)
+			index.abortReload();
+			log.error("Failed to reload keyword index", e);
+		}
+	}
+
+	/**
+	 * 커밋된 변경을 단건 반영
+	 * 커밋 이후 실행되므로 별도 트랜잭션에서 조회
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+	public void onPlaceChanged(PlaceChangedEvent event) {
+		if (!enabled || event.getPlaceId() == null || !event.affectsSearchFilters()) {
+			return;
+		}
+		try {
+			if (event.getChangeType() == PlaceChangedEvent.ChangeType.DELETED) {
+				index.remove(event.getPlaceId());
+				return;
+			}
+			List<Long> keywordIds = placeInfoRepository.findKeywordIdsByPlaceId(event.getPlaceId());
+			if (keywordIds.isEmpty()) {
+				index.remove(event.getPlaceId());
+			} else {
+				index.update(event.getPlaceId(), keywordIds);
+			}
+		} catch (Exception e) {
+			// 다음 주기적 재적재에서 보정됨
+			log.warn("Failed to apply place change to keyword index: {}", event, e);
+		}
+	}
+}
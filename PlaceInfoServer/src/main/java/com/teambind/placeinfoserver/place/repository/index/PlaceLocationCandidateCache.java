@@ -0,0 +1,193 @@
+package com.teambind.placeinfoserver.place.repository.index;
+
+import com.teambind.placeinfoserver.place.common.config.CacheConfig;
+import com.teambind.placeinfoserver.place.common.util.geometry.GeometryUtil;
+import com.teambind.placeinfoserver.place.dto.request.PlaceSearchRequest;
+import com.teambind.placeinfoserver.place.events.internal.PlaceChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 격자 셀 기반 위치 검색 후보 캐시
+ * - 요청 중심점을 셀로 스냅하고 반경을 버킷으로 올림하여 키를 만들므로 근처 좌표 요청이 같은 키를 공유
+ * - 값은 후보 ID + 좌표만 저장하고 거리/정렬/커서는 요청마다 Java에서 계산
+ * - 후보가 max-candidates를 넘는 셀과 가장 큰 버킷보다 넓은 반경은 PostGIS 경로 사용
+ * - 업체 변경 커밋 시 전체 무효화
+ * - place.search.location-cache.enabled=false(기본값)이면 사용하지 않음
+ */
+@Component
+@Slf4j
+public class PlaceLocationCandidateCache {
+
+	/**
+	 * 반경 버킷 (미터, 오름차순)
+	 */
+	static final int[] RADIUS_BUCKETS = {500, 1000, 2000, 3000, 5000, 10000};
+
+	private static final String METRIC_NAME = "place.search.location-cache.requests";
+
+	private final CacheManager cacheManager;
+	private final boolean enabled;
+	private final double cellSizeDegrees;
+	private final int maxCandidates;
+	private final Counter hits;
+	private final Counter misses;
+
+	public PlaceLocationCandidateCache(
+			CacheManager cacheManager,
+			MeterRegistry meterRegistry,
+			@Value("${place.search.location-cache.enabled:false}") boolean enabled,
+			@Value("${place.search.location-cache.cell-size-degrees:0.01}") double cellSizeDegrees,
+			@Value("${place.search.location-cache.max-candidates:5000}") int maxCandidates) {
+		if (cellSizeDegrees <= 0 || cellSizeDegrees > 1) {
+			throw new IllegalArgumentException("셀 크기는 0 ~ 1도 사이여야 합니다. 입력값: " + cellSizeDegrees);
+		}
+		this.cacheManager = cacheManager;
+		this.enabled = enabled;
+		this.cellSizeDegrees = cellSizeDegrees;
+		this.maxCandidates = maxCandidates;
+		this.hits = counter(meterRegistry, "hit");
+		this.misses = counter(meterRegistry, "miss");
+	}
+
+	/**
+	 * 요청이 속한 셀/반경 버킷의 후보 집합 조회 (없으면 loader로 적재 후 저장)
+	 *
+	 * @param request 검색 요청 (중심점, 반경, 상태 필터)
+	 * @param loader  셀 중심/적재 반경으로 후보를 조회하는 함수 (PostGIS)
+	 * @return 후보 집합 (비활성, 버킷 초과 반경, 후보 과다 셀이면 Optional.empty())
+	 */
+	public Optional<PlaceLocationCandidateSet> find(PlaceSearchRequest request, Loader loader) {
+		if (!enabled || !request.isLocationBasedSearch()) {
+			return Optional.empty();
+		}
+		int bucket = radiusBucket(request.getRadiusInMeters());
+		if (bucket < 0) {
+			return Optional.empty();
+		}
+		Cache cache = cacheManager.getCache(CacheConfig.LOCATION_CANDIDATES);
+		if (cache == null) {
+			return Optional.empty();
+		}
+
+		int row = (int) Math.floor((request.getLatitude() + 90.0) / cellSizeDegrees);
+		int col = (int) Math.floor((request.getLongitude() + 180.0) / cellSizeDegrees);
+		String key = cacheKey(row, col, bucket, request);
+
+		PlaceLocationCandidateSet candidates = get(cache, key);
+		if (candidates != null) {
+			hits.increment();
+		} else {
+			misses.increment();
+			double centerLat = (row + 0.5) * cellSizeDegrees - 90.0;
+			double centerLng = (col + 0.5) * cellSizeDegrees - 180.0;
+			double loadRadius = (bucket + halfDiagonalMeters(centerLat, centerLng)) * GeometryUtil.SPHEROID_DISTANCE_SLACK;
+			candidates = loader.load(centerLat, centerLng, loadRadius, maxCandidates + 1);
+			if (candidates.placeIds().length > maxCandidates) {
+				// 후보 과다 셀은 표시만 저장하여 이후 요청이 바로 PostGIS 경로를 타도록 함
+				candidates = PlaceLocationCandidateSet.overflowed();
+			}
+			put(cache, key, candidates);
+		}
+		return candidates.overflow() ? Optional.empty() : Optional.of(candidates);
+	}
+
+	/**
+	 * 업체 변경 시 후보 캐시 전체 무효화
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onPlaceChanged(PlaceChangedEvent event) {
+		if (!enabled || !event.affectsSearchFilters()) {
+			return;
+		}
+		Cache cache = cacheManager.getCache(CacheConfig.LOCATION_CANDIDATES);
+		if (cache == null) {
+			return;
+		}
+		try {
+			cache.clear();
+		} catch (RuntimeException e) {
+			log.warn("Failed to clear location candidate cache: {}", event, e);
+		}
+	}
+
+	/**
+	 * 요청 반경 이상인 가장 작은 버킷 (가장 큰 버킷보다 넓으면 -1)
+	 */
+	static int radiusBucket(Integer radiusInMeters) {
+		int radius = radiusInMeters != null ? radiusInMeters : 0;
+		for (int bucket : RADIUS_BUCKETS) {
+			if (radius <= bucket) {
+				return bucket;
+			}
+		}
+		return -1;
+	}
+
+	private double halfDiagonalMeters(double centerLat, double centerLng) {
+		double half = cellSizeDegrees / 2;
+		// 적도에 가까운 모서리가 더 멀기 때문에 두 모서리 중 큰 값 사용
+		return Math.max(
+				GeometryUtil.haversineDistance(centerLat, centerLng, centerLat + half, centerLng + half),
+				GeometryUtil.haversineDistance(centerLat, centerLng, centerLat - half, centerLng + half));
+	}
+
+	private String cacheKey(int row, int col, int bucket, PlaceSearchRequest request) {
+		String registrationStatus = StringUtils.hasText(request.getRegistrationStatus())
+				? request.getRegistrationStatus() : "";
+		return cellSizeDegrees + ":" + row + ":" + col
+				+ "|r=" + bucket
+				+ "|a=" + request.getIsActive()
+				+ "|as=" + Objects.toString(request.getApprovalStatus(), "")
+				+ "|rs=" + registrationStatus;
+	}
+
+	private PlaceLocationCandidateSet get(Cache cache, String key) {
+		try {
+			return cache.get(key, PlaceLocationCandidateSet.class);
+		} catch (RuntimeException e) {
+			log.warn("Failed to read location candidate cache: key={}", key, e);
+			return null;
+		}
+	}
+
+	private void put(Cache cache, String key, PlaceLocationCandidateSet candidates) {
+		try {
+			cache.put(key, candidates);
+		} catch (RuntimeException e) {
+			log.warn("Failed to write location candidate cache: key={}", key, e);
+		}
+	}
+
+	private static Counter counter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder(METRIC_NAME)
+				.description("위치 검색 후보 캐시 조회 수")
+				.tag("result", result)
+				.register(meterRegistry);
+	}
+
+	/**
+	 * 셀 후보 적재 함수
+	 */
+	@FunctionalInterface
+	public interface Loader {
+		/**
+		 * @param centerLat    셀 중심 위도
+		 * @param centerLng    셀 중심 경도
+		 * @param radiusMeters 적재 반경 (미터)
+		 * @param limit        최대 개수 (상한 + 1)
+		 */
+		PlaceLocationCandidateSet load(double centerLat, double centerLng, double radiusMeters, int limit);
+	}
+}
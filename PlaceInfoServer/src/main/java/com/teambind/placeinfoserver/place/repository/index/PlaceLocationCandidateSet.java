@@ -0,0 +1,65 @@
+package com.teambind.placeinfoserver.place.repository.index;
+
+import com.teambind.placeinfoserver.place.common.util.geometry.GeometryUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 격자 셀 단위로 캐시되는 위치 검색 후보 집합 (업체 ID + 좌표)
+ * 셀 중심에서 (반경 버킷 + 셀 반대각선) 이내의 업체를 담으므로
+ * 같은 셀 안의 어떤 중심점이든 버킷 이하 반경 검색을 이 집합만으로 처리 가능
+ * 거리와 정렬은 요청마다 실제 중심점 기준으로 다시 계산
+ *
+ * @param placeIds   업체 ID
+ * @param latitudes  위도 (placeIds와 같은 순서)
+ * @param longitudes 경도 (placeIds와 같은 순서)
+ * @param overflow   후보가 상한을 넘어 캐시하지 않은 셀 여부 (true면 PostGIS 경로 사용)
+ */
+public record PlaceLocationCandidateSet(long[] placeIds, double[] latitudes, double[] longitudes, boolean overflow) {
+
+	public static PlaceLocationCandidateSet overflowed() {
+		return new PlaceLocationCandidateSet(new long[0], new double[0], new double[0], true);
+	}
+
+	/**
+	 * 실제 중심점 기준 반경 검색
+	 *
+	 * @param latitude     중심 위도
+	 * @param longitude    중심 경도
+	 * @param radiusMeters 반경 (미터)
+	 * @param after        이 후보 이후부터 조회 (null이면 처음부터)
+	 * @param limit        최대 개수
+	 * @return (distance, placeId) 오름차순 후보 목록
+	 */
+	public List<PlaceSpatialIndex.Candidate> search(double latitude, double longitude, double radiusMeters,
+	                                                PlaceSpatialIndex.Candidate after, int limit) {
+		if (limit <= 0) {
+			return List.of();
+		}
+
+		// 거리 기준 상위 limit개만 유지하는 최대 힙
+		PriorityQueue<PlaceSpatialIndex.Candidate> heap = new PriorityQueue<>(limit + 1, PlaceSpatialIndex.ORDER.reversed());
+		for (int i = 0; i < placeIds.length; i++) {
+			double distance = GeometryUtil.haversineDistance(latitude, longitude, latitudes[i], longitudes[i]);
+			if (distance > radiusMeters) {
+				continue;
+			}
+			PlaceSpatialIndex.Candidate candidate = new PlaceSpatialIndex.Candidate(placeIds[i], distance);
+			if (after != null && PlaceSpatialIndex.ORDER.compare(candidate, after) <= 0) {
+				continue;
+			}
+			if (heap.size() < limit) {
+				heap.offer(candidate);
+			} else if (PlaceSpatialIndex.ORDER.compare(candidate, heap.peek()) < 0) {
+				heap.poll();
+				heap.offer(candidate);
+			}
+		}
+
+		List<PlaceSpatialIndex.Candidate> result = new ArrayList<>(heap);
+		result.sort(PlaceSpatialIndex.ORDER);
+		return result;
+	}
+}
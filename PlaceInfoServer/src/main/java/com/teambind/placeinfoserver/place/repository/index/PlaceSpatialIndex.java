@@ -0,0 +1,253 @@
+package com.teambind.placeinfoserver.place.repository.index;
+
+import com.teambind.placeinfoserver.place.common.util.geometry.GeometryUtil;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * 업체 좌표 인메모리 그리드 인덱스
+ * 위경도를 고정 크기 셀로 나누어 반경 검색 시 주변 셀만 탐색
+ * 거리는 Haversine으로 계산하며 (distance, placeId) 순으로 정렬된 후보를 반환
+ * <p>
+ * 쓰기는 드물고 읽기가 대부분이므로 쓰기만 동기화하고 읽기는 락 없이 수행
+ * 서비스 지역 특성상 날짜변경선(±180°)을 가로지르는 반경은 고려하지 않음
+ */
+public class PlaceSpatialIndex {
+
+	/**
+	 * 거리 오름차순, 동일 거리는 ID 오름차순 (커서 페이징 순서와 동일)
+	 */
+	public static final Comparator<Candidate> ORDER = Comparator
+			.comparingDouble(Candidate::distance)
+			.thenComparingLong(Candidate::placeId);
+
+	private final double cellSizeDegrees;
+	private volatile Snapshot snapshot = new Snapshot();
+	// 재적재 중 반영된 단건 변경 (업체 ID -> 최신 엔트리, null이면 제거). 재적재 중이 아니면 null
+	private Map<Long, Entry> pendingChanges;
+
+	public PlaceSpatialIndex(double cellSizeDegrees) {
+		if (cellSizeDegrees <= 0 || cellSizeDegrees > 10) {
+			throw new IllegalArgumentException("셀 크기는 0 ~ 10도 사이여야 합니다. 입력값: " + cellSizeDegrees);
+		}
+		this.cellSizeDegrees = cellSizeDegrees;
+	}
+
+	/**
+	 * 재적재 시작 (전체 조회 전에 호출)
+	 * 이후 replaceAll까지 들어온 단건 변경을 기록해 두었다가 새 스냅샷에 다시 적용
+	 * (조회 시점보다 늦게 커밋된 변경이 오래된 전체 데이터로 덮어써지지 않도록)
+	 */
+	public synchronized void beginReload() {
+		this.pendingChanges = new LinkedHashMap<>();
+	}
+
+	/**
+	 * 재적재 취소 (전체 조회 실패 시 호출)
+	 */
+	public synchronized void abortReload() {
+		this.pendingChanges = null;
+	}
+
+	/**
+	 * 전체 재구성
+	 * 새 스냅샷을 만든 뒤 교체하므로 재구성 중에도 기존 인덱스로 검색 가능
+	 * beginReload 이후 기록된 단건 변경은 새 스냅샷에 다시 적용
+	 */
+	public synchronized void replaceAll(Collection<Entry> entries) {
+		Snapshot rebuilt = new Snapshot();
+		for (Entry entry : entries) {
+			rebuilt.put(entry, cellKey(entry.latitude(), entry.longitude()));
+		}
+		if (pendingChanges != null) {
+			for (Map.Entry<Long, Entry> change : pendingChanges.entrySet()) {
+				rebuilt.remove(change.getKey(), this);
+				Entry entry = change.getValue();
+				if (entry != null) {
+					rebuilt.put(entry, cellKey(entry.latitude(), entry.longitude()));
+				}
+			}
+			pendingChanges = null;
+		}
+		this.snapshot = rebuilt;
+	}
+
+	/**
+	 * 단건 추가/갱신 (좌표가 바뀌면 셀 이동)
+	 */
+	public synchronized void upsert(Entry entry) {
+		Snapshot current = this.snapshot;
+		current.remove(entry.placeId(), this);
+		current.put(entry, cellKey(entry.latitude(), entry.longitude()));
+		if (pendingChanges != null) {
+			pendingChanges.put(entry.placeId(), entry);
+		}
+	}
+
+	/**
+	 * 단건 제거
+	 */
+	public synchronized void remove(long placeId) {
+		snapshot.remove(placeId, this);
+		if (pendingChanges != null) {
+			pendingChanges.put(placeId, null);
+		}
+	}
+
+	public int size() {
+		return snapshot.entries.size();
+	}
+
+	/**
+	 * 반경 검색
+	 *
+	 * @param latitude     중심 위도
+	 * @param longitude    중심 경도
+	 * @param radiusMeters 반경 (미터)
+	 * @param filter       상태 필터
+	 * @param after        이 후보 이후부터 조회 (null이면 처음부터)
+	 * @param limit        최대 개수
+	 * @return (distance, placeId) 오름차순 후보 목록
+	 */
+	public List<Candidate> search(double latitude, double longitude, double radiusMeters,
+	                              Predicate<Entry> filter, Candidate after, int limit) {
+		if (limit <= 0) {
+			return List.of();
+		}
+
+		Snapshot current = this.snapshot;
+
+		// 거리 기준 상위 limit개만 유지하는 최대 힙
+		PriorityQueue<Candidate> heap = new PriorityQueue<>(limit + 1, ORDER.reversed());
+
+		double latDelta = Math.toDegrees(radiusMeters / GeometryUtil.EARTH_RADIUS_METERS);
+		double maxAbsLat = Math.min(90.0, Math.abs(latitude) + latDelta);
+		double cos = Math.cos(Math.toRadians(maxAbsLat));
+		double lngDelta = cos < 1e-9
+				? 180.0
+				: Math.min(180.0, Math.toDegrees(radiusMeters / (GeometryUtil.EARTH_RADIUS_METERS * cos)));
+
+		int minRow = row(Math.max(-90.0, latitude - latDelta));
+		int maxRow = row(Math.min(90.0, latitude + latDelta));
+		int minCol = col(Math.max(-180.0, longitude - lngDelta));
+		int maxCol = col(Math.min(180.0, longitude + lngDelta));
+
+		long cellCount = (long) (maxRow - minRow + 1) * (maxCol - minCol + 1);
+		if (cellCount > current.cells.size()) {
+			// 탐색할 셀이 실제 존재하는 셀보다 많으면 전체 순회가 더 저렴
+			for (Entry entry : current.entries.values()) {
+				offer(heap, entry, latitude, longitude, radiusMeters, filter, after, limit);
+			}
+		} else {
+			for (int r = minRow; r <= maxRow; r++) {
+				for (int c = minCol; c <= maxCol; c++) {
+					Set<Long> ids = current.cells.get(pack(r, c));
+					if (ids == null) {
+						continue;
+					}
+					for (Long id : ids) {
+						Entry entry = current.entries.get(id);
+						if (entry != null) {
+							offer(heap, entry, latitude, longitude, radiusMeters, filter, after, limit);
+						}
+					}
+				}
+			}
+		}
+
+		List<Candidate> result = new ArrayList<>(heap);
+		result.sort(ORDER);
+		return result;
+	}
+
+	private void offer(PriorityQueue<Candidate> heap, Entry entry, double latitude, double longitude,
+	                   double radiusMeters, Predicate<Entry> filter, Candidate after, int limit) {
+		if (filter != null && !filter.test(entry)) {
+			return;
+		}
+		double distance = GeometryUtil.haversineDistance(latitude, longitude, entry.latitude(), entry.longitude());
+		if (distance > radiusMeters) {
+			return;
+		}
+		Candidate candidate = new Candidate(entry.placeId(), distance);
+		if (after != null && ORDER.compare(candidate, after) <= 0) {
+			return;
+		}
+		if (heap.size() < limit) {
+			heap.offer(candidate);
+		} else if (ORDER.compare(candidate, heap.peek()) < 0) {
+			heap.poll();
+			heap.offer(candidate);
+		}
+	}
+
+	private long cellKey(double latitude, double longitude) {
+		return pack(row(latitude), col(longitude));
+	}
+
+	private int row(double latitude) {
+		return (int) Math.floor((latitude + 90.0) / cellSizeDegrees);
+	}
+
+	private int col(double longitude) {
+		return (int) Math.floor((longitude + 180.0) / cellSizeDegrees);
+	}
+
+	private static long pack(int row, int col) {
+		return ((long) row << 32) | (col & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * 인덱스 엔트리
+	 *
+	 * @param placeId            업체 ID
+	 * @param latitude           위도
+	 * @param longitude          경도
+	 * @param active             활성화 여부
+	 * @param approvalStatus     승인 상태
+	 * @param registrationStatus 등록 상태 (nullable)
+	 */
+	public record Entry(long placeId, double latitude, double longitude,
+	                    boolean active, String approvalStatus, String registrationStatus) {
+	}
+
+	/**
+	 * 검색 후보 (업체 ID + 중심점으로부터의 거리)
+	 */
+	public record Candidate(long placeId, double distance) {
+	}
+
+	private static final class Snapshot {
+		private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+		private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+
+		private void put(Entry entry, long cellKey) {
+			entries.put(entry.placeId(), entry);
+			cells.computeIfAbsent(cellKey, k -> ConcurrentHashMap.newKeySet()).add(entry.placeId());
+		}
+
+		private void remove(long placeId, PlaceSpatialIndex index) {
+			Entry previous = entries.remove(placeId);
+			if (previous == null) {
+				return;
+			}
+			long key = index.cellKey(previous.latitude(), previous.longitude());
+			Set<Long> ids = cells.get(key);
+			if (ids != null) {
+				ids.remove(placeId);
+				if (ids.isEmpty()) {
+					cells.remove(key);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,157 @@
+package com.teambind.placeinfoserver.place.repository.index;
+
+import com.teambind.placeinfoserver.place.dto.request.PlaceSearchRequest;
+import com.teambind.placeinfoserver.place.events.internal.PlaceChangedEvent;
+import com.teambind.placeinfoserver.place.repository.PlaceLocationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * 공간 인덱스 관리자
+ * - 기동 시 전체 적재, 이후 주기적으로 재적재 (다중 인스턴스 간 정합성 보정)
+ * - 같은 인스턴스의 쓰기는 커밋 직후 단건 반영
+ * - place.search.spatial-index.enabled=false(기본값)이면 PostGIS 경로 사용
+ */
+@Component
+@Slf4j
+public class PlaceSpatialIndexManager {
+
+	private final PlaceLocationRepository placeLocationRepository;
+	private final PlaceSpatialIndex index;
+	private final boolean enabled;
+	private volatile boolean ready = false;
+
+	public PlaceSpatialIndexManager(
+			PlaceLocationRepository placeLocationRepository,
+			@Value("${place.search.spatial-index.enabled:false}") boolean enabled,
+			@Value("${place.search.spatial-index.cell-size-degrees:0.01}") double cellSizeDegrees) {
+		this.placeLocationRepository = placeLocationRepository;
+		this.enabled = enabled;
+		this.index = new PlaceSpatialIndex(cellSizeDegrees);
+	}
+
+	/**
+	 * 인덱스 검색 가능 여부 (활성화 + 최초 적재 완료)
+	 */
+	public boolean isAvailable() {
+		return enabled && ready;
+	}
+
+	/**
+	 * 요청 조건(상태 필터, 반경)에 맞는 후보 조회
+	 *
+	 * @param request 검색 요청
+	 * @param after   이전 페이지 마지막 후보 (null이면 첫 페이지)
+	 * @param limit   최대 개수
+	 */
+	public List<PlaceSpatialIndex.Candidate> search(PlaceSearchRequest request, PlaceSpatialIndex.Candidate after, int limit) {
+		return index.search(
+				request.getLatitude(),
+				request.getLongitude(),
+				request.getRadiusInMeters(),
+				toFilter(request),
+				after,
+				limit
+		);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		if (enabled) {
+			reload();
+		}
+	}
+
+	@Scheduled(
+			fixedDelayString = "${place.search.spatial-index.refresh-interval-ms:300000}",
+			initialDelayString = "${place.search.spatial-index.refresh-interval-ms:300000}"
+	)
+	public void scheduledReload() {
+		if (enabled) {
+			reload();
+		}
+	}
+
+	/**
+	 * 전체 재적재
+	 * 조회 중 커밋 직후 반영된 단건 변경은 인덱스가 기록해 두었다가 교체 후 다시 적용
+	 */
+	public synchronized void reload() {
+		long startTime = System.currentTimeMillis();
+		index.beginReload();
+		try {
+			List<Object[]> rows = placeLocationRepository.findAllSpatialIndexRows();
+			List<PlaceSpatialIndex.Entry> entries = new ArrayList<>(rows.size());
+			for (Object[] row : rows) {
+				entries.add(toEntry(row));
+			}
+			index.replaceAll(entries);
+			ready = true;
+			log.info("Spatial index reloaded: size={}, elapsed={}ms",
+					entries.size(), System.currentTimeMillis() - startTime);
+		} catch (Exception e) {
+			// 재적재 실패 시 기존 인덱스 유지 (최초 적재 실패면 PostGIS 경로 사용)
+			index.abortReload();
+			log.error("Failed to reload spatial index", e);
+		}
+	}
+
+	/**
+	 * 커밋된 변경을 단건 반영
+	 * 커밋 이후 실행되므로 별도 트랜잭션에서 조회
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+	public void onPlaceChanged(PlaceChangedEvent event) {
+		if (!enabled || event.getPlaceId() == null || !event.affectsSearchFilters()) {
+			return;
+		}
+		try {
+			List<Object[]> rows = placeLocationRepository.findSpatialIndexRowsByPlaceId(event.getPlaceId());
+			if (rows.isEmpty()) {
+				index.remove(event.getPlaceId());
+			} else {
+				index.upsert(toEntry(rows.get(0)));
+			}
+		} catch (Exception e) {
+			// 다음 주기적 재적재에서 보정됨
+			log.warn("Failed to apply place change to spatial index: {}", event, e);
+		}
+	}
+
+	private Predicate<PlaceSpatialIndex.Entry> toFilter(PlaceSearchRequest request) {
+		boolean isActive = Boolean.TRUE.equals(request.getIsActive());
+		String approvalStatus = request.getApprovalStatus();
+		String registrationStatus = StringUtils.hasText(request.getRegistrationStatus())
+				? request.getRegistrationStatus() : null;
+
+		return entry -> entry.active() == isActive
+				&& Objects.equals(entry.approvalStatus(), approvalStatus)
+				&& (registrationStatus == null || registrationStatus.equals(entry.registrationStatus()));
+	}
+
+	private PlaceSpatialIndex.Entry toEntry(Object[] row) {
+		return new PlaceSpatialIndex.Entry(
+				((Number) row[0]).longValue(),
+				((Number) row[1]).doubleValue(),
+				((Number) row[2]).doubleValue(),
+				Boolean.TRUE.equals(row[3]),
+				row[4] != null ? ((Enum<?>) row[4]).name() : null,
+				row[5] != null ? ((Enum<?>) row[5]).name() : null
+		);
+	}
+}
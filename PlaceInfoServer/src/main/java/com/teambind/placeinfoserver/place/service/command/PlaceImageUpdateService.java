@@ -1,17 +1,26 @@
 package com.teambind.placeinfoserver.place.service.command;
 
 import com.teambind.placeinfoserver.place.common.exception.application.InvalidRequestException;
+import com.teambind.placeinfoserver.place.common.exception.domain.InvalidPlaceStateException;
 import com.teambind.placeinfoserver.place.common.exception.domain.PlaceNotFoundException;
 import com.teambind.placeinfoserver.place.domain.entity.PlaceInfo;
 import com.teambind.placeinfoserver.place.events.event.ImagesChangeEventWrapper;
 import com.teambind.placeinfoserver.place.events.event.SequentialImageChangeEvent;
+import com.teambind.placeinfoserver.place.events.internal.PlaceChangedEvent;
 import com.teambind.placeinfoserver.place.repository.PlaceInfoRepository;
 import com.teambind.placeinfoserver.place.service.mapper.PlaceMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -19,6 +28,7 @@ public class PlaceImageUpdateService {
 	
 	private final PlaceInfoRepository placeInfoRepository;
 	private final PlaceMapper placeMapper;
+	private final ApplicationEventPublisher applicationEventPublisher;
 	
 	/**
 	 * String ID를 Long으로 안전하게 변환
@@ -45,16 +55,91 @@ public class PlaceImageUpdateService {
 	 */
 	@Transactional
 	public String updateImage(ImagesChangeEventWrapper event) {
+		return updateImage(event, null);
+	}
+	
+	/**
+	 * 업체 버전을 확인한 뒤 이미지 업데이트 (재시도 이벤트용)
+	 * 이벤트는 이미지 전체 교체이므로, 최초 실패 이후 업체가 바뀌었다면(더 새로운 이벤트가 반영되었을 수 있음)
+	 * 오래된 이미지로 덮어쓰지 않도록 예외 처리
+	 *
+	 * @param event           이미지 변경 이벤트
+	 * @param expectedVersion 최초 실패 시점의 업체 버전(updated_at, null이면 확인하지 않음)
+	 * @return 업데이트된 업체 ID
+	 * @throws InvalidPlaceStateException 업체 버전이 expectedVersion과 다른 경우
+	 */
+	@Transactional
+	public String updateImage(ImagesChangeEventWrapper event, LocalDateTime expectedVersion) {
 		PlaceInfo placeInfo = placeInfoRepository.findById(parseId(event.getReferenceId()))
 				.orElseThrow(() -> new PlaceNotFoundException());
+		if (expectedVersion != null && !expectedVersion.equals(placeInfo.getUpdatedAt())) {
+			throw InvalidPlaceStateException.staleEvent();
+		}
+		
+		applyImages(placeInfo, event);
 		
+		// @Transactional이므로 자동으로 변경사항 반영 (더티 체킹)
+		return String.valueOf(placeInfo.getId());  // Long → String 변환
+	}
+	
+	/**
+	 * 업체 버전(updated_at) 조회 (재시도 토픽 발행 시 최초 실패 시점 버전 기록용)
+	 *
+	 * @param referenceId 업체 ID
+	 * @return updated_at (삭제되었거나 없으면 empty)
+	 */
+	@Transactional(readOnly = true)
+	public Optional<LocalDateTime> findVersion(String referenceId) {
+		return placeInfoRepository.findUpdatedAtById(parseId(referenceId));
+	}
+	
+	/**
+	 * 여러 업체 이미지 일괄 업데이트 (한 트랜잭션)
+	 * 대상 업체를 이미지와 함께 한 번에 조회한 뒤 업체별로 updateImage와 같이 교체
+	 * - ID 형식이 잘못되었거나 없는(삭제된) 업체의 이벤트는 건너뜀 (이미지를 반영할 업체가 없음)
+	 * - 교체 중 예외가 발생하면 전체 롤백되므로 호출자가 단건 처리로 재시도
+	 *
+	 * @param events 업체별 이미지 변경 이벤트 (업체당 1건)
+	 * @return 이미지를 교체한 업체 수
+	 */
+	@Transactional
+	public int updateImages(Collection<ImagesChangeEventWrapper> events) {
+		Map<Long, ImagesChangeEventWrapper> eventsByPlaceId = new LinkedHashMap<>();
+		for (ImagesChangeEventWrapper event : events) {
+			try {
+				eventsByPlaceId.put(parseId(event.getReferenceId()), event);
+			} catch (InvalidRequestException e) {
+				log.warn("Skipping image event with invalid referenceId: {}", event.getReferenceId());
+			}
+		}
+		if (eventsByPlaceId.isEmpty()) {
+			return 0;
+		}
+		
+		int updated = 0;
+		for (PlaceInfo placeInfo : placeInfoRepository.findAllWithImagesByIdIn(eventsByPlaceId.keySet())) {
+			applyImages(placeInfo, eventsByPlaceId.remove(placeInfo.getId()));
+			updated++;
+		}
+		if (!eventsByPlaceId.isEmpty()) {
+			log.warn("Skipping image events for missing places: {}", eventsByPlaceId.keySet());
+		}
+		return updated;
+	}
+	
+	/**
+	 * 기존 이미지를 삭제하고 이벤트의 이미지를 순서대로 추가
+	 */
+	private void applyImages(PlaceInfo placeInfo, ImagesChangeEventWrapper event) {
 		// 기존 이미지 삭제
 		placeInfo.removeAllImage();
+		applicationEventPublisher.publishEvent(
+				PlaceChangedEvent.of(placeInfo.getId(), PlaceChangedEvent.ChangeType.IMAGES_CHANGED));
 		
 		// 순서에 맞춰서 이미지 세팅
 		if (event.getImages() == null || event.getImages().isEmpty()) {
 			log.info("No images to update for placeId: {}", event.getReferenceId());
-			return String.valueOf(placeInfo.getId());  // Long → String 변환
+			return;
 		}
 		
 		for (SequentialImageChangeEvent imageEvent : event.getImages()) {
@@ -83,9 +168,6 @@ public class PlaceImageUpdateService {
 		
 		log.info("Successfully updated {} images for placeId: {}",
 				placeInfo.getImages().size(), event.getReferenceId());
-		
-		// @Transactional이므로 자동으로 변경사항 반영 (더티 체킹)
-		return String.valueOf(placeInfo.getId());  // Long → String 변환
 	}
 	
 	/**
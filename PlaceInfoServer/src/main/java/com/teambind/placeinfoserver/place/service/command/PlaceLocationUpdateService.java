@@ -8,10 +8,12 @@ import com.teambind.placeinfoserver.place.domain.entity.PlaceLocation;
 import com.teambind.placeinfoserver.place.domain.vo.Address;
 import com.teambind.placeinfoserver.place.dto.request.AddressRequest;
 import com.teambind.placeinfoserver.place.dto.request.PlaceLocationRequest;
+import com.teambind.placeinfoserver.place.events.internal.PlaceChangedEvent;
 import com.teambind.placeinfoserver.place.repository.PlaceInfoRepository;
 import com.teambind.placeinfoserver.place.service.mapper.PlaceMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +24,7 @@ public class PlaceLocationUpdateService {
 
 	private final PlaceInfoRepository placeInfoRepository;
 	private final PlaceMapper placeMapper;
+	private final ApplicationEventPublisher applicationEventPublisher;
 
 	/**
 	 * 업체 위치 정보 업데이트
@@ -44,6 +47,9 @@ public class PlaceLocationUpdateService {
 			updateExistingLocation(placeInfo.getLocation(), req);
 		}
 
+		applicationEventPublisher.publishEvent(
+				PlaceChangedEvent.of(placeInfo.getId(), PlaceChangedEvent.ChangeType.LOCATION_CHANGED));
+
 		return placeId;
 	}
 
@@ -1,15 +1,30 @@
 package com.teambind.placeinfoserver.place.service.command;
 
-import com.teambind.placeinfoserver.place.domain.entity.Room;
+import com.teambind.placeinfoserver.place.events.event.RoomCreatedEvent;
+import com.teambind.placeinfoserver.place.events.internal.PlaceChangedEvent;
+import com.teambind.placeinfoserver.place.repository.PlaceRoomSummaryRepository;
 import com.teambind.placeinfoserver.place.repository.RoomRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 /**
  * Room 생성 서비스
  * 외부 이벤트로부터 Room 정보를 받아 저장
+ * 업체별 Room 요약(place_room_summaries)도 같은 트랜잭션에서 갱신
+ * - 조회 후 저장 대신 INSERT ... ON CONFLICT (room_id) DO NOTHING 한 문장으로 처리 (멱등, 컨슈머 간 경합 없음)
+ * - 여러 Room은 다중 행 INSERT 한 번과 요약 UPSERT 한 번으로 처리 (건수와 무관하게 2회 왕복)
  */
 @Slf4j
 @Service
@@ -17,6 +32,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class RoomCreateService {
 	
 	private final RoomRepository roomRepository;
+	private final PlaceRoomSummaryRepository placeRoomSummaryRepository;
+	private final ApplicationEventPublisher applicationEventPublisher;
 	
 	/**
 	 * Room 생성
@@ -26,19 +43,62 @@ public class RoomCreateService {
 	 */
 	@Transactional
 	public void createRoom(Long roomId, Long placeId) {
-		// 이미 존재하는 Room인지 확인
-		if (roomRepository.findByRoomId(roomId).isPresent()) {
+		if (createRooms(List.of(new RoomCreatedEvent(roomId, placeId))) == 0) {
 			log.warn("Room already exists: roomId={}, placeId={}", roomId, placeId);
 			return;
 		}
+		log.info("Room created successfully: roomId={}, placeId={}", roomId, placeId);
+	}
+	
+	/**
+	 * Room 일괄 생성 (이미 있는 Room은 건너뜀)
+	 * 같은 roomId가 여러 번 들어오면 처음 이벤트만 사용
+	 *
+	 * @param events Room 생성 이벤트 (roomId/placeId가 없는 이벤트는 제외)
+	 * @return 새로 생성된 Room 수
+	 */
+	@Transactional
+	public int createRooms(Collection<RoomCreatedEvent> events) {
+		Map<Long, Long> placeIdByRoomId = new LinkedHashMap<>();
+		for (RoomCreatedEvent event : events) {
+			if (event.getRoomId() == null || event.getPlaceId() == null) {
+				log.warn("Skipping room-created event without roomId/placeId: roomId={}, placeId={}",
+						event.getRoomId(), event.getPlaceId());
+				continue;
+			}
+			placeIdByRoomId.putIfAbsent(event.getRoomId(), event.getPlaceId());
+		}
+		if (placeIdByRoomId.isEmpty()) {
+			return 0;
+		}
 		
-		Room room = Room.builder()
-				.roomId(roomId)
-				.placeId(placeId)
-				.isActive(true)
-				.build();
+		Set<Long> created = new HashSet<>(roomRepository.insertAllIgnoringExisting(
+				toArrayLiteral(placeIdByRoomId.keySet()),
+				toArrayLiteral(placeIdByRoomId.values())));
+		if (created.isEmpty()) {
+			return 0;
+		}
 		
-		roomRepository.save(room);
-		log.info("Room created successfully: roomId={}, placeId={}", roomId, placeId);
+		// 요약에는 새로 생성된 Room만 입력 순서대로 추가
+		List<Long> createdRoomIds = placeIdByRoomId.keySet().stream()
+				.filter(created::contains)
+				.toList();
+		List<Long> createdPlaceIds = createdRoomIds.stream()
+				.map(placeIdByRoomId::get)
+				.toList();
+		placeRoomSummaryRepository.addRooms(toArrayLiteral(createdPlaceIds), toArrayLiteral(createdRoomIds));
+		
+		for (Long placeId : new LinkedHashSet<>(createdPlaceIds)) {
+			applicationEventPublisher.publishEvent(
+					PlaceChangedEvent.of(placeId, PlaceChangedEvent.ChangeType.ROOMS_CHANGED));
+		}
+		log.debug("Rooms created: requested={}, created={}", placeIdByRoomId.size(), createdRoomIds.size());
+		return createdRoomIds.size();
+	}
+	
+	private static String toArrayLiteral(Collection<Long> ids) {
+		return ids.stream()
+				.map(String::valueOf)
+				.collect(Collectors.joining(",", "{", "}"));
 	}
 }
@@ -0,0 +1,53 @@
+package com.teambind.placeinfoserver.place.service.command;
+
+import com.teambind.placeinfoserver.place.domain.entity.Room;
+import com.teambind.placeinfoserver.place.events.internal.PlaceChangedEvent;
+import com.teambind.placeinfoserver.place.repository.PlaceRoomSummaryRepository;
+import com.teambind.placeinfoserver.place.repository.RoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Room 비활성화 서비스
+ * 외부 이벤트로부터 Room 삭제를 받아 비활성화하고 업체별 Room 요약에서 제거
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RoomDeactivateService {
+	
+	private final RoomRepository roomRepository;
+	private final PlaceRoomSummaryRepository placeRoomSummaryRepository;
+	private final ApplicationEventPublisher applicationEventPublisher;
+	
+	/**
+	 * Room 비활성화
+	 *
+	 * @param roomId Room ID (외부 서비스에서 생성된 ID)
+	 */
+	@Transactional
+	public void deactivateRoom(Long roomId) {
+		Optional<Room> found = roomRepository.findByRoomId(roomId);
+		if (found.isEmpty()) {
+			log.warn("Room not found: roomId={}", roomId);
+			return;
+		}
+		
+		Room room = found.get();
+		if (!Boolean.TRUE.equals(room.getIsActive())) {
+			log.warn("Room already inactive: roomId={}, placeId={}", roomId, room.getPlaceId());
+			return;
+		}
+		
+		room.deactivate();
+		placeRoomSummaryRepository.removeRoom(room.getPlaceId(), roomId);
+		applicationEventPublisher.publishEvent(
+				PlaceChangedEvent.of(room.getPlaceId(), PlaceChangedEvent.ChangeType.ROOMS_CHANGED));
+		log.info("Room deactivated successfully: roomId={}, placeId={}", roomId, room.getPlaceId());
+	}
+}
@@ -11,6 +11,7 @@ import com.teambind.placeinfoserver.place.dto.response.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -40,9 +41,20 @@ public class PlaceMapper {
 		if (entity == null) {
 			return null;
 		}
+		return toResponse(entity, entity.getImages(), entity.getKeywords());
+	}
+	
+	/**
+	 * PlaceInfo + 별도 조회한 이미지/키워드 -> PlaceInfoResponse (배치 조회용)
+	 * 엔티티의 images/keywords 컬렉션을 초기화하지 않음
+	 */
+	public PlaceInfoResponse toResponse(PlaceInfo entity, Collection<PlaceImage> placeImages, Collection<Keyword> keywords) {
+		if (entity == null) {
+			return null;
+		}
 		
 		// 구조화된 이미지 정보 생성 (null 필터링 포함)
-		List<ImageInfoResponse> images = entity.getImages().stream()
+		List<ImageInfoResponse> images = placeImages.stream()
 				.map(ImageInfoResponse::fromEntity)
 				.filter(Objects::nonNull)  // null 값 필터링
 				.collect(Collectors.toList());
@@ -64,7 +76,7 @@ public class PlaceMapper {
 				.parking(toParkingResponse(entity.getParking()))
 				.images(images)  // 구조화된 이미지 정보
 				.imageUrls(imageUrls)  // 하위 호환성
-				.keywords(entity.getKeywords().stream()
+				.keywords(keywords.stream()
 						.map(this::toKeywordResponse)
 						.collect(Collectors.toList()))
 				.isActive(entity.getIsActive())
@@ -3,9 +3,14 @@ package com.teambind.placeinfoserver.place.service.usecase.command;
 import com.teambind.placeinfoserver.place.common.exception.application.ForbiddenException;
 import com.teambind.placeinfoserver.place.common.exception.domain.PlaceNotFoundException;
 import com.teambind.placeinfoserver.place.domain.entity.PlaceInfo;
+import com.teambind.placeinfoserver.place.domain.enums.PlaceOperationType;
+import com.teambind.placeinfoserver.place.events.event.StatusChangeEvent;
+import com.teambind.placeinfoserver.place.events.internal.PlaceChangedEvent;
+import com.teambind.placeinfoserver.place.events.publisher.EventPublisher;
 import com.teambind.placeinfoserver.place.repository.PlaceInfoRepository;
 import com.teambind.placeinfoserver.place.service.usecase.common.IdParser;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,9 +23,12 @@ import org.springframework.transaction.annotation.Transactional;
 public class ActivatePlaceUseCase {
 
 	private final PlaceInfoRepository placeInfoRepository;
+	private final ApplicationEventPublisher applicationEventPublisher;
+	private final EventPublisher eventPublisher;
 
 	/**
 	 * 업체 활성화
+	 * 상태 변경 이벤트(place-status-change-event)는 같은 트랜잭션에서 outbox에 저장
 	 *
 	 * @param placeId 업체 ID (String - API 통신용)
 	 * @param userId  요청 사용자 ID
@@ -33,6 +41,9 @@ public class ActivatePlaceUseCase {
 
 		validateOwnership(placeInfo, userId);
 		placeInfo.activate();
+		applicationEventPublisher.publishEvent(
+				PlaceChangedEvent.of(placeInfo.getId(), PlaceChangedEvent.ChangeType.STATUS_CHANGED));
+		eventPublisher.publish(new StatusChangeEvent(placeInfo.getId(), PlaceOperationType.ACTIVATE));
 
 		return String.valueOf(placeInfo.getId());
 	}
@@ -3,9 +3,11 @@ package com.teambind.placeinfoserver.place.service.usecase.command;
 import com.teambind.placeinfoserver.place.common.exception.application.ForbiddenException;
 import com.teambind.placeinfoserver.place.common.exception.domain.PlaceNotFoundException;
 import com.teambind.placeinfoserver.place.domain.entity.PlaceInfo;
+import com.teambind.placeinfoserver.place.events.internal.PlaceChangedEvent;
 import com.teambind.placeinfoserver.place.repository.PlaceInfoRepository;
 import com.teambind.placeinfoserver.place.service.usecase.common.IdParser;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeletePlaceUseCase {
 
 	private final PlaceInfoRepository placeInfoRepository;
+	private final ApplicationEventPublisher applicationEventPublisher;
 
 	/**
 	 * 업체 삭제 (소프트 삭제) - 소유자 전용
@@ -33,6 +36,8 @@ public class DeletePlaceUseCase {
 		validateOwnership(placeInfo, userId);
 
 		placeInfo.softDelete(userId);
+		applicationEventPublisher.publishEvent(
+				PlaceChangedEvent.of(placeInfo.getId(), PlaceChangedEvent.ChangeType.DELETED));
 	}
 
 	/**
@@ -48,6 +53,8 @@ public class DeletePlaceUseCase {
 				.orElseThrow(() -> new PlaceNotFoundException());
 
 		placeInfo.softDelete(deletedBy);
+		applicationEventPublisher.publishEvent(
+				PlaceChangedEvent.of(placeInfo.getId(), PlaceChangedEvent.ChangeType.DELETED));
 	}
 
 	private void validateOwnership(PlaceInfo placeInfo, String userId) {
@@ -0,0 +1,26 @@
+package com.teambind.placeinfoserver.place.service.usecase.command;
+
+import com.teambind.placeinfoserver.place.repository.impl.PlaceSearchViewProjector;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 검색 읽기 모델 재구성 UseCase
+ * SRP: place_search_view를 원본 테이블에서 전체 재적재하는 것만을 담당
+ * 초기 적재(V4 적용 직후)나 동기 갱신이 꺼져 있던 기간의 변경 복구에 사용
+ */
+@Service
+@RequiredArgsConstructor
+public class RebuildPlaceSearchViewUseCase {
+
+	private final PlaceSearchViewProjector placeSearchViewProjector;
+
+	/**
+	 * 읽기 모델 전체 재구성
+	 *
+	 * @return 적재된 업체 수
+	 */
+	public int execute() {
+		return placeSearchViewProjector.rebuild();
+	}
+}
@@ -4,9 +4,11 @@ import com.teambind.placeinfoserver.place.common.util.generator.PrimaryKeyGenera
 import com.teambind.placeinfoserver.place.domain.entity.PlaceInfo;
 import com.teambind.placeinfoserver.place.dto.request.PlaceRegisterRequest;
 import com.teambind.placeinfoserver.place.dto.response.PlaceInfoResponse;
+import com.teambind.placeinfoserver.place.events.internal.PlaceChangedEvent;
 import com.teambind.placeinfoserver.place.repository.PlaceInfoRepository;
 import com.teambind.placeinfoserver.place.service.mapper.PlaceMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +23,7 @@ public class RegisterPlaceUseCase {
 	private final PlaceInfoRepository placeInfoRepository;
 	private final PrimaryKeyGenerator pkeyGenerator;
 	private final PlaceMapper placeMapper;
+	private final ApplicationEventPublisher applicationEventPublisher;
 	
 	/**
 	 * 업체 등록
@@ -38,6 +41,8 @@ public class RegisterPlaceUseCase {
 		
 		// 저장
 		PlaceInfo savedPlace = placeInfoRepository.save(placeInfo);
+		applicationEventPublisher.publishEvent(
+				PlaceChangedEvent.of(savedPlace.getId(), PlaceChangedEvent.ChangeType.CREATED));
 		
 		// Entity -> Response DTO 변환
 		return placeMapper.toResponse(savedPlace);
@@ -2,9 +2,11 @@ package com.teambind.placeinfoserver.place.service.usecase.command;
 
 import com.teambind.placeinfoserver.place.common.exception.domain.PlaceNotFoundException;
 import com.teambind.placeinfoserver.place.domain.entity.PlaceInfo;
+import com.teambind.placeinfoserver.place.events.internal.PlaceChangedEvent;
 import com.teambind.placeinfoserver.place.repository.PlaceInfoRepository;
 import com.teambind.placeinfoserver.place.service.usecase.common.IdParser;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class RejectPlaceUseCase {
 	
 	private final PlaceInfoRepository placeInfoRepository;
+	private final ApplicationEventPublisher applicationEventPublisher;
 	
 	/**
 	 * 업체 거부
@@ -30,6 +33,8 @@ public class RejectPlaceUseCase {
 				.orElseThrow(() -> new PlaceNotFoundException());
 		
 		placeInfo.reject();
+		applicationEventPublisher.publishEvent(
+				PlaceChangedEvent.of(placeInfo.getId(), PlaceChangedEvent.ChangeType.STATUS_CHANGED));
 		return String.valueOf(placeInfo.getId());
 	}
 }
@@ -6,16 +6,21 @@ import com.teambind.placeinfoserver.place.domain.entity.Keyword;
 import com.teambind.placeinfoserver.place.domain.entity.PlaceInfo;
 import com.teambind.placeinfoserver.place.dto.request.PlaceUpdateRequest;
 import com.teambind.placeinfoserver.place.dto.response.PlaceInfoResponse;
+import com.teambind.placeinfoserver.place.events.internal.PlaceChangedEvent;
 import com.teambind.placeinfoserver.place.repository.KeywordRepository;
 import com.teambind.placeinfoserver.place.repository.PlaceInfoRepository;
 import com.teambind.placeinfoserver.place.service.mapper.PlaceMapper;
 import com.teambind.placeinfoserver.place.service.usecase.common.IdParser;
+import com.teambind.placeinfoserver.place.service.usecase.query.KeywordCatalog;
+import com.teambind.placeinfoserver.place.service.usecase.query.KeywordCatalogManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -30,7 +35,9 @@ public class UpdatePlaceUseCase {
 
 	private final PlaceInfoRepository placeInfoRepository;
 	private final KeywordRepository keywordRepository;
+	private final KeywordCatalogManager keywordCatalogManager;
 	private final PlaceMapper placeMapper;
+	private final ApplicationEventPublisher applicationEventPublisher;
 
 	/**
 	 * 업체 정보 수정 (위치 정보 제외)
@@ -49,8 +56,10 @@ public class UpdatePlaceUseCase {
 
 		placeMapper.updateEntity(placeInfo, request);
 		updateKeywords(placeInfo, request.getKeywordIds());
+		applicationEventPublisher.publishEvent(
+				PlaceChangedEvent.of(placeInfo.getId(), PlaceChangedEvent.ChangeType.UPDATED));
 
-		return placeMapper.toResponse(placeInfo);
+		return toResponse(placeInfo);
 	}
 
 	private void validateOwnership(PlaceInfo placeInfo, String userId) {
@@ -74,13 +83,46 @@ public class UpdatePlaceUseCase {
 			return;
 		}
 
+		Set<Keyword> keywordSet = new HashSet<>(findKeywords(keywordIds));
+		placeInfo.setKeywords(keywordSet);
+	}
+
+	/**
+	 * 키워드 ID 검증 후 연결할 엔티티 조회
+	 * 카탈로그 스냅샷에 모두 있으면 DB 조회 없이 참조(프록시)만 연결
+	 * 스냅샷에 없는 ID(적재 이후 추가/비활성 키워드)나 중복이 있으면 기존과 같이 DB로 확인
+	 */
+	private List<Keyword> findKeywords(List<Long> keywordIds) {
+		Optional<KeywordCatalog> catalog = keywordCatalogManager.snapshot();
+		if (catalog.isPresent() && catalog.get().containsAll(keywordIds)
+				&& new HashSet<>(keywordIds).size() == keywordIds.size()) {
+			return keywordIds.stream()
+					.map(keywordRepository::getReferenceById)
+					.toList();
+		}
+
 		List<Keyword> keywords = keywordRepository.findAllById(keywordIds);
 
 		if (keywords.size() != keywordIds.size()) {
 			throw new IllegalArgumentException("유효하지 않은 키워드 ID가 포함되어 있습니다.");
 		}
+		return keywords;
+	}
 
-		Set<Keyword> keywordSet = new HashSet<>(keywords);
-		placeInfo.setKeywords(keywordSet);
+	/**
+	 * 키워드 응답은 카탈로그 스냅샷 값 사용 (연결한 키워드 프록시를 초기화하지 않음)
+	 */
+	private PlaceInfoResponse toResponse(PlaceInfo placeInfo) {
+		Optional<KeywordCatalog> catalog = keywordCatalogManager.snapshot();
+		List<Long> keywordIds = placeInfo.getKeywords().stream()
+				.map(Keyword::getId)
+				.toList();
+		if (catalog.isEmpty() || !catalog.get().containsAll(keywordIds)) {
+			return placeMapper.toResponse(placeInfo);
+		}
+
+		PlaceInfoResponse response = placeMapper.toResponse(placeInfo, placeInfo.getImages(), List.of());
+		response.setKeywords(catalog.get().findAll(keywordIds));
+		return response;
 	}
 }
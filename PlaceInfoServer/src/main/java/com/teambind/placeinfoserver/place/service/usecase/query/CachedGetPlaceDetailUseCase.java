@@ -0,0 +1,303 @@
+package com.teambind.placeinfoserver.place.service.usecase.query;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.teambind.placeinfoserver.place.common.config.CacheConfig;
+import com.teambind.placeinfoserver.place.common.util.concurrent.SingleFlight;
+import com.teambind.placeinfoserver.place.dto.response.PlaceInfoResponse;
+import com.teambind.placeinfoserver.place.events.internal.PlaceChangedEvent;
+import com.teambind.placeinfoserver.place.service.usecase.common.IdParser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 업체 상세 2단 캐시 UseCase
+ * SRP: GetPlaceDetailUseCase 앞단의 상세 응답 캐시와 동시 조회 병합을 담당
+ * - L1: 인스턴스 로컬 Caffeine (크기 기반 제거 + 짧은 TTL)
+ * - L2: Redis (placeDetail 캐시, 인스턴스 간 공유), 키는 업체 ID + 업체별 버전 토큰(placeDetailVersion)
+ * - 적중 시 트랜잭션/DB 커넥션 없이 응답 (캐시된 인스턴스를 공유하지 않도록 복사본 반환)
+ * - 업체/이미지/Room 변경 커밋 시 L1 제거, L2 버전 토큰 교체, Redis 채널로 다른 인스턴스의 L1 제거 요청
+ * - 조회 전에 읽은 버전 토큰으로 L2에 저장하므로, 조회 중 무효화된 결과는 이전 토큰 키에 남아 읽히지 않고 TTL로 만료
+ * - L1은 업체별(스트라이프) 무효화 횟수로 조회 중 무효화 여부를 확인하고, 저장 직후 다시 확인하여 경합 시 제거
+ * - 계층별 적중/미스는 place.detail.cache.requests{tier, result} 카운터로 기록
+ * - place.detail.cache.enabled=false(기본값)이면 캐시 없이 조회
+ * - place.detail.single-flight.enabled=true이면 캐시 미스 시 같은 업체의 동시 조회를 한 번으로 병합 (캐시 사용 여부와 무관)
+ */
+@Slf4j
+@Service
+public class CachedGetPlaceDetailUseCase implements MessageListener {
+	
+	private static final String METRIC_NAME = "place.detail.cache.requests";
+	private static final int VERSION_STRIPES = 1024;
+	
+	private final GetPlaceDetailUseCase getPlaceDetailUseCase;
+	private final CacheManager cacheManager;
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final boolean enabled;
+	private final com.github.benmanes.caffeine.cache.Cache<Long, PlaceInfoResponse> localCache;
+	private final SingleFlight<Long, PlaceInfoResponse> singleFlight;
+	private final AtomicLongArray invalidations = new AtomicLongArray(VERSION_STRIPES);
+	private final Counter localHits;
+	private final Counter localMisses;
+	private final Counter remoteHits;
+	private final Counter remoteMisses;
+	
+	public CachedGetPlaceDetailUseCase(
+			GetPlaceDetailUseCase getPlaceDetailUseCase,
+			CacheManager cacheManager,
+			StringRedisTemplate redisTemplate,
+			ObjectMapper objectMapper,
+			MeterRegistry meterRegistry,
+			@Value("${place.detail.cache.enabled:false}") boolean enabled,
+			@Value("${place.detail.cache.l1.max-size:10000}") long localMaxSize,
+			@Value("${place.detail.cache.l1.ttl:60s}") Duration localTtl,
+			@Value("${place.detail.single-flight.enabled:false}") boolean singleFlightEnabled,
+			@Value("${place.detail.single-flight.timeout:2s}") Duration singleFlightTimeout) {
+		this.getPlaceDetailUseCase = getPlaceDetailUseCase;
+		this.cacheManager = cacheManager;
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.enabled = enabled;
+		this.localCache = Caffeine.newBuilder()
+				.maximumSize(localMaxSize)
+				.expireAfterWrite(localTtl)
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, localCache, CacheConfig.PLACE_DETAIL + "L1");
+		this.localHits = counter(meterRegistry, "l1", "hit");
+		this.localMisses = counter(meterRegistry, "l1", "miss");
+		this.remoteHits = counter(meterRegistry, "l2", "hit");
+		this.remoteMisses = counter(meterRegistry, "l2", "miss");
+		this.singleFlight = singleFlightEnabled
+				? new SingleFlight<>("place.detail.single-flight", singleFlightTimeout, meterRegistry)
+				: null;
+	}
+	
+	/**
+	 * 캐시를 거친 업체 상세 조회
+	 * 없는 업체(PlaceNotFoundException)는 캐시하지 않음
+	 *
+	 * @param placeId 업체 ID
+	 * @return 업체 상세 정보
+	 */
+	public PlaceInfoResponse execute(String placeId) {
+		if (!enabled) {
+			return load(placeId);
+		}
+		
+		Long parsedPlaceId = IdParser.parsePlaceId(placeId);
+		PlaceInfoResponse local = localCache.getIfPresent(parsedPlaceId);
+		if (local != null) {
+			localHits.increment();
+			return copyOf(local);
+		}
+		localMisses.increment();
+		
+		long version = localVersion(parsedPlaceId);
+		Cache remoteCache = cacheManager.getCache(CacheConfig.PLACE_DETAIL);
+		String remoteKey = remoteKey(parsedPlaceId);
+		PlaceInfoResponse remote = get(remoteCache, remoteKey);
+		if (remote != null) {
+			remoteHits.increment();
+			putLocal(parsedPlaceId, remote, version);
+			return copyOf(remote);
+		}
+		remoteMisses.increment();
+		
+		PlaceInfoResponse response = load(placeId);
+		put(remoteCache, remoteKey, response);
+		putLocal(parsedPlaceId, response, version);
+		return copyOf(response);
+	}
+	
+	/**
+	 * L1에 적재된 상세 응답의 버전 (조건부 요청 검증용, DB/Redis 조회 없음)
+	 *
+	 * @param placeId 업체 ID
+	 * @return updatedAt (캐시 비활성 또는 L1 미적재 시 null)
+	 */
+	public LocalDateTime findCachedVersion(Long placeId) {
+		if (!enabled) {
+			return null;
+		}
+		PlaceInfoResponse local = localCache.getIfPresent(placeId);
+		return local != null ? local.getUpdatedAt() : null;
+	}
+	
+	/**
+	 * 업체 변경 시 상세 캐시 제거 (L1/L2) 및 다른 인스턴스에 L1 제거 전파
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onPlaceChanged(PlaceChangedEvent event) {
+		if (event.getPlaceId() == null) {
+			return;
+		}
+		forgetInFlight(event.getPlaceId());
+		if (!enabled) {
+			return;
+		}
+		evictLocal(event.getPlaceId());
+		
+		// 버전 토큰을 바꾸면 이전 토큰 키의 L2 값(조회 중이던 요청이 나중에 저장하는 값 포함)은 더 이상 읽히지 않음
+		Cache versions = cacheManager.getCache(CacheConfig.PLACE_DETAIL_VERSION);
+		if (versions != null) {
+			try {
+				versions.put(event.getPlaceId(), newVersion());
+			} catch (RuntimeException e) {
+				log.warn("상세 캐시 무효화 실패: event={}", event, e);
+			}
+		}
+		
+		try {
+			redisTemplate.convertAndSend(CacheConfig.PLACE_DETAIL_EVICTION_CHANNEL, String.valueOf(event.getPlaceId()));
+		} catch (RuntimeException e) {
+			// 다른 인스턴스의 L1은 TTL 이후 갱신됨
+			log.warn("상세 캐시 무효화 전파 실패: event={}", event, e);
+		}
+	}
+	
+	/**
+	 * 다른 인스턴스의 변경에 따른 L1 제거 (Redis 채널 구독)
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		try {
+			evictLocal(Long.parseLong(body));
+		} catch (NumberFormatException e) {
+			log.warn("잘못된 상세 캐시 무효화 메시지: {}", body);
+		}
+	}
+	
+	/**
+	 * DB 조회 (같은 업체의 동시 조회는 진행 중인 조회 결과를 공유)
+	 */
+	private PlaceInfoResponse load(String placeId) {
+		if (singleFlight == null) {
+			return getPlaceDetailUseCase.execute(placeId);
+		}
+		return singleFlight.execute(IdParser.parsePlaceId(placeId), () -> getPlaceDetailUseCase.execute(placeId));
+	}
+	
+	private void evictLocal(Long placeId) {
+		invalidations.incrementAndGet(stripe(placeId));
+		localCache.invalidate(placeId);
+		forgetInFlight(placeId);
+	}
+	
+	/**
+	 * 조회 전 버전이 그대로일 때만 L1에 저장
+	 * 저장과 무효화가 겹치면 저장 직후 확인에서 버전 변경을 보고 제거 (무효화는 버전 증가 후 제거하므로 둘 중 하나는 반드시 제거)
+	 */
+	private void putLocal(Long placeId, PlaceInfoResponse response, long version) {
+		if (localVersion(placeId) != version) {
+			return;
+		}
+		localCache.put(placeId, response);
+		if (localVersion(placeId) != version) {
+			localCache.invalidate(placeId);
+		}
+	}
+	
+	private long localVersion(Long placeId) {
+		return invalidations.get(stripe(placeId));
+	}
+	
+	private static int stripe(Long placeId) {
+		long hash = placeId * 0x9E3779B97F4A7C15L;
+		return (int) (hash >>> 32) & (VERSION_STRIPES - 1);
+	}
+	
+	/**
+	 * L2 키 (업체 ID + 현재 버전 토큰, 토큰이 없으면 생성)
+	 * 토큰 조회 실패 시 null이며 L2를 거치지 않음
+	 */
+	private String remoteKey(Long placeId) {
+		Cache versions = cacheManager.getCache(CacheConfig.PLACE_DETAIL_VERSION);
+		if (versions == null) {
+			return null;
+		}
+		try {
+			String current = versions.get(placeId, String.class);
+			if (current == null) {
+				String created = newVersion();
+				Cache.ValueWrapper existing = versions.putIfAbsent(placeId, created);
+				current = existing != null && existing.get() != null ? String.valueOf(existing.get()) : created;
+			}
+			return placeId + ":" + current;
+		} catch (RuntimeException e) {
+			// Redis 장애 시 DB 조회로 진행
+			log.warn("상세 캐시 버전 조회 실패: placeId={}", placeId, e);
+			return null;
+		}
+	}
+	
+	private static String newVersion() {
+		return UUID.randomUUID().toString();
+	}
+	
+	/**
+	 * 호출자에게 반환할 복사본 (캐시된 인스턴스는 요청 간 공유되므로 그대로 반환하지 않음)
+	 * convertValue는 같은 타입이어도 직렬화를 거쳐 중첩 객체/리스트까지 새로 만듦
+	 */
+	private PlaceInfoResponse copyOf(PlaceInfoResponse response) {
+		return objectMapper.convertValue(response, PlaceInfoResponse.class);
+	}
+	
+	// 변경 이후 호출자가 변경 전에 시작된 조회 결과를 공유하지 않도록 함
+	private void forgetInFlight(Long placeId) {
+		if (singleFlight != null) {
+			singleFlight.forget(placeId);
+		}
+	}
+	
+	private PlaceInfoResponse get(Cache cache, String key) {
+		if (cache == null || key == null) {
+			return null;
+		}
+		try {
+			return cache.get(key, PlaceInfoResponse.class);
+		} catch (RuntimeException e) {
+			// Redis 장애 시 DB 조회로 진행
+			log.warn("상세 캐시 조회 실패: key={}", key, e);
+			return null;
+		}
+	}
+	
+	private void put(Cache cache, String key, PlaceInfoResponse response) {
+		if (cache == null || key == null) {
+			return;
+		}
+		try {
+			cache.put(key, response);
+		} catch (RuntimeException e) {
+			log.warn("상세 캐시 저장 실패: key={}", key, e);
+		}
+	}
+	
+	private static Counter counter(MeterRegistry meterRegistry, String tier, String result) {
+		return Counter.builder(METRIC_NAME)
+				.description("업체 상세 캐시 조회 수")
+				.tag("tier", tier)
+				.tag("result", result)
+				.register(meterRegistry);
+	}
+}
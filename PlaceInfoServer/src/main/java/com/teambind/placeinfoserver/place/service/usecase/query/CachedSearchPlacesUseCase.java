@@ -0,0 +1,181 @@
+package com.teambind.placeinfoserver.place.service.usecase.query;
+
+import com.teambind.placeinfoserver.place.common.config.CacheConfig;
+import com.teambind.placeinfoserver.place.dto.request.PlaceSearchRequest;
+import com.teambind.placeinfoserver.place.dto.response.PlaceSearchResponse;
+import com.teambind.placeinfoserver.place.events.internal.PlaceChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 검색 결과 캐시 UseCase
+ * SRP: SearchPlacesUseCase 앞단의 결과 캐시만을 담당
+ * - 세대 토큰 + 정규화된 요청(필터 + 정렬 + 크기 + 커서)을 키로 엔드포인트 계열별 캐시에 저장
+ * - 캐시 적중 시 트랜잭션/DB 커넥션 없이 응답
+ * - 검색 조건에 영향을 주는 업체 변경 커밋 시 세대 토큰 하나만 교체하여 전체 무효화 (키 SCAN 없음, 이전 세대 항목은 TTL로 만료)
+ * - 이미지/Room 변경은 무효화하지 않고 짧은 TTL로 보정 (Kafka 배치 소비 시 업체마다 발생하므로)
+ * - 적중/미스는 place.search.cache.requests{family, result} 카운터로 기록
+ */
+@Slf4j
+@Service
+public class CachedSearchPlacesUseCase {
+	
+	private static final String METRIC_NAME = "place.search.cache.requests";
+	private static final String GENERATION_KEY = "search";
+	
+	private final SearchPlacesUseCase searchPlacesUseCase;
+	private final CacheManager cacheManager;
+	private final Map<Family, Counter> hits = new EnumMap<>(Family.class);
+	private final Map<Family, Counter> misses = new EnumMap<>(Family.class);
+	
+	public CachedSearchPlacesUseCase(
+			SearchPlacesUseCase searchPlacesUseCase,
+			CacheManager cacheManager,
+			MeterRegistry meterRegistry) {
+		this.searchPlacesUseCase = searchPlacesUseCase;
+		this.cacheManager = cacheManager;
+		for (Family family : Family.values()) {
+			hits.put(family, counter(meterRegistry, family, "hit"));
+			misses.put(family, counter(meterRegistry, family, "miss"));
+		}
+	}
+	
+	/**
+	 * 캐시를 거친 검색
+	 * 좌표 기반 검색은 키가 거의 반복되지 않으므로 캐시하지 않음
+	 *
+	 * @param request 검색 요청
+	 * @param family  엔드포인트 계열 (TTL 구분)
+	 * @return 검색 결과
+	 */
+	public PlaceSearchResponse execute(PlaceSearchRequest request, Family family) {
+		if (request.isLocationBasedSearch()) {
+			return searchPlacesUseCase.execute(request);
+		}
+		
+		Cache cache = cacheManager.getCache(family.getCacheName());
+		String generation = cache != null ? generation() : null;
+		if (generation == null) {
+			return searchPlacesUseCase.execute(request);
+		}
+		
+		String key = generation + ":" + request.cacheKey();
+		PlaceSearchResponse cached = get(cache, key);
+		if (cached != null) {
+			hits.get(family).increment();
+			return cached;
+		}
+		
+		misses.get(family).increment();
+		PlaceSearchResponse response = searchPlacesUseCase.execute(request);
+		// 빈 결과는 조회 오류로 인한 것일 수 있어 저장하지 않음
+		if (response.getItems() != null && !response.getItems().isEmpty()) {
+			put(cache, key, response);
+		}
+		return response;
+	}
+	
+	/**
+	 * 업체 변경 시 검색 결과 캐시 전체 무효화
+	 * 변경된 업체가 어느 페이지/필터에 포함되는지 추적하지 않고 세대 토큰을 교체하여 모든 계열의 기존 키를 버림
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onPlaceChanged(PlaceChangedEvent event) {
+		if (!event.affectsSearchFilters()) {
+			return;
+		}
+		Cache generations = cacheManager.getCache(CacheConfig.SEARCH_GENERATION);
+		if (generations == null) {
+			return;
+		}
+		try {
+			generations.put(GENERATION_KEY, newGeneration());
+			log.debug("검색 결과 캐시 무효화: {}", event);
+		} catch (RuntimeException e) {
+			log.warn("검색 결과 캐시 무효화 실패: event={}", event, e);
+		}
+	}
+	
+	/**
+	 * 현재 세대 토큰 (없으면 생성, 조회 실패 시 null이며 캐시를 거치지 않음)
+	 */
+	private String generation() {
+		Cache generations = cacheManager.getCache(CacheConfig.SEARCH_GENERATION);
+		if (generations == null) {
+			return null;
+		}
+		try {
+			String current = generations.get(GENERATION_KEY, String.class);
+			if (current != null) {
+				return current;
+			}
+			String created = newGeneration();
+			Cache.ValueWrapper existing = generations.putIfAbsent(GENERATION_KEY, created);
+			return existing != null && existing.get() != null ? String.valueOf(existing.get()) : created;
+		} catch (RuntimeException e) {
+			// Redis 장애 시 DB 조회로 진행
+			log.warn("검색 결과 캐시 세대 조회 실패", e);
+			return null;
+		}
+	}
+	
+	private static String newGeneration() {
+		return UUID.randomUUID().toString();
+	}
+	
+	private PlaceSearchResponse get(Cache cache, String key) {
+		try {
+			return cache.get(key, PlaceSearchResponse.class);
+		} catch (RuntimeException e) {
+			// Redis 장애 시 DB 조회로 진행
+			log.warn("검색 결과 캐시 조회 실패: cache={}, key={}", cache.getName(), key, e);
+			return null;
+		}
+	}
+	
+	private void put(Cache cache, String key, PlaceSearchResponse response) {
+		try {
+			cache.put(key, response);
+		} catch (RuntimeException e) {
+			log.warn("검색 결과 캐시 저장 실패: cache={}, key={}", cache.getName(), key, e);
+		}
+	}
+	
+	private static Counter counter(MeterRegistry meterRegistry, Family family, String result) {
+		return Counter.builder(METRIC_NAME)
+				.description("검색 결과 캐시 조회 수")
+				.tag("family", family.name().toLowerCase())
+				.tag("result", result)
+				.register(meterRegistry);
+	}
+	
+	/**
+	 * 엔드포인트 계열
+	 */
+	public enum Family {
+		SEARCH(CacheConfig.SEARCH_RESULTS),
+		REGION(CacheConfig.REGION_RESULTS),
+		POPULAR(CacheConfig.POPULAR_RESULTS),
+		RECENT(CacheConfig.RECENT_RESULTS);
+		
+		private final String cacheName;
+		
+		Family(String cacheName) {
+			this.cacheName = cacheName;
+		}
+		
+		public String getCacheName() {
+			return cacheName;
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package com.teambind.placeinfoserver.place.service.usecase.query;
+
+import com.teambind.placeinfoserver.place.common.config.CacheConfig;
+import com.teambind.placeinfoserver.place.dto.request.PlaceSearchRequest;
+import com.teambind.placeinfoserver.place.dto.response.CountResponse;
+import com.teambind.placeinfoserver.place.events.internal.PlaceChangedEvent;
+import com.teambind.placeinfoserver.place.repository.PlaceAdvancedSearchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 검색 결과 개수 조회 UseCase
+ * SRP: 검색 조건별 결과 수 조회만을 담당
+ * - 기본: 상한(cap)까지만 세고 초과 시 capped=true ("1,000+" 표시용)
+ * - exact=true: fetch join 없는 count(*)로 정확한 개수
+ * - 정규화된 필터별로 캐시, 업체 변경 커밋 시 무효화
+ */
+@Slf4j
+@Service
+public class CountPlacesUseCase {
+	
+	private final PlaceAdvancedSearchRepository searchRepository;
+	private final long cap;
+	
+	public CountPlacesUseCase(
+			PlaceAdvancedSearchRepository searchRepository,
+			@Value("${place.search.count.cap:1000}") long cap) {
+		this.searchRepository = searchRepository;
+		this.cap = cap;
+	}
+	
+	/**
+	 * 검색 결과 개수 조회
+	 *
+	 * @param request 검색 요청
+	 * @param exact   true면 상한 없이 정확한 개수
+	 * @return 개수와 상한 초과 여부
+	 */
+	@Cacheable(cacheNames = CacheConfig.SEARCH_COUNT, key = "(#exact ? 'exact|' : 'capped|') + #request.filterKey()")
+	@Transactional(readOnly = true)
+	public CountResponse execute(PlaceSearchRequest request, boolean exact) {
+		if (exact) {
+			return new CountResponse(searchRepository.countSearchResults(request), false);
+		}
+		
+		// cap + 1개까지만 읽어 초과 여부 판단
+		long counted = searchRepository.countSearchResultsUpTo(request, cap + 1);
+		boolean capped = counted > cap;
+		return new CountResponse(capped ? cap : counted, capped);
+	}
+	
+	/**
+	 * 업체 변경 시 개수 캐시 전체 무효화
+	 * 쓰기 빈도가 낮아 필터별 추적 대신 전체 무효화 (누락분은 TTL로 보정)
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	@CacheEvict(cacheNames = CacheConfig.SEARCH_COUNT, allEntries = true, condition = "#event.affectsSearchFilters()")
+	public void onPlaceChanged(PlaceChangedEvent event) {
+		log.debug("검색 개수 캐시 무효화: {}", event);
+	}
+}
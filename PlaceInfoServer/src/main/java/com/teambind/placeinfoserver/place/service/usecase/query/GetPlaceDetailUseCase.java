@@ -2,10 +2,9 @@ package com.teambind.placeinfoserver.place.service.usecase.query;
 
 import com.teambind.placeinfoserver.place.common.exception.domain.PlaceNotFoundException;
 import com.teambind.placeinfoserver.place.domain.entity.PlaceInfo;
-import com.teambind.placeinfoserver.place.domain.entity.Room;
 import com.teambind.placeinfoserver.place.dto.response.PlaceInfoResponse;
 import com.teambind.placeinfoserver.place.repository.PlaceInfoRepository;
-import com.teambind.placeinfoserver.place.repository.RoomRepository;
+import com.teambind.placeinfoserver.place.repository.impl.PlaceRoomSummaryLoader;
 import com.teambind.placeinfoserver.place.service.mapper.PlaceMapper;
 import com.teambind.placeinfoserver.place.service.usecase.common.IdParser;
 import lombok.RequiredArgsConstructor;
@@ -13,7 +12,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * 업체 상세 조회 UseCase
@@ -25,7 +23,7 @@ import java.util.stream.Collectors;
 public class GetPlaceDetailUseCase {
 	
 	private final PlaceInfoRepository placeInfoRepository;
-	private final RoomRepository roomRepository;
+	private final PlaceRoomSummaryLoader roomSummaryLoader;
 	private final PlaceMapper placeMapper;
 	
 	/**
@@ -42,11 +40,9 @@ public class GetPlaceDetailUseCase {
 		PlaceInfoResponse response = placeMapper.toResponse(placeInfo);
 		
 		// Room 정보 추가
-		List<Room> rooms = roomRepository.findByPlaceIdAndIsActiveTrue(parsedPlaceId);
-		response.setRoomCount(rooms.size());
-		response.setRoomIds(rooms.stream()
-				.map(Room::getRoomId)
-				.collect(Collectors.toList()));
+		List<Long> roomIds = roomSummaryLoader.findRoomIds(parsedPlaceId);
+		response.setRoomCount(roomIds.size());
+		response.setRoomIds(roomIds);
 		
 		return response;
 	}
@@ -1,18 +1,18 @@
 package com.teambind.placeinfoserver.place.service.usecase.query;
 
-import com.teambind.placeinfoserver.place.domain.entity.PlaceInfo;
-import com.teambind.placeinfoserver.place.domain.entity.Room;
 import com.teambind.placeinfoserver.place.dto.request.PlaceBatchDetailRequest;
 import com.teambind.placeinfoserver.place.dto.response.PlaceBatchDetailResponse;
 import com.teambind.placeinfoserver.place.dto.response.PlaceInfoResponse;
-import com.teambind.placeinfoserver.place.repository.PlaceInfoRepository;
-import com.teambind.placeinfoserver.place.repository.RoomRepository;
+import com.teambind.placeinfoserver.place.repository.impl.PlaceDetailBatchLoader;
+import com.teambind.placeinfoserver.place.repository.impl.PlaceDetailBatchLoader.PlaceDetails;
+import com.teambind.placeinfoserver.place.repository.impl.PlaceRoomSummaryLoader;
 import com.teambind.placeinfoserver.place.service.mapper.PlaceMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -28,7 +28,7 @@ import java.util.stream.Collectors;
  * - DIP: Repository 인터페이스에 의존
  * <p>
  * 성능 고려사항:
- * - N+1 문제 방지를 위한 배치 조회
+ * - N+1 문제 방지를 위한 배치 조회 (컬렉션별 개별 쿼리로 카테시안 곱 방지)
  * - 트랜잭션 readOnly 설정으로 최적화
  * - 메모리 효율을 위한 스트림 처리
  */
@@ -38,8 +38,8 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class GetPlaceDetailsBatchUseCase {
 	
-	private final PlaceInfoRepository placeInfoRepository;
-	private final RoomRepository roomRepository;
+	private final PlaceDetailBatchLoader placeDetailBatchLoader;
+	private final PlaceRoomSummaryLoader roomSummaryLoader;
 	private final PlaceMapper placeMapper;
 	
 	/**
@@ -58,12 +58,11 @@ public class GetPlaceDetailsBatchUseCase {
 				.filter(Objects::nonNull)
 				.collect(Collectors.toSet());
 		
-		// 배치 조회 (N+1 문제 방지를 위한 Fetch Join 사용)
-		List<PlaceInfo> foundPlaces = placeInfoRepository.findAllByIdWithDetails(uniqueIds);
+		List<PlaceInfoResponse> responses = findResponses(uniqueIds);
 		
 		// 조회된 ID Set 생성 (빠른 검색을 위해)
-		Set<Long> foundIds = foundPlaces.stream()
-				.map(PlaceInfo::getId)
+		Set<Long> foundIds = responses.stream()
+				.map(response -> Long.parseLong(response.getId()))
 				.collect(Collectors.toSet());
 		
 		// 실패한 ID 찾기
@@ -71,23 +70,40 @@ public class GetPlaceDetailsBatchUseCase {
 				.filter(id -> !foundIds.contains(id))
 				.collect(Collectors.toList());
 		
+		log.info("배치 상세 조회 완료 - 성공: {}, 실패: {}", responses.size(), failedIds.size());
+		
+		return PlaceBatchDetailResponse.ofPartialSuccess(responses, failedIds);
+	}
+	
+	/**
+	 * 업체 ID 목록의 상세 응답 조회 (Room 정보 포함)
+	 * 없거나 비활성인 업체는 결과에서 제외
+	 * 호출마다 별도 readOnly 트랜잭션이므로 스트리밍 시 청크 단위로 호출하면 영속성 컨텍스트가 청크마다 해제됨
+	 *
+	 * @param placeIds 업체 ID 목록 (중복 없음)
+	 * @return 조회된 업체 상세 응답
+	 */
+	public List<PlaceInfoResponse> findResponses(Collection<Long> placeIds) {
+		// 배치 조회 (단건 연관 1회 + 컬렉션별 IN 조회, 대량 ID는 청크 단위)
+		List<PlaceDetails> foundPlaces = placeDetailBatchLoader.load(placeIds);
+		
 		// PlaceInfo를 Response로 변환
 		List<PlaceInfoResponse> responses = convertToResponses(foundPlaces);
 		
 		// Room 정보 일괄 조회 및 매핑
+		Set<Long> foundIds = foundPlaces.stream()
+				.map(details -> details.place().getId())
+				.collect(Collectors.toSet());
 		enrichWithRoomInfo(responses, foundIds);
-		
-		log.info("배치 상세 조회 완료 - 성공: {}, 실패: {}", responses.size(), failedIds.size());
-		
-		return PlaceBatchDetailResponse.ofPartialSuccess(responses, failedIds);
+		return responses;
 	}
 	
 	/**
-	 * PlaceInfo 엔티티를 Response DTO로 변환
+	 * 조회 결과를 Response DTO로 변환
 	 */
-	private List<PlaceInfoResponse> convertToResponses(List<PlaceInfo> places) {
+	private List<PlaceInfoResponse> convertToResponses(List<PlaceDetails> places) {
 		return places.stream()
-				.map(placeMapper::toResponse)
+				.map(details -> placeMapper.toResponse(details.place(), details.images(), details.keywords()))
 				.collect(Collectors.toList());
 	}
 	
@@ -97,20 +113,15 @@ public class GetPlaceDetailsBatchUseCase {
 	 */
 	private void enrichWithRoomInfo(List<PlaceInfoResponse> responses, Set<Long> placeIds) {
 		// 모든 placeId에 대한 Room 정보를 한 번에 조회
-		Map<Long, List<Room>> roomsByPlaceId = roomRepository
-				.findByPlaceIdInAndIsActiveTrue(placeIds)
-				.stream()
-				.collect(Collectors.groupingBy(Room::getPlaceId));
+		Map<Long, List<Long>> roomIdsByPlaceId = roomSummaryLoader.findRoomIds(placeIds);
 		
 		// Response에 Room 정보 매핑
 		responses.forEach(response -> {
 			Long placeId = Long.parseLong(response.getId());
-			List<Room> rooms = roomsByPlaceId.getOrDefault(placeId, List.of());
+			List<Long> roomIds = roomIdsByPlaceId.getOrDefault(placeId, List.of());
 			
-			response.setRoomCount(rooms.size());
-			response.setRoomIds(rooms.stream()
-					.map(Room::getRoomId)
-					.collect(Collectors.toList()));
+			response.setRoomCount(roomIds.size());
+			response.setRoomIds(roomIds);
 		});
 	}
 }
@@ -0,0 +1,82 @@
+package com.teambind.placeinfoserver.place.service.usecase.query;
+
+import com.teambind.placeinfoserver.place.common.util.http.PlaceETags;
+import com.teambind.placeinfoserver.place.dto.response.PlaceInfoResponse;
+import com.teambind.placeinfoserver.place.repository.PlaceInfoRepository;
+import com.teambind.placeinfoserver.place.service.usecase.common.IdParser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 업체 버전 조회 UseCase
+ * SRP: 조건부 요청(If-None-Match / If-Modified-Since) 검증용 버전만 조회 (업체 애그리거트를 적재하지 않음)
+ * - 상세: L1 캐시에 있으면 캐시의 updatedAt, 없으면 place_info PK 조회 한 번
+ * - 배치: 요청 ID 전체의 (ID, updated_at)를 한 번의 IN 조회
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GetPlaceVersionUseCase {
+	
+	private final PlaceInfoRepository placeInfoRepository;
+	private final CachedGetPlaceDetailUseCase cachedGetPlaceDetailUseCase;
+	
+	/**
+	 * 업체 상세 버전 조회
+	 *
+	 * @param placeId 업체 ID
+	 * @return updated_at (삭제되었거나 없으면 empty)
+	 */
+	public Optional<LocalDateTime> findDetailVersion(String placeId) {
+		Long parsedPlaceId = IdParser.parsePlaceId(placeId);
+		LocalDateTime cached = cachedGetPlaceDetailUseCase.findCachedVersion(parsedPlaceId);
+		if (cached != null) {
+			return Optional.of(cached);
+		}
+		return placeInfoRepository.findUpdatedAtById(parsedPlaceId);
+	}
+	
+	/**
+	 * 배치 상세 응답의 현재 ETag 계산 (응답 본문을 만들지 않음)
+	 *
+	 * @param placeIds 요청 업체 ID 목록
+	 * @return 같은 요청으로 지금 조회했을 때의 응답 ETag
+	 */
+	public String findBatchETag(Collection<Long> placeIds) {
+		Set<Long> uniqueIds = placeIds.stream()
+				.filter(Objects::nonNull)
+				.collect(Collectors.toSet());
+		
+		Map<Long, LocalDateTime> versions = new HashMap<>();
+		if (!uniqueIds.isEmpty()) {
+			for (Object[] row : placeInfoRepository.findActiveUpdatedAtByIds(uniqueIds)) {
+				versions.put((Long) row[0], (LocalDateTime) row[1]);
+			}
+		}
+		return PlaceETags.batch(versions);
+	}
+	
+	/**
+	 * 조회된 배치 상세 응답의 ETag 계산 (findBatchETag와 같은 값)
+	 *
+	 * @param results 배치 상세 조회 결과
+	 */
+	public String batchETagOf(List<PlaceInfoResponse> results) {
+		Map<Long, LocalDateTime> versions = new HashMap<>();
+		for (PlaceInfoResponse result : results) {
+			versions.put(Long.parseLong(result.getId()), result.getUpdatedAt());
+		}
+		return PlaceETags.batch(versions);
+	}
+}
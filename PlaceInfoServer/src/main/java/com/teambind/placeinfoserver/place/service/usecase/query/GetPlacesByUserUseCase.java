@@ -1,8 +1,11 @@
 package com.teambind.placeinfoserver.place.service.usecase.query;
 
 import com.teambind.placeinfoserver.place.domain.entity.PlaceInfo;
+import com.teambind.placeinfoserver.place.dto.cursor.PlaceSearchCursor;
 import com.teambind.placeinfoserver.place.dto.response.PlaceInfoResponse;
+import com.teambind.placeinfoserver.place.dto.response.PlaceInfoSummaryPageResponse;
 import com.teambind.placeinfoserver.place.repository.PlaceInfoRepository;
+import com.teambind.placeinfoserver.place.repository.impl.PlaceSummaryPageLoader;
 import com.teambind.placeinfoserver.place.service.mapper.PlaceMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,8 +24,12 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class GetPlacesByUserUseCase {
 	
+	private static final int DEFAULT_PAGE_SIZE = 20;
+	private static final int MAX_PAGE_SIZE = 100;
+	
 	private final PlaceInfoRepository placeInfoRepository;
 	private final PlaceMapper placeMapper;
+	private final PlaceSummaryPageLoader placeSummaryPageLoader;
 	
 	/**
 	 * 사용자별 업체 조회
@@ -40,4 +47,23 @@ public class GetPlacesByUserUseCase {
 		
 		return placeMapper.toResponseList(places);
 	}
+	
+	/**
+	 * 사용자별 업체 요약 페이지 조회
+	 * 생성일 내림차순 커서 페이징으로 등록 업체 수와 무관하게 한 페이지만 조회
+	 *
+	 * @param userId 사용자 ID
+	 * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+	 * @param size   페이지 크기 (기본 20, 1~100)
+	 * @return 업체 요약 페이지
+	 */
+	public PlaceInfoSummaryPageResponse executeSummaryPage(String userId, String cursor, Integer size) {
+		int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+		
+		PlaceInfoSummaryPageResponse page = placeSummaryPageLoader.load(
+				userId, PlaceSearchCursor.decode(cursor), pageSize);
+		
+		log.info("내 공간 요약 조회 완료: userId={}, count={}, hasNext={}", userId, page.getCount(), page.getHasNext());
+		return page;
+	}
 }
@@ -0,0 +1,141 @@
+package com.teambind.placeinfoserver.place.service.usecase.query;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.placeinfoserver.place.domain.enums.KeywordType;
+import com.teambind.placeinfoserver.place.dto.response.KeywordResponse;
+import org.springframework.util.DigestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 키워드 카탈로그 스냅샷 (불변)
+ * 활성 키워드를 표시 순서대로 보관하고 조회 응답 JSON을 미리 직렬화
+ * - ID 조회: 정렬된 ID 배열 이진 탐색
+ * - 타입별 목록/응답: KeywordType ordinal 인덱스 배열
+ * - ETag: 응답 JSON의 MD5 (내용이 같으면 인스턴스/재적재와 무관하게 같은 값)
+ */
+public final class KeywordCatalog {
+	
+	private static final KeywordType[] TYPES = KeywordType.values();
+	
+	private final List<KeywordResponse> keywords;
+	private final long[] sortedIds;
+	private final KeywordResponse[] keywordsBySortedId;
+	private final List<List<KeywordResponse>> keywordsByType;
+	private final byte[] body;
+	private final String etag;
+	private final byte[][] bodyByType;
+	private final String[] etagByType;
+	
+	private KeywordCatalog(List<KeywordResponse> keywords, ObjectMapper objectMapper) throws JsonProcessingException {
+		this.keywords = List.copyOf(keywords);
+		
+		KeywordResponse[] sorted = this.keywords.toArray(new KeywordResponse[0]);
+		Arrays.sort(sorted, (a, b) -> Long.compare(a.getId(), b.getId()));
+		this.keywordsBySortedId = sorted;
+		this.sortedIds = Arrays.stream(sorted).mapToLong(KeywordResponse::getId).toArray();
+		
+		List<List<KeywordResponse>> byType = new ArrayList<>(TYPES.length);
+		for (KeywordType type : TYPES) {
+			byType.add(this.keywords.stream()
+					.filter(keyword -> keyword.getType() == type)
+					.toList());
+		}
+		this.keywordsByType = List.copyOf(byType);
+		
+		this.body = objectMapper.writeValueAsBytes(this.keywords);
+		this.etag = etagOf(this.body);
+		this.bodyByType = new byte[TYPES.length][];
+		this.etagByType = new String[TYPES.length];
+		for (KeywordType type : TYPES) {
+			bodyByType[type.ordinal()] = objectMapper.writeValueAsBytes(keywordsByType.get(type.ordinal()));
+			etagByType[type.ordinal()] = etagOf(bodyByType[type.ordinal()]);
+		}
+	}
+	
+	/**
+	 * 스냅샷 생성
+	 *
+	 * @param keywords     활성 키워드 (표시 순서대로 정렬)
+	 * @param objectMapper 응답 직렬화에 사용하는 ObjectMapper
+	 */
+	public static KeywordCatalog of(List<KeywordResponse> keywords, ObjectMapper objectMapper) throws JsonProcessingException {
+		return new KeywordCatalog(keywords, objectMapper);
+	}
+	
+	/**
+	 * 키워드 목록 (type이 null이면 전체)
+	 * 스냅샷이 공유하는 인스턴스이므로 수정하지 않음
+	 */
+	public List<KeywordResponse> getKeywords(KeywordType type) {
+		return type == null ? keywords : keywordsByType.get(type.ordinal());
+	}
+	
+	/**
+	 * 미리 직렬화된 응답 JSON (type이 null이면 전체)
+	 * 호출자 간 공유되는 배열이므로 수정하지 않음
+	 */
+	public byte[] getBody(KeywordType type) {
+		return type == null ? body : bodyByType[type.ordinal()];
+	}
+	
+	/**
+	 * 응답 ETag (따옴표 포함, type이 null이면 전체)
+	 */
+	public String getETag(KeywordType type) {
+		return type == null ? etag : etagByType[type.ordinal()];
+	}
+	
+	public int size() {
+		return keywords.size();
+	}
+	
+	public boolean contains(Long keywordId) {
+		return keywordId != null && Arrays.binarySearch(sortedIds, keywordId) >= 0;
+	}
+	
+	/**
+	 * 모든 ID가 카탈로그에 있는지 확인
+	 */
+	public boolean containsAll(Collection<Long> keywordIds) {
+		for (Long keywordId : keywordIds) {
+			if (!contains(keywordId)) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * ID 순서대로 키워드 조회 (카탈로그에 없는 ID는 제외)
+	 * 응답에 담겨 수정될 수 있으므로 복사본 반환
+	 */
+	public List<KeywordResponse> findAll(Collection<Long> keywordIds) {
+		List<KeywordResponse> result = new ArrayList<>(keywordIds.size());
+		for (Long keywordId : keywordIds) {
+			int index = keywordId == null ? -1 : Arrays.binarySearch(sortedIds, keywordId);
+			if (index >= 0) {
+				result.add(copyOf(keywordsBySortedId[index]));
+			}
+		}
+		return result;
+	}
+	
+	private static KeywordResponse copyOf(KeywordResponse keyword) {
+		return KeywordResponse.builder()
+				.id(keyword.getId())
+				.name(keyword.getName())
+				.type(keyword.getType())
+				.description(keyword.getDescription())
+				.displayOrder(keyword.getDisplayOrder())
+				.build();
+	}
+	
+	private static String etagOf(byte[] body) {
+		return "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+	}
+}
@@ -0,0 +1,119 @@
+package com.teambind.placeinfoserver.place.service.usecase.query;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.Optional;
+
+/**
+ * 키워드 카탈로그 스냅샷 관리자
+ * - 기동 시 적재, 이후 주기적으로 재조회하여 내용(ETag)이 바뀐 경우에만 교체
+ *   (키워드는 마이그레이션/운영 SQL로만 변경되므로 주기적 비교로 변경을 감지)
+ * - 조회는 volatile 참조 하나만 읽으므로 잠금/DB 접근 없음
+ * - place.keyword.catalog.enabled=false(기본값)이면 스냅샷을 만들지 않음 (조회 API는 요청마다 DB 조회 결과를 그대로 응답)
+ */
+@Component
+@Slf4j
+public class KeywordCatalogManager {
+	
+	private final GetAllKeywordsUseCase getAllKeywordsUseCase;
+	private final ObjectMapper objectMapper;
+	private final boolean enabled;
+	private volatile KeywordCatalog catalog;
+	
+	public KeywordCatalogManager(
+			GetAllKeywordsUseCase getAllKeywordsUseCase,
+			ObjectMapper objectMapper,
+			@Value("${place.keyword.catalog.enabled:false}") boolean enabled) {
+		this.getAllKeywordsUseCase = getAllKeywordsUseCase;
+		this.objectMapper = objectMapper;
+		this.enabled = enabled;
+	}
+	
+	/**
+	 * 스냅샷 사용 여부
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+	
+	/**
+	 * 현재 카탈로그
+	 * 비활성화 상태이거나 최초 적재 전이면 DB에서 생성 (비활성화 상태의 조회 API는 호출하지 않음)
+	 */
+	public KeywordCatalog get() {
+		if (!enabled) {
+			return load();
+		}
+		KeywordCatalog current = catalog;
+		return current != null ? current : reload();
+	}
+	
+	/**
+	 * 메모리에 적재된 스냅샷 (비활성화 또는 적재 전이면 empty, DB 접근 없음)
+	 */
+	public Optional<KeywordCatalog> snapshot() {
+		return enabled ? Optional.ofNullable(catalog) : Optional.empty();
+	}
+	
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		if (!enabled) {
+			return;
+		}
+		try {
+			reload();
+		} catch (RuntimeException e) {
+			// 기동은 계속하고 첫 조회 또는 다음 주기에 다시 적재
+			log.error("Failed to load keyword catalog on startup", e);
+		}
+	}
+	
+	@Scheduled(
+			fixedDelayString = "${place.keyword.catalog.refresh-interval-ms:300000}",
+			initialDelayString = "${place.keyword.catalog.refresh-interval-ms:300000}"
+	)
+	public void scheduledReload() {
+		if (enabled) {
+			reload();
+		}
+	}
+	
+	/**
+	 * DB에서 다시 적재하여 내용이 바뀌었으면 교체
+	 * 실패 시 기존 스냅샷 유지 (최초 적재 실패면 예외 전파)
+	 */
+	public synchronized KeywordCatalog reload() {
+		KeywordCatalog current = catalog;
+		try {
+			KeywordCatalog loaded = load();
+			if (current == null || !current.getETag(null).equals(loaded.getETag(null))) {
+				catalog = loaded;
+				log.info("Keyword catalog reloaded: size={}, etag={}", loaded.size(), loaded.getETag(null));
+				return loaded;
+			}
+			return current;
+		} catch (RuntimeException e) {
+			if (current == null) {
+				throw e;
+			}
+			log.error("Failed to reload keyword catalog, keeping previous snapshot", e);
+			return current;
+		}
+	}
+	
+	private KeywordCatalog load() {
+		try {
+			return KeywordCatalog.of(getAllKeywordsUseCase.execute(), objectMapper);
+		} catch (JsonProcessingException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -1,5 +1,7 @@
 package com.teambind.placeinfoserver.place.service.usecase.query;
 
+import com.teambind.placeinfoserver.place.common.metrics.PlaceSearchMetrics;
+import com.teambind.placeinfoserver.place.common.metrics.PlaceSearchMetrics.SearchType;
 import com.teambind.placeinfoserver.place.dto.request.PlaceSearchRequest;
 import com.teambind.placeinfoserver.place.dto.response.PlaceSearchResponse;
 import com.teambind.placeinfoserver.place.repository.PlaceAdvancedSearchRepository;
@@ -22,6 +24,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class SearchPlacesUseCase {
 	
 	private final PlaceAdvancedSearchRepository searchRepository;
+	private final PlaceSearchMetrics searchMetrics;
 	
 	/**
 	 * 통합 검색
@@ -42,16 +45,16 @@ public class SearchPlacesUseCase {
 		
 		// 위치 기반 검색인 경우
 		if (request.isLocationBasedSearch()) {
-			return searchByLocation(request);
+			return searchMetrics.recordSearch(SearchType.LOCATION, request, () -> searchByLocation(request));
 		}
 		
 		// 키워드 검색인 경우
 		if (request.getKeywordIds() != null && !request.getKeywordIds().isEmpty()) {
-			return searchByKeywords(request);
+			return searchMetrics.recordSearch(SearchType.KEYWORD, request, () -> searchByKeywords(request));
 		}
 		
 		// 일반 검색
-		return searchWithCursor(request);
+		return searchMetrics.recordSearch(SearchType.CURSOR, request, () -> searchWithCursor(request));
 	}
 	
 	/**
@@ -0,0 +1,83 @@
+package com.teambind.placeinfoserver.place.service.usecase.query;
+
+import com.teambind.placeinfoserver.place.dto.request.PlaceBatchDetailStreamRequest;
+import com.teambind.placeinfoserver.place.dto.response.PlaceBatchDetailStreamSummary;
+import com.teambind.placeinfoserver.place.dto.response.PlaceInfoResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 업체 배치 상세 스트리밍 조회 UseCase
+ * SRP: 요청 ID를 청크로 나누어 순서대로 조회하고 결과를 즉시 전달하는 것만 담당
+ * - 요청 ID 목록을 앞에서부터 chunk-size 단위로 한 번씩만 진행 (전진 전용)
+ * - 청크마다 별도 readOnly 트랜잭션(GetPlaceDetailsBatchUseCase.findResponses)으로 조회하고,
+ * 매핑된 응답은 바로 sink로 넘긴 뒤 버리므로 메모리는 청크 크기에 비례
+ * - 클라이언트로 쓰는 동안에는 DB 커넥션을 잡고 있지 않음
+ * - 실패 ID만 끝까지 모아 요약으로 반환
+ */
+@Slf4j
+@Service
+public class StreamPlaceDetailsBatchUseCase {
+	
+	private final GetPlaceDetailsBatchUseCase getPlaceDetailsBatchUseCase;
+	private final int chunkSize;
+	
+	public StreamPlaceDetailsBatchUseCase(
+			GetPlaceDetailsBatchUseCase getPlaceDetailsBatchUseCase,
+			@Value("${place.batch.detail.stream.chunk-size:100}") int chunkSize) {
+		this.getPlaceDetailsBatchUseCase = getPlaceDetailsBatchUseCase;
+		this.chunkSize = chunkSize;
+	}
+	
+	/**
+	 * 배치 상세 스트리밍 조회 실행
+	 *
+	 * @param request 스트리밍 조회 요청 (placeId 리스트)
+	 * @param sink    조회된 응답을 하나씩 받는 소비자 (청크 단위로 요청 순서대로 호출)
+	 * @return 전송 개수와 실패한 ID 요약
+	 */
+	public PlaceBatchDetailStreamSummary execute(PlaceBatchDetailStreamRequest request, Consumer<PlaceInfoResponse> sink) {
+		// 중복 제거 (요청 순서 유지) 및 null 체크
+		List<Long> uniqueIds = new ArrayList<>(request.getPlaceIds().stream()
+				.filter(Objects::nonNull)
+				.collect(LinkedHashSet<Long>::new, Set::add, Set::addAll));
+		
+		log.info("배치 상세 스트리밍 조회 시작 - 요청 개수: {}, 청크 크기: {}", uniqueIds.size(), chunkSize);
+		
+		int successCount = 0;
+		List<Long> failedIds = new ArrayList<>();
+		for (int from = 0; from < uniqueIds.size(); from += chunkSize) {
+			List<Long> chunk = uniqueIds.subList(from, Math.min(from + chunkSize, uniqueIds.size()));
+			List<PlaceInfoResponse> responses = getPlaceDetailsBatchUseCase.findResponses(chunk);
+			
+			Set<Long> foundIds = new HashSet<>();
+			for (PlaceInfoResponse response : responses) {
+				foundIds.add(Long.parseLong(response.getId()));
+				sink.accept(response);
+			}
+			successCount += responses.size();
+			
+			for (Long id : chunk) {
+				if (!foundIds.contains(id)) {
+					failedIds.add(id);
+				}
+			}
+		}
+		
+		log.info("배치 상세 스트리밍 조회 완료 - 성공: {}, 실패: {}", successCount, failedIds.size());
+		
+		return PlaceBatchDetailStreamSummary.builder()
+				.successCount(successCount)
+				.failed(failedIds)
+				.build();
+	}
+}
@@ -0,0 +1,28 @@
+-- =============================================
+-- V3: Add Trigram Search Indexes
+-- 텍스트 검색(keyword)용 pg_trgm GIN 인덱스 추가
+-- lower(컬럼) LIKE '%검색어%' 및 단어 유사도(%>) 검색이 인덱스를 사용하도록 함
+-- =============================================
+
+-- 1. 확장 기능 추가
+CREATE
+    EXTENSION IF NOT EXISTS "pg_trgm";
+
+-- 2. 장소명 트라이그램 인덱스
+CREATE INDEX idx_place_info_place_name_trgm
+    ON place_info USING GIN (lower(place_name) gin_trgm_ops);
+
+-- 3. 설명 트라이그램 인덱스
+CREATE INDEX idx_place_info_description_trgm
+    ON place_info USING GIN (lower(description) gin_trgm_ops);
+
+-- 4. 카테고리 트라이그램 인덱스
+CREATE INDEX idx_place_info_category_trgm
+    ON place_info USING GIN (lower(category) gin_trgm_ops);
+
+-- 5. 통계 갱신
+ANALYZE place_info;
+
+-- =============================================
+-- End of Migration
+-- =============================================
@@ -0,0 +1,82 @@
+-- =============================================
+-- V4: Add Place Search View
+-- 검색용 비정규화 읽기 모델 (업체당 1행)
+-- place_info + place_locations + place_parkings + place_contacts + place_images(썸네일)
+-- + place_keywords + room 을 조인하지 않고 단일 테이블 인덱스 스캔으로 검색하기 위함
+-- 쓰기 시 PlaceSearchViewProjector가 같은 트랜잭션에서 갱신, 삭제된 업체는 행 제거
+-- =============================================
+
+-- 1. 테이블 생성
+CREATE TABLE place_search_view
+(
+    place_id            BIGINT PRIMARY KEY,
+    place_name          VARCHAR(100) NOT NULL,
+    description         VARCHAR(500),
+    category            VARCHAR(50),
+    place_type          VARCHAR(50),
+    rating_average      DOUBLE PRECISION,
+    review_count        INTEGER,
+    is_active           BOOLEAN      NOT NULL,
+    approval_status     VARCHAR(20)  NOT NULL,
+    registration_status VARCHAR(20)  NOT NULL,
+    created_at          TIMESTAMP    NOT NULL,
+    full_address        VARCHAR(500),
+    province            VARCHAR(50),
+    city                VARCHAR(50),
+    district            VARCHAR(50),
+    latitude            DOUBLE PRECISION,
+    longitude           DOUBLE PRECISION,
+    coordinates         geography(Point, 4326),
+    parking_available   BOOLEAN,
+    parking_type        VARCHAR(10),
+    contact             VARCHAR(20),
+    thumbnail_url       VARCHAR(500),
+    keyword_ids         BIGINT[]     NOT NULL DEFAULT '{}',
+    keyword_names       TEXT[]       NOT NULL DEFAULT '{}',
+    room_ids            BIGINT[]     NOT NULL DEFAULT '{}',
+    room_count          INTEGER      NOT NULL DEFAULT 0,
+    synced_at           TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE place_search_view IS '검색용 비정규화 읽기 모델 (업체당 1행, 쓰기 시 동기 갱신)';
+COMMENT ON COLUMN place_search_view.keyword_ids IS '키워드 ID 배열 (표시 순서), ANY: &&, ALL: @> 로 검색';
+COMMENT ON COLUMN place_search_view.room_ids IS '활성 Room ID 배열';
+
+-- 2. 공통 필터 + 정렬 인덱스 (place_info의 registration 복합 인덱스와 같은 형태)
+CREATE INDEX idx_place_search_view_status
+    ON place_search_view (approval_status, is_active, registration_status);
+CREATE INDEX idx_place_search_view_rating
+    ON place_search_view (registration_status DESC, rating_average DESC, place_id);
+CREATE INDEX idx_place_search_view_review
+    ON place_search_view (registration_status DESC, review_count DESC, place_id);
+CREATE INDEX idx_place_search_view_created
+    ON place_search_view (registration_status DESC, created_at DESC, place_id);
+
+-- 3. 위치 검색 (GiST)
+CREATE INDEX idx_place_search_view_coordinates
+    ON place_search_view USING GIST (coordinates);
+
+-- 4. 키워드 배열 검색 (GIN)
+CREATE INDEX idx_place_search_view_keyword_ids
+    ON place_search_view USING GIN (keyword_ids);
+
+-- 5. 텍스트 검색 (pg_trgm, V3와 같은 lower(컬럼) 식)
+CREATE INDEX idx_place_search_view_place_name_trgm
+    ON place_search_view USING GIN (lower(place_name) gin_trgm_ops);
+CREATE INDEX idx_place_search_view_description_trgm
+    ON place_search_view USING GIN (lower(description) gin_trgm_ops);
+CREATE INDEX idx_place_search_view_category_trgm
+    ON place_search_view USING GIN (lower(category) gin_trgm_ops);
+
+-- 6. 지역/분류 필터
+CREATE INDEX idx_place_search_view_region
+    ON place_search_view (province, city, district);
+CREATE INDEX idx_place_search_view_category
+    ON place_search_view (category);
+
+-- 7. 초기 적재는 애플리케이션의 재구성 API로 수행
+--    POST /api/v1/admin/places/search-view/rebuild
+
+-- =============================================
+-- End of Migration
+-- =============================================
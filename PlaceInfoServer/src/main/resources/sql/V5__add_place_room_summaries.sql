@@ -0,0 +1,35 @@
+-- =============================================
+-- V5: Add Place Room Summaries
+-- 업체별 활성 Room 요약 (개수 + Room ID 배열, 업체당 1행)
+-- 검색/상세 조회 시 room 테이블을 읽지 않고 Room 정보를 채우기 위함
+-- Room 생성/삭제 이벤트 처리 시 같은 트랜잭션에서 배열 연산 UPSERT로 갱신 (행 잠금으로 동시 갱신 직렬화)
+-- =============================================
+
+-- 1. 테이블 생성 (room과 같이 place_info를 FK로 참조하지 않음)
+CREATE TABLE place_room_summaries
+(
+    place_id   BIGINT PRIMARY KEY,
+    room_ids   BIGINT[]  NOT NULL DEFAULT '{}',
+    room_count INTEGER   NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE place_room_summaries IS '업체별 활성 Room 요약 (Room 이벤트 처리 시 동기 갱신)';
+COMMENT ON COLUMN place_room_summaries.room_ids IS '활성 Room ID 배열 (추가 순서)';
+COMMENT ON COLUMN place_room_summaries.room_count IS 'room_ids 원소 수';
+
+-- 2. 기존 Room 적재
+--    이전 버전 애플리케이션이 이 스크립트 적용 후에 만든 Room은 반영되지 않으므로
+--    새 버전 배포 후 이 INSERT 문을 한 번 더 실행 (재실행해도 결과 동일)
+INSERT INTO place_room_summaries (place_id, room_ids, room_count, updated_at)
+SELECT r.place_id, array_agg(r.room_id ORDER BY r.id), count(*), CURRENT_TIMESTAMP
+FROM room r
+WHERE r.is_active = true
+GROUP BY r.place_id
+ON CONFLICT (place_id) DO UPDATE SET room_ids   = EXCLUDED.room_ids,
+                                     room_count = EXCLUDED.room_count,
+                                     updated_at = EXCLUDED.updated_at;
+
+-- =============================================
+-- End of Migration
+-- =============================================
@@ -0,0 +1,18 @@
+-- =============================================
+-- V6: Add Place Info User/Created Index
+-- 내 공간 요약 목록(GET /api/v1/places/my/summary) 커서 페이징용 복합 인덱스
+-- WHERE user_id = ? AND deleted_at IS NULL ORDER BY created_at DESC, id DESC LIMIT n 을
+-- 정렬 없이 인덱스 순서대로 n건만 읽도록 함 (등록 업체 수와 무관)
+-- =============================================
+
+-- 1. 사용자별 생성일 내림차순 부분 인덱스 (삭제된 업체 제외)
+CREATE INDEX idx_place_info_user_created
+    ON place_info (user_id, created_at DESC, id DESC)
+    WHERE deleted_at IS NULL;
+
+-- 2. 통계 갱신
+ANALYZE place_info;
+
+-- =============================================
+-- End of Migration
+-- =============================================
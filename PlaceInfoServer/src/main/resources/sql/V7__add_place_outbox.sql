@@ -0,0 +1,39 @@
+-- =============================================
+-- V7: Add Place Outbox
+-- Kafka 발행 대기 이벤트 (트랜잭셔널 아웃박스)
+-- 커맨드 트랜잭션에서 업체 변경과 함께 INSERT, OutboxRelay가 id 순으로 잠가(FOR UPDATE SKIP LOCKED)
+-- 배치 발행 후 DELETE 하므로 테이블에는 발행 대기/실패/보류 행만 남음
+-- =============================================
+
+-- 1. 테이블 생성
+--    행이 짧게 머물다 삭제되는 큐 테이블이므로 dead tuple이 쌓이기 전에 autovacuum이 돌도록 임계값을 고정
+CREATE TABLE place_outbox
+(
+    id          BIGSERIAL PRIMARY KEY,
+    topic       VARCHAR(100) NOT NULL,
+    message_key VARCHAR(100),
+    payload     TEXT         NOT NULL,
+    created_at  TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    attempts    INTEGER      NOT NULL DEFAULT 0,
+    last_error  VARCHAR(500),
+    parked_at   TIMESTAMP
+) WITH (autovacuum_vacuum_scale_factor = 0.0, autovacuum_vacuum_threshold = 1000);
+
+COMMENT ON TABLE place_outbox IS 'Kafka 발행 대기 이벤트 (커맨드 트랜잭션에서 저장, 발행 후 삭제)';
+COMMENT ON COLUMN place_outbox.message_key IS 'Kafka 파티션 키 (같은 업체 이벤트 순서 유지)';
+COMMENT ON COLUMN place_outbox.attempts IS '발행 실패 횟수';
+COMMENT ON COLUMN place_outbox.parked_at IS '발행 보류 일시 (최대 실패 횟수 도달, NULL로 되돌리면 재발행)';
+
+-- 2. 발행 대상 인덱스 (릴레이는 보류되지 않은 행을 id 순서로 LIMIT 만큼만 읽음)
+CREATE INDEX idx_place_outbox_pending
+    ON place_outbox (id)
+    WHERE parked_at IS NULL;
+
+-- 3. 보류 행 키 인덱스 (릴레이는 같은 키의 앞선 행이 보류되어 있으면 뒤 행을 건너뜀)
+CREATE INDEX idx_place_outbox_parked_key
+    ON place_outbox (message_key, id)
+    WHERE parked_at IS NOT NULL;
+
+-- =============================================
+-- End of Migration
+-- =============================================
@@ -17,6 +17,8 @@ CREATE
     EXTENSION IF NOT EXISTS "postgis";
 CREATE
     EXTENSION IF NOT EXISTS "btree_gist";
+CREATE
+    EXTENSION IF NOT EXISTS "pg_trgm";
 
 -- =============================================
 -- 2. Custom Types (Enums)
@@ -196,7 +198,7 @@ CREATE TABLE place_social_links
 );
 
 -- =============================================
--- 6. Join Tables
+-- 6. Join Tables & Read Models
 -- =============================================
 
 -- 6.1 Place-Keywords (Many-to-Many)
@@ -215,12 +217,67 @@ CREATE TABLE place_keywords
             ON DELETE CASCADE
 );
 
+-- 6.2 Place Search View (검색용 비정규화 읽기 모델, 업체당 1행)
+CREATE TABLE place_search_view
+(
+    place_id            BIGINT PRIMARY KEY,
+    place_name          VARCHAR(100) NOT NULL,
+    description         VARCHAR(500),
+    category            VARCHAR(50),
+    place_type          VARCHAR(50),
+    rating_average      DOUBLE PRECISION,
+    review_count        INTEGER,
+    is_active           BOOLEAN      NOT NULL,
+    approval_status     VARCHAR(20)  NOT NULL,
+    registration_status VARCHAR(20)  NOT NULL,
+    created_at          TIMESTAMP    NOT NULL,
+    full_address        VARCHAR(500),
+    province            VARCHAR(50),
+    city                VARCHAR(50),
+    district            VARCHAR(50),
+    latitude            DOUBLE PRECISION,
+    longitude           DOUBLE PRECISION,
+    coordinates         geography(Point, 4326),
+    parking_available   BOOLEAN,
+    parking_type        VARCHAR(10),
+    contact             VARCHAR(20),
+    thumbnail_url       VARCHAR(500),
+    keyword_ids         BIGINT[]     NOT NULL DEFAULT '{}',
+    keyword_names       TEXT[]       NOT NULL DEFAULT '{}',
+    room_ids            BIGINT[]     NOT NULL DEFAULT '{}',
+    room_count          INTEGER      NOT NULL DEFAULT 0,
+    synced_at           TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 6.3 Place Room Summaries (업체별 활성 Room 요약, 업체당 1행)
+CREATE TABLE place_room_summaries
+(
+    place_id   BIGINT PRIMARY KEY,
+    room_ids   BIGINT[]  NOT NULL DEFAULT '{}',
+    room_count INTEGER   NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 6.4 Place Outbox (Kafka 발행 대기 이벤트, 발행 후 삭제)
+CREATE TABLE place_outbox
+(
+    id          BIGSERIAL PRIMARY KEY,
+    topic       VARCHAR(100) NOT NULL,
+    message_key VARCHAR(100),
+    payload     TEXT         NOT NULL,
+    created_at  TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    attempts    INTEGER      NOT NULL DEFAULT 0,
+    last_error  VARCHAR(500),
+    parked_at   TIMESTAMP
+) WITH (autovacuum_vacuum_scale_factor = 0.0, autovacuum_vacuum_threshold = 1000);
+
 -- =============================================
 -- 7. Indexes
 -- =============================================
 
 -- Place Info indexes
 CREATE INDEX idx_place_info_user_id ON place_info (user_id);
+CREATE INDEX idx_place_info_user_created ON place_info (user_id, created_at DESC, id DESC) WHERE deleted_at IS NULL;
 CREATE INDEX idx_place_info_approval_status ON place_info (approval_status);
 CREATE INDEX idx_place_info_is_active ON place_info (is_active);
 CREATE INDEX idx_place_info_deleted_at ON place_info (deleted_at);
@@ -233,6 +290,11 @@ CREATE INDEX idx_place_info_registration_rating ON place_info (registration_stat
 CREATE INDEX idx_place_info_registration_review ON place_info (registration_status DESC, review_count DESC);
 CREATE INDEX idx_place_info_registration_created ON place_info (registration_status DESC, created_at DESC);
 
+-- Place Info text search indexes (pg_trgm)
+CREATE INDEX idx_place_info_place_name_trgm ON place_info USING GIN (lower(place_name) gin_trgm_ops);
+CREATE INDEX idx_place_info_description_trgm ON place_info USING GIN (lower(description) gin_trgm_ops);
+CREATE INDEX idx_place_info_category_trgm ON place_info USING GIN (lower(category) gin_trgm_ops);
+
 -- Place Contacts indexes
 CREATE INDEX idx_place_contacts_email ON place_contacts (email);
 
@@ -248,6 +310,10 @@ CREATE INDEX idx_place_locations_postal_code ON place_locations (postal_code);
 CREATE INDEX idx_place_images_place_info_id ON place_images (place_info_id);
 CREATE INDEX idx_place_images_order ON place_images (place_info_id, display_order);
 
+-- Place Outbox indexes
+CREATE INDEX idx_place_outbox_pending ON place_outbox (id) WHERE parked_at IS NULL;
+CREATE INDEX idx_place_outbox_parked_key ON place_outbox (message_key, id) WHERE parked_at IS NOT NULL;
+
 -- Keywords indexes
 CREATE INDEX idx_keywords_type ON keywords (type);
 CREATE INDEX idx_keywords_is_active ON keywords (is_active);
@@ -266,6 +332,19 @@ CREATE INDEX idx_place_social_links_contact_id ON place_social_links (place_cont
 CREATE INDEX idx_place_keywords_place_id ON place_keywords (place_info_id);
 CREATE INDEX idx_place_keywords_keyword_id ON place_keywords (keyword_id);
 
+-- Place Search View indexes (단일 테이블 검색)
+CREATE INDEX idx_place_search_view_status ON place_search_view (approval_status, is_active, registration_status);
+CREATE INDEX idx_place_search_view_rating ON place_search_view (registration_status DESC, rating_average DESC, place_id);
+CREATE INDEX idx_place_search_view_review ON place_search_view (registration_status DESC, review_count DESC, place_id);
+CREATE INDEX idx_place_search_view_created ON place_search_view (registration_status DESC, created_at DESC, place_id);
+CREATE INDEX idx_place_search_view_coordinates ON place_search_view USING GIST (coordinates);
+CREATE INDEX idx_place_search_view_keyword_ids ON place_search_view USING GIN (keyword_ids);
+CREATE INDEX idx_place_search_view_place_name_trgm ON place_search_view USING GIN (lower(place_name) gin_trgm_ops);
+CREATE INDEX idx_place_search_view_description_trgm ON place_search_view USING GIN (lower(description) gin_trgm_ops);
+CREATE INDEX idx_place_search_view_category_trgm ON place_search_view USING GIN (lower(category) gin_trgm_ops);
+CREATE INDEX idx_place_search_view_region ON place_search_view (province, city, district);
+CREATE INDEX idx_place_search_view_category ON place_search_view (category);
+
 -- =============================================
 -- 8. Triggers for Updated Timestamp
 -- =============================================
@@ -392,6 +471,12 @@ COMMENT
     ON TABLE place_social_links IS '장소 소셜 링크 목록 (ElementCollection)';
 COMMENT
     ON TABLE place_keywords IS '장소-키워드 매핑 (N:N)';
+COMMENT
+    ON TABLE place_search_view IS '검색용 비정규화 읽기 모델 (업체당 1행, 쓰기 시 동기 갱신)';
+COMMENT
+    ON TABLE place_room_summaries IS '업체별 활성 Room 요약 (Room 이벤트 처리 시 동기 갱신)';
+COMMENT
+    ON TABLE place_outbox IS 'Kafka 발행 대기 이벤트 (커맨드 트랜잭션에서 저장, 발행 후 삭제)';
 
 -- Column comments
 COMMENT
@@ -417,6 +502,23 @@ COMMENT
 COMMENT
     ON COLUMN place_images.id IS '외부 이미지 서비스 ID';
 
+COMMENT
+    ON COLUMN place_search_view.keyword_ids IS '키워드 ID 배열 (표시 순서), ANY: &&, ALL: @> 로 검색';
+COMMENT
+    ON COLUMN place_search_view.room_ids IS '활성 Room ID 배열';
+
+COMMENT
+    ON COLUMN place_room_summaries.room_ids IS '활성 Room ID 배열 (추가 순서)';
+COMMENT
+    ON COLUMN place_room_summaries.room_count IS 'room_ids 원소 수';
+
+COMMENT
+    ON COLUMN place_outbox.message_key IS 'Kafka 파티션 키 (같은 업체 이벤트 순서 유지)';
+COMMENT
+    ON COLUMN place_outbox.attempts IS '발행 실패 횟수';
+COMMENT
+    ON COLUMN place_outbox.parked_at IS '발행 보류 일시 (최대 실패 횟수 도달, NULL로 되돌리면 재발행)';
+
 -- =============================================
 -- 11. Sample Queries
 -- =============================================
@@ -0,0 +1,155 @@
+package com.teambind.placeinfoserver.place.common.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.placeinfoserver.place.common.metrics.PlaceSearchMetrics.SearchType;
+import com.teambind.placeinfoserver.place.common.metrics.PlaceSearchMetrics.Stage;
+import com.teambind.placeinfoserver.place.dto.request.PlaceSearchRequest;
+import com.teambind.placeinfoserver.place.dto.response.PlaceSearchResponse;
+import com.teambind.placeinfoserver.place.fixture.PlaceRequestFactory;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PlaceSearchMetrics 테스트")
+class PlaceSearchMetricsTest {
+	
+	private SimpleMeterRegistry meterRegistry;
+	private PlaceSearchMetrics searchMetrics;
+	
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		searchMetrics = new PlaceSearchMetrics(meterRegistry);
+	}
+	
+	@Nested
+	@DisplayName("필터 조합 태그")
+	class FilterShapeTests {
+		
+		@Test
+		@DisplayName("정상: 필터가 없으면 none")
+		void filterShape_None() {
+			PlaceSearchRequest request = PlaceRequestFactory.searchRequestBuilder().build();
+			
+			assertThat(PlaceSearchMetrics.filterShape(request)).isEqualTo("none");
+		}
+		
+		@Test
+		@DisplayName("정상: 적용된 필터 종류를 고정 순서로 조합")
+		void filterShape_Combination() {
+			PlaceSearchRequest request = PlaceRequestFactory.searchRequestBuilder()
+					.keyword("합주실")
+					.keywordIds(List.of(1L, 2L))
+					.province("서울특별시")
+					.parkingAvailable(true)
+					.build();
+			
+			assertThat(PlaceSearchMetrics.filterShape(request)).isEqualTo("text+tags+region+attrs");
+		}
+		
+		@Test
+		@DisplayName("정상: 필터 값은 태그에 포함되지 않음")
+		void filterShape_IgnoresValues() {
+			PlaceSearchRequest first = PlaceRequestFactory.searchRequestBuilder().category("연습실").build();
+			PlaceSearchRequest second = PlaceRequestFactory.searchRequestBuilder().placeType("스튜디오").build();
+			
+			assertThat(PlaceSearchMetrics.filterShape(first))
+					.isEqualTo(PlaceSearchMetrics.filterShape(second))
+					.isEqualTo("attrs");
+		}
+	}
+	
+	@Nested
+	@DisplayName("타이머 기록")
+	class TimerTests {
+		
+		@Test
+		@DisplayName("정상: 검색 분기 타이머에 유형/정렬/필터 태그 기록")
+		void recordSearch_Tags() {
+			PlaceSearchRequest request = PlaceRequestFactory.searchRequestBuilder()
+					.keyword("드럼")
+					.sortBy(PlaceSearchRequest.SortBy.RATING)
+					.build();
+			
+			String result = searchMetrics.recordSearch(SearchType.CURSOR, request, () -> "ok");
+			
+			Timer timer = meterRegistry.get(PlaceSearchMetrics.SEARCH)
+					.tag("type", "cursor")
+					.tag("sort", "rating")
+					.tag("filters", "text")
+					.timer();
+			assertThat(result).isEqualTo("ok");
+			assertThat(timer.count()).isEqualTo(1);
+		}
+		
+		@Test
+		@DisplayName("정상: 단계 타이머는 단계별로 분리")
+		void recordStage_SeparatesStages() {
+			PlaceSearchRequest request = PlaceRequestFactory.searchRequestBuilder()
+					.latitude(37.5665)
+					.longitude(126.9780)
+					.build();
+			
+			searchMetrics.recordStage(SearchType.LOCATION, Stage.CANDIDATES, request, () -> List.of());
+			searchMetrics.recordStage(SearchType.LOCATION, Stage.FETCH, request, () -> List.of());
+			searchMetrics.recordStage(SearchType.LOCATION, Stage.FETCH, request, () -> List.of());
+			
+			assertThat(meterRegistry.get(PlaceSearchMetrics.STAGE)
+					.tag("type", "location").tag("stage", "candidates").timer().count()).isEqualTo(1);
+			assertThat(meterRegistry.get(PlaceSearchMetrics.STAGE)
+					.tag("type", "location").tag("stage", "fetch").timer().count()).isEqualTo(2);
+		}
+		
+		@Test
+		@DisplayName("정상: 예외가 발생해도 시간 기록 후 전파")
+		void recordStage_RecordsOnFailure() {
+			PlaceSearchRequest request = PlaceRequestFactory.searchRequestBuilder().build();
+			
+			assertThatThrownBy(() -> searchMetrics.recordStage(SearchType.CURSOR, Stage.FETCH, request, () -> {
+				throw new IllegalStateException("db down");
+			})).isInstanceOf(IllegalStateException.class);
+			
+			assertThat(meterRegistry.get(PlaceSearchMetrics.STAGE).tag("stage", "fetch").timer().count())
+					.isEqualTo(1);
+		}
+	}
+	
+	@Nested
+	@DisplayName("응답 직렬화")
+	class SerializationTests {
+		
+		@Test
+		@DisplayName("정상: 검색 응답 직렬화 시간 기록")
+		void write_RecordsSerialization() throws Exception {
+			PlaceSearchResponseJsonConverter converter =
+					new PlaceSearchResponseJsonConverter(new ObjectMapper(), searchMetrics);
+			MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+			
+			converter.write(PlaceSearchResponse.empty(), MediaType.APPLICATION_JSON, outputMessage);
+			
+			assertThat(outputMessage.getBodyAsString()).contains("\"items\":[]");
+			assertThat(meterRegistry.get(PlaceSearchMetrics.SERIALIZATION).timer().count()).isEqualTo(1);
+		}
+		
+		@Test
+		@DisplayName("정상: 검색 응답 외 타입은 기본 변환기에 위임")
+		void supports_OnlySearchResponse() {
+			PlaceSearchResponseJsonConverter converter =
+					new PlaceSearchResponseJsonConverter(new ObjectMapper(), searchMetrics);
+			
+			assertThat(converter.canWrite(PlaceSearchResponse.class, MediaType.APPLICATION_JSON)).isTrue();
+			assertThat(converter.canWrite(String.class, MediaType.APPLICATION_JSON)).isFalse();
+			assertThat(converter.canRead(PlaceSearchResponse.class, MediaType.APPLICATION_JSON)).isFalse();
+		}
+	}
+}
@@ -0,0 +1,159 @@
+package com.teambind.placeinfoserver.place.common.util.concurrent;
+
+import com.teambind.placeinfoserver.place.common.exception.domain.PlaceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SingleFlight 테스트")
+class SingleFlightTest {
+	
+	private static final String PREFIX = "test.single-flight";
+	private static final int FOLLOWERS = 8;
+	
+	private SimpleMeterRegistry meterRegistry;
+	private ExecutorService executor;
+	private CountDownLatch started;
+	private CountDownLatch release;
+	private AtomicInteger loads;
+	
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		executor = Executors.newFixedThreadPool(FOLLOWERS + 1);
+		started = new CountDownLatch(1);
+		release = new CountDownLatch(1);
+		loads = new AtomicInteger();
+	}
+	
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+	
+	private double count(String result) {
+		return meterRegistry.get(PREFIX + ".requests").tag("result", result).counter().count();
+	}
+	
+	// release 될 때까지 끝나지 않는 조회
+	private String blockingLoad() {
+		loads.incrementAndGet();
+		started.countDown();
+		try {
+			release.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return "value";
+	}
+	
+	// 리더 조회를 시작시킨 뒤 나머지 호출자가 진행 중인 조회를 기다리도록 함
+	private List<Future<String>> startConcurrent(SingleFlight<Long, String> singleFlight) throws InterruptedException {
+		List<Future<String>> futures = new ArrayList<>();
+		futures.add(executor.submit(() -> singleFlight.execute(1L, this::blockingLoad)));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		for (int i = 0; i < FOLLOWERS; i++) {
+			futures.add(executor.submit(() -> singleFlight.execute(1L, this::blockingLoad)));
+		}
+		Thread.sleep(200);
+		return futures;
+	}
+	
+	@Test
+	@DisplayName("정상: 동시 조회는 한 번만 실행되고 결과를 공유")
+	void execute_Coalesces() throws Exception {
+		SingleFlight<Long, String> singleFlight = new SingleFlight<>(PREFIX, Duration.ofSeconds(5), meterRegistry);
+		List<Future<String>> futures = startConcurrent(singleFlight);
+		
+		release.countDown();
+		
+		for (Future<String> future : futures) {
+			assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+		}
+		assertThat(loads.get()).isEqualTo(1);
+		assertThat(count("leader")).isEqualTo(1);
+		assertThat(count("coalesced")).isEqualTo(FOLLOWERS);
+		assertThat(meterRegistry.get(PREFIX + ".in-flight").gauge().value()).isZero();
+	}
+	
+	@Test
+	@DisplayName("정상: 조회가 끝나면 다음 호출은 새로 조회")
+	void execute_NotCachedAfterCompletion() {
+		SingleFlight<Long, String> singleFlight = new SingleFlight<>(PREFIX, Duration.ofSeconds(1), meterRegistry);
+		
+		singleFlight.execute(1L, () -> "first");
+		String second = singleFlight.execute(1L, () -> "second");
+		
+		assertThat(second).isEqualTo("second");
+		assertThat(count("leader")).isEqualTo(2);
+	}
+	
+	@Test
+	@DisplayName("예외: 리더의 예외를 대기 중인 호출자도 받음")
+	void execute_SharesException() throws Exception {
+		SingleFlight<Long, String> singleFlight = new SingleFlight<>(PREFIX, Duration.ofSeconds(5), meterRegistry);
+		Future<String> leader = executor.submit(() -> singleFlight.execute(1L, () -> {
+			blockingLoad();
+			throw new PlaceNotFoundException();
+		}));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		Future<String> follower = executor.submit(() -> singleFlight.execute(1L, this::blockingLoad));
+		Thread.sleep(100);
+		
+		release.countDown();
+		
+		assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+				.isInstanceOf(ExecutionException.class)
+				.hasCauseInstanceOf(PlaceNotFoundException.class);
+		assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+				.isInstanceOf(ExecutionException.class)
+				.hasCauseInstanceOf(PlaceNotFoundException.class);
+		assertThat(loads.get()).isEqualTo(1);
+	}
+	
+	@Test
+	@DisplayName("정상: 대기 시간이 지나면 직접 조회")
+	void execute_TimeoutFallsBackToOwnLoad() throws Exception {
+		SingleFlight<Long, String> singleFlight = new SingleFlight<>(PREFIX, Duration.ofMillis(50), meterRegistry);
+		executor.submit(() -> singleFlight.execute(1L, this::blockingLoad));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		
+		String result = singleFlight.execute(1L, () -> "own");
+		release.countDown();
+		
+		assertThat(result).isEqualTo("own");
+		assertThat(count("timeout")).isEqualTo(1);
+	}
+	
+	@Test
+	@DisplayName("정상: forget 이후 호출은 진행 중인 조회를 공유하지 않음")
+	void forget_StartsNewLoad() throws Exception {
+		SingleFlight<Long, String> singleFlight = new SingleFlight<>(PREFIX, Duration.ofSeconds(5), meterRegistry);
+		Future<String> stale = executor.submit(() -> singleFlight.execute(1L, this::blockingLoad));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		
+		singleFlight.forget(1L);
+		String fresh = singleFlight.execute(1L, () -> "fresh");
+		release.countDown();
+		
+		assertThat(fresh).isEqualTo("fresh");
+		assertThat(stale.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+		assertThat(count("leader")).isEqualTo(2);
+	}
+}
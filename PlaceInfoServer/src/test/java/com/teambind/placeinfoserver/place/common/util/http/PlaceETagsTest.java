@@ -0,0 +1,71 @@
+package com.teambind.placeinfoserver.place.common.util.http;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PlaceETags 유틸리티 단위 테스트
+ */
+@DisplayName("PlaceETags 단위 테스트")
+class PlaceETagsTest {
+	
+	private static final LocalDateTime VERSION = LocalDateTime.of(2024, 1, 20, 15, 45, 0, 123_456_000);
+	
+	@Test
+	@DisplayName("상세 ETag는 따옴표로 감싼 강한 ETag이며 마이크로초 단위로 구분된다")
+	void detail_StrongAndMicrosecondPrecision() {
+		String etag = PlaceETags.detail(VERSION);
+		
+		assertThat(etag).startsWith("\"").endsWith("\"").doesNotStartWith("W/");
+		assertThat(PlaceETags.detail(VERSION.plusNanos(1_000))).isNotEqualTo(etag);
+		// DB 정밀도 미만 차이(나노초)는 같은 버전
+		assertThat(PlaceETags.detail(VERSION.plusNanos(499))).isEqualTo(etag);
+	}
+	
+	@Test
+	@DisplayName("배치 ETag는 업체 순서와 무관하고 버전이 바뀌면 달라진다")
+	void batch_OrderIndependent() {
+		Map<Long, LocalDateTime> forward = new LinkedHashMap<>();
+		forward.put(1L, VERSION);
+		forward.put(2L, VERSION.plusSeconds(1));
+		Map<Long, LocalDateTime> backward = new LinkedHashMap<>();
+		backward.put(2L, VERSION.plusSeconds(1));
+		backward.put(1L, VERSION);
+		
+		assertThat(PlaceETags.batch(forward)).isEqualTo(PlaceETags.batch(backward));
+		
+		backward.put(1L, VERSION.plusNanos(1_000));
+		assertThat(PlaceETags.batch(forward)).isNotEqualTo(PlaceETags.batch(backward));
+		assertThat(PlaceETags.batch(Map.of())).isNotEqualTo(PlaceETags.batch(forward));
+	}
+	
+	@Test
+	@DisplayName("배치 ETag는 형식(JSON/CBOR/Smile)과 무관한 약한 ETag이며 If-None-Match와 약한 비교로 일치한다")
+	void batch_WeakETag() {
+		String etag = PlaceETags.batch(Map.of(1L, VERSION));
+		
+		assertThat(etag).startsWith("W/\"").endsWith("\"");
+		assertThat(PlaceETags.matches(etag, etag)).isTrue();
+		assertThat(PlaceETags.matches(etag.substring(2), etag)).isTrue();
+		assertThat(PlaceETags.matches("W/\"other\"", etag)).isFalse();
+	}
+	
+	@Test
+	@DisplayName("If-None-Match는 목록, 약한 ETag, *를 처리한다")
+	void matches_IfNoneMatchForms() {
+		String etag = PlaceETags.detail(VERSION);
+		
+		assertThat(PlaceETags.matches(etag, etag)).isTrue();
+		assertThat(PlaceETags.matches("\"other\", " + etag, etag)).isTrue();
+		assertThat(PlaceETags.matches("W/" + etag, etag)).isTrue();
+		assertThat(PlaceETags.matches("*", etag)).isTrue();
+		assertThat(PlaceETags.matches("\"other\"", etag)).isFalse();
+		assertThat(PlaceETags.matches(null, etag)).isFalse();
+	}
+}
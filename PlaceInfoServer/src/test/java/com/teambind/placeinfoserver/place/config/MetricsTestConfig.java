@@ -0,0 +1,20 @@
+package com.teambind.placeinfoserver.place.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * 메트릭 테스트 설정
+ *
+ * @DataJpaTest에서 MeterRegistry 빈을 제공
+ */
+@TestConfiguration
+public class MetricsTestConfig {
+	
+	@Bean
+	public MeterRegistry meterRegistry() {
+		return new SimpleMeterRegistry();
+	}
+}
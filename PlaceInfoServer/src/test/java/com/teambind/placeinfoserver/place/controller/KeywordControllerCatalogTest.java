@@ -0,0 +1,115 @@
+package com.teambind.placeinfoserver.place.controller;
+
+import com.teambind.placeinfoserver.place.config.BaseIntegrationTest;
+import com.teambind.placeinfoserver.place.domain.entity.Keyword;
+import com.teambind.placeinfoserver.place.domain.enums.KeywordType;
+import com.teambind.placeinfoserver.place.repository.KeywordRepository;
+import com.teambind.placeinfoserver.place.service.usecase.query.KeywordCatalogManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 키워드 카탈로그 스냅샷 활성화 시 KeywordController 조건부 요청 (ETag) 테스트
+ * 스냅샷은 주기적으로만 교체되므로 데이터 변경 후 reload()로 반영
+ */
+@SpringBootTest(properties = "place.keyword.catalog.enabled=true")
+@AutoConfigureMockMvc
+@Transactional
+@DisplayName("KeywordController 카탈로그 스냅샷 테스트")
+class KeywordControllerCatalogTest extends BaseIntegrationTest {
+	
+	@Autowired
+	private MockMvc mockMvc;
+	
+	@Autowired
+	private KeywordRepository keywordRepository;
+	
+	@Autowired
+	private KeywordCatalogManager keywordCatalogManager;
+	
+	@BeforeEach
+	void setUp() {
+		keywordRepository.deleteAll();
+		
+		keywordRepository.save(createKeyword("합주실", KeywordType.SPACE_TYPE, 1));
+		keywordRepository.save(createKeyword("연습실", KeywordType.SPACE_TYPE, 2));
+		keywordRepository.save(createKeyword("드럼 세트", KeywordType.INSTRUMENT_EQUIPMENT, 1));
+		keywordRepository.save(createKeyword("피아노", KeywordType.INSTRUMENT_EQUIPMENT, 2));
+		keywordRepository.save(createKeyword("주차 가능", KeywordType.AMENITY, 1));
+		keywordCatalogManager.reload();
+	}
+	
+	private Keyword createKeyword(String name, KeywordType type, Integer displayOrder) {
+		return Keyword.builder()
+				.name(name)
+				.type(type)
+				.description(name)
+				.displayOrder(displayOrder)
+				.isActive(true)
+				.build();
+	}
+	
+	@Test
+	@DisplayName("If-None-Match가 ETag와 같으면 본문 없이 304를 반환한다")
+	void getKeywords_IfNoneMatch_NotModified() throws Exception {
+		String etag = mockMvc.perform(get("/api/v1/keywords"))
+				.andExpect(status().isOk())
+				.andExpect(header().exists(HttpHeaders.ETAG))
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+				.andExpect(jsonPath("$", hasSize(5)))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		
+		mockMvc.perform(get("/api/v1/keywords")
+						.header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andDo(print())
+				.andExpect(status().isNotModified())
+				.andExpect(content().bytes(new byte[0]));
+	}
+	
+	@Test
+	@DisplayName("키워드가 바뀌어 스냅샷이 교체되면 ETag가 달라져 전체 응답을 반환한다")
+	void getKeywords_Changed_ReturnsBody() throws Exception {
+		String etag = mockMvc.perform(get("/api/v1/keywords"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		
+		keywordRepository.save(createKeyword("녹음실", KeywordType.SPACE_TYPE, 3));
+		keywordCatalogManager.reload();
+		
+		mockMvc.perform(get("/api/v1/keywords")
+						.header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+				.andExpect(jsonPath("$", hasSize(6)));
+	}
+	
+	@Test
+	@DisplayName("타입별 응답은 타입별 ETag를 사용한다")
+	void getKeywordsByType_HasOwnETag() throws Exception {
+		String allETag = mockMvc.perform(get("/api/v1/keywords"))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		
+		mockMvc.perform(get("/api/v1/keywords")
+						.param("type", "AMENITY")
+						.header(HttpHeaders.IF_NONE_MATCH, allETag))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, not(allETag)))
+				.andExpect(jsonPath("$", hasSize(1)));
+	}
+}
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -228,4 +230,19 @@ class KeywordControllerTest extends BaseIntegrationTest {
 					.andExpect(status().isBadRequest());
 		}
 	}
+	
+	@Nested
+	@DisplayName("카탈로그 스냅샷 비활성화 (기본값)")
+	class CatalogDisabledTests {
+		
+		@Test
+		@DisplayName("조회 결과를 그대로 응답하고 ETag를 만들지 않는다")
+		void getKeywords_NoETag() throws Exception {
+			mockMvc.perform(get("/api/v1/keywords")
+							.param("type", "SPACE_TYPE"))
+					.andExpect(status().isOk())
+					.andExpect(header().doesNotExist(HttpHeaders.ETAG))
+					.andExpect(jsonPath("$", hasSize(2)));
+		}
+	}
 }
@@ -1,18 +1,24 @@
 package com.teambind.placeinfoserver.place.controller;
 
+import com.jayway.jsonpath.JsonPath;
 import com.teambind.placeinfoserver.place.config.BaseIntegrationTest;
 import com.teambind.placeinfoserver.place.domain.entity.PlaceInfo;
 import com.teambind.placeinfoserver.place.fixture.PlaceTestFactory;
 import com.teambind.placeinfoserver.place.repository.PlaceInfoRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -36,6 +42,9 @@ class PlaceControllerTest extends BaseIntegrationTest {
 	@Autowired
 	private PlaceInfoRepository placeInfoRepository;
 	
+	@Autowired
+	private EntityManager entityManager;
+	
 	private PlaceInfo testPlace;
 	private String testUserId;
 	
@@ -155,6 +164,77 @@ class PlaceControllerTest extends BaseIntegrationTest {
 		}
 	}
 	
+	@Nested
+	@DisplayName("내 공간 요약 목록 조회 API 테스트")
+	class GetMyPlaceSummariesTest {
+		
+		@Test
+		@Order(1)
+		@DisplayName("내 공간 요약 조회 - 커서로 다음 페이지 조회")
+		void getMyPlaceSummaries_CursorPaging() throws Exception {
+			placeInfoRepository.save(PlaceTestFactory.builder()
+					.userId(testUserId)
+					.placeName("두 번째 연습실")
+					.build());
+			placeInfoRepository.save(PlaceTestFactory.builder()
+					.userId(testUserId)
+					.placeName("세 번째 연습실")
+					.build());
+			
+			String firstPage = mockMvc.perform(get("/api/v1/places/my/summary")
+							.header(HEADER_APP_TYPE, APP_TYPE_PLACE_MANAGER)
+							.header(HEADER_USER_ID, testUserId)
+							.param("size", "2"))
+					.andDo(print())
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.count").value(2))
+					.andExpect(jsonPath("$.hasNext").value(true))
+					.andExpect(jsonPath("$.items[0].placeName").value("세 번째 연습실"))
+					.andExpect(jsonPath("$.items[1].placeName").value("두 번째 연습실"))
+					.andReturn().getResponse().getContentAsString();
+			String nextCursor = JsonPath.read(firstPage, "$.nextCursor");
+			
+			mockMvc.perform(get("/api/v1/places/my/summary")
+							.header(HEADER_APP_TYPE, APP_TYPE_PLACE_MANAGER)
+							.header(HEADER_USER_ID, testUserId)
+							.param("size", "2")
+							.param("cursor", nextCursor))
+					.andDo(print())
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.count").value(1))
+					.andExpect(jsonPath("$.hasNext").value(false))
+					.andExpect(jsonPath("$.nextCursor").doesNotExist())
+					.andExpect(jsonPath("$.items[0].id").value(String.valueOf(testPlace.getId())))
+					.andExpect(jsonPath("$.items[0].placeName").value(testPlace.getPlaceName()));
+		}
+		
+		@Test
+		@Order(2)
+		@DisplayName("내 공간 요약 조회 - 등록된 공간이 없는 경우 빈 페이지")
+		void getMyPlaceSummaries_Empty() throws Exception {
+			mockMvc.perform(get("/api/v1/places/my/summary")
+							.header(HEADER_APP_TYPE, APP_TYPE_PLACE_MANAGER)
+							.header(HEADER_USER_ID, "non_existent_user"))
+					.andDo(print())
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.items").isEmpty())
+					.andExpect(jsonPath("$.count").value(0))
+					.andExpect(jsonPath("$.hasNext").value(false));
+		}
+		
+		@Test
+		@Order(3)
+		@DisplayName("내 공간 요약 조회 - GENERAL 앱 타입으로 요청 시 403")
+		void getMyPlaceSummaries_ForbiddenForGeneralApp() throws Exception {
+			mockMvc.perform(get("/api/v1/places/my/summary")
+							.header(HEADER_APP_TYPE, APP_TYPE_GENERAL)
+							.header(HEADER_USER_ID, testUserId))
+					.andDo(print())
+					.andExpect(status().isForbidden())
+					.andExpect(jsonPath("$.code").value("AUTH_004"));
+		}
+	}
+	
 	@Nested
 	@DisplayName("공간 상세 조회 API 테스트")
 	class GetPlaceDetailTest {
@@ -178,5 +258,66 @@ class PlaceControllerTest extends BaseIntegrationTest {
 					.andDo(print())
 					.andExpect(status().isNotFound());
 		}
+		
+		@Test
+		@Order(3)
+		@DisplayName("공간 상세 조회 - If-None-Match 일치 시 304")
+		void getPlaceDetail_IfNoneMatch_NotModified() throws Exception {
+			entityManager.flush();
+			entityManager.clear();
+			
+			String etag = mockMvc.perform(get("/api/v1/places/{placeId}", testPlace.getId()))
+					.andExpect(status().isOk())
+					.andExpect(header().exists(HttpHeaders.ETAG))
+					.andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+					.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+			
+			mockMvc.perform(get("/api/v1/places/{placeId}", testPlace.getId())
+							.header(HttpHeaders.IF_NONE_MATCH, etag))
+					.andDo(print())
+					.andExpect(status().isNotModified())
+					.andExpect(header().string(HttpHeaders.ETAG, etag))
+					.andExpect(content().string(""));
+		}
+		
+		@Test
+		@Order(4)
+		@DisplayName("공간 상세 조회 - If-Modified-Since 이후 변경 없으면 304")
+		void getPlaceDetail_IfModifiedSince_NotModified() throws Exception {
+			entityManager.flush();
+			entityManager.clear();
+			
+			String lastModified = mockMvc.perform(get("/api/v1/places/{placeId}", testPlace.getId()))
+					.andExpect(status().isOk())
+					.andReturn().getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+			
+			mockMvc.perform(get("/api/v1/places/{placeId}", testPlace.getId())
+							.header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+					.andDo(print())
+					.andExpect(status().isNotModified());
+		}
+		
+		@Test
+		@Order(5)
+		@DisplayName("공간 상세 조회 - 버전 갱신 후에는 If-None-Match가 달라 200")
+		void getPlaceDetail_IfNoneMatch_ModifiedAfterTouch() throws Exception {
+			entityManager.flush();
+			entityManager.clear();
+			
+			String etag = mockMvc.perform(get("/api/v1/places/{placeId}", testPlace.getId()))
+					.andExpect(status().isOk())
+					.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+			
+			// 연관 엔티티/Room 변경 커밋 시 PlaceVersionToucher가 수행하는 갱신
+			placeInfoRepository.touchUpdatedAt(testPlace.getId());
+			entityManager.clear();
+			
+			mockMvc.perform(get("/api/v1/places/{placeId}", testPlace.getId())
+							.header(HttpHeaders.IF_NONE_MATCH, etag))
+					.andDo(print())
+					.andExpect(status().isOk())
+					.andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+					.andExpect(jsonPath("$.id").value(String.valueOf(testPlace.getId())));
+		}
 	}
 }
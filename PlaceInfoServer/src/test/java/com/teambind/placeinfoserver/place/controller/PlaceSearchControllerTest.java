@@ -1,18 +1,24 @@
 package com.teambind.placeinfoserver.place.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.placeinfoserver.place.common.config.BinaryFormatConfig;
 import com.teambind.placeinfoserver.place.config.BaseIntegrationTest;
 import com.teambind.placeinfoserver.place.domain.entity.PlaceInfo;
 import com.teambind.placeinfoserver.place.dto.request.LocationSearchRequest;
 import com.teambind.placeinfoserver.place.dto.request.PlaceBatchDetailRequest;
 import com.teambind.placeinfoserver.place.dto.request.PlaceSearchRequest;
+import com.teambind.placeinfoserver.place.dto.response.PlaceBatchDetailResponse;
+import com.teambind.placeinfoserver.place.dto.response.PlaceSearchResponse;
 import com.teambind.placeinfoserver.place.fixture.PlaceTestFactory;
 import com.teambind.placeinfoserver.place.repository.PlaceInfoRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +28,8 @@ import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -44,6 +52,9 @@ class PlaceSearchControllerTest extends BaseIntegrationTest {
 	@Autowired
 	private ObjectMapper objectMapper;
 	
+	@Autowired
+	private EntityManager entityManager;
+	
 	private PlaceInfo testPlace1;
 	private PlaceInfo testPlace2;
 	
@@ -474,5 +485,103 @@ class PlaceSearchControllerTest extends BaseIntegrationTest {
 					.andExpect(jsonPath("$.results", hasSize(2)))  // 중복 제거되어 2개만
 					.andExpect(jsonPath("$.failed").doesNotExist());
 		}
+		
+		@Test
+		@Order(24)
+		@DisplayName("배치 상세 조회 - If-None-Match 일치 시 304, 요청 순서/중복과 무관")
+		void batchDetailSearch_IfNoneMatch_NotModified() throws Exception {
+			// Given
+			entityManager.flush();
+			entityManager.clear();
+			PlaceBatchDetailRequest request = PlaceBatchDetailRequest.builder()
+					.placeIds(List.of(testPlace1.getId(), testPlace2.getId()))
+					.build();
+			String etag = mockMvc.perform(post("/api/v1/places/search/batch/details")
+							.contentType(MediaType.APPLICATION_JSON)
+							.content(objectMapper.writeValueAsString(request)))
+					.andExpect(status().isOk())
+					.andExpect(header().exists(HttpHeaders.ETAG))
+					.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+			
+			PlaceBatchDetailRequest reordered = PlaceBatchDetailRequest.builder()
+					.placeIds(List.of(testPlace2.getId(), testPlace1.getId(), testPlace2.getId()))
+					.build();
+			
+			// When & Then
+			mockMvc.perform(post("/api/v1/places/search/batch/details")
+							.contentType(MediaType.APPLICATION_JSON)
+							.header(HttpHeaders.IF_NONE_MATCH, etag)
+							.content(objectMapper.writeValueAsString(reordered)))
+					.andDo(print())
+					.andExpect(status().isNotModified())
+					.andExpect(header().string(HttpHeaders.ETAG, etag));
+			
+			// 업체 버전이 바뀌면 전체 응답
+			placeInfoRepository.touchUpdatedAt(testPlace1.getId());
+			entityManager.clear();
+			mockMvc.perform(post("/api/v1/places/search/batch/details")
+							.contentType(MediaType.APPLICATION_JSON)
+							.header(HttpHeaders.IF_NONE_MATCH, etag)
+							.content(objectMapper.writeValueAsString(request)))
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.results", hasSize(2)))
+					.andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+		}
+	}
+	
+	@Nested
+	@DisplayName("바이너리 응답 형식 테스트")
+	class BinaryFormatTest {
+		
+		@Test
+		@Order(25)
+		@DisplayName("통합 검색 - Accept: application/cbor 이면 CBOR 응답")
+		void search_Cbor_Success() throws Exception {
+			byte[] body = mockMvc.perform(get("/api/v1/places/search")
+							.param("size", "10")
+							.accept(MediaType.APPLICATION_CBOR))
+					.andExpect(status().isOk())
+					.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+					.andReturn().getResponse().getContentAsByteArray();
+			
+			PlaceSearchResponse response = Jackson2ObjectMapperBuilder.cbor().build()
+					.readValue(body, PlaceSearchResponse.class);
+			Assertions.assertTrue(response.getItems().size() >= 2);
+			Assertions.assertNotNull(response.getHasNext());
+		}
+		
+		@Test
+		@Order(26)
+		@DisplayName("배치 상세 조회 - Accept: application/x-jackson-smile 이면 Smile 응답, ETag는 JSON과 같은 약한 ETag")
+		void batchDetailSearch_Smile_Success() throws Exception {
+			// Given
+			entityManager.flush();
+			entityManager.clear();
+			PlaceBatchDetailRequest request = PlaceBatchDetailRequest.builder()
+					.placeIds(List.of(testPlace1.getId(), testPlace2.getId()))
+					.build();
+			String jsonETag = mockMvc.perform(post("/api/v1/places/search/batch/details")
+							.contentType(MediaType.APPLICATION_JSON)
+							.content(objectMapper.writeValueAsString(request)))
+					.andExpect(status().isOk())
+					.andExpect(header().string(HttpHeaders.ETAG, startsWith("W/")))
+					.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+			
+			// When
+			byte[] body = mockMvc.perform(post("/api/v1/places/search/batch/details")
+							.contentType(MediaType.APPLICATION_JSON)
+							.accept(BinaryFormatConfig.APPLICATION_SMILE_VALUE)
+							.content(objectMapper.writeValueAsString(request)))
+					.andExpect(status().isOk())
+					.andExpect(content().contentTypeCompatibleWith(BinaryFormatConfig.APPLICATION_SMILE_VALUE))
+					.andExpect(header().string(HttpHeaders.ETAG, jsonETag))
+					.andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)))
+					.andReturn().getResponse().getContentAsByteArray();
+			
+			// Then
+			PlaceBatchDetailResponse response = Jackson2ObjectMapperBuilder.smile().build()
+					.readValue(body, PlaceBatchDetailResponse.class);
+			Assertions.assertEquals(2, response.getResults().size());
+		}
 	}
 }
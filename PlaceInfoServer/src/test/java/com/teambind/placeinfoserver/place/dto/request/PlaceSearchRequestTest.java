@@ -0,0 +1,73 @@
+package com.teambind.placeinfoserver.place.dto.request;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검색 요청 DTO 캐시 키 테스트
+ */
+class PlaceSearchRequestTest {
+	
+	@Test
+	@DisplayName("캐시 키는 입력 길이와 관계없이 SHA-256 hex 64자")
+	void cacheKey_IsBoundedHash() {
+		// given
+		PlaceSearchRequest request = PlaceSearchRequest.builder()
+				.keyword("연습실".repeat(1000))
+				.build();
+		
+		// when & then
+		assertThat(request.cacheKey()).hasSize(64).matches("[0-9a-f]+");
+		assertThat(request.filterKey()).hasSize(64).matches("[0-9a-f]+");
+	}
+	
+	@Test
+	@DisplayName("대소문자, 키워드 ID 순서/중복만 다른 요청은 같은 키")
+	void filterKey_Normalized() {
+		// given
+		PlaceSearchRequest upper = PlaceSearchRequest.builder()
+				.keyword("Drum")
+				.keywordIds(List.of(3L, 1L, 3L))
+				.build();
+		PlaceSearchRequest lower = PlaceSearchRequest.builder()
+				.keyword("drum")
+				.keywordIds(List.of(1L, 3L))
+				.build();
+		
+		// when & then
+		assertThat(upper.filterKey()).isEqualTo(lower.filterKey());
+		assertThat(upper.cacheKey()).isEqualTo(lower.cacheKey());
+	}
+	
+	@Test
+	@DisplayName("구분자가 포함된 입력이 다른 필드 조합과 같은 키가 되지 않음")
+	void filterKey_SeparatorInInputDoesNotCollide() {
+		// given - 구분자를 그대로 이어 붙이면 둘 다 "c=a|pt=b|pt=..."
+		PlaceSearchRequest categoryOnly = PlaceSearchRequest.builder()
+				.category("a|pt=b")
+				.build();
+		PlaceSearchRequest categoryAndType = PlaceSearchRequest.builder()
+				.category("a")
+				.placeType("b|pt=")
+				.build();
+		
+		// when & then
+		assertThat(categoryOnly.filterKey()).isNotEqualTo(categoryAndType.filterKey());
+	}
+	
+	@Test
+	@DisplayName("커서만 다른 요청은 필터 키는 같고 캐시 키는 다름")
+	void cacheKey_IncludesCursor() {
+		// given
+		PlaceSearchRequest first = PlaceSearchRequest.builder().keyword("드럼").build();
+		PlaceSearchRequest next = PlaceSearchRequest.builder().keyword("드럼").cursor("abc").build();
+		
+		// when & then
+		assertThat(first.filterKey()).isEqualTo(next.filterKey());
+		assertThat(first.cacheKey()).isNotEqualTo(next.cacheKey());
+	}
+}
@@ -0,0 +1,244 @@
+package com.teambind.placeinfoserver.place.events.consumer;
+
+import com.teambind.placeinfoserver.place.common.exception.domain.InvalidPlaceStateException;
+import com.teambind.placeinfoserver.place.common.exception.domain.PlaceNotFoundException;
+import com.teambind.placeinfoserver.place.common.metrics.KafkaRetryMetrics;
+import com.teambind.placeinfoserver.place.common.util.json.JsonUtilWithObjectMapper;
+import com.teambind.placeinfoserver.place.events.event.ImagesChangeEventWrapper;
+import com.teambind.placeinfoserver.place.events.publisher.FailedEventPublisher;
+import com.teambind.placeinfoserver.place.service.command.PlaceImageUpdateService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PlaceImageEventConsumer 배치/재시도 처리 단위 테스트
+ */
+@DisplayName("PlaceImageEventConsumer 단위 테스트")
+class PlaceImageEventConsumerTest {
+	
+	private final List<String> events = new ArrayList<>();
+	private int acknowledged = 0;
+	private final Acknowledgment acknowledgment = () -> acknowledged++;
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final KafkaRetryMetrics retryMetrics = new KafkaRetryMetrics(meterRegistry);
+	private final List<String> forwarded = new ArrayList<>();
+	// 스텁 업체의 현재 버전 (updated_at)
+	private static final LocalDateTime VERSION = LocalDateTime.of(2025, 1, 1, 10, 0, 0, 123456000);
+	// 스텁에서 없는 업체로 처리하는 ID
+	private static final String MISSING_ID = "404";
+	
+	private PlaceImageEventConsumer consumer(Set<String> failingIds) {
+		return new PlaceImageEventConsumer(
+				new StubPlaceImageUpdateService(events, failingIds), new JsonUtilWithObjectMapper(),
+				new StubFailedEventPublisher(forwarded, retryMetrics), retryMetrics, 2);
+	}
+	
+	private double retryCount(String topic, String stage) {
+		return meterRegistry.counter(KafkaRetryMetrics.RETRY, "topic", topic, "stage", stage).count();
+	}
+	
+	private static String message(String referenceId, String imageUrl) {
+		return "{\"referenceId\":\"" + referenceId + "\",\"images\":[{\"imageId\":\"img_" + imageUrl
+				+ "\",\"imageUrl\":\"" + imageUrl + "\",\"sequence\":1}]}";
+	}
+	
+	@Test
+	@DisplayName("업체별 마지막 이벤트만 청크 단위로 반영하고 배치를 커밋")
+	void coalescesPerPlaceAndAcknowledges() {
+		PlaceImageEventConsumer consumer = consumer(Set.of());
+		
+		consumer.placeImageChanged(List.of(
+				message("1", "a"),
+				message("2", "b"),
+				"not-json",
+				message("1", "c"),
+				message("3", "d")
+		), acknowledgment);
+		
+		// 1번 업체는 마지막 이벤트(c)의 위치로 이동
+		assertThat(events).containsExactly("batch:[2=b, 1=c]", "batch:[3=d]");
+		// 역직렬화할 수 없는 메시지는 재시도 토픽을 거쳐 DLT에 남도록 발행
+		assertThat(forwarded).containsExactly("place-image-changed|null|not-json");
+		assertThat(acknowledged).isEqualTo(1);
+	}
+	
+	@Test
+	@DisplayName("청크 처리 실패 시 해당 청크만 업체별로 재시도하고 배치는 커밋")
+	void retriesFailedChunkPerPlace() {
+		PlaceImageEventConsumer consumer = consumer(Set.of("2"));
+		
+		consumer.placeImageChanged(List.of(
+				message("1", "a"),
+				message("2", "b"),
+				message("3", "c")
+		), acknowledgment);
+		
+		assertThat(events).containsExactly(
+				"batch:[1=a, 2=b]", "single:1=a", "single-failed:2=b",
+				"batch:[3=c]");
+		assertThat(acknowledged).isEqualTo(1);
+	}
+	
+	@Test
+	@DisplayName("단건으로도 실패한 이벤트만 원본 메시지 그대로 재시도 토픽에 발행")
+	void forwardsFailedEventToRetryTopic() {
+		PlaceImageEventConsumer consumer = consumer(Set.of("2"));
+		
+		consumer.placeImageChanged(List.of(
+				message("1", "a"),
+				message("2", "b")
+		), acknowledgment);
+		
+		// 최초 실패 시점의 업체 버전을 헤더로 함께 발행
+		assertThat(forwarded).containsExactly("place-image-changed|2|" + message("2", "b")
+				+ "|{place-failure-place-version=" + VERSION + "}");
+		assertThat(retryCount("place-image-changed", "forwarded")).isEqualTo(1);
+		assertThat(acknowledged).isEqualTo(1);
+	}
+	
+	@Test
+	@DisplayName("단건 처리에서 없는(삭제된) 업체의 이벤트는 재시도 토픽에 발행하지 않고 건너뜀")
+	void skipsMissingPlaceWithoutForwarding() {
+		PlaceImageEventConsumer consumer = consumer(Set.of(MISSING_ID));
+		
+		consumer.placeImageChanged(List.of(
+				message("1", "a"),
+				message(MISSING_ID, "b")
+		), acknowledgment);
+		
+		assertThat(events).containsExactly("batch:[1=a, 404=b]", "single:1=a", "single-failed:404=b");
+		assertThat(forwarded).isEmpty();
+		assertThat(acknowledged).isEqualTo(1);
+	}
+	
+	@Test
+	@DisplayName("재시도 리스너는 시도 수를 기록하고 실패를 전파하여 다음 백오프 토픽으로 넘김")
+	void retryListenerPropagatesFailure() {
+		PlaceImageEventConsumer consumer = consumer(Set.of("2"));
+		
+		consumer.retryPlaceImageChanged(message("1", "a"), "place-image-changed-retry", null);
+		assertThatThrownBy(() -> consumer.retryPlaceImageChanged(message("2", "b"), "place-image-changed-retry-backoff-0", null))
+				.isInstanceOf(IllegalStateException.class);
+		
+		assertThat(events).containsExactly("single:1=a", "single-failed:2=b");
+		assertThat(retryCount("place-image-changed-retry", "attempt")).isEqualTo(1);
+		assertThat(retryCount("place-image-changed-retry-backoff-0", "attempt")).isEqualTo(1);
+	}
+	
+	@Test
+	@DisplayName("재시도 리스너는 최초 실패 이후 업체가 변경되었으면 덮어쓰지 않고 DLT로 보냄")
+	void retryListenerRejectsStaleEvent() {
+		PlaceImageEventConsumer consumer = consumer(Set.of());
+		byte[] current = VERSION.toString().getBytes(StandardCharsets.UTF_8);
+		byte[] older = VERSION.minusSeconds(5).toString().getBytes(StandardCharsets.UTF_8);
+		
+		consumer.retryPlaceImageChanged(message("1", "a"), "place-image-changed-retry", current);
+		// 재시도 불가 예외(@RetryableTopic exclude)이므로 백오프 없이 DLT로 이동
+		assertThatThrownBy(() -> consumer.retryPlaceImageChanged(message("2", "b"), "place-image-changed-retry", older))
+				.isInstanceOf(InvalidPlaceStateException.class);
+		
+		assertThat(events).containsExactly("single:1=a");
+	}
+	
+	@Test
+	@DisplayName("DLT 도착 이벤트를 기록")
+	void deadLetterIsCounted() {
+		PlaceImageEventConsumer consumer = consumer(Set.of());
+		
+		consumer.placeImageChangedDlt(message("1", "a"), "place-image-changed-retry-dlt",
+				IllegalStateException.class.getName().getBytes(), "place failed".getBytes());
+		
+		assertThat(retryCount("place-image-changed-retry-dlt", "dead_letter")).isEqualTo(1);
+		assertThat(events).isEmpty();
+	}
+	
+	/**
+	 * 호출 순서만 기록하는 스텁 (failingIds가 포함된 청크/단건은 예외)
+	 */
+	private static class StubPlaceImageUpdateService extends PlaceImageUpdateService {
+		
+		private final List<String> events;
+		private final Set<String> failingIds;
+		
+		StubPlaceImageUpdateService(List<String> events, Set<String> failingIds) {
+			super(null, null, null);
+			this.events = events;
+			this.failingIds = failingIds;
+		}
+		
+		@Override
+		public int updateImages(Collection<ImagesChangeEventWrapper> chunk) {
+			events.add("batch:" + chunk.stream().map(StubPlaceImageUpdateService::describe).toList());
+			if (chunk.stream().anyMatch(event -> failingIds.contains(event.getReferenceId()))) {
+				throw new IllegalStateException("chunk failed");
+			}
+			return chunk.size();
+		}
+		
+		@Override
+		public String updateImage(ImagesChangeEventWrapper event, LocalDateTime expectedVersion) {
+			if (expectedVersion != null && !expectedVersion.equals(VERSION)) {
+				throw InvalidPlaceStateException.staleEvent();
+			}
+			if (failingIds.contains(event.getReferenceId())) {
+				events.add("single-failed:" + describe(event));
+				if (MISSING_ID.equals(event.getReferenceId())) {
+					throw new PlaceNotFoundException();
+				}
+				throw new IllegalStateException("place failed");
+			}
+			events.add("single:" + describe(event));
+			return event.getReferenceId();
+		}
+		
+		@Override
+		public Optional<LocalDateTime> findVersion(String referenceId) {
+			return Optional.of(VERSION);
+		}
+		
+		private static String describe(ImagesChangeEventWrapper event) {
+			return event.getReferenceId() + "=" + event.getImages().get(0).getImageUrl();
+		}
+	}
+	
+	/**
+	 * 발행 대신 토픽|키|메시지(|추가 헤더)를 기록하는 스텁
+	 */
+	private static class StubFailedEventPublisher extends FailedEventPublisher {
+		
+		private final List<String> forwarded;
+		private final KafkaRetryMetrics retryMetrics;
+		
+		StubFailedEventPublisher(List<String> forwarded, KafkaRetryMetrics retryMetrics) {
+			super(null, retryMetrics);
+			this.forwarded = forwarded;
+			this.retryMetrics = retryMetrics;
+		}
+		
+		@Override
+		public void forward(String topic, String key, String message, Throwable cause) {
+			forwarded.add(topic + "|" + key + "|" + message);
+			retryMetrics.recordForwarded(topic);
+		}
+		
+		@Override
+		public void forward(String topic, String key, String message, Throwable cause, Map<String, String> headers) {
+			forwarded.add(topic + "|" + key + "|" + message + "|" + headers);
+			retryMetrics.recordForwarded(topic);
+		}
+	}
+}
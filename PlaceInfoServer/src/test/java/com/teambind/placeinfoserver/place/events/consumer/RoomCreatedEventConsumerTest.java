@@ -0,0 +1,185 @@
+package com.teambind.placeinfoserver.place.events.consumer;
+
+import com.teambind.placeinfoserver.place.common.exception.application.InvalidRequestException;
+import com.teambind.placeinfoserver.place.common.metrics.KafkaRetryMetrics;
+import com.teambind.placeinfoserver.place.common.util.json.JsonUtilWithObjectMapper;
+import com.teambind.placeinfoserver.place.events.event.RoomCreatedEvent;
+import com.teambind.placeinfoserver.place.events.publisher.FailedEventPublisher;
+import com.teambind.placeinfoserver.place.service.command.RoomCreateService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * RoomCreatedEventConsumer 배치/재시도 처리 단위 테스트
+ */
+@DisplayName("RoomCreatedEventConsumer 단위 테스트")
+class RoomCreatedEventConsumerTest {
+	
+	private final List<String> events = new ArrayList<>();
+	private int acknowledged = 0;
+	private final Acknowledgment acknowledgment = () -> acknowledged++;
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final KafkaRetryMetrics retryMetrics = new KafkaRetryMetrics(meterRegistry);
+	private final List<String> forwarded = new ArrayList<>();
+	
+	private RoomCreatedEventConsumer consumer(Set<Long> failingRoomIds) {
+		return new RoomCreatedEventConsumer(
+				new StubRoomCreateService(events, failingRoomIds), new JsonUtilWithObjectMapper(),
+				new StubFailedEventPublisher(forwarded, retryMetrics), retryMetrics);
+	}
+	
+	private double retryCount(String topic, String stage) {
+		return meterRegistry.counter(KafkaRetryMetrics.RETRY, "topic", topic, "stage", stage).count();
+	}
+	
+	private static String message(long roomId, long placeId) {
+		return "{\"roomId\":\"" + roomId + "\",\"placeId\":\"" + placeId + "\"}";
+	}
+	
+	@Test
+	@DisplayName("배치를 한 번에 생성하고 커밋")
+	void createsBatchAndAcknowledges() {
+		RoomCreatedEventConsumer consumer = consumer(Set.of());
+		
+		consumer.roomCreated(List.of(message(1, 10), message(2, 10)), acknowledgment);
+		
+		assertThat(events).containsExactly("batch:[1@10, 2@10]");
+		assertThat(forwarded).isEmpty();
+		assertThat(acknowledged).isEqualTo(1);
+	}
+	
+	@Test
+	@DisplayName("null/ID 누락/역직렬화 불가 메시지는 재시도 토픽으로 보내고 나머지만 처리")
+	void forwardsInvalidMessages() {
+		RoomCreatedEventConsumer consumer = consumer(Set.of());
+		
+		consumer.roomCreated(Arrays.asList(
+				message(1, 10),
+				null,
+				"{\"roomId\":\"2\"}",
+				"not-json"
+		), acknowledgment);
+		
+		assertThat(events).containsExactly("batch:[1@10]");
+		assertThat(forwarded).containsExactly(
+				"room-created|null|null",
+				"room-created|null|{\"roomId\":\"2\"}",
+				"room-created|null|not-json");
+		assertThat(retryCount("room-created", "forwarded")).isEqualTo(3);
+		assertThat(acknowledged).isEqualTo(1);
+	}
+	
+	@Test
+	@DisplayName("배치 실패 시 이벤트별로 재시도하고, 단건으로도 실패한 이벤트만 원본 메시지 그대로 재시도 토픽에 발행")
+	void retriesPerEventAndForwardsFailures() {
+		RoomCreatedEventConsumer consumer = consumer(Set.of(2L));
+		
+		consumer.roomCreated(List.of(message(1, 10), message(2, 20), message(3, 10)), acknowledgment);
+		
+		assertThat(events).containsExactly(
+				"batch:[1@10, 2@20, 3@10]", "single:1@10", "single-failed:2@20", "single:3@10");
+		assertThat(forwarded).containsExactly("room-created|20|" + message(2, 20));
+		assertThat(acknowledged).isEqualTo(1);
+	}
+	
+	@Test
+	@DisplayName("재시도 리스너는 시도 수를 기록하고 실패를 전파하여 다음 백오프 토픽으로 넘김")
+	void retryListenerPropagatesFailure() {
+		RoomCreatedEventConsumer consumer = consumer(Set.of(2L));
+		
+		consumer.retryRoomCreated(message(1, 10), "room-created-retry");
+		assertThatThrownBy(() -> consumer.retryRoomCreated(message(2, 20), "room-created-retry-backoff-0"))
+				.isInstanceOf(IllegalStateException.class);
+		
+		assertThat(events).containsExactly("single:1@10", "single-failed:2@20");
+		assertThat(retryCount("room-created-retry", "attempt")).isEqualTo(1);
+		assertThat(retryCount("room-created-retry-backoff-0", "attempt")).isEqualTo(1);
+	}
+	
+	@Test
+	@DisplayName("재시도 리스너는 ID가 없는 이벤트를 재시도 불가 예외로 DLT에 보냄")
+	void retryListenerRejectsEventWithoutIds() {
+		RoomCreatedEventConsumer consumer = consumer(Set.of());
+		
+		assertThatThrownBy(() -> consumer.retryRoomCreated("{\"roomId\":\"1\"}", "room-created-retry"))
+				.isInstanceOf(InvalidRequestException.class);
+		assertThat(events).isEmpty();
+	}
+	
+	@Test
+	@DisplayName("DLT 도착 이벤트를 기록")
+	void deadLetterIsCounted() {
+		RoomCreatedEventConsumer consumer = consumer(Set.of());
+		
+		consumer.roomCreatedDlt(message(1, 10), "room-created-retry-dlt",
+				IllegalStateException.class.getName().getBytes(), "room failed".getBytes());
+		
+		assertThat(retryCount("room-created-retry-dlt", "dead_letter")).isEqualTo(1);
+		assertThat(events).isEmpty();
+	}
+	
+	/**
+	 * 호출 순서만 기록하는 스텁 (failingRoomIds가 포함된 배치/단건은 예외)
+	 */
+	private static class StubRoomCreateService extends RoomCreateService {
+		
+		private final List<String> events;
+		private final Set<Long> failingRoomIds;
+		
+		StubRoomCreateService(List<String> events, Set<Long> failingRoomIds) {
+			super(null, null, null);
+			this.events = events;
+			this.failingRoomIds = failingRoomIds;
+		}
+		
+		@Override
+		public int createRooms(Collection<RoomCreatedEvent> batch) {
+			events.add("batch:" + batch.stream().map(event -> event.getRoomId() + "@" + event.getPlaceId()).toList());
+			if (batch.stream().anyMatch(event -> failingRoomIds.contains(event.getRoomId()))) {
+				throw new IllegalStateException("batch failed");
+			}
+			return batch.size();
+		}
+		
+		@Override
+		public void createRoom(Long roomId, Long placeId) {
+			if (failingRoomIds.contains(roomId)) {
+				events.add("single-failed:" + roomId + "@" + placeId);
+				throw new IllegalStateException("room failed");
+			}
+			events.add("single:" + roomId + "@" + placeId);
+		}
+	}
+	
+	/**
+	 * 발행 대신 토픽|키|메시지를 기록하는 스텁
+	 */
+	private static class StubFailedEventPublisher extends FailedEventPublisher {
+		
+		private final List<String> forwarded;
+		private final KafkaRetryMetrics retryMetrics;
+		
+		StubFailedEventPublisher(List<String> forwarded, KafkaRetryMetrics retryMetrics) {
+			super(null, retryMetrics);
+			this.forwarded = forwarded;
+			this.retryMetrics = retryMetrics;
+		}
+		
+		@Override
+		public void forward(String topic, String key, String message, Throwable cause) {
+			forwarded.add(topic + "|" + key + "|" + message);
+			retryMetrics.recordForwarded(topic);
+		}
+	}
+}
@@ -0,0 +1,173 @@
+package com.teambind.placeinfoserver.place.events.consumer;
+
+import com.teambind.placeinfoserver.place.common.exception.application.InvalidRequestException;
+import com.teambind.placeinfoserver.place.common.metrics.KafkaRetryMetrics;
+import com.teambind.placeinfoserver.place.common.util.json.JsonUtilWithObjectMapper;
+import com.teambind.placeinfoserver.place.events.publisher.FailedEventPublisher;
+import com.teambind.placeinfoserver.place.service.command.RoomDeactivateService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * RoomDeletedEventConsumer 배치/재시도 처리 단위 테스트
+ */
+@DisplayName("RoomDeletedEventConsumer 단위 테스트")
+class RoomDeletedEventConsumerTest {
+	
+	private final List<String> events = new ArrayList<>();
+	private int acknowledged = 0;
+	private final Acknowledgment acknowledgment = () -> acknowledged++;
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final KafkaRetryMetrics retryMetrics = new KafkaRetryMetrics(meterRegistry);
+	private final List<String> forwarded = new ArrayList<>();
+	
+	private RoomDeletedEventConsumer consumer(Set<Long> failingRoomIds) {
+		return new RoomDeletedEventConsumer(
+				new StubRoomDeactivateService(events, failingRoomIds), new JsonUtilWithObjectMapper(),
+				new StubFailedEventPublisher(forwarded, retryMetrics), retryMetrics);
+	}
+	
+	private double retryCount(String topic, String stage) {
+		return meterRegistry.counter(KafkaRetryMetrics.RETRY, "topic", topic, "stage", stage).count();
+	}
+	
+	private static String message(long roomId, long placeId) {
+		return "{\"roomId\":\"" + roomId + "\",\"placeId\":\"" + placeId + "\"}";
+	}
+	
+	@Test
+	@DisplayName("배치의 이벤트를 순서대로 비활성화하고 커밋")
+	void deactivatesBatchAndAcknowledges() {
+		RoomDeletedEventConsumer consumer = consumer(Set.of());
+		
+		consumer.roomDeleted(List.of(message(1, 10), message(2, 10)), acknowledgment);
+		
+		assertThat(events).containsExactly("deactivate:1", "deactivate:2");
+		assertThat(forwarded).isEmpty();
+		assertThat(acknowledged).isEqualTo(1);
+	}
+	
+	@Test
+	@DisplayName("null/roomId 누락/역직렬화 불가 메시지는 재시도 토픽으로 보내고 나머지만 처리")
+	void forwardsInvalidMessages() {
+		RoomDeletedEventConsumer consumer = consumer(Set.of());
+		
+		consumer.roomDeleted(Arrays.asList(
+				message(1, 10),
+				null,
+				"{\"placeId\":\"10\"}",
+				"not-json"
+		), acknowledgment);
+		
+		assertThat(events).containsExactly("deactivate:1");
+		assertThat(forwarded).containsExactly(
+				"room-deleted|null|null",
+				"room-deleted|null|{\"placeId\":\"10\"}",
+				"room-deleted|null|not-json");
+		assertThat(retryCount("room-deleted", "forwarded")).isEqualTo(3);
+		assertThat(acknowledged).isEqualTo(1);
+	}
+	
+	@Test
+	@DisplayName("처리에 실패한 이벤트만 원본 메시지 그대로 업체 키로 재시도 토픽에 발행하고 배치는 커밋")
+	void forwardsFailedEvents() {
+		RoomDeletedEventConsumer consumer = consumer(Set.of(2L));
+		
+		consumer.roomDeleted(List.of(message(1, 10), message(2, 20), message(3, 10)), acknowledgment);
+		
+		assertThat(events).containsExactly("deactivate:1", "deactivate-failed:2", "deactivate:3");
+		assertThat(forwarded).containsExactly("room-deleted|20|" + message(2, 20));
+		assertThat(acknowledged).isEqualTo(1);
+	}
+	
+	@Test
+	@DisplayName("재시도 리스너는 시도 수를 기록하고 실패를 전파하여 다음 백오프 토픽으로 넘김")
+	void retryListenerPropagatesFailure() {
+		RoomDeletedEventConsumer consumer = consumer(Set.of(2L));
+		
+		consumer.retryRoomDeleted(message(1, 10), "room-deleted-retry");
+		assertThatThrownBy(() -> consumer.retryRoomDeleted(message(2, 20), "room-deleted-retry-backoff-0"))
+				.isInstanceOf(IllegalStateException.class);
+		
+		assertThat(events).containsExactly("deactivate:1", "deactivate-failed:2");
+		assertThat(retryCount("room-deleted-retry", "attempt")).isEqualTo(1);
+		assertThat(retryCount("room-deleted-retry-backoff-0", "attempt")).isEqualTo(1);
+	}
+	
+	@Test
+	@DisplayName("재시도 리스너는 roomId가 없는 이벤트를 재시도 불가 예외로 DLT에 보냄")
+	void retryListenerRejectsEventWithoutRoomId() {
+		RoomDeletedEventConsumer consumer = consumer(Set.of());
+		
+		assertThatThrownBy(() -> consumer.retryRoomDeleted("{\"placeId\":\"10\"}", "room-deleted-retry"))
+				.isInstanceOf(InvalidRequestException.class);
+		assertThat(events).isEmpty();
+	}
+	
+	@Test
+	@DisplayName("DLT 도착 이벤트를 기록")
+	void deadLetterIsCounted() {
+		RoomDeletedEventConsumer consumer = consumer(Set.of());
+		
+		consumer.roomDeletedDlt(message(1, 10), "room-deleted-retry-dlt",
+				IllegalStateException.class.getName().getBytes(), "room failed".getBytes());
+		
+		assertThat(retryCount("room-deleted-retry-dlt", "dead_letter")).isEqualTo(1);
+		assertThat(events).isEmpty();
+	}
+	
+	/**
+	 * 호출 순서만 기록하는 스텁 (failingRoomIds에 포함된 Room은 예외)
+	 */
+	private static class StubRoomDeactivateService extends RoomDeactivateService {
+		
+		private final List<String> events;
+		private final Set<Long> failingRoomIds;
+		
+		StubRoomDeactivateService(List<String> events, Set<Long> failingRoomIds) {
+			super(null, null, null);
+			this.events = events;
+			this.failingRoomIds = failingRoomIds;
+		}
+		
+		@Override
+		public void deactivateRoom(Long roomId) {
+			if (failingRoomIds.contains(roomId)) {
+				events.add("deactivate-failed:" + roomId);
+				throw new IllegalStateException("room failed");
+			}
+			events.add("deactivate:" + roomId);
+		}
+	}
+	
+	/**
+	 * 발행 대신 토픽|키|메시지를 기록하는 스텁
+	 */
+	private static class StubFailedEventPublisher extends FailedEventPublisher {
+		
+		private final List<String> forwarded;
+		private final KafkaRetryMetrics retryMetrics;
+		
+		StubFailedEventPublisher(List<String> forwarded, KafkaRetryMetrics retryMetrics) {
+			super(null, retryMetrics);
+			this.forwarded = forwarded;
+			this.retryMetrics = retryMetrics;
+		}
+		
+		@Override
+		public void forward(String topic, String key, String message, Throwable cause) {
+			forwarded.add(topic + "|" + key + "|" + message);
+			retryMetrics.recordForwarded(topic);
+		}
+	}
+}
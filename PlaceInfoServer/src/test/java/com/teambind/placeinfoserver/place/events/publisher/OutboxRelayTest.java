@@ -0,0 +1,261 @@
+package com.teambind.placeinfoserver.place.events.publisher;
+
+import com.teambind.placeinfoserver.place.config.BaseIntegrationTest;
+import com.teambind.placeinfoserver.place.domain.entity.PlaceOutbox;
+import com.teambind.placeinfoserver.place.repository.PlaceOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OutboxRelay 통합 테스트
+ * 릴레이는 자체 트랜잭션에서 행을 잠그므로 테스트 트랜잭션 없이 실행하고 매 테스트 전후로 outbox를 비움
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("OutboxRelay 통합 테스트")
+class OutboxRelayTest extends BaseIntegrationTest {
+	
+	private static final String TOPIC = "place-status-change-event";
+	
+	@Autowired
+	private PlaceOutboxRepository placeOutboxRepository;
+	
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+	
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	
+	@BeforeEach
+	@AfterEach
+	void cleanUp() {
+		placeOutboxRepository.deleteAllInBatch();
+	}
+	
+	private OutboxRelay relay(RecordingKafkaTemplate kafkaTemplate, int batchSize, int maxAttempts) {
+		return new OutboxRelay(placeOutboxRepository, kafkaTemplate, transactionTemplate,
+				new SimpleMeterRegistry(), true, batchSize, 1000, maxAttempts);
+	}
+	
+	private void save(String key, String... payloads) {
+		for (String payload : payloads) {
+			placeOutboxRepository.save(PlaceOutbox.of(TOPIC, key, payload));
+		}
+	}
+	
+	private List<PlaceOutbox> remaining() {
+		return placeOutboxRepository.findAll(Sort.by("id"));
+	}
+	
+	@Test
+	@DisplayName("저장 순서대로 배치 크기만큼 잠가 발행하고 발행된 행을 삭제")
+	void relaysInBatchesAndDeletesSentRows() {
+		save("1", "a", "b", "c");
+		save("2", "d", "e");
+		RecordingKafkaTemplate kafkaTemplate = new RecordingKafkaTemplate(Set.of());
+		
+		int published = relay(kafkaTemplate, 2, 10).relay();
+		
+		assertThat(published).isEqualTo(5);
+		assertThat(kafkaTemplate.sent).containsExactly("1:a", "1:b", "1:c", "2:d", "2:e");
+		// 가득 찬 배치 두 번 + 남은 한 건
+		assertThat(kafkaTemplate.flushes).isEqualTo(3);
+		assertThat(remaining()).isEmpty();
+	}
+	
+	@Test
+	@DisplayName("전송 실패 행은 attempts/last_error를 기록하여 남기고, 같은 키의 뒤 행도 삭제하지 않음")
+	void failedSendKeepsRowAndHoldsLaterRowsOfSameKey() {
+		save("1", "activate", "deactivate");
+		save("2", "other");
+		RecordingKafkaTemplate kafkaTemplate = new RecordingKafkaTemplate(Set.of("activate"));
+		
+		int published = relay(kafkaTemplate, 10, 10).relay();
+		
+		assertThat(published).isEqualTo(1);
+		List<PlaceOutbox> rows = remaining();
+		assertThat(rows).extracting(PlaceOutbox::getPayload).containsExactly("activate", "deactivate");
+		assertThat(rows.get(0).getAttempts()).isEqualTo(1);
+		assertThat(rows.get(0).getLastError()).contains(RecordTooLargeException.class.getSimpleName());
+		assertThat(rows.get(0).getParkedAt()).isNull();
+		// 전송은 되었지만 앞선 실패 행 다음에 다시 발행되도록 남김
+		assertThat(rows.get(1).getAttempts()).isZero();
+		assertThat(rows.get(1).getLastError()).isNull();
+	}
+	
+	@Test
+	@DisplayName("실패 행이 다시 발행되면 같은 키의 뒤 행이 그 다음에 발행됨")
+	void resendsHeldRowsAfterFailedRow() {
+		save("1", "activate", "deactivate");
+		RecordingKafkaTemplate failing = new RecordingKafkaTemplate(Set.of("activate"));
+		relay(failing, 10, 10).relay();
+		
+		RecordingKafkaTemplate recovered = new RecordingKafkaTemplate(Set.of());
+		relay(recovered, 10, 10).relay();
+		
+		assertThat(recovered.sent).containsExactly("1:activate", "1:deactivate");
+		assertThat(remaining()).isEmpty();
+	}
+	
+	@Test
+	@DisplayName("최대 실패 횟수에 도달한 행은 보류되어 더 이상 발행하지 않음")
+	void parksRowAfterMaxAttempts() {
+		save("1", "too-large");
+		save("2", "ok");
+		RecordingKafkaTemplate kafkaTemplate = new RecordingKafkaTemplate(Set.of("too-large"));
+		OutboxRelay relay = relay(kafkaTemplate, 10, 2);
+		
+		relay.relay();
+		relay.relay();
+		relay.relay();
+		
+		assertThat(kafkaTemplate.attempts).containsExactly("1:too-large", "2:ok", "1:too-large");
+		List<PlaceOutbox> rows = remaining();
+		assertThat(rows).hasSize(1);
+		assertThat(rows.get(0).getAttempts()).isEqualTo(2);
+		assertThat(rows.get(0).getParkedAt()).isNotNull();
+	}
+	
+	@Test
+	@DisplayName("다른 트랜잭션이 잠근 행은 SKIP LOCKED로 건너뛰고 나머지만 발행")
+	void skipsRowsLockedByAnotherRelay() throws Exception {
+		save("1", "a", "b");
+		save("2", "c", "d");
+		CountDownLatch locked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		
+		// 다른 인스턴스의 릴레이가 앞의 두 행을 잠근 채 전송 중인 상황
+		CompletableFuture<List<String>> other = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> {
+			List<String> payloads = placeOutboxRepository.lockNextBatch(2).stream()
+					.map(PlaceOutbox::getPayload)
+					.toList();
+			locked.countDown();
+			try {
+				release.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return payloads;
+		}));
+		assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+		
+		RecordingKafkaTemplate kafkaTemplate = new RecordingKafkaTemplate(Set.of());
+		int published = relay(kafkaTemplate, 10, 10).relay();
+		release.countDown();
+		
+		assertThat(other.get(10, TimeUnit.SECONDS)).containsExactly("a", "b");
+		assertThat(published).isEqualTo(2);
+		assertThat(kafkaTemplate.sent).containsExactly("2:c", "2:d");
+		assertThat(remaining()).extracting(PlaceOutbox::getPayload).containsExactly("a", "b");
+	}
+	
+	@Test
+	@DisplayName("보류된 행이 있는 키는 뒤 행을 발행하지 않고, 보류를 풀면 보류 행부터 발행")
+	void holdsLaterRowsBehindParkedRow() {
+		save("1", "activate", "deactivate");
+		save("2", "other");
+		relay(new RecordingKafkaTemplate(Set.of("activate")), 10, 1).relay();
+		
+		// 보류된 activate 뒤의 deactivate는 다른 키가 발행되어도 잠기지 않음
+		save("2", "other-2");
+		RecordingKafkaTemplate recovered = new RecordingKafkaTemplate(Set.of());
+		relay(recovered, 10, 1).relay();
+		assertThat(recovered.sent).containsExactly("2:other-2");
+		assertThat(remaining()).extracting(PlaceOutbox::getPayload).containsExactly("activate", "deactivate");
+		
+		// 보류를 풀면 저장 순서대로 발행
+		jdbcTemplate.update("UPDATE place_outbox SET parked_at = NULL, attempts = 0");
+		RecordingKafkaTemplate resumed = new RecordingKafkaTemplate(Set.of());
+		relay(resumed, 10, 1).relay();
+		assertThat(resumed.sent).containsExactly("1:activate", "1:deactivate");
+		assertThat(remaining()).isEmpty();
+	}
+	
+	@Test
+	@DisplayName("다른 트랜잭션이 키의 앞선 행을 잠그고 있으면 같은 키의 뒤 행도 건너뜀")
+	void skipsLaterRowsOfKeyLockedByAnotherRelay() throws Exception {
+		save("1", "a", "b");
+		save("2", "c");
+		CountDownLatch locked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		
+		// 다른 인스턴스의 릴레이가 키 1의 첫 행만 잠근 채 전송 중인 상황
+		CompletableFuture<List<String>> other = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> {
+			List<String> payloads = placeOutboxRepository.lockNextBatch(1).stream()
+					.map(PlaceOutbox::getPayload)
+					.toList();
+			locked.countDown();
+			try {
+				release.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return payloads;
+		}));
+		assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+		
+		RecordingKafkaTemplate kafkaTemplate = new RecordingKafkaTemplate(Set.of());
+		int published = relay(kafkaTemplate, 10, 10).relay();
+		release.countDown();
+		
+		assertThat(other.get(10, TimeUnit.SECONDS)).containsExactly("a");
+		assertThat(published).isEqualTo(1);
+		assertThat(kafkaTemplate.sent).containsExactly("2:c");
+		assertThat(remaining()).extracting(PlaceOutbox::getPayload).containsExactly("a", "b");
+	}
+	
+	/**
+	 * 브로커 없이 전송 결과만 돌려주는 KafkaTemplate (failingPayloads는 RecordTooLargeException으로 실패)
+	 */
+	private static class RecordingKafkaTemplate extends KafkaTemplate<String, Object> {
+		
+		private final Set<String> failingPayloads;
+		private final List<String> attempts = new CopyOnWriteArrayList<>();
+		private final List<String> sent = new CopyOnWriteArrayList<>();
+		private int flushes = 0;
+		
+		RecordingKafkaTemplate(Set<String> failingPayloads) {
+			super(new DefaultKafkaProducerFactory<>(Map.of()));
+			this.failingPayloads = failingPayloads;
+		}
+		
+		@Override
+		public CompletableFuture<SendResult<String, Object>> send(String topic, String key, Object data) {
+			attempts.add(key + ":" + data);
+			if (failingPayloads.contains(data)) {
+				return CompletableFuture.failedFuture(new RecordTooLargeException("record too large"));
+			}
+			sent.add(key + ":" + data);
+			return CompletableFuture.completedFuture(new SendResult<>(new ProducerRecord<>(topic, key, data), null));
+		}
+		
+		@Override
+		public void flush() {
+			flushes++;
+		}
+	}
+}
@@ -1,18 +1,31 @@
 package com.teambind.placeinfoserver.place.repository.impl;
 
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.teambind.placeinfoserver.place.common.config.CacheConfig;
+import com.teambind.placeinfoserver.place.common.metrics.PlaceSearchMetrics;
+import com.teambind.placeinfoserver.place.config.MetricsTestConfig;
 import com.teambind.placeinfoserver.place.config.QueryDslTestConfig;
 import com.teambind.placeinfoserver.place.domain.entity.Keyword;
 import com.teambind.placeinfoserver.place.domain.entity.PlaceInfo;
+import com.teambind.placeinfoserver.place.dto.cursor.PlaceSearchCursor;
 import com.teambind.placeinfoserver.place.dto.request.PlaceSearchRequest;
 import com.teambind.placeinfoserver.place.dto.response.PlaceSearchResponse;
 import com.teambind.placeinfoserver.place.fixture.PlaceRequestFactory;
 import com.teambind.placeinfoserver.place.fixture.PlaceTestFactory;
 import com.teambind.placeinfoserver.place.repository.KeywordRepository;
 import com.teambind.placeinfoserver.place.repository.PlaceInfoRepository;
+import com.teambind.placeinfoserver.place.repository.index.PlaceKeywordIndexManager;
+import com.teambind.placeinfoserver.place.repository.index.PlaceLocationCandidateCache;
+import com.teambind.placeinfoserver.place.repository.index.PlaceSpatialIndexManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
@@ -20,7 +33,9 @@ import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.utility.DockerImageName;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -30,7 +45,7 @@ import static org.assertj.core.api.Assertions.assertThat;
  */
 @DataJpaTest
 @ActiveProfiles("test")
-@Import({PlaceAdvancedSearchRepositoryImpl.class, QueryDslTestConfig.class, com.teambind.placeinfoserver.place.config.JpaAuditingTestConfig.class})
+@Import({PlaceAdvancedSearchRepositoryImpl.class, PlaceSearchEnricher.class, PlaceRoomSummaryLoader.class, PlaceSpatialIndexManager.class, PlaceKeywordIndexManager.class, PlaceLocationCandidateCache.class, PlaceSearchMetrics.class, QueryDslTestConfig.class, MetricsTestConfig.class, com.teambind.placeinfoserver.place.config.JpaAuditingTestConfig.class})
 @DisplayName("PlaceAdvancedSearchRepositoryImpl 통합 테스트")
 class PlaceAdvancedSearchRepositoryImplTest {
 	
@@ -366,6 +381,46 @@ class PlaceAdvancedSearchRepositoryImplTest {
 			assertThat(firstResponse.getItems().get(2).getRatingAverage())
 					.isGreaterThan(secondResponse.getItems().get(0).getRatingAverage());
 		}
+
+		@Test
+		@DisplayName("위치 검색도 (거리, ID) 커서로 중복 없이 끝까지 조회할 수 있다")
+		void locationSearchNavigatesUsingDistanceCursor() {
+			// Given - 동일 좌표(동일 거리) 업체 포함
+			double baseLat = 37.5665;
+			double baseLng = 126.9780;
+			for (int i = 0; i < 5; i++) {
+				placeInfoRepository.save(
+						PlaceTestFactory.createPlaceInfoWithLocation("Place " + i, baseLat + i * 0.001, baseLng));
+			}
+			placeInfoRepository.save(PlaceTestFactory.createPlaceInfoWithLocation("Same A", baseLat + 0.002, baseLng));
+			placeInfoRepository.save(PlaceTestFactory.createPlaceInfoWithLocation("Same B", baseLat + 0.002, baseLng));
+			entityManager.flush();
+			entityManager.clear();
+
+			// When - 3건씩 끝까지 조회
+			List<PlaceSearchResponse.PlaceSearchItem> collected = new ArrayList<>();
+			String cursor = null;
+			int pages = 0;
+			do {
+				PlaceSearchRequest request = PlaceRequestFactory.createLocationSearchRequest(baseLat, baseLng, 5000);
+				request.setSize(3);
+				request.setCursor(cursor);
+
+				PlaceSearchResponse response = searchRepository.searchByLocation(request);
+				collected.addAll(response.getItems());
+				cursor = response.getNextCursor();
+				pages++;
+
+				assertThat(response.getHasNext()).isEqualTo(cursor != null);
+			} while (cursor != null && pages < 10);
+
+			// Then
+			assertThat(pages).isEqualTo(3);
+			assertThat(collected).hasSize(7);
+			assertThat(collected).extracting(PlaceSearchResponse.PlaceSearchItem::getId).doesNotHaveDuplicates();
+			assertThat(collected).extracting(PlaceSearchResponse.PlaceSearchItem::getDistance)
+					.isSortedAccordingTo(Double::compare);
+		}
 	}
 	
 	@Nested
@@ -405,6 +460,195 @@ class PlaceAdvancedSearchRepositoryImplTest {
 			assertThat(response.getItems())
 					.allMatch(item -> item.getKeywords() != null && item.getKeywords().contains("드럼"));
 		}
+		
+		@Test
+		@DisplayName("ALL 매칭은 모든 키워드를 가진 장소만 검색된다")
+		void searchByKeywordTagsMatchAll() {
+			// Given
+			Keyword drumKeyword = PlaceTestFactory.createKeyword("드럼");
+			Keyword guitarKeyword = PlaceTestFactory.createKeyword("기타");
+			keywordRepository.saveAll(List.of(drumKeyword, guitarKeyword));
+			
+			PlaceInfo drumOnly = PlaceTestFactory.withKeywords(PlaceTestFactory.createPlaceInfo(), List.of(drumKeyword));
+			PlaceInfo both = PlaceTestFactory.withKeywords(PlaceTestFactory.createPlaceInfo(), List.of(drumKeyword, guitarKeyword));
+			placeInfoRepository.saveAll(List.of(drumOnly, both));
+			entityManager.flush();
+			entityManager.clear();
+			
+			PlaceSearchRequest request = PlaceRequestFactory.createKeywordTagSearchRequest(
+					List.of(drumKeyword.getId(), guitarKeyword.getId())
+			);
+			request.setKeywordMatch(PlaceSearchRequest.KeywordMatch.ALL);
+			
+			// When
+			PlaceSearchResponse response = searchRepository.searchByKeywords(request);
+			
+			// Then
+			assertThat(response.getItems())
+					.extracting(PlaceSearchResponse.PlaceSearchItem::getId)
+					.containsExactly(String.valueOf(both.getId()));
+		}
+		
+		@Test
+		@DisplayName("키워드 검색도 커서로 중복 없이 끝까지 조회할 수 있다")
+		void keywordSearchNavigatesUsingCursor() {
+			// Given
+			Keyword drumKeyword = PlaceTestFactory.createKeyword("드럼");
+			keywordRepository.save(drumKeyword);
+			for (int i = 0; i < 5; i++) {
+				placeInfoRepository.save(
+						PlaceTestFactory.withKeywords(PlaceTestFactory.createPlaceInfo(), List.of(drumKeyword)));
+			}
+			entityManager.flush();
+			entityManager.clear();
+			
+			// When
+			List<String> ids = new ArrayList<>();
+			String cursor = null;
+			int pages = 0;
+			do {
+				PlaceSearchRequest request = PlaceRequestFactory.createKeywordTagSearchRequest(
+						List.of(drumKeyword.getId())
+				);
+				request.setSize(2);
+				request.setCursor(cursor);
+				PlaceSearchResponse response = searchRepository.searchByKeywords(request);
+				response.getItems().forEach(item -> ids.add(item.getId()));
+				cursor = response.getNextCursor();
+				pages++;
+			} while (cursor != null && pages < 10);
+			
+			// Then
+			assertThat(pages).isEqualTo(3);
+			assertThat(ids).hasSize(5).doesNotHaveDuplicates();
+		}
+	}
+	
+	@Nested
+	@DisplayName("텍스트 검색 (pg_trgm) 테스트")
+	class TextSearchTests {
+		
+		@BeforeEach
+		void enableTrigram() {
+			// 테스트 DB는 schema.sql 대신 ddl-auto로 생성되므로 확장만 별도 활성화
+			entityManager.createNativeQuery("CREATE EXTENSION IF NOT EXISTS pg_trgm").executeUpdate();
+			
+			placeInfoRepository.saveAll(List.of(
+					PlaceTestFactory.builder().placeName("Drum Studio").category("practice").description("rehearsal room").build(),
+					PlaceTestFactory.builder().placeName("Studio A").category("practice").description("drum kit available").build(),
+					PlaceTestFactory.builder().placeName("Groove Hall").category("stage").description("live venue").build(),
+					PlaceTestFactory.builder().placeName("Piano Room").category("lesson").description("grand piano").build()
+			));
+			entityManager.flush();
+			entityManager.clear();
+		}
+		
+		@Test
+		@DisplayName("SIMILAR는 오타가 있어도 단어 유사도로 검색된다")
+		void similarMatchToleratesTypo() {
+			// Given
+			PlaceSearchRequest contains = PlaceRequestFactory.searchRequestBuilder()
+					.keyword("grove")
+					.build();
+			PlaceSearchRequest similar = PlaceRequestFactory.searchRequestBuilder()
+					.keyword("grove")
+					.textMatch(PlaceSearchRequest.TextMatch.SIMILAR)
+					.build();
+			
+			// When
+			PlaceSearchResponse containsResponse = searchRepository.searchWithCursor(contains);
+			PlaceSearchResponse similarResponse = searchRepository.searchWithCursor(similar);
+			
+			// Then
+			assertThat(containsResponse.getItems()).isEmpty();
+			assertThat(similarResponse.getItems())
+					.extracting(PlaceSearchResponse.PlaceSearchItem::getPlaceName)
+					.containsExactly("Groove Hall");
+		}
+		
+		@Test
+		@DisplayName("RELEVANCE는 장소명 일치를 설명 일치보다 먼저 반환하고 커서로 이어서 조회된다")
+		void sortByRelevanceWithCursor() {
+			// Given
+			PlaceSearchRequest firstRequest = PlaceRequestFactory.searchRequestBuilder()
+					.keyword("drum")
+					.sortBy(PlaceSearchRequest.SortBy.RELEVANCE)
+					.size(1)
+					.build();
+			
+			// When
+			PlaceSearchResponse firstResponse = searchRepository.searchWithCursor(firstRequest);
+			PlaceSearchRequest secondRequest = PlaceRequestFactory.searchRequestBuilder()
+					.keyword("drum")
+					.sortBy(PlaceSearchRequest.SortBy.RELEVANCE)
+					.size(1)
+					.cursor(firstResponse.getNextCursor())
+					.build();
+			PlaceSearchResponse secondResponse = searchRepository.searchWithCursor(secondRequest);
+			
+			// Then
+			assertThat(firstResponse.getItems())
+					.extracting(PlaceSearchResponse.PlaceSearchItem::getPlaceName)
+					.containsExactly("Drum Studio");
+			assertThat(firstResponse.getNextCursor()).isNotNull();
+			assertThat(secondResponse.getItems())
+					.extracting(PlaceSearchResponse.PlaceSearchItem::getPlaceName)
+					.containsExactly("Studio A");
+			assertThat(secondResponse.getHasNext()).isFalse();
+		}
+		
+		@Test
+		@DisplayName("RELEVANCE 커서는 같은 점수의 업체를 누락/중복 없이 이어서 조회한다")
+		void sortByRelevanceCursorKeepsTies() {
+			// Given - 두 업체 모두 장소명에 "studio" 단어가 있어 점수가 같음
+			List<String> collected = new ArrayList<>();
+			String cursor = null;
+			int pages = 0;
+			
+			// When
+			do {
+				PlaceSearchRequest request = PlaceRequestFactory.searchRequestBuilder()
+						.keyword("studio")
+						.sortBy(PlaceSearchRequest.SortBy.RELEVANCE)
+						.size(1)
+						.cursor(cursor)
+						.build();
+				PlaceSearchResponse response = searchRepository.searchWithCursor(request);
+				collected.addAll(response.getItems().stream()
+						.map(PlaceSearchResponse.PlaceSearchItem::getPlaceName)
+						.toList());
+				cursor = response.getNextCursor();
+				if (cursor != null) {
+					// 커서 점수는 정수 값으로 양자화됨
+					Double score = PlaceSearchCursor.decode(cursor).getLastSortValue();
+					assertThat(score).isEqualTo(Math.rint(score));
+				}
+				pages++;
+			} while (cursor != null && pages < 5);
+			
+			// Then
+			assertThat(collected).containsExactlyInAnyOrder("Drum Studio", "Studio A");
+		}
+		
+		@Test
+		@DisplayName("RELEVANCE는 정렬 방향을 무시하고 관련도 높은 순(DESC)으로 조회된다")
+		void sortByRelevanceIgnoresDirection() {
+			// Given
+			PlaceSearchRequest request = PlaceRequestFactory.searchRequestBuilder()
+					.keyword("drum")
+					.sortBy(PlaceSearchRequest.SortBy.RELEVANCE)
+					.sortDirection(PlaceSearchRequest.SortDirection.ASC)
+					.build();
+			
+			// When
+			PlaceSearchResponse response = searchRepository.searchWithCursor(request);
+			
+			// Then
+			assertThat(response.getItems())
+					.extracting(PlaceSearchResponse.PlaceSearchItem::getPlaceName)
+					.containsExactly("Drum Studio", "Studio A");
+			assertThat(response.getMetadata().getSortDirection()).isEqualTo("DESC");
+		}
 	}
 	
 	@Nested
@@ -487,6 +731,42 @@ class PlaceAdvancedSearchRepositoryImplTest {
 			// Then
 			assertThat(count).isEqualTo(25);
 		}
+		
+		@Test
+		@DisplayName("상한 개수 조회는 limit을 넘지 않는다")
+		void countSearchResultsUpTo() {
+			// Given
+			for (int i = 0; i < 5; i++) {
+				placeInfoRepository.save(PlaceTestFactory.builder().category("연습실").build());
+			}
+			entityManager.flush();
+			entityManager.clear();
+			
+			PlaceSearchRequest request = PlaceRequestFactory.createCategorySearchRequest("연습실");
+			
+			// When & Then
+			assertThat(searchRepository.countSearchResultsUpTo(request, 3)).isEqualTo(3);
+			assertThat(searchRepository.countSearchResultsUpTo(request, 10)).isEqualTo(5);
+		}
+		
+		@Test
+		@DisplayName("개수 조회는 엔티티를 적재하지 않는다 (fetch join 없음)")
+		void countDoesNotLoadEntities() {
+			// Given
+			placeInfoRepository.save(PlaceTestFactory.builder().category("연습실").build());
+			entityManager.flush();
+			entityManager.clear();
+			
+			PlaceSearchRequest request = PlaceRequestFactory.createCategorySearchRequest("연습실");
+			request.setParkingAvailable(true);
+			request.setProvince("서울특별시");
+			
+			// When
+			searchRepository.countSearchResults(request);
+			
+			// Then
+			assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+		}
 	}
 	
 	@Nested
@@ -538,6 +818,110 @@ class PlaceAdvancedSearchRepositoryImplTest {
 			// 썸네일 (첫 번째 이미지)
 			assertThat(item.getThumbnailUrl()).isNotNull();
 		}
+
+		@Test
+		@DisplayName("검색 결과는 엔티티를 영속성 컨텍스트에 적재하지 않는다")
+		void searchDoesNotLoadEntities() {
+			// Given
+			PlaceInfo place = PlaceTestFactory.createPlaceInfoWithLocation("프로젝션 연습실", 37.5665, 126.9780);
+			placeInfoRepository.save(PlaceTestFactory.withImages(place, 2));
+			entityManager.flush();
+			entityManager.clear();
+
+			// When
+			PlaceSearchResponse cursorResponse = searchRepository.searchWithCursor(
+					PlaceRequestFactory.createBasicSearchRequest());
+			PlaceSearchResponse locationResponse = searchRepository.searchByLocation(
+					PlaceRequestFactory.createLocationSearchRequest(37.5665, 126.9780, 1000));
+
+			// Then
+			assertThat(cursorResponse.getItems()).hasSize(1);
+			assertThat(locationResponse.getItems()).hasSize(1);
+			assertThat(locationResponse.getItems().get(0).getPlaceName()).isEqualTo("프로젝션 연습실");
+			assertThat(locationResponse.getItems().get(0).getThumbnailUrl()).isNotNull();
+			assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+		}
+	}
+
+	@Nested
+	@DisplayName("쿼리 수 테스트")
+	class StatementCountTests {
+
+		private Statistics statistics;
+		private Keyword drumKeyword;
+
+		@BeforeEach
+		void setUpPlaces() {
+			drumKeyword = PlaceTestFactory.createKeyword("드럼");
+			Keyword guitarKeyword = PlaceTestFactory.createKeyword("기타");
+			keywordRepository.saveAll(List.of(drumKeyword, guitarKeyword));
+
+			for (int i = 0; i < 12; i++) {
+				PlaceInfo place = PlaceTestFactory.createPlaceInfoWithLocation("Place " + i, 37.5665 + i * 0.001, 126.9780);
+				PlaceTestFactory.withImages(place, 3);
+				PlaceTestFactory.withKeywords(place, List.of(drumKeyword, guitarKeyword));
+				placeInfoRepository.save(place);
+			}
+			entityManager.flush();
+			entityManager.clear();
+
+			statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+			statistics.setStatisticsEnabled(true);
+		}
+
+		@AfterEach
+		void disableStatistics() {
+			statistics.setStatisticsEnabled(false);
+		}
+
+		private long countStatements(Supplier<PlaceSearchResponse> search, int expectedItems) {
+			entityManager.clear();
+			statistics.clear();
+			PlaceSearchResponse response = search.get();
+			assertThat(response.getItems()).hasSize(expectedItems);
+			assertThat(response.getItems()).allMatch(item -> item.getThumbnailUrl() != null);
+			assertThat(response.getItems()).allMatch(item -> item.getKeywords().size() == 2);
+			return statistics.getPrepareStatementCount();
+		}
+
+		@Test
+		@DisplayName("커서 검색의 쿼리 수는 페이지 크기와 무관하다")
+		void cursorSearchStatementCountIsConstant() {
+			long small = countStatements(() -> searchRepository.searchWithCursor(
+					PlaceRequestFactory.searchRequestBuilder().size(2).build()), 2);
+			long large = countStatements(() -> searchRepository.searchWithCursor(
+					PlaceRequestFactory.searchRequestBuilder().size(10).build()), 10);
+
+			assertThat(large).isEqualTo(small);
+		}
+
+		@Test
+		@DisplayName("위치 검색의 쿼리 수는 페이지 크기와 무관하다")
+		void locationSearchStatementCountIsConstant() {
+			PlaceSearchRequest smallRequest = PlaceRequestFactory.createLocationSearchRequest(37.5665, 126.9780, 5000);
+			smallRequest.setSize(2);
+			PlaceSearchRequest largeRequest = PlaceRequestFactory.createLocationSearchRequest(37.5665, 126.9780, 5000);
+			largeRequest.setSize(10);
+
+			long small = countStatements(() -> searchRepository.searchByLocation(smallRequest), 2);
+			long large = countStatements(() -> searchRepository.searchByLocation(largeRequest), 10);
+
+			assertThat(large).isEqualTo(small);
+		}
+
+		@Test
+		@DisplayName("키워드 검색의 쿼리 수는 페이지 크기와 무관하다")
+		void keywordSearchStatementCountIsConstant() {
+			PlaceSearchRequest smallRequest = PlaceRequestFactory.createKeywordTagSearchRequest(List.of(drumKeyword.getId()));
+			smallRequest.setSize(2);
+			PlaceSearchRequest largeRequest = PlaceRequestFactory.createKeywordTagSearchRequest(List.of(drumKeyword.getId()));
+			largeRequest.setSize(10);
+
+			long small = countStatements(() -> searchRepository.searchByKeywords(smallRequest), 2);
+			long large = countStatements(() -> searchRepository.searchByKeywords(largeRequest), 10);
+
+			assertThat(large).isEqualTo(small);
+		}
 	}
 	
 	@Nested
@@ -638,4 +1022,170 @@ class PlaceAdvancedSearchRepositoryImplTest {
 			assertThat(item.getRatingAverage()).isNull();
 		}
 	}
+	
+	@Nested
+	@DisplayName("셀 후보 캐시 테스트")
+	class LocationCandidateCacheTests {
+		
+		@Autowired
+		private JPAQueryFactory queryFactory;
+		@Autowired
+		private PlaceSearchEnricher searchEnricher;
+		@Autowired
+		private PlaceSpatialIndexManager spatialIndexManager;
+		@Autowired
+		private PlaceKeywordIndexManager keywordIndexManager;
+		
+		private SimpleMeterRegistry meterRegistry;
+		private PlaceAdvancedSearchRepositoryImpl cachedRepository;
+		
+		@BeforeEach
+		void setUpCache() {
+			meterRegistry = new SimpleMeterRegistry();
+			PlaceLocationCandidateCache candidateCache = new PlaceLocationCandidateCache(
+					new ConcurrentMapCacheManager(CacheConfig.LOCATION_CANDIDATES), meterRegistry, true, 0.01, 5000);
+			cachedRepository = new PlaceAdvancedSearchRepositoryImpl(
+					queryFactory, entityManager, searchEnricher, spatialIndexManager, keywordIndexManager, candidateCache,
+					new PlaceSearchMetrics(meterRegistry), false);
+			
+			double baseLat = 37.5665;
+			double baseLng = 126.9780;
+			for (int i = 0; i < 6; i++) {
+				placeInfoRepository.save(
+						PlaceTestFactory.createPlaceInfoWithLocation("Place " + i, baseLat + i * 0.002, baseLng + i * 0.001));
+			}
+			entityManager.flush();
+			entityManager.clear();
+		}
+		
+		private List<String> ids(PlaceSearchResponse response) {
+			return response.getItems().stream().map(PlaceSearchResponse.PlaceSearchItem::getId).toList();
+		}
+		
+		@Test
+		@DisplayName("같은 셀의 근처 좌표 요청은 캐시된 후보로 PostGIS 경로와 같은 순서를 반환한다")
+		void nearbyRequestsShareCachedCandidates() {
+			// Given - 같은 셀(0.01도) 안의 서로 다른 중심점
+			PlaceSearchRequest first = PlaceRequestFactory.createLocationSearchRequest(37.5661, 126.9781, 800);
+			PlaceSearchRequest second = PlaceRequestFactory.createLocationSearchRequest(37.5668, 126.9789, 800);
+			
+			// When
+			PlaceSearchResponse cachedFirst = cachedRepository.searchByLocation(first);
+			PlaceSearchResponse cachedSecond = cachedRepository.searchByLocation(second);
+			
+			// Then
+			assertThat(ids(cachedFirst)).isNotEmpty().isEqualTo(ids(searchRepository.searchByLocation(first)));
+			assertThat(ids(cachedSecond)).isEqualTo(ids(searchRepository.searchByLocation(second)));
+			assertThat(meterRegistry.get("place.search.location-cache.requests").tag("result", "miss").counter().count())
+					.isEqualTo(1);
+			assertThat(meterRegistry.get("place.search.location-cache.requests").tag("result", "hit").counter().count())
+					.isEqualTo(1);
+		}
+		
+		@Test
+		@DisplayName("캐시 경로도 (거리, ID) 커서로 중복 없이 끝까지 조회할 수 있다")
+		void cachedCandidatesSupportDistanceCursor() {
+			// When - 2건씩 끝까지 조회
+			List<String> collected = new ArrayList<>();
+			String cursor = null;
+			int pages = 0;
+			do {
+				PlaceSearchRequest request = PlaceRequestFactory.createLocationSearchRequest(37.5665, 126.9780, 3000);
+				request.setSize(2);
+				request.setCursor(cursor);
+				
+				PlaceSearchResponse response = cachedRepository.searchByLocation(request);
+				collected.addAll(ids(response));
+				cursor = response.getNextCursor();
+				pages++;
+			} while (cursor != null && pages < 10);
+			
+			// Then
+			assertThat(collected).hasSize(6).doesNotHaveDuplicates();
+		}
+		
+		@Test
+		@DisplayName("페이지 사이에 경로가 바뀌어도 커서의 거리 계산 방식을 유지한다")
+		void distanceCursorPinsMetricAcrossPaths() {
+			// When - 캐시 경로(Haversine) 첫 페이지 후 캐시 없는 저장소로 이어서 조회
+			List<String> fromCache = new ArrayList<>();
+			PlaceSearchRequest firstPage = PlaceRequestFactory.createLocationSearchRequest(37.5665, 126.9780, 3000);
+			firstPage.setSize(2);
+			PlaceSearchResponse cachedResponse = cachedRepository.searchByLocation(firstPage);
+			fromCache.addAll(ids(cachedResponse));
+			String cursor = cachedResponse.getNextCursor();
+			int pages = 1;
+			while (cursor != null && pages < 10) {
+				assertThat(PlaceSearchCursor.decode(cursor).getDistanceMetric())
+						.isEqualTo(PlaceSearchCursor.DistanceMetric.HAVERSINE);
+				PlaceSearchRequest request = PlaceRequestFactory.createLocationSearchRequest(37.5665, 126.9780, 3000);
+				request.setSize(2);
+				request.setCursor(cursor);
+				PlaceSearchResponse response = searchRepository.searchByLocation(request);
+				fromCache.addAll(ids(response));
+				cursor = response.getNextCursor();
+				pages++;
+			}
+			
+			// When - PostGIS 경로(회전타원체) 첫 페이지 후 캐시 저장소로 이어서 조회
+			List<String> fromPostgis = new ArrayList<>();
+			PlaceSearchResponse postgisResponse = searchRepository.searchByLocation(firstPage);
+			fromPostgis.addAll(ids(postgisResponse));
+			cursor = postgisResponse.getNextCursor();
+			pages = 1;
+			while (cursor != null && pages < 10) {
+				assertThat(PlaceSearchCursor.decode(cursor).getDistanceMetric())
+						.isEqualTo(PlaceSearchCursor.DistanceMetric.SPHEROID);
+				PlaceSearchRequest request = PlaceRequestFactory.createLocationSearchRequest(37.5665, 126.9780, 3000);
+				request.setSize(2);
+				request.setCursor(cursor);
+				PlaceSearchResponse response = cachedRepository.searchByLocation(request);
+				fromPostgis.addAll(ids(response));
+				cursor = response.getNextCursor();
+				pages++;
+			}
+			
+			// Then
+			assertThat(fromCache).hasSize(6).doesNotHaveDuplicates();
+			assertThat(fromPostgis).hasSize(6).doesNotHaveDuplicates();
+			assertThat(meterRegistry.get("place.search.location-cache.requests").tag("result", "hit").counter().count())
+					.isZero();
+		}
+		
+		@Test
+		@DisplayName("HAVERSINE 커서 이어 조회는 반경 고리를 나누어 읽어도 캐시 경로와 같은 순서로 끝까지 조회한다")
+		void haversineCursorReadsRingInBoundedBatches() {
+			// Given - 이어 조회 한 번에 읽는 행 수(페이지 크기 + 여유분)보다 많은 업체
+			for (int i = 0; i < 40; i++) {
+				placeInfoRepository.save(PlaceTestFactory.createPlaceInfoWithLocation(
+						"Dense " + i, 37.5665 + i * 0.0005, 126.9780 + (i % 3) * 0.0003));
+			}
+			entityManager.flush();
+			entityManager.clear();
+			
+			// When - 캐시 경로로만 끝까지 조회 / 첫 페이지만 캐시 경로, 이후 캐시 없는 저장소로 이어서 조회
+			List<String> cachedOnly = new ArrayList<>();
+			List<String> continued = new ArrayList<>();
+			for (boolean continueWithoutCache : List.of(false, true)) {
+				List<String> collected = continueWithoutCache ? continued : cachedOnly;
+				String cursor = null;
+				int pages = 0;
+				do {
+					PlaceSearchRequest request = PlaceRequestFactory.createLocationSearchRequest(37.5665, 126.9780, 3000);
+					request.setSize(2);
+					request.setCursor(cursor);
+					PlaceSearchResponse response = pages > 0 && continueWithoutCache
+							? searchRepository.searchByLocation(request)
+							: cachedRepository.searchByLocation(request);
+					collected.addAll(ids(response));
+					cursor = response.getNextCursor();
+					pages++;
+				} while (cursor != null && pages < 30);
+			}
+			
+			// Then
+			assertThat(cachedOnly).hasSize(46).doesNotHaveDuplicates();
+			assertThat(continued).isEqualTo(cachedOnly);
+		}
+	}
 }
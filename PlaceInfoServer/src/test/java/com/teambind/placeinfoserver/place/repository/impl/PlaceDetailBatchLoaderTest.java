@@ -0,0 +1,322 @@
+package com.teambind.placeinfoserver.place.repository.impl;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.teambind.placeinfoserver.place.config.JpaAuditingTestConfig;
+import com.teambind.placeinfoserver.place.config.QueryDslTestConfig;
+import com.teambind.placeinfoserver.place.domain.entity.Keyword;
+import com.teambind.placeinfoserver.place.domain.entity.PlaceImage;
+import com.teambind.placeinfoserver.place.domain.entity.PlaceInfo;
+import com.teambind.placeinfoserver.place.fixture.PlaceTestFactory;
+import com.teambind.placeinfoserver.place.repository.KeywordRepository;
+import com.teambind.placeinfoserver.place.repository.PlaceInfoRepository;
+import com.teambind.placeinfoserver.place.repository.impl.PlaceDetailBatchLoader.PlaceDetails;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({PlaceDetailBatchLoader.class, QueryDslTestConfig.class, JpaAuditingTestConfig.class,
+		PlaceDetailBatchLoaderTest.RowCountingDataSourceConfig.class})
+@DisplayName("PlaceDetailBatchLoader 통합 테스트")
+class PlaceDetailBatchLoaderTest {
+	
+	private static final Logger log = LoggerFactory.getLogger(PlaceDetailBatchLoaderTest.class);
+	private static final PostgreSQLContainer<?> postgresContainer;
+	
+	static {
+		postgresContainer = new PostgreSQLContainer<>(
+				DockerImageName.parse("postgis/postgis:15-3.3")
+						.asCompatibleSubstituteFor("postgres")
+		)
+				.withDatabaseName("testdb")
+				.withUsername("test")
+				.withPassword("test")
+				.withReuse(true);
+		postgresContainer.start();
+	}
+	
+	@Autowired
+	private PlaceDetailBatchLoader loader;
+	@Autowired
+	private JPAQueryFactory queryFactory;
+	@Autowired
+	private PlaceInfoRepository placeInfoRepository;
+	@Autowired
+	private KeywordRepository keywordRepository;
+	@Autowired
+	private EntityManager entityManager;
+	
+	private List<Keyword> keywords;
+	
+	@DynamicPropertySource
+	static void registerPgProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", postgresContainer::getJdbcUrl);
+		registry.add("spring.datasource.username", postgresContainer::getUsername);
+		registry.add("spring.datasource.password", postgresContainer::getPassword);
+	}
+	
+	@BeforeEach
+	void setUp() {
+		PlaceTestFactory.resetSequence();
+		keywords = new ArrayList<>();
+		for (int i = 1; i <= 10; i++) {
+			keywords.add(PlaceTestFactory.createKeyword("키워드" + i));
+		}
+		keywordRepository.saveAll(keywords);
+	}
+	
+	@AfterEach
+	void tearDown() {
+		placeInfoRepository.deleteAll();
+		keywordRepository.deleteAll();
+	}
+	
+	/**
+	 * 이미지 10개, 키워드 10개를 가진 업체 생성
+	 */
+	private List<Long> savePlaces(int count) {
+		List<PlaceInfo> places = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			PlaceInfo place = PlaceTestFactory.withImages(PlaceTestFactory.createPlaceInfo(), 10);
+			place.getContact().addWebsite("https://example.com/" + i);
+			places.add(PlaceTestFactory.withKeywords(place, keywords));
+		}
+		placeInfoRepository.saveAll(places);
+		entityManager.flush();
+		entityManager.clear();
+		return places.stream().map(PlaceInfo::getId).collect(Collectors.toList());
+	}
+	
+	private Map<Long, PlaceDetails> byId(List<PlaceDetails> details) {
+		return details.stream().collect(Collectors.toMap(d -> d.place().getId(), Function.identity()));
+	}
+	
+	@Nested
+	@DisplayName("조회 결과")
+	class LoadTests {
+		
+		@Test
+		@DisplayName("정상: 기존 fetch join 쿼리와 같은 이미지/키워드/연관 정보를 반환")
+		@SuppressWarnings("deprecation")
+		void load_MatchesFetchJoinQuery() {
+			List<Long> ids = savePlaces(3);
+			
+			Map<Long, PlaceDetails> loaded = byId(loader.load(ids));
+			entityManager.clear();
+			List<PlaceInfo> expected = placeInfoRepository.findAllByIdWithDetails(new HashSet<>(ids));
+			
+			assertThat(loaded).hasSize(3);
+			for (PlaceInfo place : expected) {
+				PlaceDetails details = loaded.get(place.getId());
+				assertThat(details.images()).extracting(PlaceImage::getId)
+						.containsExactlyInAnyOrderElementsOf(place.getImages().stream().map(PlaceImage::getId).toList());
+				assertThat(details.keywords()).extracting(Keyword::getId)
+						.containsExactlyInAnyOrderElementsOf(place.getKeywords().stream().map(Keyword::getId).toList());
+				assertThat(details.place().getLocation()).isNotNull();
+				assertThat(details.place().getParking()).isNotNull();
+				assertThat(details.place().getContact().getWebsites())
+						.containsExactlyElementsOf(place.getContact().getWebsites());
+			}
+		}
+		
+		@Test
+		@DisplayName("정상: 이미지는 sequence 순, 같은 sequence는 ID 순, sequence 없는 이미지는 마지막")
+		void load_ImagesOrdered() {
+			PlaceInfo place = PlaceTestFactory.createPlaceInfo();
+			place.setImages(new ArrayList<>(List.of(
+					image(place, "img_a", 3L),
+					image(place, "img_b", 1L),
+					image(place, "img_e", null),
+					image(place, "img_d", 1L),
+					image(place, "img_c", 2L))));
+			placeInfoRepository.save(place);
+			entityManager.flush();
+			entityManager.clear();
+			
+			List<PlaceImage> images = loader.load(List.of(place.getId())).get(0).images();
+			
+			assertThat(images).extracting(PlaceImage::getId)
+					.containsExactly("img_b", "img_d", "img_c", "img_a", "img_e");
+			assertThat(images).isSortedAccordingTo(Comparator
+					.comparing(PlaceImage::getSequence, Comparator.nullsLast(Comparator.<Long>naturalOrder()))
+					.thenComparing(PlaceImage::getId));
+		}
+		
+		private PlaceImage image(PlaceInfo place, String id, Long sequence) {
+			return PlaceImage.builder()
+					.id(id)
+					.placeInfo(place)
+					.imageUrl("https://example.com/images/" + id + ".jpg")
+					.sequence(sequence)
+					.build();
+		}
+		
+		@Test
+		@DisplayName("정상: 비활성/존재하지 않는 업체는 제외")
+		void load_ExcludesInactiveAndMissing() {
+			List<Long> ids = new ArrayList<>(savePlaces(2));
+			PlaceInfo inactive = placeInfoRepository.save(PlaceTestFactory.createInactivePlaceInfo());
+			entityManager.flush();
+			entityManager.clear();
+			ids.add(inactive.getId());
+			ids.add(999_999L);
+			
+			List<PlaceDetails> loaded = loader.load(ids);
+			
+			assertThat(loaded).extracting(d -> d.place().getId())
+					.containsExactlyInAnyOrderElementsOf(ids.subList(0, 2));
+		}
+		
+		@Test
+		@DisplayName("정상: 청크 크기보다 많은 ID는 나누어 조회")
+		void load_Chunks() {
+			List<Long> ids = savePlaces(5);
+			PlaceDetailBatchLoader chunkedLoader = new PlaceDetailBatchLoader(queryFactory, 2);
+			
+			List<PlaceDetails> loaded = chunkedLoader.load(ids);
+			
+			assertThat(loaded).extracting(d -> d.place().getId()).containsExactlyInAnyOrderElementsOf(ids);
+			assertThat(loaded).allSatisfy(d -> {
+				assertThat(d.images()).hasSize(10);
+				assertThat(d.keywords()).hasSize(10);
+			});
+		}
+	}
+	
+	@Nested
+	@DisplayName("기존 fetch join 쿼리 대비 비교")
+	class ComparisonTests {
+		
+		private static final int PLACE_COUNT = 30;
+		
+		private Statistics statistics;
+		private List<Long> ids;
+		
+		@BeforeEach
+		void setUpComparison() {
+			ids = savePlaces(PLACE_COUNT);
+			statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+			statistics.setStatisticsEnabled(true);
+		}
+		
+		@AfterEach
+		void disableStatistics() {
+			statistics.setStatisticsEnabled(false);
+		}
+		
+		@Test
+		@DisplayName("전송 행 수: 카테시안 곱(업체 × 이미지 × 키워드) 대신 컬렉션 크기의 합")
+		@SuppressWarnings("deprecation")
+		void rowsTransferred() {
+			Set<Long> idSet = new HashSet<>(ids);
+			
+			// 기존 쿼리: images, keywords 동시 fetch join + 연락처별 웹사이트 지연 로딩(업체당 1행)
+			RowCountingDataSourceConfig.ROWS.set(0);
+			placeInfoRepository.findAllByIdWithDetails(idSet)
+					.forEach(p -> p.getContact().getWebsites().size());
+			long fetchJoinRows = RowCountingDataSourceConfig.ROWS.get();
+			entityManager.clear();
+			
+			// 배치 로더: 업체 + 이미지 + 키워드 + 연락처 링크(웹사이트 1개, SNS는 빈 컬렉션도 left join 1행)
+			RowCountingDataSourceConfig.ROWS.set(0);
+			loader.load(ids);
+			long batchRows = RowCountingDataSourceConfig.ROWS.get();
+			
+			log.info("rows transferred for {} places: fetchJoin={}, batchLoader={}", PLACE_COUNT, fetchJoinRows, batchRows);
+			assertThat(fetchJoinRows).isEqualTo(PLACE_COUNT * 10L * 10L + PLACE_COUNT);
+			assertThat(batchRows).isEqualTo(PLACE_COUNT * (1L + 10L + 10L + 2L));
+		}
+		
+		@Test
+		@DisplayName("쿼리 수: 업체 수와 무관하게 청크당 5회 (연락처 링크 지연 로딩 없음)")
+		void statementCount() {
+			statistics.clear();
+			
+			List<PlaceDetails> loaded = loader.load(ids);
+			loaded.forEach(d -> {
+				d.place().getContact().getWebsites().size();
+				d.place().getContact().getSocialLinks().size();
+			});
+			
+			assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+		}
+	}
+	
+	/**
+	 * DataSource를 감싸 조회 결과 행(ResultSet.next) 수를 세는 설정
+	 * 쿼리가 실제로 DB에서 받아온 행 수를 로더/리포지토리 호출 그대로 측정
+	 */
+	@TestConfiguration
+	static class RowCountingDataSourceConfig {
+		
+		static final AtomicLong ROWS = new AtomicLong();
+		
+		private static final Set<Class<?>> JDBC_TYPES = Set.of(
+				Connection.class, Statement.class, PreparedStatement.class, CallableStatement.class, ResultSet.class);
+		
+		@Bean
+		static BeanPostProcessor rowCountingDataSourcePostProcessor() {
+			return new BeanPostProcessor() {
+				@Override
+				public Object postProcessAfterInitialization(Object bean, String beanName) {
+					return bean instanceof DataSource dataSource ? counting(DataSource.class, dataSource) : bean;
+				}
+			};
+		}
+		
+		@SuppressWarnings("unchecked")
+		private static <T> T counting(Class<T> type, T target) {
+			return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+				Object result;
+				try {
+					result = method.invoke(target, args);
+				} catch (InvocationTargetException e) {
+					throw e.getCause();
+				}
+				if (type == ResultSet.class && method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+					ROWS.incrementAndGet();
+				}
+				Class<?> returnType = method.getReturnType();
+				if (result != null && JDBC_TYPES.contains(returnType)) {
+					return counting((Class<Object>) returnType, result);
+				}
+				return result;
+			});
+		}
+	}
+}
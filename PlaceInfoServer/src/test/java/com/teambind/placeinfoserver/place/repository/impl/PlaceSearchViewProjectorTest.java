@@ -0,0 +1,367 @@
+package com.teambind.placeinfoserver.place.repository.impl;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.teambind.placeinfoserver.place.common.metrics.PlaceSearchMetrics;
+import com.teambind.placeinfoserver.place.config.JpaAuditingTestConfig;
+import com.teambind.placeinfoserver.place.config.MetricsTestConfig;
+import com.teambind.placeinfoserver.place.config.QueryDslTestConfig;
+import com.teambind.placeinfoserver.place.domain.entity.Keyword;
+import com.teambind.placeinfoserver.place.domain.entity.PlaceImage;
+import com.teambind.placeinfoserver.place.domain.entity.PlaceInfo;
+import com.teambind.placeinfoserver.place.domain.entity.PlaceSearchView;
+import com.teambind.placeinfoserver.place.domain.entity.Room;
+import com.teambind.placeinfoserver.place.dto.request.PlaceSearchRequest;
+import com.teambind.placeinfoserver.place.dto.response.PlaceSearchResponse;
+import com.teambind.placeinfoserver.place.events.internal.PlaceChangedEvent;
+import com.teambind.placeinfoserver.place.fixture.PlaceRequestFactory;
+import com.teambind.placeinfoserver.place.fixture.PlaceTestFactory;
+import com.teambind.placeinfoserver.place.repository.KeywordRepository;
+import com.teambind.placeinfoserver.place.repository.PlaceInfoRepository;
+import com.teambind.placeinfoserver.place.repository.RoomRepository;
+import com.teambind.placeinfoserver.place.repository.index.PlaceKeywordIndexManager;
+import com.teambind.placeinfoserver.place.repository.index.PlaceLocationCandidateCache;
+import com.teambind.placeinfoserver.place.repository.index.PlaceSpatialIndexManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({PlaceSearchViewProjector.class, PlaceAdvancedSearchRepositoryImpl.class, PlaceSearchEnricher.class, PlaceRoomSummaryLoader.class, PlaceSpatialIndexManager.class, PlaceKeywordIndexManager.class, PlaceLocationCandidateCache.class, PlaceSearchMetrics.class, QueryDslTestConfig.class, MetricsTestConfig.class, JpaAuditingTestConfig.class})
+@DisplayName("PlaceSearchViewProjector 통합 테스트")
+class PlaceSearchViewProjectorTest {
+	
+	private static final PostgreSQLContainer<?> postgresContainer;
+	
+	static {
+		postgresContainer = new PostgreSQLContainer<>(
+				DockerImageName.parse("postgis/postgis:15-3.3")
+						.asCompatibleSubstituteFor("postgres")
+		)
+				.withDatabaseName("testdb")
+				.withUsername("test")
+				.withPassword("test")
+				.withReuse(true);
+		postgresContainer.start();
+	}
+	
+	@Autowired
+	private PlaceSearchViewProjector projector;
+	@Autowired
+	private PlaceAdvancedSearchRepositoryImpl searchRepository;
+	@Autowired
+	private JPAQueryFactory queryFactory;
+	@Autowired
+	private PlaceSearchEnricher searchEnricher;
+	@Autowired
+	private PlaceSpatialIndexManager spatialIndexManager;
+	@Autowired
+	private PlaceKeywordIndexManager keywordIndexManager;
+	@Autowired
+	private PlaceLocationCandidateCache locationCandidateCache;
+	@Autowired
+	private PlaceInfoRepository placeInfoRepository;
+	@Autowired
+	private KeywordRepository keywordRepository;
+	@Autowired
+	private RoomRepository roomRepository;
+	@Autowired
+	private EntityManager entityManager;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+	
+	private List<Keyword> keywords;
+	
+	@DynamicPropertySource
+	static void registerPgProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", postgresContainer::getJdbcUrl);
+		registry.add("spring.datasource.username", postgresContainer::getUsername);
+		registry.add("spring.datasource.password", postgresContainer::getPassword);
+	}
+	
+	@BeforeEach
+	void setUp() {
+		PlaceTestFactory.resetSequence();
+		keywords = new ArrayList<>();
+		for (int i = 1; i <= 3; i++) {
+			keywords.add(PlaceTestFactory.createKeyword("키워드" + i));
+		}
+		keywordRepository.saveAll(keywords);
+	}
+	
+	@AfterEach
+	void tearDown() {
+		roomRepository.deleteAll();
+		placeInfoRepository.deleteAll();
+		keywordRepository.deleteAll();
+	}
+	
+	private PlaceInfo savePlace(PlaceInfo place) {
+		placeInfoRepository.save(place);
+		entityManager.flush();
+		entityManager.clear();
+		return place;
+	}
+	
+	private void saveRoom(Long placeId, long roomId, boolean active) {
+		roomRepository.save(Room.builder().roomId(roomId).placeId(placeId).isActive(active).build());
+	}
+	
+	private PlaceSearchView findView(Long placeId) {
+		entityManager.clear();
+		return entityManager.find(PlaceSearchView.class, placeId);
+	}
+	
+	@Nested
+	@DisplayName("업체 단위 갱신")
+	class RefreshTests {
+		
+		@Test
+		@DisplayName("정상: 업체/위치/썸네일/키워드/활성 Room을 한 행으로 저장")
+		void refresh_ProjectsDenormalizedRow() {
+			PlaceInfo place = PlaceTestFactory.withKeywords(
+					PlaceTestFactory.withImages(PlaceTestFactory.createPlaceInfo(), 3), keywords);
+			savePlace(place);
+			saveRoom(place.getId(), 101L, true);
+			saveRoom(place.getId(), 102L, false);
+			
+			projector.refresh(place.getId());
+			
+			PlaceSearchView view = findView(place.getId());
+			PlaceInfo saved = placeInfoRepository.findById(place.getId()).orElseThrow();
+			String expectedThumbnail = saved.getImages().stream()
+					.min(Comparator.comparing(PlaceImage::getId))
+					.map(PlaceImage::getImageUrl)
+					.orElseThrow();
+			assertThat(view).isNotNull();
+			assertThat(view.getPlaceName()).isEqualTo(saved.getPlaceName());
+			assertThat(view.getFullAddress()).isEqualTo(saved.getLocation().getAddress().getFullAddress());
+			assertThat(view.getCoordinates()).isNotNull();
+			assertThat(view.getThumbnailUrl()).isEqualTo(expectedThumbnail);
+			assertThat(view.getKeywordIds()).containsExactlyInAnyOrderElementsOf(keywords.stream().map(Keyword::getId).toList());
+			assertThat(view.getKeywordNames()).hasSize(3);
+			assertThat(view.getRoomIds()).containsExactly(101L);
+			assertThat(view.getRoomCount()).isEqualTo(1);
+		}
+		
+		@Test
+		@DisplayName("정상: 다시 갱신하면 변경 내용으로 덮어씀")
+		void refresh_Upserts() {
+			PlaceInfo place = savePlace(PlaceTestFactory.createPlaceInfo());
+			projector.refresh(place.getId());
+			
+			saveRoom(place.getId(), 201L, true);
+			projector.refresh(place.getId());
+			
+			assertThat(findView(place.getId()).getRoomIds()).containsExactly(201L);
+		}
+		
+		@Test
+		@DisplayName("정상: 삭제된 업체는 행 제거")
+		void refresh_RemovesDeletedPlace() {
+			PlaceInfo place = savePlace(PlaceTestFactory.createPlaceInfo());
+			projector.refresh(place.getId());
+			
+			PlaceInfo saved = placeInfoRepository.findById(place.getId()).orElseThrow();
+			saved.softDelete("ADMIN");
+			projector.refresh(place.getId());
+			
+			assertThat(findView(place.getId())).isNull();
+		}
+		
+		@Test
+		@DisplayName("정상: 동기 갱신이 꺼져 있으면 변경 이벤트를 반영하지 않음")
+		void onPlaceChanged_SyncDisabled() {
+			PlaceInfo place = savePlace(PlaceTestFactory.createPlaceInfo());
+			
+			projector.onPlaceChanged(PlaceChangedEvent.of(place.getId(), PlaceChangedEvent.ChangeType.CREATED));
+			
+			assertThat(findView(place.getId())).isNull();
+		}
+		
+		@Test
+		@DisplayName("정상: 동기 갱신이 켜져 있으면 변경 이벤트로 행 갱신")
+		void onPlaceChanged_SyncEnabled() {
+			PlaceInfo place = savePlace(PlaceTestFactory.createPlaceInfo());
+			PlaceSearchViewProjector syncProjector = new PlaceSearchViewProjector(entityManager, true);
+			
+			syncProjector.onPlaceChanged(PlaceChangedEvent.of(place.getId(), PlaceChangedEvent.ChangeType.CREATED));
+			
+			assertThat(findView(place.getId())).isNotNull();
+		}
+	}
+	
+	@Test
+	@DisplayName("정상: 재구성은 삭제되지 않은 업체 전체를 다시 적재")
+	void rebuild_LoadsAllLivePlaces() {
+		savePlace(PlaceTestFactory.createPlaceInfo());
+		savePlace(PlaceTestFactory.createInactivePlaceInfo());
+		PlaceInfo deleted = PlaceTestFactory.createPlaceInfo();
+		deleted.softDelete("ADMIN");
+		savePlace(deleted);
+		
+		int rebuilt = projector.rebuild();
+		
+		assertThat(rebuilt).isEqualTo(2);
+		assertThat(findView(deleted.getId())).isNull();
+	}
+	
+	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	@DisplayName("정상: 재구성 중 다른 트랜잭션이 같은 업체 행을 커밋해도 고유 키 위반 없이 덮어씀")
+	void rebuild_ConcurrentUpsert_NoUniqueViolation() throws Exception {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		PlaceInfo place = transactionTemplate.execute(status -> savePlace(PlaceTestFactory.createPlaceInfo()));
+		CountDownLatch upserted = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			// 단건 갱신이 행을 쓰고 커밋하지 않은 채 대기
+			Future<?> refresh = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+				projector.refresh(place.getId());
+				upserted.countDown();
+				await(release);
+			}));
+			assertThat(upserted.await(10, TimeUnit.SECONDS)).isTrue();
+			
+			// 재구성은 같은 업체 행 INSERT에서 단건 갱신의 커밋을 기다림
+			Future<Integer> rebuild = executor.submit(() -> transactionTemplate.execute(status -> projector.rebuild()));
+			waitForLockWait(transactionTemplate);
+			release.countDown();
+			
+			refresh.get(10, TimeUnit.SECONDS);
+			assertThat(rebuild.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+			assertThat(findView(place.getId())).isNotNull();
+		} finally {
+			release.countDown();
+			executor.shutdownNow();
+			transactionTemplate.executeWithoutResult(status ->
+					entityManager.createNativeQuery("DELETE FROM place_search_view").executeUpdate());
+		}
+	}
+	
+	private void waitForLockWait(TransactionTemplate transactionTemplate) throws InterruptedException {
+		for (int i = 0; i < 100; i++) {
+			Number waiting = transactionTemplate.execute(status -> (Number) entityManager
+					.createNativeQuery("SELECT count(*) FROM pg_locks WHERE NOT granted")
+					.getSingleResult());
+			if (waiting != null && waiting.intValue() > 0) {
+				return;
+			}
+			Thread.sleep(100);
+		}
+		throw new IllegalStateException("rebuild did not wait for the concurrent upsert");
+	}
+	
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(10, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+	
+	@Nested
+	@DisplayName("읽기 모델 검색 (place.search.view.read-enabled)")
+	class ViewSearchTests {
+		
+		private PlaceAdvancedSearchRepositoryImpl viewRepository;
+		
+		@BeforeEach
+		void setUpView() {
+			viewRepository = new PlaceAdvancedSearchRepositoryImpl(
+					queryFactory, entityManager, searchEnricher, spatialIndexManager, keywordIndexManager,
+					locationCandidateCache, new PlaceSearchMetrics(new SimpleMeterRegistry()), true);
+			
+			double baseLat = 37.5665;
+			double baseLng = 126.9780;
+			for (int i = 0; i < 5; i++) {
+				PlaceInfo place = PlaceTestFactory.withImages(
+						PlaceTestFactory.createPlaceInfoWithLocation("Place " + i, baseLat + i * 0.002, baseLng + i * 0.001), 2);
+				PlaceTestFactory.withKeywords(place, keywords.subList(0, 1 + i % 3));
+				placeInfoRepository.save(place);
+				saveRoom(place.getId(), 300L + i, true);
+			}
+			placeInfoRepository.save(PlaceTestFactory.createInactivePlaceInfo());
+			entityManager.flush();
+			entityManager.clear();
+			projector.rebuild();
+		}
+		
+		private List<String> ids(PlaceSearchResponse response) {
+			return response.getItems().stream().map(PlaceSearchResponse.PlaceSearchItem::getId).toList();
+		}
+		
+		@Test
+		@DisplayName("정상: 기본 검색은 원본 조인과 같은 결과와 부가 정보를 반환")
+		void searchWithCursor_MatchesJoinedQuery() {
+			PlaceSearchRequest request = PlaceRequestFactory.createBasicSearchRequest();
+			
+			PlaceSearchResponse joined = searchRepository.searchWithCursor(request);
+			PlaceSearchResponse view = viewRepository.searchWithCursor(request);
+			
+			assertThat(ids(view)).isNotEmpty().isEqualTo(ids(joined));
+			for (int i = 0; i < view.getItems().size(); i++) {
+				PlaceSearchResponse.PlaceSearchItem expected = joined.getItems().get(i);
+				PlaceSearchResponse.PlaceSearchItem actual = view.getItems().get(i);
+				assertThat(actual.getThumbnailUrl()).isEqualTo(expected.getThumbnailUrl());
+				assertThat(actual.getKeywords()).containsExactlyInAnyOrderElementsOf(expected.getKeywords());
+				assertThat(actual.getRoomIds()).containsExactlyInAnyOrderElementsOf(expected.getRoomIds());
+				assertThat(actual.getFullAddress()).isEqualTo(expected.getFullAddress());
+			}
+			assertThat(viewRepository.countSearchResults(request)).isEqualTo(searchRepository.countSearchResults(request));
+		}
+		
+		@Test
+		@DisplayName("정상: 키워드 ANY/ALL 검색은 키워드 배열로 원본과 같은 결과를 반환")
+		void searchByKeywords_MatchesJoinedQuery() {
+			List<Long> keywordIds = List.of(keywords.get(1).getId(), keywords.get(2).getId());
+			PlaceSearchRequest any = PlaceRequestFactory.createKeywordTagSearchRequest(keywordIds);
+			PlaceSearchRequest all = PlaceRequestFactory.createKeywordTagSearchRequest(keywordIds);
+			all.setKeywordMatch(PlaceSearchRequest.KeywordMatch.ALL);
+			
+			assertThat(ids(viewRepository.searchByKeywords(any)))
+					.isNotEmpty()
+					.isEqualTo(ids(searchRepository.searchByKeywords(any)));
+			assertThat(ids(viewRepository.searchByKeywords(all)))
+					.isNotEmpty()
+					.isEqualTo(ids(searchRepository.searchByKeywords(all)));
+		}
+		
+		@Test
+		@DisplayName("정상: 위치 검색은 읽기 모델 좌표로 원본과 같은 거리순 결과를 반환")
+		void searchByLocation_MatchesJoinedQuery() {
+			PlaceSearchRequest request = PlaceRequestFactory.createLocationSearchRequest(37.5665, 126.9780, 3000);
+			
+			PlaceSearchResponse joined = searchRepository.searchByLocation(request);
+			PlaceSearchResponse view = viewRepository.searchByLocation(request);
+			
+			assertThat(ids(view)).isNotEmpty().isEqualTo(ids(joined));
+			assertThat(view.getItems()).extracting(PlaceSearchResponse.PlaceSearchItem::getDistance)
+					.isEqualTo(joined.getItems().stream().map(PlaceSearchResponse.PlaceSearchItem::getDistance).toList());
+		}
+	}
+}
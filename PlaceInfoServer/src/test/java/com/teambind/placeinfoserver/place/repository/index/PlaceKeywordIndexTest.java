@@ -0,0 +1,145 @@
+package com.teambind.placeinfoserver.place.repository.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PlaceKeywordIndex 테스트")
+class PlaceKeywordIndexTest {
+
+	private static final long DRUM = 1L;
+	private static final long GUITAR = 2L;
+	private static final long PARKING = 3L;
+
+	private PlaceKeywordIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new PlaceKeywordIndex();
+		index.replaceAll(Map.of(
+				100L, List.of(DRUM),
+				200L, List.of(GUITAR),
+				300L, List.of(DRUM, GUITAR),
+				400L, List.of(DRUM, GUITAR, PARKING)
+		));
+	}
+
+	@Nested
+	@DisplayName("키워드 매칭")
+	class MatchTests {
+
+		@Test
+		@DisplayName("정상: ANY는 하나라도 보유한 업체 반환")
+		void match_AnyReturnsUnion() {
+			assertThat(index.match(List.of(DRUM, PARKING), false))
+					.containsExactlyInAnyOrder(100L, 300L, 400L);
+		}
+
+		@Test
+		@DisplayName("정상: ALL은 모두 보유한 업체만 반환")
+		void match_AllReturnsIntersection() {
+			assertThat(index.match(List.of(DRUM, GUITAR), true))
+					.containsExactlyInAnyOrder(300L, 400L);
+		}
+
+		@Test
+		@DisplayName("정상: ALL에 아무도 보유하지 않은 키워드가 있으면 빈 결과")
+		void match_AllWithUnknownKeyword() {
+			assertThat(index.match(List.of(DRUM, 99L), true)).isEmpty();
+		}
+
+		@Test
+		@DisplayName("정상: ANY는 알 수 없는 키워드를 무시")
+		void match_AnyIgnoresUnknownKeyword() {
+			assertThat(index.match(List.of(PARKING, 99L), false)).containsExactly(400L);
+		}
+
+		@Test
+		@DisplayName("정상: 중복 키워드 ID는 한 번만 계산")
+		void match_DuplicateKeywordIds() {
+			assertThat(index.match(List.of(GUITAR, GUITAR), true))
+					.containsExactlyInAnyOrder(200L, 300L, 400L);
+		}
+	}
+
+	@Nested
+	@DisplayName("인덱스 갱신")
+	class UpdateTests {
+
+		@Test
+		@DisplayName("정상: 키워드 교체 시 이전 키워드에서 제외")
+		void update_ReplacesKeywords() {
+			index.update(100L, List.of(PARKING));
+
+			assertThat(index.match(List.of(DRUM), false)).containsExactlyInAnyOrder(300L, 400L);
+			assertThat(index.match(List.of(PARKING), false)).containsExactlyInAnyOrder(100L, 400L);
+		}
+
+		@Test
+		@DisplayName("정상: 새 업체 추가")
+		void update_AddsNewPlace() {
+			index.update(500L, List.of(GUITAR, PARKING));
+
+			assertThat(index.match(List.of(GUITAR, PARKING), true)).containsExactlyInAnyOrder(400L, 500L);
+			assertThat(index.size()).isEqualTo(5);
+		}
+
+		@Test
+		@DisplayName("정상: 서수 배열 확장 후에도 업체 ID 유지")
+		void update_GrowsBeyondInitialCapacity() {
+			LongStream.rangeClosed(1000L, 1100L).forEach(placeId -> index.update(placeId, List.of(PARKING)));
+
+			assertThat(index.match(List.of(PARKING), false))
+					.hasSize(102)
+					.contains(400L, 1000L, 1100L);
+		}
+
+		@Test
+		@DisplayName("정상: 제거된 업체는 검색되지 않음")
+		void remove_ExcludesPlace() {
+			index.remove(300L);
+
+			assertThat(index.match(List.of(DRUM, GUITAR), true)).containsExactly(400L);
+			assertThat(index.size()).isEqualTo(3);
+		}
+
+		@Test
+		@DisplayName("정상: 갱신 전에 조회한 결과는 영향받지 않음")
+		void update_DoesNotMutatePublishedResult() {
+			List<Long> before = index.match(List.of(DRUM), false);
+
+			index.remove(100L);
+
+			assertThat(before).containsExactlyInAnyOrder(100L, 300L, 400L);
+			assertThat(index.match(List.of(DRUM), false)).containsExactlyInAnyOrder(300L, 400L);
+		}
+
+		@Test
+		@DisplayName("정상: 재적재 중 반영된 단건 변경은 이전 전체 데이터로 덮어써지지 않음")
+		void replaceAll_ReappliesChangesDuringReload() {
+			index.beginReload();
+			// 전체 조회 이후 커밋된 변경
+			index.update(100L, List.of(PARKING));
+			index.remove(200L);
+
+			// 변경 이전에 조회된 전체 데이터
+			index.replaceAll(Map.of(
+					100L, List.of(DRUM),
+					200L, List.of(GUITAR),
+					300L, List.of(DRUM, GUITAR)
+			));
+
+			assertThat(index.match(List.of(DRUM), false)).containsExactly(300L);
+			assertThat(index.match(List.of(PARKING), false)).containsExactly(100L);
+			assertThat(index.match(List.of(GUITAR), false)).containsExactly(300L);
+			assertThat(index.size()).isEqualTo(2);
+		}
+	}
+}
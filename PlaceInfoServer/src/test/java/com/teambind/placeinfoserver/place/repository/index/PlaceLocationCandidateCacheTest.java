@@ -0,0 +1,180 @@
+package com.teambind.placeinfoserver.place.repository.index;
+
+import com.teambind.placeinfoserver.place.common.config.CacheConfig;
+import com.teambind.placeinfoserver.place.dto.request.PlaceSearchRequest;
+import com.teambind.placeinfoserver.place.events.internal.PlaceChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PlaceLocationCandidateCache 테스트")
+class PlaceLocationCandidateCacheTest {
+
+	// 서울 시청
+	private static final double CENTER_LAT = 37.5665;
+	private static final double CENTER_LNG = 126.9780;
+
+	private static final PlaceLocationCandidateSet CANDIDATES = new PlaceLocationCandidateSet(
+			new long[]{1L, 2L, 3L, 4L},
+			new double[]{37.5665, 37.5700, 37.5796, 37.4979},   // 시청, 약 400m, 광화문 약 1.5km, 강남역 약 8.8km
+			new double[]{126.9780, 126.9800, 126.9770, 127.0276},
+			false
+	);
+
+	private List<double[]> loads;
+	private PlaceLocationCandidateCache cache;
+
+	@BeforeEach
+	void setUp() {
+		loads = new ArrayList<>();
+		cache = newCache(true, 5000);
+	}
+
+	private PlaceLocationCandidateCache newCache(boolean enabled, int maxCandidates) {
+		return new PlaceLocationCandidateCache(
+				new ConcurrentMapCacheManager(CacheConfig.LOCATION_CANDIDATES),
+				new SimpleMeterRegistry(),
+				enabled,
+				0.01,
+				maxCandidates);
+	}
+
+	private Optional<PlaceLocationCandidateSet> find(double lat, double lng, int radius) {
+		PlaceSearchRequest request = PlaceSearchRequest.builder()
+				.latitude(lat)
+				.longitude(lng)
+				.radiusInMeters(radius)
+				.build();
+		return cache.find(request, (centerLat, centerLng, radiusMeters, limit) -> {
+			loads.add(new double[]{centerLat, centerLng, radiusMeters});
+			return CANDIDATES;
+		});
+	}
+
+	@Nested
+	@DisplayName("셀/반경 버킷 키")
+	class KeyTests {
+
+		@Test
+		@DisplayName("정상: 같은 셀과 버킷의 근처 좌표는 한 번만 적재")
+		void find_NearbyCentersShareEntry() {
+			find(37.5661, 126.9781, 800);
+			find(37.5668, 126.9789, 1000);
+
+			assertThat(loads).hasSize(1);
+		}
+
+		@Test
+		@DisplayName("정상: 셀이 다르면 따로 적재")
+		void find_DifferentCellLoadsAgain() {
+			find(37.5661, 126.9781, 800);
+			find(37.5761, 126.9781, 800);
+
+			assertThat(loads).hasSize(2);
+		}
+
+		@Test
+		@DisplayName("정상: 반경 버킷이 다르면 따로 적재")
+		void find_DifferentBucketLoadsAgain() {
+			find(37.5661, 126.9781, 800);
+			find(37.5661, 126.9781, 1500);
+
+			assertThat(loads).hasSize(2);
+		}
+
+		@Test
+		@DisplayName("정상: 적재 반경은 버킷 + 셀 반대각선 이상")
+		void find_LoadRadiusCoversWholeCell() {
+			find(37.5661, 126.9781, 800);
+
+			double[] load = loads.get(0);
+			assertThat(load[0]).isBetween(37.56, 37.57);
+			assertThat(load[1]).isBetween(126.97, 126.98);
+			assertThat(load[2]).isGreaterThan(1000 + 600);
+		}
+
+		@Test
+		@DisplayName("정상: 반경 버킷은 요청 반경 이상인 가장 작은 값")
+		void radiusBucket_RoundsUp() {
+			assertThat(PlaceLocationCandidateCache.radiusBucket(100)).isEqualTo(500);
+			assertThat(PlaceLocationCandidateCache.radiusBucket(1000)).isEqualTo(1000);
+			assertThat(PlaceLocationCandidateCache.radiusBucket(4000)).isEqualTo(5000);
+			assertThat(PlaceLocationCandidateCache.radiusBucket(20000)).isEqualTo(-1);
+		}
+	}
+
+	@Nested
+	@DisplayName("PostGIS 경로 사용 조건")
+	class BypassTests {
+
+		@Test
+		@DisplayName("정상: 가장 큰 버킷보다 넓은 반경은 캐시하지 않음")
+		void find_TooWideRadius() {
+			assertThat(find(CENTER_LAT, CENTER_LNG, 20000)).isEmpty();
+			assertThat(loads).isEmpty();
+		}
+
+		@Test
+		@DisplayName("정상: 비활성화 시 사용하지 않음")
+		void find_Disabled() {
+			cache = newCache(false, 5000);
+
+			assertThat(find(CENTER_LAT, CENTER_LNG, 1000)).isEmpty();
+			assertThat(loads).isEmpty();
+		}
+
+		@Test
+		@DisplayName("정상: 후보 과다 셀은 표시만 저장하고 다시 적재하지 않음")
+		void find_OverflowIsRemembered() {
+			cache = newCache(true, 3);
+
+			assertThat(find(CENTER_LAT, CENTER_LNG, 1000)).isEmpty();
+			assertThat(find(CENTER_LAT, CENTER_LNG, 1000)).isEmpty();
+			assertThat(loads).hasSize(1);
+		}
+
+		@Test
+		@DisplayName("정상: 업체 변경 시 다시 적재")
+		void onPlaceChanged_ClearsEntries() {
+			find(CENTER_LAT, CENTER_LNG, 1000);
+
+			cache.onPlaceChanged(PlaceChangedEvent.of(1L, PlaceChangedEvent.ChangeType.LOCATION_CHANGED));
+			find(CENTER_LAT, CENTER_LNG, 1000);
+
+			assertThat(loads).hasSize(2);
+		}
+	}
+
+	@Nested
+	@DisplayName("후보 집합 검색")
+	class CandidateSetTests {
+
+		@Test
+		@DisplayName("정상: 실제 중심점 기준 반경 내 후보만 거리순으로 반환")
+		void search_RecomputesDistanceFromCenter() {
+			List<PlaceSpatialIndex.Candidate> result = CANDIDATES.search(CENTER_LAT, CENTER_LNG, 2000, null, 10);
+
+			assertThat(result).extracting(PlaceSpatialIndex.Candidate::placeId).containsExactly(1L, 2L, 3L);
+			assertThat(result.get(0).distance()).isZero();
+		}
+
+		@Test
+		@DisplayName("정상: 커서 이후 후보만 limit개 반환")
+		void search_AfterCursor() {
+			List<PlaceSpatialIndex.Candidate> firstPage = CANDIDATES.search(CENTER_LAT, CENTER_LNG, 10000, null, 2);
+			List<PlaceSpatialIndex.Candidate> secondPage = CANDIDATES.search(CENTER_LAT, CENTER_LNG, 10000, firstPage.get(1), 2);
+
+			assertThat(firstPage).extracting(PlaceSpatialIndex.Candidate::placeId).containsExactly(1L, 2L);
+			assertThat(secondPage).extracting(PlaceSpatialIndex.Candidate::placeId).containsExactly(3L, 4L);
+		}
+	}
+}
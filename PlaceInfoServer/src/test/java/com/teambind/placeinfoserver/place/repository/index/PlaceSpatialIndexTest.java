@@ -0,0 +1,168 @@
+package com.teambind.placeinfoserver.place.repository.index;
+
+import com.teambind.placeinfoserver.place.common.util.geometry.GeometryUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PlaceSpatialIndex 테스트")
+class PlaceSpatialIndexTest {
+
+	// 서울 시청
+	private static final double CENTER_LAT = 37.5665;
+	private static final double CENTER_LNG = 126.9780;
+
+	private PlaceSpatialIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new PlaceSpatialIndex(0.01);
+		index.replaceAll(List.of(
+				entry(1L, 37.5665, 126.9780, true, "APPROVED"),   // 시청 (0m)
+				entry(2L, 37.5700, 126.9800, true, "APPROVED"),   // 약 400m
+				entry(3L, 37.5796, 126.9770, true, "APPROVED"),   // 광화문 약 1.5km
+				entry(4L, 37.4979, 127.0276, true, "APPROVED"),   // 강남역 약 8.8km
+				entry(5L, 37.5680, 126.9790, false, "APPROVED"),  // 비활성
+				entry(6L, 37.5670, 126.9785, true, "PENDING")     // 미승인
+		));
+	}
+
+	private static PlaceSpatialIndex.Entry entry(long id, double lat, double lng, boolean active, String approval) {
+		return new PlaceSpatialIndex.Entry(id, lat, lng, active, approval, null);
+	}
+
+	private List<Long> searchIds(double radius, PlaceSpatialIndex.Candidate after, int limit) {
+		return index.search(CENTER_LAT, CENTER_LNG, radius,
+						e -> e.active() && "APPROVED".equals(e.approvalStatus()), after, limit)
+				.stream()
+				.map(PlaceSpatialIndex.Candidate::placeId)
+				.toList();
+	}
+
+	@Nested
+	@DisplayName("반경 검색")
+	class SearchTests {
+
+		@Test
+		@DisplayName("정상: 반경 내 업체만 거리순으로 반환")
+		void search_ReturnsWithinRadiusOrderedByDistance() {
+			assertThat(searchIds(2000, null, 10)).containsExactly(1L, 2L, 3L);
+		}
+
+		@Test
+		@DisplayName("정상: 넓은 반경은 여러 셀에 걸친 업체 포함")
+		void search_WideRadiusCoversManyCells() {
+			assertThat(searchIds(10000, null, 10)).containsExactly(1L, 2L, 3L, 4L);
+		}
+
+		@Test
+		@DisplayName("정상: 상태 필터 적용")
+		void search_AppliesFilter() {
+			assertThat(searchIds(500, null, 10)).doesNotContain(5L, 6L);
+		}
+
+		@Test
+		@DisplayName("정상: limit 개수만큼 가까운 순으로 반환")
+		void search_RespectsLimit() {
+			assertThat(searchIds(10000, null, 2)).containsExactly(1L, 2L);
+		}
+
+		@Test
+		@DisplayName("정상: Haversine 거리 반환")
+		void search_ReturnsHaversineDistance() {
+			List<PlaceSpatialIndex.Candidate> result = index.search(CENTER_LAT, CENTER_LNG, 2000, null, null, 10);
+
+			PlaceSpatialIndex.Candidate gwanghwamun = result.stream()
+					.filter(c -> c.placeId() == 3L)
+					.findFirst()
+					.orElseThrow();
+			assertThat(gwanghwamun.distance())
+					.isEqualTo(GeometryUtil.haversineDistance(CENTER_LAT, CENTER_LNG, 37.5796, 126.9770));
+		}
+
+		@Test
+		@DisplayName("정상: after 이후 후보부터 반환 (커서 페이징)")
+		void search_AfterCandidate() {
+			List<PlaceSpatialIndex.Candidate> firstPage = index.search(CENTER_LAT, CENTER_LNG, 10000,
+					e -> e.active() && "APPROVED".equals(e.approvalStatus()), null, 2);
+
+			assertThat(searchIds(10000, firstPage.get(1), 10)).containsExactly(3L, 4L);
+		}
+	}
+
+	@Nested
+	@DisplayName("인덱스 갱신")
+	class UpdateTests {
+
+		@Test
+		@DisplayName("정상: 좌표 변경 시 셀 이동")
+		void upsert_MovesCell() {
+			index.upsert(entry(4L, 37.5666, 126.9781, true, "APPROVED"));
+
+			assertThat(searchIds(100, null, 10)).containsExactly(1L, 4L);
+			assertThat(index.size()).isEqualTo(6);
+		}
+
+		@Test
+		@DisplayName("정상: 제거된 업체는 검색되지 않음")
+		void remove_ExcludesPlace() {
+			index.remove(2L);
+
+			assertThat(searchIds(2000, null, 10)).containsExactly(1L, 3L);
+			assertThat(index.size()).isEqualTo(5);
+		}
+
+		@Test
+		@DisplayName("정상: 전체 재구성 시 기존 엔트리 교체")
+		void replaceAll_ReplacesEntries() {
+			index.replaceAll(List.of(entry(10L, 37.5665, 126.9780, true, "APPROVED")));
+
+			assertThat(searchIds(10000, null, 10)).containsExactly(10L);
+			assertThat(index.size()).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("정상: 재적재 중 반영된 단건 변경은 이전 전체 데이터로 덮어써지지 않음")
+		void replaceAll_ReappliesChangesDuringReload() {
+			index.beginReload();
+			// 전체 조회 이후 커밋된 변경
+			index.upsert(entry(4L, 37.5666, 126.9781, true, "APPROVED"));
+			index.remove(2L);
+
+			// 변경 이전에 조회된 전체 데이터
+			index.replaceAll(List.of(
+					entry(1L, 37.5665, 126.9780, true, "APPROVED"),
+					entry(2L, 37.5700, 126.9800, true, "APPROVED"),
+					entry(4L, 37.4979, 127.0276, true, "APPROVED")
+			));
+
+			assertThat(searchIds(10000, null, 10)).containsExactly(1L, 4L);
+			assertThat(index.size()).isEqualTo(2);
+		}
+
+		@Test
+		@DisplayName("정상: 재적재 취소 후 변경은 기록되지 않음")
+		void abortReload_StopsRecordingChanges() {
+			index.beginReload();
+			index.abortReload();
+			index.remove(2L);
+
+			index.replaceAll(List.of(entry(2L, 37.5700, 126.9800, true, "APPROVED")));
+
+			assertThat(searchIds(2000, null, 10)).containsExactly(2L);
+		}
+
+		@Test
+		@DisplayName("예외: 유효하지 않은 셀 크기")
+		void constructor_InvalidCellSize() {
+			assertThatThrownBy(() -> new PlaceSpatialIndex(0))
+					.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+}
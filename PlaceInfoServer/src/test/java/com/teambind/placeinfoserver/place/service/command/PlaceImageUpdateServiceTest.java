@@ -1,6 +1,7 @@
 package com.teambind.placeinfoserver.place.service.command;
 
 import com.teambind.placeinfoserver.place.common.exception.application.InvalidRequestException;
+import com.teambind.placeinfoserver.place.common.exception.domain.InvalidPlaceStateException;
 import com.teambind.placeinfoserver.place.config.BaseIntegrationTest;
 import com.teambind.placeinfoserver.place.domain.entity.PlaceInfo;
 import com.teambind.placeinfoserver.place.events.event.ImagesChangeEventWrapper;
@@ -12,6 +13,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -204,6 +206,28 @@ class PlaceImageUpdateServiceTest extends BaseIntegrationTest {
 			PlaceInfo updatedPlace = placeInfoRepository.findById(testPlace.getId()).orElseThrow();
 			assertThat(updatedPlace.getImages()).isEmpty();
 		}
+		
+		@Test
+		@Order(7)
+		@DisplayName("업체 버전이 다른 재시도 이벤트 - 예외 발생, 이미지 유지")
+		void updateImage_StaleVersion_ThrowsException() {
+			// Given
+			testPlace.addImage("img_current", "https://example.com/current.jpg");
+			placeInfoRepository.flush();
+			LocalDateTime olderVersion = imageUpdateService.findVersion(String.valueOf(testPlace.getId()))
+					.orElseThrow()
+					.minusSeconds(1);
+			ImagesChangeEventWrapper event = ImagesChangeEventWrapper.builder()
+					.referenceId(String.valueOf(testPlace.getId()))
+					.images(List.of(createImageEvent("https://example.com/stale.jpg")))
+					.build();
+			
+			// When & Then
+			assertThatThrownBy(() -> imageUpdateService.updateImage(event, olderVersion))
+					.isInstanceOf(InvalidPlaceStateException.class);
+			PlaceInfo place = placeInfoRepository.findById(testPlace.getId()).orElseThrow();
+			assertThat(place.getImages()).extracting("imageUrl").containsExactly("https://example.com/current.jpg");
+		}
 	}
 	
 	@Nested
@@ -297,4 +321,65 @@ class PlaceImageUpdateServiceTest extends BaseIntegrationTest {
 			assertThat(updatedPlace.getImages().get(9).getImageUrl()).isEqualTo("https://example.com/image10.jpg");
 		}
 	}
+	
+	@Nested
+	@DisplayName("일괄 이미지 업데이트 테스트")
+	class UpdateImagesTest {
+		
+		@Test
+		@Order(10)
+		@DisplayName("여러 업체 이미지를 한 번에 교체 - 성공")
+		void updateImages_MultiplePlaces_Success() {
+			// Given
+			PlaceInfo otherPlace = placeInfoRepository.save(PlaceTestFactory.createPlaceInfo());
+			ImagesChangeEventWrapper first = ImagesChangeEventWrapper.builder()
+					.referenceId(String.valueOf(testPlace.getId()))
+					.images(List.of(createImageEvent("https://example.com/a1.jpg"), createImageEvent("https://example.com/a2.jpg")))
+					.build();
+			ImagesChangeEventWrapper second = ImagesChangeEventWrapper.builder()
+					.referenceId(String.valueOf(otherPlace.getId()))
+					.images(List.of(createImageEvent("https://example.com/b1.jpg")))
+					.build();
+			
+			// When
+			int updated = imageUpdateService.updateImages(List.of(first, second));
+			
+			// Then
+			assertThat(updated).isEqualTo(2);
+			assertThat(placeInfoRepository.findById(testPlace.getId()).orElseThrow().getImages())
+					.extracting("imageUrl")
+					.containsExactly("https://example.com/a1.jpg", "https://example.com/a2.jpg");
+			assertThat(placeInfoRepository.findById(otherPlace.getId()).orElseThrow().getImages())
+					.extracting("imageUrl")
+					.containsExactly("https://example.com/b1.jpg");
+		}
+		
+		@Test
+		@Order(11)
+		@DisplayName("잘못된 ID와 없는 업체의 이벤트는 건너뜀")
+		void updateImages_SkipsInvalidAndMissing() {
+			// Given
+			ImagesChangeEventWrapper valid = ImagesChangeEventWrapper.builder()
+					.referenceId(String.valueOf(testPlace.getId()))
+					.images(List.of(createImageEvent("https://example.com/valid.jpg")))
+					.build();
+			ImagesChangeEventWrapper invalidId = ImagesChangeEventWrapper.builder()
+					.referenceId("invalid-id")
+					.images(List.of(createImageEvent("https://example.com/invalid.jpg")))
+					.build();
+			ImagesChangeEventWrapper missing = ImagesChangeEventWrapper.builder()
+					.referenceId("999999999")
+					.images(List.of(createImageEvent("https://example.com/missing.jpg")))
+					.build();
+			
+			// When
+			int updated = imageUpdateService.updateImages(List.of(invalidId, valid, missing));
+			
+			// Then
+			assertThat(updated).isEqualTo(1);
+			assertThat(placeInfoRepository.findById(testPlace.getId()).orElseThrow().getImages())
+					.extracting("imageUrl")
+					.containsExactly("https://example.com/valid.jpg");
+		}
+	}
 }
@@ -0,0 +1,173 @@
+package com.teambind.placeinfoserver.place.service.command;
+
+import com.teambind.placeinfoserver.place.config.BaseIntegrationTest;
+import com.teambind.placeinfoserver.place.domain.entity.PlaceRoomSummary;
+import com.teambind.placeinfoserver.place.events.event.RoomCreatedEvent;
+import com.teambind.placeinfoserver.place.repository.PlaceRoomSummaryRepository;
+import com.teambind.placeinfoserver.place.repository.RoomRepository;
+import com.teambind.placeinfoserver.place.repository.impl.PlaceRoomSummaryLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RoomCreateService / RoomDeactivateService 통합 테스트
+ * Room 생성/비활성화 시 업체별 Room 요약 갱신 검증
+ */
+@SpringBootTest
+@Transactional
+class RoomCreateServiceTest extends BaseIntegrationTest {
+	
+	private static final Logger log = LoggerFactory.getLogger(RoomCreateServiceTest.class);
+	private static final Long PLACE_ID = 9_100L;
+	
+	@Autowired
+	private RoomCreateService roomCreateService;
+	@Autowired
+	private RoomDeactivateService roomDeactivateService;
+	@Autowired
+	private RoomRepository roomRepository;
+	@Autowired
+	private PlaceRoomSummaryRepository placeRoomSummaryRepository;
+	
+	@BeforeEach
+	void setUp() {
+		roomRepository.deleteAll();
+		placeRoomSummaryRepository.deleteAllInBatch();
+	}
+	
+	@Test
+	@DisplayName("Room 생성 시 업체 요약에 Room ID 추가")
+	void createRoom_AddsToSummary() {
+		roomCreateService.createRoom(1L, PLACE_ID);
+		roomCreateService.createRoom(2L, PLACE_ID);
+		
+		PlaceRoomSummary summary = placeRoomSummaryRepository.findById(PLACE_ID).orElseThrow();
+		assertThat(summary.getRoomIdList()).containsExactly(1L, 2L);
+		assertThat(summary.getRoomCount()).isEqualTo(2);
+	}
+	
+	@Test
+	@DisplayName("같은 Room 중복 생성 시 요약 변경 없음")
+	void createRoom_Duplicate_NotCountedTwice() {
+		roomCreateService.createRoom(1L, PLACE_ID);
+		roomCreateService.createRoom(1L, PLACE_ID);
+		
+		PlaceRoomSummary summary = placeRoomSummaryRepository.findById(PLACE_ID).orElseThrow();
+		assertThat(summary.getRoomIdList()).containsExactly(1L);
+		assertThat(summary.getRoomCount()).isEqualTo(1);
+	}
+	
+	@Test
+	@DisplayName("Room 비활성화 시 요약에서 제거")
+	void deactivateRoom_RemovesFromSummary() {
+		roomCreateService.createRoom(1L, PLACE_ID);
+		roomCreateService.createRoom(2L, PLACE_ID);
+		
+		roomDeactivateService.deactivateRoom(1L);
+		roomDeactivateService.deactivateRoom(1L);
+		
+		PlaceRoomSummary summary = placeRoomSummaryRepository.findById(PLACE_ID).orElseThrow();
+		assertThat(summary.getRoomIdList()).containsExactly(2L);
+		assertThat(summary.getRoomCount()).isEqualTo(1);
+		assertThat(roomRepository.findByRoomId(1L).orElseThrow().getIsActive()).isFalse();
+	}
+	
+	@Test
+	@DisplayName("요약 조회와 room 테이블 조회 결과가 같음")
+	void loader_SummaryMatchesRoomTable() {
+		roomCreateService.createRoom(1L, PLACE_ID);
+		roomCreateService.createRoom(2L, PLACE_ID);
+		roomCreateService.createRoom(3L, PLACE_ID + 1);
+		roomDeactivateService.deactivateRoom(2L);
+		
+		PlaceRoomSummaryLoader fromRooms = new PlaceRoomSummaryLoader(roomRepository, placeRoomSummaryRepository, false);
+		PlaceRoomSummaryLoader fromSummary = new PlaceRoomSummaryLoader(roomRepository, placeRoomSummaryRepository, true);
+		List<Long> placeIds = List.of(PLACE_ID, PLACE_ID + 1, PLACE_ID + 2);
+		
+		Map<Long, List<Long>> expected = fromRooms.findRoomIds(placeIds);
+		assertThat(fromSummary.findRoomIds(placeIds)).isEqualTo(expected);
+		assertThat(fromSummary.findRoomIds(PLACE_ID)).containsExactly(1L);
+		assertThat(fromSummary.findRoomIds(PLACE_ID + 2)).isEmpty();
+	}
+	
+	@Test
+	@DisplayName("일괄 생성: 중복/기존 Room은 건너뛰고 업체별 요약에 입력 순서대로 추가")
+	void createRooms_SkipsExistingAndDuplicates() {
+		roomCreateService.createRoom(1L, PLACE_ID);
+		
+		int created = roomCreateService.createRooms(List.of(
+				new RoomCreatedEvent(3L, PLACE_ID),
+				new RoomCreatedEvent(1L, PLACE_ID),
+				new RoomCreatedEvent(2L, PLACE_ID),
+				new RoomCreatedEvent(3L, PLACE_ID + 1),
+				new RoomCreatedEvent(4L, PLACE_ID + 1),
+				new RoomCreatedEvent(null, PLACE_ID)
+		));
+		
+		assertThat(created).isEqualTo(3);
+		assertThat(roomRepository.findByRoomId(3L).orElseThrow().getPlaceId()).isEqualTo(PLACE_ID);
+		assertThat(placeRoomSummaryRepository.findById(PLACE_ID).orElseThrow().getRoomIdList())
+				.containsExactly(1L, 3L, 2L);
+		PlaceRoomSummary other = placeRoomSummaryRepository.findById(PLACE_ID + 1).orElseThrow();
+		assertThat(other.getRoomIdList()).containsExactly(4L);
+		assertThat(other.getRoomCount()).isEqualTo(1);
+	}
+	
+	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	@DisplayName("백로그 재생: 배치마다 커밋하며 배치 크기별 처리량 측정, 재처리해도 결과 동일")
+	void createRooms_ReplayBacklog() {
+		// 컨슈머와 같이 배치마다 트랜잭션을 커밋하도록 테스트 트랜잭션 없이 실행하고 직접 정리
+		try {
+			int backlog = 3_000;
+			long roomIdBase = 100_000L;
+			
+			for (int batchSize : new int[]{1, 100, 500}) {
+				List<RoomCreatedEvent> events = new ArrayList<>(backlog);
+				for (int i = 0; i < backlog; i++) {
+					events.add(new RoomCreatedEvent(roomIdBase + i, PLACE_ID + (i % 50)));
+				}
+				
+				long start = System.nanoTime();
+				int created = replay(events, batchSize);
+				long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+				log.info("room-created backlog replay: batchSize={}, events={}, elapsed={}ms, throughput={} events/s",
+						batchSize, backlog, elapsedMillis, backlog * 1_000L / elapsedMillis);
+				
+				assertThat(created).isEqualTo(backlog);
+				assertThat(replay(events, batchSize)).isZero();
+				roomIdBase += backlog;
+			}
+			
+			long totalRooms = 3L * backlog;
+			assertThat(roomRepository.count()).isEqualTo(totalRooms);
+			assertThat(placeRoomSummaryRepository.findAll())
+					.extracting(PlaceRoomSummary::getRoomCount)
+					.containsOnly((int) (totalRooms / 50));
+		} finally {
+			roomRepository.deleteAllInBatch();
+			placeRoomSummaryRepository.deleteAllInBatch();
+		}
+	}
+	
+	private int replay(List<RoomCreatedEvent> events, int batchSize) {
+		int created = 0;
+		for (int from = 0; from < events.size(); from += batchSize) {
+			created += roomCreateService.createRooms(events.subList(from, Math.min(from + batchSize, events.size())));
+		}
+		return created;
+	}
+}
@@ -5,8 +5,10 @@ import com.teambind.placeinfoserver.place.common.exception.application.InvalidRe
 import com.teambind.placeinfoserver.place.common.exception.domain.PlaceNotFoundException;
 import com.teambind.placeinfoserver.place.config.BaseIntegrationTest;
 import com.teambind.placeinfoserver.place.domain.entity.PlaceInfo;
+import com.teambind.placeinfoserver.place.domain.entity.PlaceOutbox;
 import com.teambind.placeinfoserver.place.fixture.PlaceTestFactory;
 import com.teambind.placeinfoserver.place.repository.PlaceInfoRepository;
+import com.teambind.placeinfoserver.place.repository.PlaceOutboxRepository;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,8 +17,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.TestTransaction;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -38,6 +43,9 @@ class ActivatePlaceUseCaseTest extends BaseIntegrationTest {
 	@Autowired
 	private PlaceInfoRepository placeInfoRepository;
 
+	@Autowired
+	private PlaceOutboxRepository placeOutboxRepository;
+
 	@Autowired
 	private EntityManager entityManager;
 
@@ -45,6 +53,7 @@ class ActivatePlaceUseCaseTest extends BaseIntegrationTest {
 	void setUp() {
 		PlaceTestFactory.resetSequence();
 		placeInfoRepository.deleteAll();
+		placeOutboxRepository.deleteAll();
 	}
 
 	@Nested
@@ -224,4 +233,66 @@ class ActivatePlaceUseCaseTest extends BaseIntegrationTest {
 			assertThat(deactivatedAgain.getIsActive()).isFalse();
 		}
 	}
+
+	@Nested
+	@DisplayName("상태 변경 이벤트 outbox 테스트")
+	class OutboxTests {
+
+		@Test
+		@DisplayName("활성화/비활성화 시 같은 트랜잭션에서 상태 변경 이벤트를 outbox에 저장한다")
+		void writesStatusChangeEventsToOutbox() {
+			// Given
+			PlaceInfo place = PlaceTestFactory.createPlaceInfo();
+			placeInfoRepository.save(place);
+			String placeId = String.valueOf(place.getId());
+			entityManager.flush();
+			entityManager.clear();
+
+			// When
+			deactivatePlaceUseCase.execute(placeId, place.getUserId());
+			activatePlaceUseCase.execute(placeId, place.getUserId());
+			entityManager.flush();
+			entityManager.clear();
+
+			// Then
+			List<PlaceOutbox> outbox = placeOutboxRepository.lockNextBatch(10);
+			assertThat(outbox).extracting(PlaceOutbox::getTopic)
+					.containsExactly("place-status-change-event", "place-status-change-event");
+			assertThat(outbox).extracting(PlaceOutbox::getMessageKey).containsOnly(placeId);
+			assertThat(outbox.get(0).getPayload())
+					.contains("\"placeInfoId\":\"" + placeId + "\"")
+					.contains("\"status\":\"deactivate\"");
+			assertThat(outbox.get(1).getPayload()).contains("\"status\":\"activate\"");
+			assertThat(outbox).extracting(PlaceOutbox::getAttempts).containsOnly(0);
+		}
+
+		@Test
+		@DisplayName("outbox 저장 이후 요청 트랜잭션이 롤백되면 이벤트도 함께 롤백된다")
+		void outboxRollsBackWithRequestTransaction() {
+			// Given: 업체를 먼저 커밋
+			PlaceInfo place = PlaceTestFactory.createPlaceInfo();
+			placeInfoRepository.save(place);
+			TestTransaction.flagForCommit();
+			TestTransaction.end();
+			TestTransaction.start();
+
+			try {
+				// When: 비활성화와 outbox 저장까지 마친 뒤 트랜잭션 롤백
+				deactivatePlaceUseCase.execute(String.valueOf(place.getId()), place.getUserId());
+				entityManager.flush();
+				assertThat(placeOutboxRepository.count()).isEqualTo(1);
+				TestTransaction.flagForRollback();
+				TestTransaction.end();
+				TestTransaction.start();
+
+				// Then
+				assertThat(placeOutboxRepository.count()).isZero();
+				assertThat(placeInfoRepository.findById(place.getId()).orElseThrow().getIsActive()).isTrue();
+			} finally {
+				placeInfoRepository.deleteAll();
+				TestTransaction.flagForCommit();
+				TestTransaction.end();
+			}
+		}
+	}
 }
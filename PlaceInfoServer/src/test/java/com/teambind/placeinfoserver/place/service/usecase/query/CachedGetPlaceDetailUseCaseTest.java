@@ -0,0 +1,206 @@
+package com.teambind.placeinfoserver.place.service.usecase.query;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.placeinfoserver.place.common.config.CacheConfig;
+import com.teambind.placeinfoserver.place.common.exception.domain.PlaceNotFoundException;
+import com.teambind.placeinfoserver.place.dto.response.PlaceInfoResponse;
+import com.teambind.placeinfoserver.place.events.internal.PlaceChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CachedGetPlaceDetailUseCase 테스트")
+class CachedGetPlaceDetailUseCaseTest {
+	
+	private static final String PLACE_ID = "100";
+	
+	private StubGetPlaceDetailUseCase getPlaceDetailUseCase;
+	private SimpleMeterRegistry meterRegistry;
+	private ConcurrentMapCacheManager cacheManager;
+	private CachedGetPlaceDetailUseCase cachedUseCase;
+	
+	@BeforeEach
+	void setUp() {
+		getPlaceDetailUseCase = new StubGetPlaceDetailUseCase();
+		meterRegistry = new SimpleMeterRegistry();
+		cacheManager = new ConcurrentMapCacheManager(CacheConfig.PLACE_DETAIL, CacheConfig.PLACE_DETAIL_VERSION);
+		cachedUseCase = newUseCase(true);
+	}
+	
+	// 연결 없는 StringRedisTemplate: 무효화 전파는 실패 로그만 남김
+	private CachedGetPlaceDetailUseCase newUseCase(boolean enabled) {
+		return new CachedGetPlaceDetailUseCase(getPlaceDetailUseCase, cacheManager, new StringRedisTemplate(),
+				new ObjectMapper().findAndRegisterModules(), meterRegistry, enabled, 100, Duration.ofMinutes(1), false, Duration.ofSeconds(1));
+	}
+	
+	private double count(String tier, String result) {
+		return meterRegistry.get("place.detail.cache.requests")
+				.tag("tier", tier)
+				.tag("result", result)
+				.counter()
+				.count();
+	}
+	
+	@Nested
+	@DisplayName("캐시 조회")
+	class LookupTests {
+		
+		@Test
+		@DisplayName("정상: 두 번째 조회는 L1에서 응답")
+		void execute_LocalHit() {
+			cachedUseCase.execute(PLACE_ID);
+			PlaceInfoResponse second = cachedUseCase.execute(PLACE_ID);
+			
+			assertThat(second.getId()).isEqualTo(PLACE_ID);
+			assertThat(getPlaceDetailUseCase.calls).isEqualTo(1);
+			assertThat(count("l1", "hit")).isEqualTo(1);
+			assertThat(count("l2", "miss")).isEqualTo(1);
+		}
+		
+		@Test
+		@DisplayName("정상: 다른 인스턴스가 적재한 값은 L2에서 응답")
+		void execute_RemoteHit() {
+			cachedUseCase.execute(PLACE_ID);
+			CachedGetPlaceDetailUseCase otherInstance = newUseCase(true);
+			
+			otherInstance.execute(PLACE_ID);
+			
+			assertThat(getPlaceDetailUseCase.calls).isEqualTo(1);
+			assertThat(count("l2", "hit")).isEqualTo(1);
+		}
+		
+		@Test
+		@DisplayName("정상: 비활성화 시 매번 조회")
+		void execute_Disabled() {
+			CachedGetPlaceDetailUseCase disabled = newUseCase(false);
+			
+			disabled.execute(PLACE_ID);
+			disabled.execute(PLACE_ID);
+			
+			assertThat(getPlaceDetailUseCase.calls).isEqualTo(2);
+			assertThat(cacheManager.getCache(CacheConfig.PLACE_DETAIL_VERSION).get(100L)).isNull();
+		}
+		
+		@Test
+		@DisplayName("정상: 호출자가 응답을 수정해도 캐시된 값은 바뀌지 않음")
+		void execute_ReturnsCopy() {
+			PlaceInfoResponse first = cachedUseCase.execute(PLACE_ID);
+			first.setPlaceName("수정됨");
+			
+			PlaceInfoResponse local = cachedUseCase.execute(PLACE_ID);
+			PlaceInfoResponse remote = newUseCase(true).execute(PLACE_ID);
+			
+			assertThat(local).isNotSameAs(first);
+			assertThat(local.getPlaceName()).isEqualTo("합주실");
+			assertThat(remote.getPlaceName()).isEqualTo("합주실");
+			assertThat(getPlaceDetailUseCase.calls).isEqualTo(1);
+		}
+		
+		@Test
+		@DisplayName("예외: 존재하지 않는 업체는 캐시하지 않음")
+		void execute_NotFoundNotCached() {
+			assertThatThrownBy(() -> cachedUseCase.execute("999")).isInstanceOf(PlaceNotFoundException.class);
+			assertThatThrownBy(() -> cachedUseCase.execute("999")).isInstanceOf(PlaceNotFoundException.class);
+			
+			assertThat(getPlaceDetailUseCase.calls).isEqualTo(2);
+		}
+	}
+	
+	@Nested
+	@DisplayName("캐시 무효화")
+	class EvictionTests {
+		
+		@Test
+		@DisplayName("정상: 업체 변경 시 L1/L2 모두 제거")
+		void onPlaceChanged_EvictsBothTiers() {
+			cachedUseCase.execute(PLACE_ID);
+			
+			cachedUseCase.onPlaceChanged(PlaceChangedEvent.of(100L, PlaceChangedEvent.ChangeType.IMAGES_CHANGED));
+			cachedUseCase.execute(PLACE_ID);
+			
+			assertThat(getPlaceDetailUseCase.calls).isEqualTo(2);
+		}
+		
+		@Test
+		@DisplayName("정상: 다른 업체 변경은 영향 없음")
+		void onPlaceChanged_OtherPlace() {
+			cachedUseCase.execute(PLACE_ID);
+			
+			cachedUseCase.onPlaceChanged(PlaceChangedEvent.of(200L, PlaceChangedEvent.ChangeType.UPDATED));
+			cachedUseCase.execute(PLACE_ID);
+			
+			assertThat(getPlaceDetailUseCase.calls).isEqualTo(1);
+		}
+		
+		@Test
+		@DisplayName("정상: 조회 중 무효화되면 조회 결과는 L1/L2 어디에서도 읽히지 않음")
+		void onPlaceChanged_DuringLoad_DoesNotServeStaleValue() {
+			getPlaceDetailUseCase.duringLoad = () -> cachedUseCase.onPlaceChanged(
+					PlaceChangedEvent.of(100L, PlaceChangedEvent.ChangeType.UPDATED));
+			cachedUseCase.execute(PLACE_ID);
+			getPlaceDetailUseCase.duringLoad = null;
+			
+			cachedUseCase.execute(PLACE_ID);
+			newUseCase(true).execute(PLACE_ID);
+			
+			// 무효화 이후 다시 조회한 값만 L2에서 공유됨
+			assertThat(getPlaceDetailUseCase.calls).isEqualTo(2);
+			assertThat(count("l2", "miss")).isEqualTo(2);
+			assertThat(count("l2", "hit")).isEqualTo(1);
+		}
+		
+		@Test
+		@DisplayName("정상: 무효화 메시지는 L1만 제거")
+		void onMessage_EvictsLocalOnly() {
+			cachedUseCase.execute(PLACE_ID);
+			
+			cachedUseCase.onMessage(new DefaultMessage(
+					CacheConfig.PLACE_DETAIL_EVICTION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+					PLACE_ID.getBytes(StandardCharsets.UTF_8)), null);
+			cachedUseCase.execute(PLACE_ID);
+			
+			assertThat(getPlaceDetailUseCase.calls).isEqualTo(1);
+			assertThat(count("l1", "miss")).isEqualTo(2);
+			assertThat(count("l2", "hit")).isEqualTo(1);
+		}
+	}
+	
+	/**
+	 * 조회 횟수를 기록하는 상세 조회 스텁
+	 */
+	private static class StubGetPlaceDetailUseCase extends GetPlaceDetailUseCase {
+		
+		private int calls = 0;
+		private Runnable duringLoad;
+		
+		StubGetPlaceDetailUseCase() {
+			super(null, null, null);
+		}
+		
+		@Override
+		public PlaceInfoResponse execute(String placeId) {
+			calls++;
+			if (duringLoad != null) {
+				duringLoad.run();
+			}
+			if (!PLACE_ID.equals(placeId)) {
+				throw new PlaceNotFoundException();
+			}
+			return PlaceInfoResponse.builder()
+					.id(placeId)
+					.placeName("합주실")
+					.build();
+		}
+	}
+}
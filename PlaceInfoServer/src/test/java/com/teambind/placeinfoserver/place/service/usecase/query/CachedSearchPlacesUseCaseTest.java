@@ -0,0 +1,184 @@
+package com.teambind.placeinfoserver.place.service.usecase.query;
+
+import com.teambind.placeinfoserver.place.common.config.CacheConfig;
+import com.teambind.placeinfoserver.place.dto.request.PlaceSearchRequest;
+import com.teambind.placeinfoserver.place.dto.response.PlaceSearchResponse;
+import com.teambind.placeinfoserver.place.events.internal.PlaceChangedEvent;
+import com.teambind.placeinfoserver.place.fixture.PlaceRequestFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CachedSearchPlacesUseCase 테스트")
+class CachedSearchPlacesUseCaseTest {
+	
+	private StubSearchPlacesUseCase searchPlacesUseCase;
+	private SimpleMeterRegistry meterRegistry;
+	private ConcurrentMapCacheManager cacheManager;
+	private CachedSearchPlacesUseCase cachedSearchPlacesUseCase;
+	
+	@BeforeEach
+	void setUp() {
+		searchPlacesUseCase = new StubSearchPlacesUseCase();
+		meterRegistry = new SimpleMeterRegistry();
+		cacheManager = new ConcurrentMapCacheManager(
+				CacheConfig.SEARCH_RESULTS,
+				CacheConfig.REGION_RESULTS,
+				CacheConfig.POPULAR_RESULTS,
+				CacheConfig.RECENT_RESULTS,
+				CacheConfig.SEARCH_GENERATION);
+		cachedSearchPlacesUseCase = new CachedSearchPlacesUseCase(searchPlacesUseCase, cacheManager, meterRegistry);
+	}
+	
+	private PlaceSearchRequest popularRequest(String cursor) {
+		return PlaceRequestFactory.searchRequestBuilder()
+				.sortBy(PlaceSearchRequest.SortBy.RATING)
+				.sortDirection(PlaceSearchRequest.SortDirection.DESC)
+				.size(10)
+				.cursor(cursor)
+				.build();
+	}
+	
+	private double count(CachedSearchPlacesUseCase.Family family, String result) {
+		return meterRegistry.get("place.search.cache.requests")
+				.tag("family", family.name().toLowerCase())
+				.tag("result", result)
+				.counter()
+				.count();
+	}
+	
+	@Nested
+	@DisplayName("캐시 조회")
+	class LookupTests {
+		
+		@Test
+		@DisplayName("정상: 같은 요청은 두 번째부터 캐시에서 응답")
+		void execute_HitsCacheForSameRequest() {
+			PlaceSearchResponse first = cachedSearchPlacesUseCase.execute(popularRequest(null), CachedSearchPlacesUseCase.Family.POPULAR);
+			PlaceSearchResponse second = cachedSearchPlacesUseCase.execute(popularRequest(null), CachedSearchPlacesUseCase.Family.POPULAR);
+			
+			assertThat(second).isSameAs(first);
+			assertThat(searchPlacesUseCase.calls).isEqualTo(1);
+			assertThat(count(CachedSearchPlacesUseCase.Family.POPULAR, "miss")).isEqualTo(1);
+			assertThat(count(CachedSearchPlacesUseCase.Family.POPULAR, "hit")).isEqualTo(1);
+		}
+		
+		@Test
+		@DisplayName("정상: 커서가 다르면 다른 키로 조회")
+		void execute_CursorIsPartOfKey() {
+			cachedSearchPlacesUseCase.execute(popularRequest(null), CachedSearchPlacesUseCase.Family.POPULAR);
+			cachedSearchPlacesUseCase.execute(popularRequest("next-page"), CachedSearchPlacesUseCase.Family.POPULAR);
+			
+			assertThat(searchPlacesUseCase.calls).isEqualTo(2);
+		}
+		
+		@Test
+		@DisplayName("정상: 계열별로 다른 캐시 사용")
+		void execute_FamiliesUseSeparateCaches() {
+			cachedSearchPlacesUseCase.execute(popularRequest(null), CachedSearchPlacesUseCase.Family.POPULAR);
+			cachedSearchPlacesUseCase.execute(popularRequest(null), CachedSearchPlacesUseCase.Family.SEARCH);
+			
+			assertThat(searchPlacesUseCase.calls).isEqualTo(2);
+		}
+		
+		@Test
+		@DisplayName("정상: 좌표 기반 검색은 캐시하지 않음")
+		void execute_SkipsLocationSearch() {
+			PlaceSearchRequest request = PlaceRequestFactory.searchRequestBuilder()
+					.latitude(37.5)
+					.longitude(127.0)
+					.build();
+			
+			cachedSearchPlacesUseCase.execute(request, CachedSearchPlacesUseCase.Family.SEARCH);
+			cachedSearchPlacesUseCase.execute(request, CachedSearchPlacesUseCase.Family.SEARCH);
+			
+			assertThat(searchPlacesUseCase.calls).isEqualTo(2);
+		}
+		
+		@Test
+		@DisplayName("정상: 빈 결과는 저장하지 않음")
+		void execute_DoesNotCacheEmptyResult() {
+			searchPlacesUseCase.response = PlaceSearchResponse.empty();
+			
+			cachedSearchPlacesUseCase.execute(popularRequest(null), CachedSearchPlacesUseCase.Family.POPULAR);
+			cachedSearchPlacesUseCase.execute(popularRequest(null), CachedSearchPlacesUseCase.Family.POPULAR);
+			
+			assertThat(searchPlacesUseCase.calls).isEqualTo(2);
+		}
+	}
+	
+	@Nested
+	@DisplayName("캐시 무효화")
+	class InvalidationTests {
+		
+		@Test
+		@DisplayName("정상: 업체 변경 시 세대 토큰 교체로 모든 계열 캐시 무효화")
+		void onPlaceChanged_InvalidatesAllFamilies() {
+			cachedSearchPlacesUseCase.execute(popularRequest(null), CachedSearchPlacesUseCase.Family.POPULAR);
+			cachedSearchPlacesUseCase.execute(popularRequest(null), CachedSearchPlacesUseCase.Family.RECENT);
+			
+			cachedSearchPlacesUseCase.onPlaceChanged(PlaceChangedEvent.of(1L, PlaceChangedEvent.ChangeType.UPDATED));
+			cachedSearchPlacesUseCase.execute(popularRequest(null), CachedSearchPlacesUseCase.Family.POPULAR);
+			cachedSearchPlacesUseCase.execute(popularRequest(null), CachedSearchPlacesUseCase.Family.RECENT);
+			
+			assertThat(searchPlacesUseCase.calls).isEqualTo(4);
+		}
+		
+		@Test
+		@DisplayName("정상: 이미지/Room 변경은 무효화하지 않음")
+		void onPlaceChanged_IgnoresImageAndRoomChanges() {
+			cachedSearchPlacesUseCase.execute(popularRequest(null), CachedSearchPlacesUseCase.Family.POPULAR);
+			
+			cachedSearchPlacesUseCase.onPlaceChanged(PlaceChangedEvent.of(1L, PlaceChangedEvent.ChangeType.IMAGES_CHANGED));
+			cachedSearchPlacesUseCase.onPlaceChanged(PlaceChangedEvent.of(1L, PlaceChangedEvent.ChangeType.ROOMS_CHANGED));
+			cachedSearchPlacesUseCase.execute(popularRequest(null), CachedSearchPlacesUseCase.Family.POPULAR);
+			
+			assertThat(searchPlacesUseCase.calls).isEqualTo(1);
+		}
+		
+		@Test
+		@DisplayName("정상: 무효화는 계열 캐시를 비우지 않고 세대 토큰 하나만 교체")
+		void onPlaceChanged_ReplacesGenerationOnly() {
+			cachedSearchPlacesUseCase.execute(popularRequest(null), CachedSearchPlacesUseCase.Family.POPULAR);
+			Object before = cacheManager.getCache(CacheConfig.SEARCH_GENERATION).get("search").get();
+			
+			cachedSearchPlacesUseCase.onPlaceChanged(PlaceChangedEvent.of(1L, PlaceChangedEvent.ChangeType.STATUS_CHANGED));
+			
+			assertThat(cacheManager.getCache(CacheConfig.SEARCH_GENERATION).get("search").get()).isNotEqualTo(before);
+			// 이전 세대 항목은 남아 있다가 TTL로 만료
+			assertThat(((ConcurrentMap<?, ?>) cacheManager.getCache(CacheConfig.POPULAR_RESULTS)
+					.getNativeCache())).hasSize(1);
+		}
+	}
+	
+	/**
+	 * 호출 횟수만 기록하는 검색 UseCase
+	 */
+	private static class StubSearchPlacesUseCase extends SearchPlacesUseCase {
+		
+		private int calls = 0;
+		private PlaceSearchResponse response = PlaceSearchResponse.builder()
+				.items(List.of(PlaceSearchResponse.PlaceSearchItem.builder().id("1").placeName("테스트").build()))
+				.hasNext(false)
+				.count(1)
+				.build();
+		
+		StubSearchPlacesUseCase() {
+			super(null, null);
+		}
+		
+		@Override
+		public PlaceSearchResponse execute(PlaceSearchRequest request) {
+			calls++;
+			return response;
+		}
+	}
+}
@@ -0,0 +1,103 @@
+package com.teambind.placeinfoserver.place.service.usecase.query;
+
+import com.teambind.placeinfoserver.place.config.BaseIntegrationTest;
+import com.teambind.placeinfoserver.place.dto.request.PlaceSearchRequest;
+import com.teambind.placeinfoserver.place.dto.response.CountResponse;
+import com.teambind.placeinfoserver.place.fixture.PlaceRequestFactory;
+import com.teambind.placeinfoserver.place.fixture.PlaceTestFactory;
+import com.teambind.placeinfoserver.place.repository.PlaceInfoRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CountPlacesUseCase 통합 테스트
+ */
+@SpringBootTest(properties = "place.search.count.cap=3")
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("CountPlacesUseCase 통합 테스트")
+class CountPlacesUseCaseTest extends BaseIntegrationTest {
+
+	@Autowired
+	private CountPlacesUseCase countPlacesUseCase;
+
+	@Autowired
+	private PlaceInfoRepository placeInfoRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@BeforeEach
+	void setUp() {
+		PlaceTestFactory.resetSequence();
+		placeInfoRepository.deleteAll();
+	}
+
+	private void savePlaces(String category, int count) {
+		for (int i = 0; i < count; i++) {
+			placeInfoRepository.save(PlaceTestFactory.builder().category(category).build());
+		}
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@Nested
+	@DisplayName("개수 조회 테스트")
+	class CountTests {
+
+		@Test
+		@DisplayName("상한 이하면 정확한 개수를 반환한다")
+		void returnsExactCountUnderCap() {
+			// Given
+			savePlaces("연습실", 2);
+			PlaceSearchRequest request = PlaceRequestFactory.createCategorySearchRequest("연습실");
+
+			// When
+			CountResponse response = countPlacesUseCase.execute(request, false);
+
+			// Then
+			assertThat(response.getCount()).isEqualTo(2);
+			assertThat(response.getCapped()).isFalse();
+		}
+
+		@Test
+		@DisplayName("상한을 넘으면 상한값과 capped=true를 반환한다")
+		void returnsCapWhenExceeded() {
+			// Given
+			savePlaces("연습실", 5);
+			PlaceSearchRequest request = PlaceRequestFactory.createCategorySearchRequest("연습실");
+
+			// When
+			CountResponse response = countPlacesUseCase.execute(request, false);
+
+			// Then
+			assertThat(response.getCount()).isEqualTo(3);
+			assertThat(response.getCapped()).isTrue();
+		}
+
+		@Test
+		@DisplayName("exact=true면 상한과 무관하게 전체 개수를 반환한다")
+		void returnsExactCountWhenRequested() {
+			// Given
+			savePlaces("연습실", 5);
+			savePlaces("스튜디오", 2);
+			PlaceSearchRequest request = PlaceRequestFactory.createCategorySearchRequest("연습실");
+
+			// When
+			CountResponse response = countPlacesUseCase.execute(request, true);
+
+			// Then
+			assertThat(response.getCount()).isEqualTo(5);
+			assertThat(response.getCapped()).isFalse();
+		}
+	}
+}
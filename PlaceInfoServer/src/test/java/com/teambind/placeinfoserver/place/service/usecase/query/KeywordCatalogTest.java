@@ -0,0 +1,94 @@
+package com.teambind.placeinfoserver.place.service.usecase.query;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.placeinfoserver.place.domain.enums.KeywordType;
+import com.teambind.placeinfoserver.place.dto.response.KeywordResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * KeywordCatalog 스냅샷 단위 테스트
+ */
+@DisplayName("KeywordCatalog 단위 테스트")
+class KeywordCatalogTest {
+	
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	
+	private static KeywordResponse keyword(long id, String name, KeywordType type, int displayOrder) {
+		return KeywordResponse.builder()
+				.id(id)
+				.name(name)
+				.type(type)
+				.displayOrder(displayOrder)
+				.build();
+	}
+	
+	private static List<KeywordResponse> keywords() {
+		// 표시 순서대로 정렬된 활성 키워드 (ID 순서와 다름)
+		return List.of(
+				keyword(30L, "합주실", KeywordType.SPACE_TYPE, 1),
+				keyword(10L, "드럼 세트", KeywordType.INSTRUMENT_EQUIPMENT, 2),
+				keyword(20L, "연습실", KeywordType.SPACE_TYPE, 3)
+		);
+	}
+	
+	@Test
+	@DisplayName("전체/타입별 응답 바이트는 목록을 직렬화한 JSON과 같다")
+	void body_MatchesSerializedList() throws Exception {
+		KeywordCatalog catalog = KeywordCatalog.of(keywords(), objectMapper);
+		
+		assertThat(catalog.getBody(null)).isEqualTo(objectMapper.writeValueAsBytes(keywords()));
+		List<KeywordResponse> spaceTypes = Arrays.asList(
+				objectMapper.readValue(catalog.getBody(KeywordType.SPACE_TYPE), KeywordResponse[].class));
+		assertThat(spaceTypes).extracting(KeywordResponse::getName).containsExactly("합주실", "연습실");
+		assertThat(catalog.getKeywords(KeywordType.AMENITY)).isEmpty();
+		assertThat(catalog.getBody(KeywordType.AMENITY)).asString().isEqualTo("[]");
+	}
+	
+	@Test
+	@DisplayName("ID 조회는 표시 순서와 무관하고 카탈로그에 없는 ID는 찾지 못한다")
+	void containsAndFindAll() throws Exception {
+		KeywordCatalog catalog = KeywordCatalog.of(keywords(), objectMapper);
+		
+		assertThat(catalog.containsAll(List.of(10L, 20L, 30L))).isTrue();
+		assertThat(catalog.containsAll(List.of(10L, 99L))).isFalse();
+		assertThat(catalog.contains(null)).isFalse();
+		assertThat(catalog.findAll(List.of(20L, 99L, 10L)))
+				.extracting(KeywordResponse::getName)
+				.containsExactly("연습실", "드럼 세트");
+	}
+	
+	@Test
+	@DisplayName("조회 결과는 복사본이므로 수정해도 스냅샷에 영향이 없다")
+	void findAll_ReturnsCopies() throws Exception {
+		KeywordCatalog catalog = KeywordCatalog.of(keywords(), objectMapper);
+		
+		catalog.findAll(List.of(30L)).get(0).setName("변경");
+		
+		assertThat(catalog.findAll(List.of(30L)).get(0).getName()).isEqualTo("합주실");
+	}
+	
+	@Test
+	@DisplayName("ETag는 내용이 같으면 같고 내용이 바뀌면 달라진다")
+	void etag_ContentBased() throws Exception {
+		KeywordCatalog catalog = KeywordCatalog.of(keywords(), objectMapper);
+		KeywordCatalog same = KeywordCatalog.of(keywords(), objectMapper);
+		KeywordCatalog changed = KeywordCatalog.of(List.of(
+				keyword(30L, "합주실", KeywordType.SPACE_TYPE, 1),
+				keyword(10L, "드럼 세트", KeywordType.INSTRUMENT_EQUIPMENT, 2)
+		), objectMapper);
+		
+		assertThat(catalog.getETag(null)).startsWith("\"").endsWith("\"");
+		assertThat(same.getETag(null)).isEqualTo(catalog.getETag(null));
+		assertThat(changed.getETag(null)).isNotEqualTo(catalog.getETag(null));
+		// 타입별 ETag는 해당 타입 내용에만 의존
+		assertThat(changed.getETag(KeywordType.INSTRUMENT_EQUIPMENT))
+				.isEqualTo(catalog.getETag(KeywordType.INSTRUMENT_EQUIPMENT));
+		assertThat(catalog.getETag(KeywordType.SPACE_TYPE)).isNotEqualTo(catalog.getETag(null));
+	}
+}
@@ -0,0 +1,100 @@
+package com.teambind.placeinfoserver.place.service.usecase.query;
+
+import com.teambind.placeinfoserver.place.dto.request.PlaceBatchDetailStreamRequest;
+import com.teambind.placeinfoserver.place.dto.response.PlaceBatchDetailStreamSummary;
+import com.teambind.placeinfoserver.place.dto.response.PlaceInfoResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StreamPlaceDetailsBatchUseCase 테스트")
+class StreamPlaceDetailsBatchUseCaseTest {
+	
+	private StubGetPlaceDetailsBatchUseCase getPlaceDetailsBatchUseCase;
+	private StreamPlaceDetailsBatchUseCase streamUseCase;
+	private List<String> events;
+	
+	@BeforeEach
+	void setUp() {
+		events = new ArrayList<>();
+		getPlaceDetailsBatchUseCase = new StubGetPlaceDetailsBatchUseCase(events, Set.of(1L, 2L, 3L, 5L));
+		streamUseCase = new StreamPlaceDetailsBatchUseCase(getPlaceDetailsBatchUseCase, 2);
+	}
+	
+	private PlaceBatchDetailStreamRequest request(Long... placeIds) {
+		return PlaceBatchDetailStreamRequest.builder()
+				.placeIds(Arrays.asList(placeIds))
+				.build();
+	}
+	
+	@Test
+	@DisplayName("정상: 청크 단위로 조회하고 다음 청크 조회 전에 결과를 전달")
+	void execute_StreamsPerChunk() {
+		streamUseCase.execute(request(1L, 2L, 3L, 4L, 5L), response -> events.add("write:" + response.getId()));
+		
+		assertThat(events).containsExactly(
+				"load:[1, 2]", "write:1", "write:2",
+				"load:[3, 4]", "write:3",
+				"load:[5]", "write:5");
+	}
+	
+	@Test
+	@DisplayName("정상: 실패 ID는 요청 순서대로 요약에 포함")
+	void execute_SummaryHasFailedIds() {
+		PlaceBatchDetailStreamSummary summary = streamUseCase.execute(
+				request(4L, 1L, 9L, 2L), response -> {
+				});
+		
+		assertThat(summary.getSuccessCount()).isEqualTo(2);
+		assertThat(summary.getFailed()).containsExactly(4L, 9L);
+	}
+	
+	@Test
+	@DisplayName("정상: 중복 ID는 한 번만 조회")
+	void execute_DeduplicatesIds() {
+		List<String> written = new ArrayList<>();
+		
+		PlaceBatchDetailStreamSummary summary = streamUseCase.execute(
+				request(1L, 1L, 2L, 1L), response -> written.add(response.getId()));
+		
+		assertThat(written).containsExactly("1", "2");
+		assertThat(summary.getFailed()).isEmpty();
+		assertThat(getPlaceDetailsBatchUseCase.calls).isEqualTo(1);
+	}
+	
+	/**
+	 * 존재하는 ID만 응답으로 돌려주는 배치 조회 스텁
+	 */
+	private static class StubGetPlaceDetailsBatchUseCase extends GetPlaceDetailsBatchUseCase {
+		
+		private final List<String> events;
+		private final Set<Long> existingIds;
+		private int calls = 0;
+		
+		StubGetPlaceDetailsBatchUseCase(List<String> events, Set<Long> existingIds) {
+			super(null, null, null);
+			this.events = events;
+			this.existingIds = existingIds;
+		}
+		
+		@Override
+		public List<PlaceInfoResponse> findResponses(Collection<Long> placeIds) {
+			calls++;
+			events.add("load:" + placeIds);
+			return placeIds.stream()
+					.filter(existingIds::contains)
+					.map(id -> PlaceInfoResponse.builder()
+							.id(String.valueOf(id))
+							.build())
+					.toList();
+		}
+	}
+}